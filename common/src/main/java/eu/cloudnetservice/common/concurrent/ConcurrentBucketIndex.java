@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.common.concurrent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A thread-safe index which groups values into buckets by a key. Each value in a bucket is identified by an id, which
+ * allows the same value to be present in multiple buckets of multiple indexes. Buckets are created when the first
+ * value is added to them and are removed once the last value was removed from them. All modifications of a bucket are
+ * executed atomically, a value added to a bucket is never lost due to a concurrent removal of the last bucket entry.
+ *
+ * @param <K> the type of the bucket keys.
+ * @param <I> the type of the ids which identify a value in a bucket.
+ * @param <V> the type of the values stored in the buckets.
+ * @since 4.0
+ */
+public final class ConcurrentBucketIndex<K, I, V> {
+
+  private final Map<K, Map<I, V>> buckets = new ConcurrentHashMap<>();
+
+  /**
+   * Adds the given value to the bucket associated with the given key, replacing the value previously associated with
+   * the given id in the bucket. This method does nothing if the given key is null.
+   *
+   * @param key   the key of the bucket to add the value to, can be null.
+   * @param id    the id of the value in the bucket.
+   * @param value the value to add.
+   * @throws NullPointerException if the given id or value is null.
+   */
+  public void put(@Nullable K key, @NonNull I id, @NonNull V value) {
+    if (key != null) {
+      // the value must be added while holding the bucket lock, a concurrent removal might drop the bucket otherwise
+      this.buckets.compute(key, ($, bucket) -> {
+        var target = bucket == null ? new ConcurrentHashMap<I, V>() : bucket;
+        target.put(id, value);
+        return target;
+      });
+    }
+  }
+
+  /**
+   * Removes the value associated with the given id from the bucket associated with the given key. The bucket is
+   * removed if it is empty after the removal. This method does nothing if the given key is null.
+   *
+   * @param key the key of the bucket to remove the value from, can be null.
+   * @param id  the id of the value to remove.
+   * @throws NullPointerException if the given id is null.
+   */
+  public void remove(@Nullable K key, @NonNull I id) {
+    if (key != null) {
+      this.buckets.computeIfPresent(key, ($, bucket) -> {
+        bucket.remove(id);
+        return bucket.isEmpty() ? null : bucket;
+      });
+    }
+  }
+
+  /**
+   * Get a snapshot of all values which are currently in the bucket associated with the given key.
+   *
+   * @param key the key of the bucket to get the values of.
+   * @return a snapshot of the values in the bucket, empty if there is no bucket for the given key.
+   * @throws NullPointerException if the given key is null.
+   */
+  public @NonNull @Unmodifiable Collection<V> values(@NonNull K key) {
+    var bucket = this.buckets.get(key);
+    return bucket == null ? List.of() : List.copyOf(bucket.values());
+  }
+
+  /**
+   * Get any value which is currently in the bucket associated with the given key.
+   *
+   * @param key the key of the bucket to get the value of.
+   * @return any value in the bucket, null if there is no bucket for the given key.
+   * @throws NullPointerException if the given key is null.
+   */
+  public @Nullable V first(@NonNull K key) {
+    var bucket = this.buckets.get(key);
+    if (bucket != null) {
+      var iterator = bucket.values().iterator();
+      return iterator.hasNext() ? iterator.next() : null;
+    }
+    return null;
+  }
+
+  /**
+   * Get the amount of values which are currently in the bucket associated with the given key.
+   *
+   * @param key the key of the bucket to get the size of.
+   * @return the amount of values in the bucket, 0 if there is no bucket for the given key.
+   * @throws NullPointerException if the given key is null.
+   */
+  public int size(@NonNull K key) {
+    var bucket = this.buckets.get(key);
+    return bucket == null ? 0 : bucket.size();
+  }
+
+  /**
+   * Get the amount of buckets which are currently present in this index.
+   *
+   * @return the amount of buckets in this index.
+   */
+  public int bucketCount() {
+    return this.buckets.size();
+  }
+}
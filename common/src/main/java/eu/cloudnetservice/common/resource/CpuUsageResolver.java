@@ -18,17 +18,28 @@
 
 import com.sun.management.OperatingSystemMXBean;
 import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
 import org.jetbrains.annotations.Range;
 
 /**
- * A utility class to resolve the usage of the host system CPU.
+ * A utility class to resolve the usage of the host system CPU. The usage values are sampled at most once in the sample
+ * interval, calls in between return the cached values of the last sample.
  *
  * @since 4.0
  */
 public final class CpuUsageResolver {
 
+  private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+  private static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
   private static final OperatingSystemMXBean OS_BEAN = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
 
+  private static final Object SAMPLE_LOCK = new Object();
+
+  private static long lastSampleTime;
+  private static long lastProcessCpuTime = -1;
+  private static volatile double systemCpuLoad = -1;
+  private static volatile double processCpuLoad = -1;
+
   private CpuUsageResolver() {
     throw new UnsupportedOperationException();
   }
@@ -40,7 +51,8 @@ private CpuUsageResolver() {
    * @return the current system cpu load formatted to a percentage or -1 if not available.
    */
   public static @Range(from = -1, to = 100) double systemCpuLoad() {
-    return ResourceFormatter.convertToPercentage(OS_BEAN.getCpuLoad());
+    sample();
+    return systemCpuLoad;
   }
 
   /**
@@ -50,6 +62,30 @@ private CpuUsageResolver() {
    * @return the current process cpu load formatted to a percentage or -1 if not available.
    */
   public static @Range(from = -1, to = 100) double processCpuLoad() {
-    return ResourceFormatter.convertToPercentage(OS_BEAN.getProcessCpuLoad());
+    sample();
+    return processCpuLoad;
+  }
+
+  private static void sample() {
+    synchronized (SAMPLE_LOCK) {
+      var now = System.nanoTime();
+      var elapsed = now - lastSampleTime;
+      if (lastSampleTime != 0 && elapsed < SAMPLE_INTERVAL_NANOS) {
+        return;
+      }
+
+      // compute the process load based on the cpu time consumed since the last sample, if possible
+      var processCpuTime = OS_BEAN.getProcessCpuTime();
+      if (lastSampleTime != 0 && processCpuTime >= 0 && lastProcessCpuTime >= 0) {
+        var load = (double) (processCpuTime - lastProcessCpuTime) / (elapsed * AVAILABLE_PROCESSORS);
+        processCpuLoad = ResourceFormatter.convertToPercentage(Math.max(0, load));
+      } else {
+        processCpuLoad = ResourceFormatter.convertToPercentage(OS_BEAN.getProcessCpuLoad());
+      }
+
+      systemCpuLoad = ResourceFormatter.convertToPercentage(OS_BEAN.getCpuLoad());
+      lastProcessCpuTime = processCpuTime;
+      lastSampleTime = now;
+    }
   }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.common.concurrent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class ConcurrentBucketIndexTest {
+
+  @Test
+  public void testPutAndRemove() {
+    var index = new ConcurrentBucketIndex<String, Integer, String>();
+    index.put("a", 1, "one");
+    index.put("a", 2, "two");
+    index.put("b", 1, "one");
+    index.put(null, 3, "three");
+
+    Assertions.assertEquals(2, index.size("a"));
+    Assertions.assertEquals(Set.of("one", "two"), Set.copyOf(index.values("a")));
+    Assertions.assertEquals(List.of("one"), index.values("b"));
+    Assertions.assertEquals(2, index.bucketCount());
+
+    index.remove("a", 1);
+    index.remove(null, 3);
+    Assertions.assertEquals(List.of("two"), index.values("a"));
+    Assertions.assertEquals("two", index.first("a"));
+
+    // the bucket is removed once the last value is removed from it
+    index.remove("a", 2);
+    Assertions.assertEquals(0, index.size("a"));
+    Assertions.assertTrue(index.values("a").isEmpty());
+    Assertions.assertNull(index.first("a"));
+    Assertions.assertEquals(1, index.bucketCount());
+  }
+
+  @Test
+  public void testPutReplacesValueOfSameId() {
+    var index = new ConcurrentBucketIndex<String, Integer, String>();
+    index.put("a", 1, "one");
+    index.put("a", 1, "uno");
+
+    Assertions.assertEquals(List.of("uno"), index.values("a"));
+  }
+
+  @Test
+  @Timeout(60)
+  public void testConcurrentPutAndRemoveKeepsValues() {
+    var threads = 8;
+    var valuesPerThread = 10_000;
+    var index = new ConcurrentBucketIndex<String, Integer, Integer>();
+
+    var executor = Executors.newFixedThreadPool(threads);
+    var futures = new CompletableFuture<?>[threads];
+    for (var thread = 0; thread < threads; thread++) {
+      var offset = thread * valuesPerThread;
+      var kept = thread % 2 == 0;
+      futures[thread] = CompletableFuture.runAsync(() -> {
+        // half of the threads keep their values, the others constantly empty the shared bucket
+        for (var i = offset; i < offset + valuesPerThread; i++) {
+          index.put("shared", i, i);
+          if (!kept) {
+            index.remove("shared", i);
+          }
+        }
+      }, executor);
+    }
+
+    CompletableFuture.allOf(futures).join();
+    executor.shutdown();
+
+    Assertions.assertEquals(threads / 2 * valuesPerThread, index.size("shared"));
+  }
+}
@@ -84,6 +84,27 @@ public interface Database extends Named, AutoCloseable {
    */
   boolean delete(@NonNull String key);
 
+  /**
+   * Associates each key in the given map with the document mapped to it in the database. Existing documents of the
+   * given keys will get overridden. Depending on the database implementation all documents are written in one batch,
+   * which is much faster than inserting each document one by one.
+   *
+   * @param documents the documents to insert, mapped to their unique keys.
+   * @return true if all documents were associated with their key successfully, false otherwise.
+   * @throws NullPointerException if the given document map is null.
+   */
+  boolean insertAll(@NonNull Map<String, Document> documents);
+
+  /**
+   * Removes all the given keys and their associated documents from the database. Depending on the database
+   * implementation all keys are removed in one batch, which is much faster than removing each key one by one.
+   *
+   * @param keys the keys to remove.
+   * @return the amount of keys which were removed from the database.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  long deleteAll(@NonNull Collection<String> keys);
+
   /**
    * Gets the associated document with the given key from the database. If the returned document is null than there is
    * no document associated with the given key.
@@ -209,6 +230,38 @@ public interface Database extends Named, AutoCloseable {
     return Task.supply(() -> this.delete(key));
   }
 
+  /**
+   * Associates each key in the given map with the document mapped to it in the database. Existing documents of the
+   * given keys will get overridden. Depending on the database implementation all documents are written in one batch,
+   * which is much faster than inserting each document one by one.
+   * <p>
+   * The returned future, if completed successfully, completes with true to indicate that all documents were written
+   * into the database successfully. Will be completed with false if the data wasn't written without specifying a
+   * reason.
+   *
+   * @param documents the documents to insert, mapped to their unique keys.
+   * @return a future completed with the write operation status.
+   * @throws NullPointerException if the given document map is null.
+   */
+  default @NonNull Task<Boolean> insertAllAsync(@NonNull Map<String, Document> documents) {
+    return Task.supply(() -> this.insertAll(documents));
+  }
+
+  /**
+   * Removes all the given keys and their associated documents from the database. Depending on the database
+   * implementation all keys are removed in one batch, which is much faster than removing each key one by one.
+   * <p>
+   * The returned future, if completed successfully, completes with the amount of keys which were removed from the
+   * database.
+   *
+   * @param keys the keys to remove.
+   * @return a future completed with the amount of removed keys.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  default @NonNull Task<Long> deleteAllAsync(@NonNull Collection<String> keys) {
+    return Task.supply(() -> this.deleteAll(keys));
+  }
+
   /**
    * Gets the associated document with the given key from the database. If the returned document is null than there is
    * no document associated with the given key.
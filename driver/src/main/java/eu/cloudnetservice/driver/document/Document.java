@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.document.empty.EmptyDocument;
 import eu.cloudnetservice.driver.document.property.DocPropertyHolder;
+import eu.cloudnetservice.driver.document.send.BinaryDocumentSend;
 import eu.cloudnetservice.driver.document.send.DocumentSend;
 import eu.cloudnetservice.driver.document.send.element.Element;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
@@ -602,6 +603,20 @@ default void writeTo(@NonNull DataBuf.Mutable dataBuf) {
     this.writeTo(dataBuf, StandardSerialisationStyle.COMPACT);
   }
 
+  /**
+   * Writes this document in the binary document format to the given data buffer. The format is independent of the
+   * document type and can be read by {@link DocumentFactory#parseBinary(DataBuf)} of any document factory. By default,
+   * the document send of this document is written, implementations can override this method to write their internal
+   * representation directly.
+   *
+   * @param dataBuf the data buffer to write the document content to.
+   * @throws NullPointerException     if the given data buf is null.
+   * @throws IllegalArgumentException if this document contains a value that is not supported by the binary format.
+   */
+  default void writeBinary(@NonNull DataBuf.Mutable dataBuf) {
+    BinaryDocumentSend.writeTo(dataBuf, this.send());
+  }
+
   /**
    * Serializes this document to a pretty string.
    *
@@ -17,6 +17,7 @@
 package eu.cloudnetservice.driver.document;
 
 import eu.cloudnetservice.driver.document.gson.GsonDocumentFactory;
+import eu.cloudnetservice.driver.document.send.BinaryDocumentSend;
 import eu.cloudnetservice.driver.document.send.DocumentSend;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import java.io.InputStream;
@@ -119,6 +120,21 @@ public interface DocumentFactory {
    */
   @NonNull Document.Mutable parse(@NonNull DataBuf dataBuf);
 
+  /**
+   * Parses a document of the factory supported document type from the given data buf which was written in the binary
+   * document format using {@link Document#writeBinary(DataBuf.Mutable)}. By default, the binary data is read into a
+   * document send which is then received into a new document of this factory, implementations can override this method
+   * to read the data directly into their internal representation.
+   *
+   * @param dataBuf the data buf to read the binary document from.
+   * @return a parsed document from the data in the given buffer.
+   * @throws NullPointerException  if the given data buf is null.
+   * @throws IllegalStateException if the buffer contains data in an unsupported format.
+   */
+  default @NonNull Document.Mutable parseBinary(@NonNull DataBuf dataBuf) {
+    return BinaryDocumentSend.readFrom(dataBuf).into(this);
+  }
+
   /**
    * Creates a new, completely empty document of the factory supported document type.
    *
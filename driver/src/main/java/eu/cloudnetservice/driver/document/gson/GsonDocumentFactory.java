@@ -22,6 +22,7 @@
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.driver.document.DocumentParseException;
+import eu.cloudnetservice.driver.document.gson.send.GsonBinaryDocumentCodec;
 import eu.cloudnetservice.driver.document.send.DocumentSend;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import java.io.ByteArrayInputStream;
@@ -135,6 +136,14 @@ private GsonDocumentFactory() {
     return this.parse(dataBuf.readString());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Document.Mutable parseBinary(@NonNull DataBuf dataBuf) {
+    return new MutableGsonDocument(GsonBinaryDocumentCodec.readFrom(dataBuf));
+  }
+
   /**
    * {@inheritDoc}
    */
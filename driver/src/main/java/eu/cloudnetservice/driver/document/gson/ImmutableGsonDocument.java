@@ -29,6 +29,7 @@
 import eu.cloudnetservice.driver.document.DocumentSerialisationException;
 import eu.cloudnetservice.driver.document.SerialisationStyle;
 import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
+import eu.cloudnetservice.driver.document.gson.send.GsonBinaryDocumentCodec;
 import eu.cloudnetservice.driver.document.gson.send.GsonDocumentSend;
 import eu.cloudnetservice.driver.document.property.DefaultedDocPropertyHolder;
 import eu.cloudnetservice.driver.document.send.DocumentSend;
@@ -384,6 +385,14 @@ public void writeTo(@NonNull DataBuf.Mutable dataBuf, @NonNull SerialisationStyl
     dataBuf.writeString(encodedJson);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeBinary(@NonNull DataBuf.Mutable dataBuf) {
+    GsonBinaryDocumentCodec.writeTo(dataBuf, this.internalObject);
+  }
+
   /**
    * {@inheritDoc}
    */
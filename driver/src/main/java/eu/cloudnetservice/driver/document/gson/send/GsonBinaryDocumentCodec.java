@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.document.gson.send;
+
+import static eu.cloudnetservice.driver.document.send.BinaryDocumentFormat.TAG_ARRAY;
+import static eu.cloudnetservice.driver.document.send.BinaryDocumentFormat.TAG_NULL;
+import static eu.cloudnetservice.driver.document.send.BinaryDocumentFormat.TAG_OBJECT;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import eu.cloudnetservice.driver.document.send.BinaryDocumentFormat;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Writes and reads gson json objects directly in the binary document format, without converting them to a document
+ * send first. The written data is fully compatible with the data written and read by the generic document send based
+ * implementation.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class GsonBinaryDocumentCodec {
+
+  private GsonBinaryDocumentCodec() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Writes the given json object in the binary document format into the given buffer.
+   *
+   * @param dataBuf the buffer to write the object to.
+   * @param object  the object to write.
+   * @throws NullPointerException     if the given buffer or object is null.
+   * @throws IllegalArgumentException if the object contains a json element of an unsupported type.
+   */
+  public static void writeTo(@NonNull DataBuf.Mutable dataBuf, @NonNull JsonObject object) {
+    BinaryDocumentFormat.writeHeader(dataBuf);
+    writeObjectElements(dataBuf, object, new HashMap<>());
+  }
+
+  /**
+   * Reads a json object from the given buffer which was written in the binary document format.
+   *
+   * @param dataBuf the buffer to read the object from.
+   * @return the json object read from the given buffer.
+   * @throws NullPointerException  if the given buffer is null.
+   * @throws IllegalStateException if the buffer contains data in an unsupported format.
+   */
+  public static @NonNull JsonObject readFrom(@NonNull DataBuf dataBuf) {
+    BinaryDocumentFormat.readHeader(dataBuf);
+    return readObject(dataBuf, new ArrayList<>());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void writeObjectElements(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull JsonObject object,
+    @NonNull Map<String, Integer> writtenKeys
+  ) {
+    // copy the entries to ensure that the written element count matches the written elements
+    var entries = (Map.Entry<String, JsonElement>[]) object.entrySet().toArray(Map.Entry[]::new);
+    BinaryDocumentFormat.writeVarInt(dataBuf, entries.length);
+    for (var entry : entries) {
+      BinaryDocumentFormat.writeKey(dataBuf, entry.getKey(), writtenKeys);
+      writeElement(dataBuf, entry.getValue(), writtenKeys);
+    }
+  }
+
+  private static void writeElement(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull JsonElement element,
+    @NonNull Map<String, Integer> writtenKeys
+  ) {
+    if (element.isJsonNull()) {
+      dataBuf.writeByte(TAG_NULL);
+    } else if (element.isJsonPrimitive()) {
+      writePrimitive(dataBuf, element.getAsJsonPrimitive());
+    } else if (element.isJsonObject()) {
+      dataBuf.writeByte(TAG_OBJECT);
+      writeObjectElements(dataBuf, element.getAsJsonObject(), writtenKeys);
+    } else if (element.isJsonArray()) {
+      var entries = element.getAsJsonArray().asList().toArray(JsonElement[]::new);
+      dataBuf.writeByte(TAG_ARRAY);
+      BinaryDocumentFormat.writeVarInt(dataBuf, entries.length);
+      for (var entry : entries) {
+        writeElement(dataBuf, entry, writtenKeys);
+      }
+    } else {
+      throw new IllegalArgumentException("Unsupported json element type " + element.getClass().getName());
+    }
+  }
+
+  private static void writePrimitive(@NonNull DataBuf.Mutable dataBuf, @NonNull JsonPrimitive primitive) {
+    if (primitive.isString()) {
+      BinaryDocumentFormat.writePrimitive(dataBuf, primitive.getAsString());
+    } else if (primitive.isNumber()) {
+      BinaryDocumentFormat.writePrimitive(dataBuf, primitive.getAsNumber());
+    } else if (primitive.isBoolean()) {
+      BinaryDocumentFormat.writePrimitive(dataBuf, primitive.getAsBoolean());
+    } else {
+      throw new IllegalArgumentException("Unable to read inner value of " + primitive);
+    }
+  }
+
+  private static @NonNull JsonObject readObject(@NonNull DataBuf dataBuf, @NonNull List<String> readKeys) {
+    var object = new JsonObject();
+    var elementCount = BinaryDocumentFormat.readVarInt(dataBuf);
+    for (var index = 0; index < elementCount; index++) {
+      var key = BinaryDocumentFormat.readKey(dataBuf, readKeys);
+      object.add(key, readElement(dataBuf, readKeys));
+    }
+    return object;
+  }
+
+  private static @NonNull JsonArray readArray(@NonNull DataBuf dataBuf, @NonNull List<String> readKeys) {
+    var entryCount = BinaryDocumentFormat.readVarInt(dataBuf);
+    var array = new JsonArray(entryCount);
+    for (var index = 0; index < entryCount; index++) {
+      array.add(readElement(dataBuf, readKeys));
+    }
+    return array;
+  }
+
+  private static @NonNull JsonElement readElement(@NonNull DataBuf dataBuf, @NonNull List<String> readKeys) {
+    var tag = dataBuf.readByte();
+    return switch (tag) {
+      case TAG_NULL -> JsonNull.INSTANCE;
+      case TAG_OBJECT -> readObject(dataBuf, readKeys);
+      case TAG_ARRAY -> readArray(dataBuf, readKeys);
+      default -> {
+        var primitive = BinaryDocumentFormat.readPrimitive(dataBuf, tag);
+        if (primitive == null) {
+          throw new IllegalStateException("Unknown binary document element tag " + tag);
+        }
+        yield GsonPrimitiveConverter.wrapAsPrimitive(primitive);
+      }
+    };
+  }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.document.send;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The low level building blocks of the binary document format, shared between the generic implementation based on
+ * document sends ({@link BinaryDocumentSend}) and document implementations which write their internal representation
+ * directly. The format is structured as follows:
+ * <ol>
+ *   <li>The format version as a byte.
+ *   <li>The elements of the root object, prefixed with the element count as a var int.
+ *   <li>Each element of an object is prefixed with its key. Keys are encoded as a var int reference to a key that was
+ *   already written, or {@code 0} followed by the key string if the key is written for the first time.
+ *   <li>Each element value starts with a tag byte followed by the tag specific data. Integral numbers are encoded as
+ *   zig-zag var ints or var longs.
+ * </ol>
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class BinaryDocumentFormat {
+
+  public static final byte TAG_NULL = 0;
+  public static final byte TAG_TRUE = 1;
+  public static final byte TAG_FALSE = 2;
+  public static final byte TAG_INT = 3;
+  public static final byte TAG_LONG = 4;
+  public static final byte TAG_FLOAT = 5;
+  public static final byte TAG_DOUBLE = 6;
+  public static final byte TAG_DECIMAL = 7;
+  public static final byte TAG_CHAR = 8;
+  public static final byte TAG_STRING = 9;
+  public static final byte TAG_OBJECT = 10;
+  public static final byte TAG_ARRAY = 11;
+
+  private static final byte FORMAT_VERSION = 1;
+
+  private BinaryDocumentFormat() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Writes the header of the binary document format into the given buffer.
+   *
+   * @param dataBuf the buffer to write the header to.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  public static void writeHeader(@NonNull DataBuf.Mutable dataBuf) {
+    dataBuf.writeByte(FORMAT_VERSION);
+  }
+
+  /**
+   * Reads and validates the header of the binary document format from the given buffer.
+   *
+   * @param dataBuf the buffer to read the header from.
+   * @throws NullPointerException  if the given buffer is null.
+   * @throws IllegalStateException if the buffer contains data in an unsupported format version.
+   */
+  public static void readHeader(@NonNull DataBuf dataBuf) {
+    var version = dataBuf.readByte();
+    if (version != FORMAT_VERSION) {
+      throw new IllegalStateException("Unsupported binary document format version " + version);
+    }
+  }
+
+  /**
+   * Writes the given element key into the given buffer. Keys which were already written are only written as a
+   * reference to the first occurrence of the key.
+   *
+   * @param dataBuf     the buffer to write the key to.
+   * @param key         the key to write.
+   * @param writtenKeys the keys which were already written into the buffer, mapped to their reference.
+   * @throws NullPointerException if the given buffer, key or written key map is null.
+   */
+  public static void writeKey(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull String key,
+    @NonNull Map<String, Integer> writtenKeys
+  ) {
+    // keys are repeated a lot in nested objects and arrays of objects, only write them once
+    var keyIndex = writtenKeys.get(key);
+    if (keyIndex == null) {
+      writeVarInt(dataBuf, 0);
+      dataBuf.writeString(key);
+      writtenKeys.put(key, writtenKeys.size() + 1);
+    } else {
+      writeVarInt(dataBuf, keyIndex);
+    }
+  }
+
+  /**
+   * Reads an element key from the given buffer which was written using {@link #writeKey(DataBuf.Mutable, String,
+   * Map)}.
+   *
+   * @param dataBuf  the buffer to read the key from.
+   * @param readKeys the keys which were already read from the buffer, in the order they were read.
+   * @return the key read from the given buffer.
+   * @throws NullPointerException  if the given buffer or read key list is null.
+   * @throws IllegalStateException if the key references a key that was not read yet.
+   */
+  public static @NonNull String readKey(@NonNull DataBuf dataBuf, @NonNull List<String> readKeys) {
+    var keyIndex = readVarInt(dataBuf);
+    if (keyIndex == 0) {
+      var key = dataBuf.readString();
+      readKeys.add(key);
+      return key;
+    }
+
+    if (keyIndex < 0 || keyIndex > readKeys.size()) {
+      throw new IllegalStateException("Invalid key reference " + keyIndex + " in binary document");
+    }
+    return readKeys.get(keyIndex - 1);
+  }
+
+  /**
+   * Writes the tag and the data of the given primitive value into the given buffer.
+   *
+   * @param dataBuf the buffer to write the value to.
+   * @param value   the primitive value to write.
+   * @throws NullPointerException     if the given buffer or value is null.
+   * @throws IllegalArgumentException if the given value is not a string, number, boolean or character.
+   */
+  public static void writePrimitive(@NonNull DataBuf.Mutable dataBuf, @NonNull Object value) {
+    if (value instanceof String string) {
+      dataBuf.writeByte(TAG_STRING);
+      dataBuf.writeString(string);
+    } else if (value instanceof Boolean bool) {
+      dataBuf.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+    } else if (value instanceof Character character) {
+      dataBuf.writeByte(TAG_CHAR);
+      dataBuf.writeChar(character);
+    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      dataBuf.writeByte(TAG_INT);
+      writeVarInt(dataBuf, zigZag(((Number) value).intValue()));
+    } else if (value instanceof Long longValue) {
+      dataBuf.writeByte(TAG_LONG);
+      writeVarLong(dataBuf, zigZag(longValue));
+    } else if (value instanceof Double doubleValue) {
+      dataBuf.writeByte(TAG_DOUBLE);
+      dataBuf.writeDouble(doubleValue);
+    } else if (value instanceof Float floatValue) {
+      dataBuf.writeByte(TAG_FLOAT);
+      dataBuf.writeFloat(floatValue);
+    } else if (value instanceof Number number) {
+      writeUntypedNumber(dataBuf, number);
+    } else {
+      throw new IllegalArgumentException(
+        "Invalid primitive type " + value.getClass() + " must be one of: String, Number, Boolean, Character");
+    }
+  }
+
+  /**
+   * Reads the data of a primitive value with the given tag from the given buffer.
+   *
+   * @param dataBuf the buffer to read the value from.
+   * @param tag     the tag of the value which was already read from the buffer.
+   * @return the primitive value read from the buffer, null if the given tag is not the tag of a primitive value.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  public static @Nullable Object readPrimitive(@NonNull DataBuf dataBuf, byte tag) {
+    return switch (tag) {
+      case TAG_TRUE -> Boolean.TRUE;
+      case TAG_FALSE -> Boolean.FALSE;
+      case TAG_INT -> unZigZag(readVarInt(dataBuf));
+      case TAG_LONG -> unZigZag(readVarLong(dataBuf));
+      case TAG_FLOAT -> dataBuf.readFloat();
+      case TAG_DOUBLE -> dataBuf.readDouble();
+      case TAG_DECIMAL -> new BigDecimal(dataBuf.readString());
+      case TAG_CHAR -> dataBuf.readChar();
+      case TAG_STRING -> dataBuf.readString();
+      default -> null;
+    };
+  }
+
+  /**
+   * Writes the given int as a var int into the given buffer.
+   *
+   * @param dataBuf the buffer to write the value to.
+   * @param value   the value to write.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  public static void writeVarInt(@NonNull DataBuf.Mutable dataBuf, int value) {
+    while ((value & ~0x7F) != 0) {
+      dataBuf.writeByte((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    dataBuf.writeByte((byte) value);
+  }
+
+  /**
+   * Reads a var int from the given buffer.
+   *
+   * @param dataBuf the buffer to read the value from.
+   * @return the var int read from the given buffer.
+   * @throws NullPointerException  if the given buffer is null.
+   * @throws IllegalStateException if the var int is longer than 5 bytes.
+   */
+  public static int readVarInt(@NonNull DataBuf dataBuf) {
+    var result = 0;
+    for (var shift = 0; shift < 35; shift += 7) {
+      var b = dataBuf.readByte();
+      result |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IllegalStateException("Malformed var int in binary document");
+  }
+
+  private static void writeUntypedNumber(@NonNull DataBuf.Mutable dataBuf, @NonNull Number number) {
+    // numbers without a fixed type (for example lazily parsed from json) are written
+    // using the most compact representation that does not lose any information
+    var text = number.toString();
+    if (integral(text)) {
+      var longValue = Long.parseLong(text);
+      if (longValue == (int) longValue) {
+        dataBuf.writeByte(TAG_INT);
+        writeVarInt(dataBuf, zigZag((int) longValue));
+      } else {
+        dataBuf.writeByte(TAG_LONG);
+        writeVarLong(dataBuf, zigZag(longValue));
+      }
+      return;
+    }
+
+    var doubleValue = number.doubleValue();
+    if (Double.toString(doubleValue).equals(text) || !Double.isFinite(doubleValue)) {
+      dataBuf.writeByte(TAG_DOUBLE);
+      dataBuf.writeDouble(doubleValue);
+    } else {
+      dataBuf.writeByte(TAG_DECIMAL);
+      dataBuf.writeString(text);
+    }
+  }
+
+  private static boolean integral(@NonNull String text) {
+    // at most 18 digits to always fit into a long
+    var start = text.startsWith("-") ? 1 : 0;
+    var digits = text.length() - start;
+    if (digits == 0 || digits > 18) {
+      return false;
+    }
+
+    for (var index = start; index < text.length(); index++) {
+      var c = text.charAt(index);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int zigZag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static int unZigZag(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarLong(@NonNull DataBuf.Mutable dataBuf, long value) {
+    while ((value & ~0x7FL) != 0) {
+      dataBuf.writeByte((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    dataBuf.writeByte((byte) value);
+  }
+
+  private static long readVarLong(@NonNull DataBuf dataBuf) {
+    var result = 0L;
+    for (var shift = 0; shift < 70; shift += 7) {
+      var b = dataBuf.readByte();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IllegalStateException("Malformed var long in binary document");
+  }
+}
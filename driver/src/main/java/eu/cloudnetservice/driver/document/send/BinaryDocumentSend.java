@@ -0,0 +1,171 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.document.send;
+
+import static eu.cloudnetservice.driver.document.send.BinaryDocumentFormat.TAG_ARRAY;
+import static eu.cloudnetservice.driver.document.send.BinaryDocumentFormat.TAG_NULL;
+import static eu.cloudnetservice.driver.document.send.BinaryDocumentFormat.TAG_OBJECT;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.send.element.ArrayElement;
+import eu.cloudnetservice.driver.document.send.element.Element;
+import eu.cloudnetservice.driver.document.send.element.NullElement;
+import eu.cloudnetservice.driver.document.send.element.ObjectElement;
+import eu.cloudnetservice.driver.document.send.element.PrimitiveElement;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * A document send which was read from its compact binary representation. The binary representation of a document send
+ * is independent of the document format and is used to transfer documents over the network without rendering them to
+ * and parsing them from their textual representation. See {@link BinaryDocumentFormat} for the structure of the format.
+ * Document implementations can write and read the format directly from their internal representation, this class is
+ * the fallback for all document implementations which do not.
+ *
+ * @param rootElement the root object element of the document send.
+ * @since 4.0
+ */
+public record BinaryDocumentSend(@NonNull ObjectElement rootElement) implements DocumentSend {
+
+  /**
+   * Writes the binary representation of the given document send into the given buffer.
+   *
+   * @param dataBuf the buffer to write the document send to.
+   * @param send    the document send to write.
+   * @throws NullPointerException     if the given buffer or document send is null.
+   * @throws IllegalArgumentException if the document send contains an element or primitive of an unsupported type.
+   */
+  public static void writeTo(@NonNull DataBuf.Mutable dataBuf, @NonNull DocumentSend send) {
+    BinaryDocumentFormat.writeHeader(dataBuf);
+    writeObjectElements(dataBuf, send.rootElement(), new HashMap<>());
+  }
+
+  /**
+   * Reads a document send from the given buffer which was previously written using {@link #writeTo(DataBuf.Mutable,
+   * DocumentSend)}.
+   *
+   * @param dataBuf the buffer to read the document send from.
+   * @return the document send read from the given buffer.
+   * @throws NullPointerException  if the given buffer is null.
+   * @throws IllegalStateException if the buffer contains data in an unsupported format.
+   */
+  public static @NonNull BinaryDocumentSend readFrom(@NonNull DataBuf dataBuf) {
+    BinaryDocumentFormat.readHeader(dataBuf);
+    var rootElement = readObject(dataBuf, Element.NO_KEY, new ArrayList<>());
+    return new BinaryDocumentSend(rootElement);
+  }
+
+  private static void writeObjectElements(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull ObjectElement object,
+    @NonNull Map<String, Integer> writtenKeys
+  ) {
+    var elements = object.elements();
+    BinaryDocumentFormat.writeVarInt(dataBuf, elements.size());
+    for (var element : elements) {
+      BinaryDocumentFormat.writeKey(dataBuf, element.key(), writtenKeys);
+      writeElement(dataBuf, element, writtenKeys);
+    }
+  }
+
+  private static void writeElement(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull Element element,
+    @NonNull Map<String, Integer> writtenKeys
+  ) {
+    if (element instanceof NullElement) {
+      dataBuf.writeByte(TAG_NULL);
+    } else if (element instanceof PrimitiveElement primitive) {
+      BinaryDocumentFormat.writePrimitive(dataBuf, primitive.innerValue());
+    } else if (element instanceof ObjectElement object) {
+      dataBuf.writeByte(TAG_OBJECT);
+      writeObjectElements(dataBuf, object, writtenKeys);
+    } else if (element instanceof ArrayElement array) {
+      dataBuf.writeByte(TAG_ARRAY);
+      BinaryDocumentFormat.writeVarInt(dataBuf, array.entries().size());
+      for (var entry : array.entries()) {
+        writeElement(dataBuf, entry, writtenKeys);
+      }
+    } else {
+      // skipping the element would silently change the document content on the receiving side
+      throw new IllegalArgumentException("Unsupported element type " + element.getClass().getName());
+    }
+  }
+
+  private static @NonNull ObjectElement readObject(
+    @NonNull DataBuf dataBuf,
+    @NonNull String key,
+    @NonNull List<String> readKeys
+  ) {
+    var elementCount = BinaryDocumentFormat.readVarInt(dataBuf);
+    List<Element> elements = new ArrayList<>(elementCount);
+    for (var index = 0; index < elementCount; index++) {
+      var elementKey = BinaryDocumentFormat.readKey(dataBuf, readKeys);
+      elements.add(readElement(dataBuf, elementKey, readKeys));
+    }
+
+    return new ObjectElement(key, Collections.unmodifiableList(elements));
+  }
+
+  private static @NonNull ArrayElement readArray(
+    @NonNull DataBuf dataBuf,
+    @NonNull String key,
+    @NonNull List<String> readKeys
+  ) {
+    var entryCount = BinaryDocumentFormat.readVarInt(dataBuf);
+    List<Element> entries = new ArrayList<>(entryCount);
+    for (var index = 0; index < entryCount; index++) {
+      entries.add(readElement(dataBuf, Element.NO_KEY, readKeys));
+    }
+
+    return new ArrayElement(key, Collections.unmodifiableList(entries));
+  }
+
+  private static @NonNull Element readElement(
+    @NonNull DataBuf dataBuf,
+    @NonNull String key,
+    @NonNull List<String> readKeys
+  ) {
+    var tag = dataBuf.readByte();
+    return switch (tag) {
+      case TAG_NULL -> new NullElement(key);
+      case TAG_OBJECT -> readObject(dataBuf, key, readKeys);
+      case TAG_ARRAY -> readArray(dataBuf, key, readKeys);
+      default -> {
+        var primitive = BinaryDocumentFormat.readPrimitive(dataBuf, tag);
+        if (primitive == null) {
+          throw new IllegalStateException("Unknown binary document element tag " + tag);
+        }
+        yield new PrimitiveElement(key, primitive);
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Document.Mutable into(@NonNull DocumentFactory factory) {
+    return factory.receive(this);
+  }
+}
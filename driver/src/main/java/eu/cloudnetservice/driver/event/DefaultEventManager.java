@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import jakarta.inject.Singleton;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -43,6 +44,9 @@ public class DefaultEventManager implements EventManager {
   protected final Lock bakeLock = new ReentrantLock(true);
   protected final Map<Class<?>, List<RegisteredEventListener>> listeners = new HashMap<>();
 
+  // the listeners to call for each event class and channel in invocation order, re-baked when the listeners change
+  protected volatile Map<Class<?>, Map<String, RegisteredEventListener[]>> dispatchPlan = Map.of();
+
   /**
    * {@inheritDoc}
    */
@@ -69,23 +73,14 @@ public class DefaultEventManager implements EventManager {
    */
   @Override
   public <T extends Event> @NonNull T callEvent(@NonNull String channel, @NonNull T event) {
-    // get all registered listeners of the event
-    var listeners = this.listeners.get(event.getClass());
-    if (listeners != null && !listeners.isEmpty()) {
-      // check if there is only one listener
-      if (listeners.size() == 1) {
-        var listener = listeners.get(0);
-        // check if the event gets called on the same channel as the listener is listening to
-        if (listener.channel().equals(channel)) {
-          listener.fireEvent(event);
-        }
-      } else {
+    // get all registered listeners of the event which are listening to the channel
+    var channelListeners = this.dispatchPlan.get(event.getClass());
+    if (channelListeners != null) {
+      var listeners = channelListeners.get(channel);
+      if (listeners != null) {
         // post the event to the listeners
         for (var listener : listeners) {
-          // check if the event gets called on the same channel as the listener is listening to
-          if (listener.channel().equals(channel)) {
-            listener.fireEvent(event);
-          }
+          listener.fireEvent(event);
         }
       }
     }
@@ -153,6 +148,7 @@ public class DefaultEventManager implements EventManager {
           listeners.add(eventListener);
           // sort now - we don't need to sort lather then
           Collections.sort(listeners);
+          this.bakeDispatchPlan();
         } finally {
           this.bakeLock.unlock();
         }
@@ -181,8 +177,32 @@ protected void safeRemove(@NonNull Predicate<RegisteredEventListener> predicate)
           iterator.remove();
         }
       }
+      this.bakeDispatchPlan();
     } finally {
       this.bakeLock.unlock();
     }
   }
+
+  /**
+   * Re-computes the dispatch plan from the currently registered listeners. This method must only be called while
+   * holding the bake lock.
+   */
+  protected void bakeDispatchPlan() {
+    Map<Class<?>, Map<String, RegisteredEventListener[]>> dispatchPlan = new HashMap<>();
+    for (var entry : this.listeners.entrySet()) {
+      // group the listeners by their channel, the listeners are already sorted
+      Map<String, List<RegisteredEventListener>> channelListeners = new HashMap<>();
+      for (var listener : entry.getValue()) {
+        channelListeners.computeIfAbsent(listener.channel(), $ -> new ArrayList<>()).add(listener);
+      }
+
+      Map<String, RegisteredEventListener[]> bakedChannelListeners = new HashMap<>();
+      channelListeners.forEach((channel, listeners) -> bakedChannelListeners.put(
+        channel,
+        listeners.toArray(RegisteredEventListener[]::new)));
+      dispatchPlan.put(entry.getKey(), Map.copyOf(bakedChannelListeners));
+    }
+
+    this.dispatchPlan = Map.copyOf(dispatchPlan);
+  }
 }
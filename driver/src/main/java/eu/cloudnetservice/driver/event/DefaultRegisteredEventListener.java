@@ -21,9 +21,12 @@
 import dev.derklaro.reflexion.Reflexion;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.event.invoker.ListenerInvoker;
+import eu.cloudnetservice.driver.event.invoker.ListenerInvokerGenerator;
 import eu.cloudnetservice.driver.inject.InjectUtil;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import java.lang.reflect.Method;
+import java.util.logging.Level;
 import lombok.NonNull;
 
 /**
@@ -34,6 +37,7 @@
 final class DefaultRegisteredEventListener implements RegisteredEventListener {
 
   private static final Logger LOGGER = LogManager.logger(DefaultRegisteredEventListener.class);
+  private static final Object[] NO_ARGUMENTS = new Object[0];
 
   private final Object instance;
   private final Class<?> eventClass;
@@ -41,6 +45,7 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
 
   private final String methodName;
   private final Element[] methodArguments;
+  private final ListenerInvoker invoker;
   private final MethodAccessor<?> methodAccessor;
 
   private final InjectionLayer<?> injectionLayer;
@@ -69,9 +74,14 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
     this.methodName = targetMethod.getName();
     this.eventClass = targetMethod.getParameterTypes()[0];
 
-    // method access
-    var reflexion = Reflexion.onBound(instance);
-    this.methodAccessor = reflexion.unreflect(targetMethod);
+    // method access, prefer a generated invoker and fall back to reflection if the method cannot be accessed directly
+    if (ListenerInvokerGenerator.canGenerateInvoker(targetMethod)) {
+      this.invoker = ListenerInvokerGenerator.makeInvoker(instance, targetMethod);
+      this.methodAccessor = null;
+    } else {
+      this.invoker = null;
+      this.methodAccessor = Reflexion.onBound(instance).unreflect(targetMethod);
+    }
 
     // injection stuff, ignore the first element (the event itself)
     this.methodArguments = InjectUtil.buildElementsForParameters(targetMethod.getParameters(), 1);
@@ -82,27 +92,46 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
    */
   @Override
   public void fireEvent(@NonNull Event event) {
-    LOGGER.fine(
-      "Calling event %s on listener %s",
-      null,
-      event.getClass().getName(),
-      this.instance().getClass().getName());
+    if (LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.fine(
+        "Calling event %s on listener %s",
+        null,
+        event.getClass().getName(),
+        this.instance().getClass().getName());
+    }
 
-    // find the parameter instances, set the first argument to the event instance
-    var instances = InjectUtil.findAllInstances(this.injectionLayer, this.methodArguments, 1);
-    instances[0] = event;
+    // only resolve the parameter instances if the listener method takes more than the event
+    var instances = this.methodArguments.length == 0
+      ? NO_ARGUMENTS
+      : InjectUtil.findAllInstances(this.injectionLayer, this.methodArguments, 1);
 
     // invoke the event listener & rethrow any thrown exceptions wrapped
-    var result = this.methodAccessor.invokeWithArgs(instances);
-    if (result.wasExceptional()) {
-      throw new EventListenerException(String.format(
-        "Error while invoking event listener %s in class %s",
-        this.methodName,
-        this.instance.getClass().getName()
-      ), result.getException());
+    if (this.invoker != null) {
+      try {
+        this.invoker.invoke(event, instances);
+      } catch (Throwable throwable) {
+        throw this.wrapException(throwable);
+      }
+    } else {
+      // set the first argument to the event instance
+      var arguments = instances.length == 0 ? new Object[1] : instances;
+      arguments[0] = event;
+
+      var result = this.methodAccessor.invokeWithArgs(arguments);
+      if (result.wasExceptional()) {
+        throw this.wrapException(result.getException());
+      }
     }
   }
 
+  private @NonNull EventListenerException wrapException(@NonNull Throwable throwable) {
+    return new EventListenerException(String.format(
+      "Error while invoking event listener %s in class %s",
+      this.methodName,
+      this.instance.getClass().getName()
+    ), throwable);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event.invoker;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * An invoker for an event listener method which calls the method directly instead of using reflection.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+@FunctionalInterface
+public interface ListenerInvoker {
+
+  /**
+   * Invokes the target listener method of this invoker. Any exception thrown by the listener method is rethrown.
+   *
+   * @param event     the event to pass as the first argument to the listener method.
+   * @param arguments the additional arguments of the listener method, the element at index 0 is ignored.
+   * @throws NullPointerException if the given event or arguments array is null.
+   */
+  void invoke(@NonNull Object event, @NonNull Object[] arguments);
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event.invoker;
+
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V11;
+
+import eu.cloudnetservice.common.util.StringUtil;
+import eu.cloudnetservice.driver.util.asm.AsmHelper;
+import eu.cloudnetservice.driver.util.define.ClassDefiners;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
+
+/**
+ * A utility class to generate and define an invoker for an event listener method in the runtime.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class ListenerInvokerGenerator {
+
+  private static final String SUPER = "java/lang/Object";
+  private static final String OBJ_DESCRIPTOR = Type.getDescriptor(Object.class);
+  // ListenerInvoker related stuff
+  private static final String[] LISTENER_INVOKER = new String[]{Type.getInternalName(ListenerInvoker.class)};
+  private static final String INVOKE_METHOD_DESCRIPTOR = Type.getMethodDescriptor(
+    Type.VOID_TYPE,
+    Type.getType(Object.class),
+    Type.getType(Object[].class));
+  // Constructor stuff
+  private static final String CONSTRUCTOR_DESCRIPTOR = Type.getMethodDescriptor(
+    Type.VOID_TYPE,
+    Type.getType(Object.class));
+  // generated classes related stuff
+  private static final String CLASS_NAME_FORMAT = "%s$GeneratedListenerInvoker_%s_%s";
+
+  private ListenerInvokerGenerator() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Get if an invoker can be generated for the given listener method. This is the case if the current class definer
+   * defines classes as nestmates of the listener class, or if the method and its declaring class are public.
+   *
+   * @param method the listener method to check.
+   * @return true if an invoker can be generated for the given method, false otherwise.
+   * @throws NullPointerException if the given method is null.
+   */
+  public static boolean canGenerateInvoker(@NonNull Method method) {
+    if (ClassDefiners.nestmateAccess()) {
+      return true;
+    }
+
+    // the class is defined in a separate class loader, all accessed types must be public
+    if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+      return false;
+    }
+    for (var parameterType : method.getParameterTypes()) {
+      if (!parameterType.isPrimitive() && !Modifier.isPublic(parameterType.getModifiers())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Generates an invoker for the given listener method which calls the method on the given instance. The first
+   * parameter of the method receives the event, all other parameters receive the argument at the same index.
+   *
+   * @param instance the instance to call the listener method on.
+   * @param method   the listener method to generate the invoker for.
+   * @return the generated listener invoker.
+   * @throws NullPointerException  if the given instance or method is null.
+   * @throws IllegalStateException if something goes wrong during the class generation.
+   */
+  public static @NonNull ListenerInvoker makeInvoker(@NonNull Object instance, @NonNull Method method) {
+    try {
+      var declaringClass = method.getDeclaringClass();
+      var className = String.format(
+        CLASS_NAME_FORMAT,
+        Type.getInternalName(declaringClass),
+        method.getName(),
+        StringUtil.generateRandomString(25));
+      // init the class writer for a public final class implementing the ListenerInvoker
+      // class version 11 is required to invoke private methods of nestmates using invokevirtual
+      var cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+      cw.visit(V11, ACC_PUBLIC | ACC_FINAL, className, null, SUPER, LISTENER_INVOKER);
+      // visit the instance field
+      cw.visitField(ACC_PRIVATE | ACC_FINAL, "instance", OBJ_DESCRIPTOR, null, null).visitEnd();
+      // generate the constructor taking the listener instance
+      {
+        var mv = cw.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR, null, null);
+        mv.visitCode();
+        // call super()
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, SUPER, "<init>", "()V", false);
+        // assign the instance field
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitFieldInsn(PUTFIELD, className, "instance", OBJ_DESCRIPTOR);
+        // finish the constructor
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+      }
+      {
+        var mv = cw.visitMethod(ACC_PUBLIC, "invoke", INVOKE_METHOD_DESCRIPTOR, null, null);
+        mv.visitCode();
+        // get the instance field
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, className, "instance", OBJ_DESCRIPTOR);
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(declaringClass));
+        // load the event as the first argument
+        var parameterTypes = method.getParameterTypes();
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterTypes[0]));
+        // load all other arguments from the argument array
+        for (var i = 1; i < parameterTypes.length; i++) {
+          var parameterType = parameterTypes[i];
+          mv.visitVarInsn(ALOAD, 2);
+          AsmHelper.pushInt(mv, i);
+          mv.visitInsn(AALOAD);
+          // check if the raw type is primitive
+          if (parameterType.isPrimitive()) {
+            AsmHelper.wrapperToPrimitive(mv, parameterType);
+          } else {
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterType));
+          }
+        }
+        // invoke the method
+        mv.visitMethodInsn(
+          INVOKEVIRTUAL,
+          Type.getInternalName(declaringClass),
+          method.getName(),
+          Type.getMethodDescriptor(method),
+          false);
+        // discard the return value of the method, if any
+        var returnType = method.getReturnType();
+        if (returnType == long.class || returnType == double.class) {
+          mv.visitInsn(POP2);
+        } else if (returnType != void.class) {
+          mv.visitInsn(POP);
+        }
+        // finish the method
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+      }
+      // finish the class
+      cw.visitEnd();
+      // define and make the constructor accessible
+      var constructor = ClassDefiners.current()
+        .defineClass(className, declaringClass, cw.toByteArray())
+        .getDeclaredConstructor(Object.class);
+      constructor.setAccessible(true);
+      // instantiate
+      return (ListenerInvoker) constructor.newInstance(instance);
+    } catch (Exception exception) {
+      throw new IllegalStateException(String.format(
+        "Cannot generate invoker for listener method %s defined in class %s",
+        method.getName(),
+        method.getDeclaringClass().getName()
+      ), exception);
+    }
+  }
+}
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.BitSet;
 import lombok.NonNull;
 
 /**
@@ -54,6 +55,24 @@ public interface ChunkedPacketHandler extends ChunkedPacketProvider {
    */
   boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf);
 
+  /**
+   * Get the indexes of the chunks which were already received by this handler. A sender resuming the transfer can skip
+   * these chunks. By default, this method returns an empty set, meaning that all chunks must be sent again.
+   *
+   * @return a copy of the indexes of the chunks which were already received by this handler.
+   */
+  default @NonNull BitSet receivedChunks() {
+    return new BitSet();
+  }
+
+  /**
+   * Cancels the transfer handled by this handler, releasing all resources held by it. This method is called when no
+   * chunk was received for the session in a while and the sender is assumed to be gone. By default, this method does
+   * nothing.
+   */
+  default void cancel() {
+  }
+
   /**
    * A callback called once the full data of the chunk session was received successfully.
    *
@@ -89,6 +89,16 @@ interface Builder {
      */
     @NonNull Builder chunkSize(int chunkSize);
 
+    /**
+     * Sets the maximum amount of chunks which are read ahead from the source while the current chunk is sent. This only
+     * limits the reading, chunks are still sent one after another. Note that each of these chunks is held in memory
+     * while waiting to be sent. This defaults to 1. The supplied value must be greater than 0.
+     *
+     * @param readAheadChunks the maximum amount of chunks to read ahead.
+     * @return the same builder as used to call the method, for chaining.
+     */
+    @NonNull Builder readAheadChunks(int readAheadChunks);
+
     /**
      * Sets the unique id of the session. This defaults to a random id.
      *
@@ -98,6 +108,17 @@ interface Builder {
      */
     @NonNull Builder sessionUniqueId(@NonNull UUID uuid);
 
+    /**
+     * Sets if the sender should ask the target channels which chunks of the session they already received before
+     * starting the transfer. Chunks which were received by all target channels are not sent again. This is used to
+     * resume a dropped transfer by sending the same data with the same session unique id again. Resuming requires the
+     * target channels to be set using one of the {@code toChannels} methods. This defaults to false.
+     *
+     * @param resumeTransfer if the transfer should resume a previous transfer with the same session id.
+     * @return the same builder as used to call the method, for chaining.
+     */
+    @NonNull Builder resumeTransfer(boolean resumeTransfer);
+
     /**
      * Sets the name of the transfer channel. This option is required to be set by yourself. The channel role is just
      * identification of the incoming data. There should never be two channels named the same way.
@@ -180,7 +201,8 @@ interface Builder {
      *
      * @return the instance build from the information.
      * @throws NullPointerException     if no source, splitter or channel were given.
-     * @throws IllegalArgumentException if the chunk size is not greater than 0.
+     * @throws IllegalArgumentException if the chunk size is not greater than 0 or the transfer should be resumed but no
+     *                                  target channels were given.
      */
     @NonNull ChunkedPacketSender build();
   }
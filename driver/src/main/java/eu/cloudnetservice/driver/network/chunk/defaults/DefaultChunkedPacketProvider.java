@@ -29,7 +29,7 @@
 public abstract class DefaultChunkedPacketProvider implements ChunkedPacketProvider {
 
   protected final ChunkSessionInformation chunkSessionInformation;
-  protected TransferStatus transferStatus;
+  protected volatile TransferStatus transferStatus;
 
   /**
    * Creates a new instance of this class.
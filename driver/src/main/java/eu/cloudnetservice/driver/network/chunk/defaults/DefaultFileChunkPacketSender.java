@@ -16,19 +16,39 @@
 
 package eu.cloudnetservice.driver.network.chunk.defaults;
 
+import com.google.common.base.Preconditions;
 import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.chunk.ChunkedPacketSender;
 import eu.cloudnetservice.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacket;
+import eu.cloudnetservice.driver.network.chunk.defaults.builder.DefaultChunkedPacketSenderBuilder;
 import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import java.io.InputStream;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a default implementation of a chunked packet sender specifically created for chunked transferring of a
- * huge file, e.g. a zip archive.
+ * huge file, e.g. a zip archive. The upcoming chunks are read from the source while the current chunk is sent, the
+ * amount of chunks which are read ahead is limited by the read-ahead chunk count of the sender. This only limits the
+ * reading, not the sending: the next chunk is only sent once the packet splitter returned, the default splitter waits
+ * for the chunk to be written to all channels.
+ * <p>
+ * The memory used for reading ahead is shared between all transfers and limited by the
+ * {@code cloudnet.chunk.read-ahead-memory} system property (in bytes, 128 MiB by default). A transfer which cannot
+ * reserve memory for reading ahead reads and sends each chunk using a single buffer.
  * <p>
  * This class shouldn't get instantiated directly, use {@link ChunkedPacketSender#forFileTransfer()} instead.
  *
@@ -37,9 +57,17 @@
 public class DefaultFileChunkPacketSender extends DefaultChunkedPacketProvider implements ChunkedPacketSender {
 
   protected static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+  protected static final ExecutorService CHUNK_READER = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Chunk-Reader-",
+    Executors::newCachedThreadPool);
+
+  protected static final Semaphore READ_AHEAD_MEMORY = new Semaphore(
+    Integer.getInteger("cloudnet.chunk.read-ahead-memory", 128 * 1024 * 1024));
 
   protected final InputStream source;
   protected final Consumer<Packet> packetSplitter;
+  protected final int readAheadChunks;
+  protected final Collection<NetworkChannel> resumeChannels;
 
   /**
    * Constructs a new chunked packet sender for file transfer.
@@ -53,11 +81,40 @@ public DefaultFileChunkPacketSender(
     @NonNull ChunkSessionInformation sessionInformation,
     @NonNull InputStream source,
     @NonNull Consumer<Packet> packetSplitter
+  ) {
+    this(
+      sessionInformation,
+      source,
+      packetSplitter,
+      DefaultChunkedPacketSenderBuilder.DEFAULT_READ_AHEAD_CHUNKS,
+      List.of());
+  }
+
+  /**
+   * Constructs a new chunked packet sender for file transfer.
+   *
+   * @param sessionInformation the information about the chunked session.
+   * @param source             the source stream of the file, will be closed automatically.
+   * @param packetSplitter     the splitter for each chunk part to transfer.
+   * @param readAheadChunks    the maximum amount of chunks to read ahead while the current chunk is sent.
+   * @param resumeChannels     the channels to ask for the already received chunks, empty to send all chunks.
+   * @throws NullPointerException     if either the information, source, splitter or resume channels are null.
+   * @throws IllegalArgumentException if the given read-ahead chunk count is not positive.
+   */
+  public DefaultFileChunkPacketSender(
+    @NonNull ChunkSessionInformation sessionInformation,
+    @NonNull InputStream source,
+    @NonNull Consumer<Packet> packetSplitter,
+    int readAheadChunks,
+    @NonNull Collection<NetworkChannel> resumeChannels
   ) {
     super(sessionInformation);
+    Preconditions.checkArgument(readAheadChunks > 0, "read-ahead chunks must be more than 0");
 
     this.source = source;
     this.packetSplitter = packetSplitter;
+    this.readAheadChunks = readAheadChunks;
+    this.resumeChannels = List.copyOf(resumeChannels);
   }
 
   /**
@@ -82,34 +139,166 @@ public DefaultFileChunkPacketSender(
   @Override
   public @NonNull Task<TransferStatus> transferChunkedData() {
     return Task.supply(() -> {
-      var readCalls = 0;
-      var backingArray = new byte[this.chunkSessionInformation.chunkSize()];
+      // skip the chunks which were already received by all targets when resuming a transfer
+      var receivedChunks = this.receivedChunks();
+
+      // reserve the memory for the chunks which are read ahead, the first chunk buffer is always available
+      var chunkSize = this.chunkSessionInformation.chunkSize();
+      var readAheadBuffers = 0;
+      while (readAheadBuffers < this.readAheadChunks && READ_AHEAD_MEMORY.tryAcquire(chunkSize)) {
+        readAheadBuffers++;
+      }
+
+      // read the upcoming chunks on another thread while the current chunk is sent
+      var readChunks = new ArrayBlockingQueue<ReadChunk>(this.readAheadChunks);
+      var freeBuffers = new ArrayBlockingQueue<byte[]>(readAheadBuffers + 1);
+      var maxBuffers = readAheadBuffers + 1;
+      var reader = CHUNK_READER.submit(() -> this.readChunks(readChunks, freeBuffers, maxBuffers));
+
+      try {
+        while (true) {
+          var chunk = readChunks.take();
+          var failure = chunk.failure();
+          if (failure != null) {
+            // the task is only completed with exceptions, errors of the reader are wrapped
+            throw failure instanceof Exception exception
+              ? exception
+              : new IllegalStateException("Unable to read the chunks of the transfer", failure);
+          }
+
+          if (chunk.finalChunk()) {
+            this.packetSplitter.accept(ChunkedPacket.createChunk(
+              this.chunkSessionInformation,
+              chunk.index(),
+              chunk.index(),
+              chunk.length(),
+              chunk.length() == 0 ? EMPTY_BYTE_ARRAY : chunk.data()));
+
+            // release the extra content now
+            this.chunkSessionInformation.transferInformation().release();
+
+            // successful transfer
+            return TransferStatus.SUCCESS;
+          }
+
+          // the final chunk is always sent as it tells the receivers about the chunk count
+          if (receivedChunks.get(chunk.index())) {
+            freeBuffers.offer(chunk.data());
+            continue;
+          }
 
-      while (true) {
-        var bytesRead = this.source.read(backingArray);
-        if (bytesRead != -1 && bytesRead == backingArray.length) {
           // acquire the transfer information once before writing the data of the chunk
           this.chunkSessionInformation.transferInformation().acquire();
-          this.packetSplitter.accept(ChunkedPacket.createChunk(
-            this.chunkSessionInformation,
-            readCalls++,
-            backingArray));
-        } else {
-          this.packetSplitter.accept(ChunkedPacket.createChunk(
-            this.chunkSessionInformation,
-            readCalls,
-            readCalls,
-            bytesRead == -1 ? 0 : bytesRead,
-            bytesRead == -1 ? EMPTY_BYTE_ARRAY : backingArray));
-
-          // close the stream after reading the final chunk & release the extra content now
-          this.source.close();
-          this.chunkSessionInformation.transferInformation().release();
-
-          // successful transfer
-          return TransferStatus.SUCCESS;
+          var packet = ChunkedPacket.createChunk(this.chunkSessionInformation, chunk.index(), chunk.data());
+
+          // the chunk data was copied into the packet, the buffer can be re-used for reading
+          freeBuffers.offer(chunk.data());
+          this.packetSplitter.accept(packet);
         }
+      } finally {
+        // stop the reader (if still running) and close the source stream
+        reader.cancel(true);
+        this.source.close();
+        READ_AHEAD_MEMORY.release(readAheadBuffers * chunkSize);
       }
     });
   }
+
+  /**
+   * Asks all resume channels for the chunks of the session which they already received. A chunk is only reported as
+   * received if it was received by all resume channels. If one of the channels cannot answer the request, no chunks are
+   * reported as received.
+   *
+   * @return the indexes of the chunks which were received by all resume channels.
+   */
+  protected @NonNull BitSet receivedChunks() {
+    BitSet receivedChunks = null;
+    for (var channel : this.resumeChannels) {
+      try {
+        var request = ChunkedPacket.createReceivedChunksRequest(this.chunkSessionInformation);
+        var response = channel.sendQueryAsync(request).get();
+
+        var channelChunks = BitSet.valueOf(response.content().readByteArray());
+        if (receivedChunks == null) {
+          receivedChunks = channelChunks;
+        } else {
+          receivedChunks.and(channelChunks);
+        }
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        return new BitSet();
+      } catch (Exception exception) {
+        // the channel might not support resuming, send all chunks
+        return new BitSet();
+      }
+    }
+
+    return receivedChunks == null ? new BitSet() : receivedChunks;
+  }
+
+  /**
+   * Reads the chunks of the source stream into the given queue, until the end of the source stream is reached. Buffers
+   * which were sent already are taken from the given free buffer queue, at most the given amount of buffers is
+   * allocated for the transfer. If reading fails, a final chunk holding the failure is put into the queue.
+   *
+   * @param target      the queue to put the read chunks into, blocking when the queue is full.
+   * @param freeBuffers the buffers which can be re-used for reading.
+   * @param maxBuffers  the maximum amount of buffers to allocate.
+   * @throws NullPointerException if the given target or free buffer queue is null.
+   */
+  protected void readChunks(
+    @NonNull BlockingQueue<ReadChunk> target,
+    @NonNull BlockingQueue<byte[]> freeBuffers,
+    int maxBuffers
+  ) {
+    var chunkSize = this.chunkSessionInformation.chunkSize();
+    var allocatedBuffers = 0;
+    try {
+      for (var index = 0; ; index++) {
+        var buffer = freeBuffers.poll();
+        if (buffer == null) {
+          if (allocatedBuffers < maxBuffers) {
+            buffer = new byte[chunkSize];
+            allocatedBuffers++;
+          } else {
+            // wait for the sender to release a buffer
+            buffer = freeBuffers.take();
+          }
+        }
+
+        // fill the whole chunk, a chunk which is not filled completely is the last chunk of the transfer
+        var bytesRead = this.source.readNBytes(buffer, 0, chunkSize);
+        var finalChunk = bytesRead < chunkSize;
+        target.put(new ReadChunk(index, buffer, bytesRead, finalChunk, null));
+
+        if (finalChunk) {
+          return;
+        }
+      }
+    } catch (InterruptedException exception) {
+      // the transfer was stopped
+      Thread.currentThread().interrupt();
+    } catch (Throwable throwable) {
+      // every failure must be passed to the sender, it waits for the next chunk forever otherwise
+      try {
+        target.put(new ReadChunk(-1, EMPTY_BYTE_ARRAY, 0, true, throwable));
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * A chunk which was read from the source stream.
+   *
+   * @param index      the index of the chunk.
+   * @param data       the buffer holding the data of the chunk.
+   * @param length     the amount of bytes in the buffer which belong to the chunk.
+   * @param finalChunk if this chunk is the last chunk of the transfer.
+   * @param failure    the exception which occurred while reading the chunk, null if the chunk was read successfully.
+   * @since 4.0
+   */
+  protected record ReadChunk(int index, byte[] data, int length, boolean finalChunk, @Nullable Throwable failure) {
+
+  }
 }
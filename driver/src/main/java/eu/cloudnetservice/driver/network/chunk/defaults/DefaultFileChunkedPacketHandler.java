@@ -23,28 +23,30 @@
 import eu.cloudnetservice.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.BitSet;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Represents a handler for a chunked packet transfer which transfers a file.
+ * Represents a handler for a chunked packet transfer which transfers a file. Chunks are written to their position in
+ * the target file, therefore chunks can be received in any order and multiple times. This allows a sender to resume a
+ * transfer using the same session id without starting over. The written data is synced to disk once when all chunks
+ * were received.
  *
  * @since 4.0
  */
 public class DefaultFileChunkedPacketHandler extends DefaultChunkedPacketProvider implements ChunkedPacketHandler {
 
   protected final Path tempFilePath;
-  protected final RandomAccessFile targetFile;
+  protected final FileChannel targetChannel;
   protected final Callback writeCompleteHandler;
-  protected final Lock lock = new ReentrantLock(true);
+  protected final BitSet writtenChunks = new BitSet();
 
-  protected int writtenFileParts = -1;
   protected Integer expectedFileParts;
 
   /**
@@ -81,16 +83,11 @@ public DefaultFileChunkedPacketHandler(
     // general information
     this.tempFilePath = tempFilePath;
     this.writeCompleteHandler = completeHandler;
-    // open the temp file raf access
+    // open the temp file channel, the file is created if it doesn't exist
     try {
-      // create the file
-      if (Files.notExists(tempFilePath)) {
-        Files.createFile(tempFilePath);
-      }
-      // open the file
-      this.targetFile = new RandomAccessFile(this.tempFilePath.toFile(), "rwd");
+      this.targetChannel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
     } catch (IOException exception) {
-      throw new AssertionError("Unable to open raf to temp file, this should not happen", exception);
+      throw new AssertionError("Unable to open channel to temp file, this should not happen", exception);
     }
   }
 
@@ -103,43 +100,52 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
     if (this.transferStatus == TransferStatus.FAILURE) {
       return false;
     }
-    // validate that this is still in the running state when receiving the packet
-    Preconditions.checkState(this.transferStatus == TransferStatus.RUNNING, "Received transfer part after success");
     // extract some information from the body
     var isFinalPacket = dataBuf.readBoolean();
-    if (isFinalPacket) {
-      this.expectedFileParts = dataBuf.readInt();
-    }
+    var expectedFileParts = isFinalPacket ? dataBuf.readInt() : null;
     // execute the write operation with the content of the packet
     try {
-      // we can only perform one write operation at a time
-      this.lock.lock();
-      // execute
+      // validate that this is still in the running state when receiving the packet, ignore chunks we already received
+      synchronized (this.writtenChunks) {
+        Preconditions.checkState(this.transferStatus == TransferStatus.RUNNING, "Received transfer part after success");
+        if (this.writtenChunks.get(chunkPosition)) {
+          return false;
+        }
+      }
+      // writes to different positions of the file can happen concurrently
       this.writePacketContent(chunkPosition, dataBuf);
       // update the data transfer status
-      this.updateStatus();
-      // check if the expected ending is reached
-      if (this.transferStatus == TransferStatus.SUCCESS) {
-        // the file was written completely
-        this.targetFile.close();
-        // post the result to the complete handler
-        if (this.writeCompleteHandler == null) {
-          // no handler - will be handled otherwise
-          return true;
+      synchronized (this.writtenChunks) {
+        // the transfer might have been completed by a duplicate chunk in the meantime
+        if (this.transferStatus != TransferStatus.RUNNING) {
+          return false;
+        }
+        this.writtenChunks.set(chunkPosition);
+        if (expectedFileParts != null) {
+          this.expectedFileParts = expectedFileParts;
         }
-        // delete the file after posting
-        try (var inputStream = Files.newInputStream(this.tempFilePath, StandardOpenOption.DELETE_ON_CLOSE)) {
-          this.writeCompleteHandler.handleSessionComplete(this.chunkSessionInformation, inputStream);
-          return true;
+        // check if this call completed the transfer
+        this.updateStatus();
+        if (this.transferStatus != TransferStatus.SUCCESS) {
+          return false;
         }
       }
-      // not completed yet
-      return false;
+      // the file was written completely, ensure that the content is on disk before using it
+      this.targetChannel.force(true);
+      this.targetChannel.close();
+      // post the result to the complete handler
+      if (this.writeCompleteHandler == null) {
+        // no handler - will be handled otherwise
+        return true;
+      }
+      // delete the file after posting
+      try (var inputStream = Files.newInputStream(this.tempFilePath, StandardOpenOption.DELETE_ON_CLOSE)) {
+        this.writeCompleteHandler.handleSessionComplete(this.chunkSessionInformation, inputStream);
+        return true;
+      }
     } catch (IOException exception) {
       this.transferStatus = TransferStatus.FAILURE;
       throw new IllegalStateException("Unexpected exception handling chunk part", exception);
-    } finally {
-      this.lock.unlock();
     }
   }
 
@@ -152,7 +158,38 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
   }
 
   /**
-   * Writes the content of a chunk part to the backing file, increasing the amount of written bytes by one.
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull BitSet receivedChunks() {
+    synchronized (this.writtenChunks) {
+      return (BitSet) this.writtenChunks.clone();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void cancel() {
+    synchronized (this.writtenChunks) {
+      // the file of a completed transfer is handled by the complete handler
+      if (this.transferStatus == TransferStatus.SUCCESS) {
+        return;
+      }
+      this.transferStatus = TransferStatus.FAILURE;
+    }
+
+    try {
+      this.targetChannel.close();
+    } catch (IOException ignored) {
+      // the file is deleted anyway
+    }
+    FileUtil.delete(this.tempFilePath);
+  }
+
+  /**
+   * Writes the content of a chunk part to its position in the backing file.
    *
    * @param chunkPosition the index of the chunk to write.
    * @param dataBuf       the buf transferred to this handler, the next content should be the actual chunk data.
@@ -160,14 +197,13 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
    * @throws NullPointerException if the given buffer is null.
    */
   protected void writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) throws IOException {
-    // calculate the index of to which we need to sink in order to write
-    var targetIndex = chunkPosition * this.chunkSessionInformation.chunkSize();
-    // sink to the index of the chunk position we need to write to
-    this.targetFile.seek(targetIndex);
-    // write the content into the file at the current offset we sunk to
-    this.targetFile.write(dataBuf.readByteArray());
-    // notify our index about the write operation
-    this.writtenFileParts++;
+    // calculate the index of to which we need to write
+    var targetIndex = (long) chunkPosition * this.chunkSessionInformation.chunkSize();
+    // write the content into the file at the position of the chunk
+    var content = ByteBuffer.wrap(dataBuf.readByteArray());
+    while (content.hasRemaining()) {
+      targetIndex += this.targetChannel.write(content, targetIndex);
+    }
   }
 
   /**
@@ -175,14 +211,14 @@ protected void writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) t
    * <ol>
    *   <li>The current status is {@code RUNNING}.
    *   <li>The amount of chunk parts of the transfer is known.
-   *   <li>The amount of written chunk parts matches the amount of expected chunk parts.
+   *   <li>All chunk parts up to the final chunk part were written.
    * </ol>
    */
   protected void updateStatus() {
     // we only need to update the status when the transfer is running but the whole content was written
     if (this.transferStatus == TransferStatus.RUNNING
       && this.expectedFileParts != null
-      && this.expectedFileParts == this.writtenFileParts
+      && this.writtenChunks.cardinality() == this.expectedFileParts + 1
     ) {
       this.transferStatus = TransferStatus.SUCCESS;
     }
@@ -25,6 +25,7 @@
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Consumer;
 import lombok.NonNull;
@@ -40,13 +41,17 @@
 public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacketSender.Builder {
 
   public static final int DEFAULT_CHUNK_SIZE = 50 * 1024 * 1024;
+  public static final int DEFAULT_READ_AHEAD_CHUNKS = 1;
 
   protected InputStream source;
   protected String transferChannel;
   protected Consumer<Packet> packetSplitter;
 
   protected int chunkSize = DEFAULT_CHUNK_SIZE;
+  protected int readAheadChunks = DEFAULT_READ_AHEAD_CHUNKS;
   protected UUID sessionUniqueId = UUID.randomUUID();
+  protected boolean resumeTransfer;
+  protected Collection<NetworkChannel> targetChannels = List.of();
   protected DataBuf transferInformation = DataBuf.empty();
 
   /**
@@ -58,6 +63,15 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ChunkedPacketSender.Builder readAheadChunks(int readAheadChunks) {
+    this.readAheadChunks = readAheadChunks;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -67,6 +81,15 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ChunkedPacketSender.Builder resumeTransfer(boolean resumeTransfer) {
+    this.resumeTransfer = resumeTransfer;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -98,7 +121,9 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
    */
   @Override
   public @NonNull ChunkedPacketSender.Builder toChannels(@NonNull Collection<NetworkChannel> channels) {
-    return this.packetSplitter(new NetworkChannelsPacketSplitter(channels));
+    this.packetSplitter(new NetworkChannelsPacketSplitter(channels));
+    this.targetChannels = channels;
+    return this;
   }
 
   /**
@@ -107,6 +132,8 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
   @Override
   public @NonNull ChunkedPacketSender.Builder packetSplitter(@NonNull Consumer<Packet> splitter) {
     this.packetSplitter = splitter;
+    // the target channels of a custom splitter are unknown
+    this.targetChannels = List.of();
     return this;
   }
 
@@ -131,6 +158,10 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
     Preconditions.checkNotNull(this.transferChannel, "no transfer channel provided");
     Preconditions.checkNotNull(this.sessionUniqueId, "no session unique id provided");
     Preconditions.checkArgument(this.chunkSize > 0, "chunk size must be more than 0");
+    Preconditions.checkArgument(this.readAheadChunks > 0, "read-ahead chunks must be more than 0");
+    Preconditions.checkArgument(
+      !this.resumeTransfer || !this.targetChannels.isEmpty(),
+      "resuming a transfer requires the target channels");
 
     return this.doBuild();
   }
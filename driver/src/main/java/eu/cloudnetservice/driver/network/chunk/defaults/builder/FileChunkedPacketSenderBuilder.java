@@ -22,6 +22,7 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import lombok.NonNull;
 
 /**
@@ -60,6 +61,6 @@ public class FileChunkedPacketSenderBuilder extends DefaultChunkedPacketSenderBu
       this.sessionUniqueId,
       this.transferChannel,
       this.transferInformation
-    ), this.source, this.packetSplitter);
+    ), this.source, this.packetSplitter, this.readAheadChunks, this.resumeTransfer ? this.targetChannels : List.of());
   }
 }
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import java.util.BitSet;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -31,6 +32,11 @@
  */
 public class ChunkedPacket extends BasePacket {
 
+  /**
+   * The chunk index which marks a query for the indexes of the chunks of a session which were already received.
+   */
+  public static final int RECEIVED_CHUNKS_REQUEST_INDEX = -1;
+
   /**
    * Creates a new chunk part. The given buffer must contain all needed information for the receiver.
    * <p>
@@ -98,4 +104,17 @@ public ChunkedPacket(@NonNull DataBuf dataBuf) {
     // write the actual content of the chunk
     return new ChunkedPacket(dataBuf.writeByteArray(data, dataLength));
   }
+
+  /**
+   * Creates a query asking the target for the indexes of the chunks of the given session which were already received.
+   * The target responds with a buffer containing the received chunk indexes as a byte array in the format of
+   * {@link BitSet#toByteArray()}. The response is empty if the target has no running session with the given id.
+   *
+   * @param information the information of the session to get the received chunks of.
+   * @return the created query packet.
+   * @throws NullPointerException if the given session information is null.
+   */
+  public static @NonNull ChunkedPacket createReceivedChunksRequest(@NonNull ChunkSessionInformation information) {
+    return new ChunkedPacket(DataBuf.empty().writeObject(information).writeInt(RECEIVED_CHUNKS_REQUEST_INDEX));
+  }
 }
@@ -17,33 +17,58 @@
 package eu.cloudnetservice.driver.network.chunk.network;
 
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.chunk.ChunkedPacketHandler;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import java.time.Duration;
+import java.util.BitSet;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import lombok.NonNull;
 
 /**
- * A listener for chunked packets, opening the chunked pocket sessions.
+ * A listener for chunked packets, opening the chunked pocket sessions. Sessions which did not receive a chunk for the
+ * configured session timeout are assumed to be dropped by the sender and are cancelled. A sender can resume a session
+ * before it timed out, skipping the chunks which were already received.
  *
  * @since 4.0
  */
 public class ChunkedPacketListener implements PacketListener {
 
+  public static final Duration DEFAULT_SESSION_TIMEOUT = Duration.ofMinutes(5);
+
+  private final long sessionTimeoutNanos;
   private final Function<ChunkSessionInformation, ChunkedPacketHandler> handlerFactory;
-  private final Map<ChunkSessionInformation, ChunkedPacketHandler> runningSessions = new ConcurrentHashMap<>();
+  private final Map<ChunkSessionInformation, RunningSession> runningSessions = new ConcurrentHashMap<>();
 
   /**
-   * Creates a new packet listener instance.
+   * Creates a new packet listener instance which cancels sessions after 5 minutes without receiving a chunk.
    *
    * @param handlerFactory the factory to create the chunked packet handlers when receiving the initial request.
    * @throws NullPointerException if the given factory is null.
    */
   public ChunkedPacketListener(@NonNull Function<ChunkSessionInformation, ChunkedPacketHandler> handlerFactory) {
+    this(handlerFactory, DEFAULT_SESSION_TIMEOUT);
+  }
+
+  /**
+   * Creates a new packet listener instance.
+   *
+   * @param handlerFactory the factory to create the chunked packet handlers when receiving the initial request.
+   * @param sessionTimeout the time without receiving a chunk after which a session gets cancelled.
+   * @throws NullPointerException if the given factory or session timeout is null.
+   */
+  public ChunkedPacketListener(
+    @NonNull Function<ChunkSessionInformation, ChunkedPacketHandler> handlerFactory,
+    @NonNull Duration sessionTimeout
+  ) {
     this.handlerFactory = handlerFactory;
+    this.sessionTimeoutNanos = sessionTimeout.toNanos();
   }
 
   /**
@@ -55,12 +80,91 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
     var information = packet.content().readObject(ChunkSessionInformation.class);
     // read the chunk index
     var chunkIndex = packet.content().readInt();
+    // a sender resuming a transfer asks for the chunks which were already received
+    if (chunkIndex == ChunkedPacket.RECEIVED_CHUNKS_REQUEST_INDEX) {
+      var session = this.runningSessions.get(information);
+      var receivedChunks = session == null ? new BitSet() : session.handler().receivedChunks();
+      channel.sendPacket(packet.constructResponse(DataBuf.empty().writeByteArray(receivedChunks.toByteArray())));
+      return;
+    }
     // get or create the session associated with the packet
-    var handler = this.runningSessions.computeIfAbsent(information, this.handlerFactory);
+    var session = this.runningSessions.computeIfAbsent(information, info -> {
+      var runningSession = new RunningSession(this.handlerFactory.apply(info));
+      this.scheduleTimeoutCheck(info, runningSession, this.sessionTimeoutNanos);
+      return runningSession;
+    });
+    session.lastActivityNanos = System.nanoTime();
     // post the packet and check if the session is done
-    if (handler.handleChunkPart(chunkIndex, packet.content())) {
-      // done, remove the session
-      this.runningSessions.remove(information);
+    try {
+      if (session.handler().handleChunkPart(chunkIndex, packet.content())) {
+        // done, remove the session
+        this.runningSessions.remove(information, session);
+      }
+    } catch (Exception exception) {
+      // the session cannot recover from a failure, release the resources of it directly
+      if (this.runningSessions.remove(information, session)) {
+        session.handler().cancel();
+      }
+      throw exception;
+    }
+  }
+
+  /**
+   * Schedules a check if the given session timed out, cancelling the session if no chunk was received in the meantime
+   * or re-scheduling the check if the session is still active.
+   *
+   * @param information the information of the session to check.
+   * @param session     the session to check.
+   * @param delayNanos  the nanoseconds to wait before checking the session.
+   * @throws NullPointerException if the given information or session is null.
+   */
+  private void scheduleTimeoutCheck(
+    @NonNull ChunkSessionInformation information,
+    @NonNull RunningSession session,
+    long delayNanos
+  ) {
+    CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+      // the session was completed or replaced in the meantime
+      if (this.runningSessions.get(information) != session) {
+        return;
+      }
+
+      var remainingNanos = this.sessionTimeoutNanos - (System.nanoTime() - session.lastActivityNanos);
+      if (remainingNanos > 0) {
+        this.scheduleTimeoutCheck(information, session, remainingNanos);
+      } else if (this.runningSessions.remove(information, session)) {
+        session.handler().cancel();
+      }
+    });
+  }
+
+  /**
+   * A session which is currently receiving chunks.
+   *
+   * @since 4.0
+   */
+  private static final class RunningSession {
+
+    private final ChunkedPacketHandler handler;
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    /**
+     * Constructs a new running session.
+     *
+     * @param handler the handler of the session.
+     * @throws NullPointerException if the given handler is null.
+     */
+    public RunningSession(@NonNull ChunkedPacketHandler handler) {
+      this.handler = handler;
+    }
+
+    /**
+     * Get the handler of this session.
+     *
+     * @return the handler of this session.
+     */
+    public @NonNull ChunkedPacketHandler handler() {
+      return this.handler;
     }
   }
 }
@@ -38,9 +38,32 @@ public final class PacketServerChannelMessage extends BasePacket {
    * @throws NullPointerException if the given channel message is null.
    */
   public PacketServerChannelMessage(@NonNull ChannelMessage message, boolean wrapper) {
-    super(
-      NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
-      message.prioritized(),
-      DataBuf.empty().writeBoolean(wrapper).writeObject(message));
+    this(message.prioritized(), encodeMessage(message, wrapper));
+  }
+
+  /**
+   * Constructs a new channel message packet instance from a channel message which was already encoded using
+   * {@link #encodeMessage(ChannelMessage, boolean)}. This allows to send the same message to multiple components
+   * without encoding it again for each of them.
+   *
+   * @param prioritized    if the channel message is prioritized.
+   * @param encodedMessage the encoded channel message.
+   * @throws NullPointerException if the given encoded message is null.
+   */
+  public PacketServerChannelMessage(boolean prioritized, @NonNull DataBuf encodedMessage) {
+    super(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, prioritized, encodedMessage);
+  }
+
+  /**
+   * Encodes the given channel message into a new buffer which can be used as the content of a channel message packet.
+   * Note that encoding the message releases the content of the message.
+   *
+   * @param message the channel message to encode.
+   * @param wrapper if the channel was sent by a wrapper component.
+   * @return a new buffer containing the encoded channel message.
+   * @throws NullPointerException if the given channel message is null.
+   */
+  public static @NonNull DataBuf.Mutable encodeMessage(@NonNull ChannelMessage message, boolean wrapper) {
+    return DataBuf.empty().writeBoolean(wrapper).writeObject(message);
   }
 }
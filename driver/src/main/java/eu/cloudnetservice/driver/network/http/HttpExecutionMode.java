@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.http;
+
+/**
+ * The modes in which a http handler can be executed. By default, handlers are executed directly on the event loop of
+ * the connection to which the request was sent. Handlers which are doing blocking work (for example database or file
+ * operations) should be offloaded to another thread, as they would otherwise block all connections which are handled by
+ * the same event loop. The response of an offloaded handler is still written by the event loop of the connection.
+ *
+ * @since 4.0
+ */
+public enum HttpExecutionMode {
+
+  /**
+   * The handler is executed directly on the event loop of the connection. This mode must only be used for handlers
+   * which are not doing any blocking work.
+   */
+  EVENT_LOOP,
+  /**
+   * The handler is executed on a new virtual thread, or on an unbounded pool of platform threads if virtual threads are
+   * not available in the current jvm.
+   */
+  VIRTUAL_THREAD,
+  /**
+   * The handler is executed on a thread pool with a fixed amount of threads. Requests are rejected when too many
+   * requests are waiting for a thread of the pool.
+   */
+  BOUNDED_POOL
+}
@@ -38,6 +38,7 @@ public abstract class HttpHandler {
   public static final int PRIORITY_LOWEST = 0;
 
   private final Deque<HttpContextPreprocessor> preprocessors = new LinkedList<>();
+  private volatile HttpExecutionMode executionMode = HttpExecutionMode.EVENT_LOOP;
 
   /**
    * Adds a preprocessor which is applied to the context before calling this handler. The pre-processors are called in
@@ -77,6 +78,28 @@ public abstract class HttpHandler {
     return Collections.unmodifiableCollection(this.preprocessors);
   }
 
+  /**
+   * Get the mode in which this handler should be executed, defaults to the event loop of the connection.
+   *
+   * @return the execution mode of this handler.
+   */
+  public @NonNull HttpExecutionMode executionMode() {
+    return this.executionMode;
+  }
+
+  /**
+   * Sets the mode in which this handler should be executed. Handlers which are doing blocking work should not be
+   * executed on the event loop of the connection.
+   *
+   * @param executionMode the new execution mode of this handler.
+   * @return the same instance as used to call the method, for chaining.
+   * @throws NullPointerException if the given execution mode is null.
+   */
+  public @NonNull HttpHandler executionMode(@NonNull HttpExecutionMode executionMode) {
+    this.executionMode = executionMode;
+    return this;
+  }
+
   /**
    * Handles a http request whose path (and other supplied attributes) while registering is matching the requested path
    * of the client. A request is only processed by one handler at a time, giving the handler full control about changing
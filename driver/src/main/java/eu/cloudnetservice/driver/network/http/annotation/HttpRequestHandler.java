@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.network.http.annotation;
 
+import eu.cloudnetservice.driver.network.http.HttpExecutionMode;
 import eu.cloudnetservice.driver.network.http.HttpHandler;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
@@ -62,4 +63,12 @@
    * @return the port this handler is listening to.
    */
   int port() default -1;
+
+  /**
+   * Get the mode in which the associated handling method should be executed. Methods which are doing blocking work
+   * should not be executed on the event loop.
+   *
+   * @return the execution mode of the handling method.
+   */
+  @NonNull HttpExecutionMode executionMode() default HttpExecutionMode.EVENT_LOOP;
 }
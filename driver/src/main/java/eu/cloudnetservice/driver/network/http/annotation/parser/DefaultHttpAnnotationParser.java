@@ -211,6 +211,7 @@ public DefaultHttpAnnotationParser(@NonNull T component) {
         try {
           // build the http handler
           var handler = new MethodHttpHandlerInvoker(handlerInstance, method, supportedMethods);
+          handler.executionMode(annotation.executionMode());
 
           // add all pre-processing handlers
           for (var processor : this.processors) {
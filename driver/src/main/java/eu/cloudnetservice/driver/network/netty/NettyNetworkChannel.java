@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.network.netty;
 
+import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.network.NetworkChannelPacketSendEvent;
 import eu.cloudnetservice.driver.network.DefaultNetworkChannel;
@@ -26,6 +27,7 @@
 import eu.cloudnetservice.driver.network.protocol.PacketListenerRegistry;
 import io.netty5.channel.Channel;
 import io.netty5.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
@@ -104,6 +106,25 @@ public void sendPacket(@NonNull Packet packet) {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Void> sendPacketAsync(@NonNull Packet packet) {
+    var task = new Task<Void>();
+    if (this.channel.executor().inEventLoop()) {
+      this.writePacket(packet, task);
+    } else {
+      try {
+        this.channel.executor().execute(() -> this.writePacket(packet, task));
+      } catch (RejectedExecutionException exception) {
+        // the event loop of the channel is already shut down, the packet will never be written
+        task.completeExceptionally(exception);
+      }
+    }
+    return task;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -156,4 +177,31 @@ public void close() {
       return null;
     }
   }
+
+  /**
+   * Writes and flushes the given packet into the channel, completing the given task with the result of the write.
+   *
+   * @param packet the packet to write if the send operation is not cancelled.
+   * @param task   the task to complete once the write operation completed.
+   * @throws NullPointerException if the given packet or task is null.
+   */
+  private void writePacket(@NonNull Packet packet, @NonNull Task<Void> task) {
+    try {
+      var future = this.writePacket(packet, true);
+      if (future == null) {
+        // the send was cancelled on purpose, there is nothing to wait for
+        task.complete(null);
+      } else {
+        future.addListener(result -> {
+          if (result.isSuccess()) {
+            task.complete(null);
+          } else {
+            task.completeExceptionally(result.cause());
+          }
+        });
+      }
+    } catch (Exception exception) {
+      task.completeExceptionally(exception);
+    }
+  }
 }
@@ -22,7 +22,6 @@
 import eu.cloudnetservice.driver.network.netty.codec.NettyPacketDecoder;
 import eu.cloudnetservice.driver.network.netty.codec.NettyPacketEncoder;
 import eu.cloudnetservice.driver.network.netty.codec.VarInt32FrameDecoder;
-import eu.cloudnetservice.driver.network.netty.codec.VarInt32FramePrepender;
 import io.netty5.channel.Channel;
 import lombok.NonNull;
 
@@ -70,7 +69,6 @@ protected void doInitChannel(@NonNull Channel channel) {
     channel.pipeline()
       .addLast("packet-length-deserializer", new VarInt32FrameDecoder())
       .addLast("packet-decoder", new NettyPacketDecoder())
-      .addLast("packet-length-serializer", VarInt32FramePrepender.INSTANCE)
       .addLast("packet-encoder", NettyPacketEncoder.INSTANCE)
       .addLast("network-client-handler",
         new NettyNetworkClientHandler(this.eventManager, this.nettyNetworkClient, this.hostAndPort));
@@ -66,8 +66,11 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
 
       // extract the body
       var bodyLength = NettyUtil.readVarInt(in);
-      var body = new NettyImmutableDataBuf(in.copy(in.readerOffset(), bodyLength, true));
-      in.skipReadableBytes(bodyLength);
+      // drop the already read header, then split off the body without copying it. The given buffer is a single frame
+      // which is either a copy or makes up most of the memory it shares (see VarInt32FrameDecoder), the body does not
+      // retain more memory than needed for that frame
+      in.readSplit(0).close();
+      var body = new NettyImmutableDataBuf(in.readSplit(bodyLength).makeReadOnly());
 
       // construct the packet
       var packet = new BasePacket(channel, prioritized, body);
@@ -21,7 +21,8 @@
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import io.netty5.buffer.Buffer;
 import io.netty5.channel.ChannelHandlerContext;
-import io.netty5.handler.codec.MessageToByteEncoder;
+import io.netty5.handler.codec.MessageToMessageEncoder;
+import java.util.List;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 
@@ -34,11 +35,14 @@
  *   <li>An optional query unique id if the packet is a query.
  *   <li>The data transferred to this component, might be empty.
  * </ol>
+ * <p>
+ * The packet header, prefixed with the length of the full packet as a var int, is written into a separate buffer which
+ * is composed with the packet content. The content itself is not copied unless it is still used elsewhere.
  *
  * @since 4.0
  */
 @ApiStatus.Internal
-public final class NettyPacketEncoder extends MessageToByteEncoder<Packet> {
+public final class NettyPacketEncoder extends MessageToMessageEncoder<Packet> {
 
   public static final NettyPacketEncoder INSTANCE = new NettyPacketEncoder();
 
@@ -46,50 +50,55 @@ public final class NettyPacketEncoder extends MessageToByteEncoder<Packet> {
    * {@inheritDoc}
    */
   @Override
-  protected Buffer allocateBuffer(@NonNull ChannelHandlerContext ctx, @NonNull Packet msg) {
+  protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Packet msg, @NonNull List<Object> out) {
+    // we only support netty buf
+    var content = ((NettyImmutableDataBuf) msg.content()).buffer();
+    var length = content.readableBytes();
+
     // we allocate 2 booleans (prioritized and isQuery) + content length + channel in advance
-    var bufferLength = 2
-      + msg.content().readableBytes()
-      + NettyUtil.varIntBytes(msg.channel())
-      + NettyUtil.varIntBytes(msg.content().readableBytes());
+    var headerLength = 2 + NettyUtil.varIntBytes(msg.channel()) + NettyUtil.varIntBytes(length);
     // if the given packet has a query unique id we need two longs for that unique id as well
-    if (msg.uniqueId() != null) {
-      bufferLength += 16;
+    var queryUniqueId = msg.uniqueId();
+    if (queryUniqueId != null) {
+      headerLength += 16;
     }
 
-    // allocate the buffer
-    return ctx.bufferAllocator().allocate(bufferLength);
-  }
-
-  /**
-   * {@inheritDoc}
-   */
-  @Override
-  protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Packet msg, @NonNull Buffer out) {
+    // the length of the full packet is prefixed to it as a var int
+    var frameLength = headerLength + length;
+    var header = ctx.bufferAllocator().allocate(NettyUtil.varIntBytes(frameLength) + headerLength);
+    NettyUtil.writeVarInt(header, frameLength);
     // channel
-    NettyUtil.writeVarInt(out, msg.channel());
+    NettyUtil.writeVarInt(header, msg.channel());
     // packet priority
-    out.writeBoolean(msg.prioritized());
+    header.writeBoolean(msg.prioritized());
     // query id (if present)
-    var queryUniqueId = msg.uniqueId();
-    out.writeBoolean(queryUniqueId != null);
+    header.writeBoolean(queryUniqueId != null);
     if (queryUniqueId != null) {
-      out
+      header
         .writeLong(queryUniqueId.getMostSignificantBits())
         .writeLong(queryUniqueId.getLeastSignificantBits());
     }
-    // body
-    // we only support netty buf
-    var content = ((NettyImmutableDataBuf) msg.content()).buffer();
-    // write information to buffer
-    var length = content.readableBytes();
-    NettyUtil.writeVarInt(out, length);
-    // copy the content and move the cursor of the destination buffer
-    content.copyInto(0, out, out.writerOffset(), length);
-    out.skipWritableBytes(length);
+    // body length
+    NettyUtil.writeVarInt(header, length);
+
+    // take over the content buffer if this is the last acquire of it, the content is released in that case anyway.
+    // if the content is still used somewhere else we need a copy of it (which shares the memory if read-only)
+    Buffer body;
+    if (msg.content().acquires() <= 1 && content.readerOffset() == 0) {
+      body = content.split();
+    } else {
+      body = content.copy(content.readerOffset(), length, content.readOnly());
+    }
+
     // release the content of the packet now, don't use the local field to respect if releasing was disabled in the
-    // original buffer.
+    // original buffer. This will not release the body as the buffer was split off or copied
     msg.content().release();
+
+    // composed buffers must all either be read-only or writable
+    if (body.readOnly()) {
+      header.makeReadOnly();
+    }
+    out.add(ctx.bufferAllocator().compose(List.of(header.send(), body.send())));
   }
 
   /**
@@ -56,9 +56,18 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
 
     // check if the packet data supplied in the buffer is actually at least the transmitted size
     if (in.readableBytes() >= length) {
-      // fire the channel read
-      ctx.fireChannelRead(in.copy(in.readerOffset(), length, true));
-      in.skipReadableBytes(length);
+      // a split frame shares the memory of the whole cumulation buffer, which stays allocated until every frame split
+      // off from it was released. Only split off frames which make up a large part of the cumulation (the retained
+      // memory is at most about twice the frame size in that case), copy smaller frames instead
+      if (length >= in.capacity() / 2) {
+        // drop the already read bytes, then split off the frame without copying it
+        in.readSplit(0).close();
+        ctx.fireChannelRead(in.readSplit(length));
+      } else {
+        var frame = in.copy(in.readerOffset(), length);
+        in.skipReadableBytes(length);
+        ctx.fireChannelRead(frame);
+      }
     } else {
       // reset the reader index, there is still data missing
       in.readerOffset(readerIndex);
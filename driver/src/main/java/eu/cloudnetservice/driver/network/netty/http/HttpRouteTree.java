@@ -0,0 +1,236 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.http;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable tree of all http handlers registered to a http server, split into the segments of their paths. Each
+ * segment is either static, a path parameter in the form {@code {name}} or a wildcard ({@code *}). A wildcard matches
+ * exactly one segment of the requested path, unless it is the last segment of the handler path in which case it matches
+ * all remaining segments (but at least one). The ordering of the handlers by their priority is computed once when the
+ * tree gets compiled, which means that matching a path only requires walking the tree along the path segments.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+final class HttpRouteTree {
+
+  static final HttpRouteTree EMPTY = compile(List.of());
+
+  private final Node root;
+  private final Route[] routes;
+
+  private HttpRouteTree(@NonNull Node root, @NonNull Route[] routes) {
+    this.root = root;
+    this.routes = routes;
+  }
+
+  /**
+   * Compiles the given handler entries into a new route tree. Handlers with a higher priority are returned first when
+   * matching a path, handlers with the same priority keep the iteration order of the given collection.
+   *
+   * @param entries the handler entries to compile.
+   * @return a new route tree containing all the given handler entries.
+   * @throws NullPointerException if the given entry collection is null.
+   */
+  static @NonNull HttpRouteTree compile(@NonNull Collection<NettyHttpServer.HttpHandlerEntry> entries) {
+    var sortedEntries = new ArrayList<>(entries);
+    sortedEntries.sort(Comparator.comparingInt(NettyHttpServer.HttpHandlerEntry::priority).reversed());
+
+    var root = new Node();
+    var routes = new Route[sortedEntries.size()];
+    for (var rank = 0; rank < routes.length; rank++) {
+      var entry = sortedEntries.get(rank);
+      var segments = segments(entry.path().split("/"));
+
+      // resolve the names of all path parameters in the path, indexed by the segment they are located at
+      String[] parameterNames = null;
+      var node = root;
+      for (var index = 0; index < segments.length; index++) {
+        var segment = segments[index];
+        if (segment.equals("*")) {
+          // a wildcard at the end of the path matches all upcoming segments
+          if (index == segments.length - 1) {
+            break;
+          }
+          node = node.wildcardChild();
+        } else if (segment.startsWith("{") && segment.endsWith("}") && segment.length() > 2) {
+          if (parameterNames == null) {
+            parameterNames = new String[segments.length];
+          }
+          parameterNames[index] = segment.substring(1, segment.length() - 1);
+          node = node.parameterChild();
+        } else {
+          node = node.staticChildren.computeIfAbsent(segment, $ -> new Node());
+        }
+      }
+
+      var route = new Route(entry, rank, parameterNames);
+      routes[rank] = route;
+
+      // register the route either as an exact or as a trailing wildcard match to the node
+      if (segments.length > 0 && segments[segments.length - 1].equals("*")) {
+        node.trailingWildcardRoutes.add(route);
+      } else {
+        node.exactRoutes.add(route);
+      }
+    }
+
+    return new HttpRouteTree(root, routes);
+  }
+
+  /**
+   * Get the segments of a path which was split at each slash. The first entry of the split path is dropped, as it is
+   * the empty string in front of the leading slash of the path.
+   *
+   * @param pathEntries the path, split at each slash.
+   * @return the segments of the path.
+   * @throws NullPointerException if the given path entries are null.
+   */
+  static @NonNull String[] segments(@NonNull String[] pathEntries) {
+    if (pathEntries.length <= 1) {
+      return new String[0];
+    }
+
+    var segments = new String[pathEntries.length - 1];
+    System.arraycopy(pathEntries, 1, segments, 0, segments.length);
+    return segments;
+  }
+
+  private static void collect(
+    @NonNull Node node,
+    @NonNull String[] segments,
+    int index,
+    @NonNull BitSet matches
+  ) {
+    // trailing wildcards match if at least one more segment is requested
+    if (index < segments.length) {
+      for (var route : node.trailingWildcardRoutes) {
+        matches.set(route.rank);
+      }
+    } else {
+      for (var route : node.exactRoutes) {
+        matches.set(route.rank);
+      }
+      return;
+    }
+
+    // follow all children which are matching the segment, a segment can be matched by multiple handler paths
+    var staticChild = node.staticChildren.get(segments[index]);
+    if (staticChild != null) {
+      collect(staticChild, segments, index + 1, matches);
+    }
+    if (node.parameterChild != null) {
+      collect(node.parameterChild, segments, index + 1, matches);
+    }
+    if (node.wildcardChild != null) {
+      collect(node.wildcardChild, segments, index + 1, matches);
+    }
+  }
+
+  /**
+   * Get all routes which are matching the given path segments and are either bound to the given port or to no port at
+   * all. The returned routes are ordered by the priority of their handlers, the highest priority first.
+   *
+   * @param segments the segments of the requested path.
+   * @param port     the port to which the request was sent.
+   * @return all routes matching the given path and port.
+   * @throws NullPointerException if the given segments are null.
+   */
+  @NonNull List<Route> match(@NonNull String[] segments, int port) {
+    if (this.routes.length == 0) {
+      return List.of();
+    }
+
+    var matches = new BitSet(this.routes.length);
+    collect(this.root, segments, 0, matches);
+
+    // the rank of the routes is their index in the priority order, iterating over the set bits keeps that order
+    List<Route> result = new ArrayList<>(matches.cardinality());
+    for (var rank = matches.nextSetBit(0); rank >= 0; rank = matches.nextSetBit(rank + 1)) {
+      var route = this.routes[rank];
+      var routePort = route.entry.port();
+      if (routePort == null || routePort == port) {
+        result.add(route);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * A handler entry which was compiled into a route tree.
+   *
+   * @param entry          the handler entry of the route.
+   * @param rank           the index of the route in the priority order of all routes in the tree.
+   * @param parameterNames the names of the path parameters indexed by their segment, null if there are none.
+   * @since 4.0
+   */
+  record Route(@NonNull NettyHttpServer.HttpHandlerEntry entry, int rank, @Nullable String[] parameterNames) {
+
+    /**
+     * Puts the values of all path parameters of this route into the given map.
+     *
+     * @param segments the segments of the requested path which was matched by this route.
+     * @param target   the map to put the path parameters into.
+     * @throws NullPointerException if the given segments or target map is null.
+     */
+    void extractParameters(@NonNull String[] segments, @NonNull Map<String, String> target) {
+      if (this.parameterNames != null) {
+        for (var index = 0; index < this.parameterNames.length; index++) {
+          var name = this.parameterNames[index];
+          if (name != null) {
+            target.put(name, segments[index]);
+          }
+        }
+      }
+    }
+  }
+
+  private static final class Node {
+
+    private final Map<String, Node> staticChildren = new HashMap<>();
+    private final List<Route> exactRoutes = new ArrayList<>();
+    private final List<Route> trailingWildcardRoutes = new ArrayList<>();
+
+    private Node parameterChild;
+    private Node wildcardChild;
+
+    private @NonNull Node parameterChild() {
+      if (this.parameterChild == null) {
+        this.parameterChild = new Node();
+      }
+      return this.parameterChild;
+    }
+
+    private @NonNull Node wildcardChild() {
+      if (this.wildcardChild == null) {
+        this.wildcardChild = new Node();
+      }
+      return this.wildcardChild;
+    }
+  }
+}
@@ -16,10 +16,12 @@
 
 package eu.cloudnetservice.driver.network.netty.http;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.http.HttpExecutionMode;
 import eu.cloudnetservice.driver.network.http.HttpHandler;
 import eu.cloudnetservice.driver.network.http.HttpServer;
 import eu.cloudnetservice.driver.network.http.annotation.parser.DefaultHttpAnnotationParser;
@@ -27,6 +29,7 @@
 import eu.cloudnetservice.driver.network.netty.NettySslServer;
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.ssl.SSLConfiguration;
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import io.netty5.bootstrap.ServerBootstrap;
 import io.netty5.channel.ChannelOption;
 import io.netty5.channel.EventLoopGroup;
@@ -34,7 +37,13 @@
 import jakarta.inject.Singleton;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -48,12 +57,29 @@ public class NettyHttpServer extends NettySslServer implements HttpServer {
 
   private static final Logger LOGGER = LogManager.logger(NettyHttpServer.class);
 
+  private static final int BOUNDED_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
+  private static final int BOUNDED_POOL_QUEUE_SIZE = BOUNDED_POOL_SIZE * 64;
+
   protected final Map<HostAndPort, Future<Void>> channelFutures = new ConcurrentHashMap<>();
   protected final Collection<HttpHandlerEntry> registeredHandlers = ConcurrentHashMap.newKeySet();
 
+  private volatile HttpRouteTree routeTree = HttpRouteTree.EMPTY;
+
   protected final EventLoopGroup bossGroup = NettyUtil.newEventLoopGroup(1);
   protected final EventLoopGroup workerGroup = NettyUtil.newEventLoopGroup(0);
 
+  // executors for handlers which should not be executed on the event loop
+  protected final ExecutorService virtualThreadExecutor = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Http-Handler-",
+    Executors::newCachedThreadPool);
+  protected final ExecutorService boundedPoolExecutor = new ThreadPoolExecutor(
+    BOUNDED_POOL_SIZE,
+    BOUNDED_POOL_SIZE,
+    30L,
+    TimeUnit.SECONDS,
+    new ArrayBlockingQueue<>(BOUNDED_POOL_QUEUE_SIZE),
+    new ThreadFactoryBuilder().setNameFormat("Http-Handler-Pool-%d").setDaemon(true).build());
+
   protected final HttpAnnotationParser<HttpServer> annoParser = DefaultHttpAnnotationParser.withDefaultProcessors(this);
 
   /**
@@ -175,6 +201,7 @@ public boolean sslEnabled() {
       this.registeredHandlers.add(new HttpHandlerEntry(path, httpHandler, port, priority));
     }
 
+    this.compileRoutes();
     return this;
   }
 
@@ -184,6 +211,7 @@ public boolean sslEnabled() {
   @Override
   public @NonNull HttpServer removeHandler(@NonNull HttpHandler handler) {
     this.registeredHandlers.removeIf(registeredHandler -> registeredHandler.httpHandler.equals(handler));
+    this.compileRoutes();
     return this;
   }
 
@@ -193,6 +221,7 @@ public boolean sslEnabled() {
   @Override
   public @NonNull HttpServer removeHandler(@NonNull ClassLoader classLoader) {
     this.registeredHandlers.removeIf(handler -> handler.httpHandler.getClass().getClassLoader().equals(classLoader));
+    this.compileRoutes();
     return this;
   }
 
@@ -212,6 +241,7 @@ public boolean sslEnabled() {
   @Override
   public @NonNull HttpServer clearHandlers() {
     this.registeredHandlers.clear();
+    this.compileRoutes();
     return this;
   }
 
@@ -226,9 +256,44 @@ public void close() {
 
     this.bossGroup.shutdownGracefully();
     this.workerGroup.shutdownGracefully();
+
+    this.virtualThreadExecutor.shutdown();
+    this.boundedPoolExecutor.shutdown();
     this.clearHandlers();
   }
 
+  /**
+   * Get the compiled tree of all handlers which are currently registered to this server.
+   *
+   * @return the compiled tree of all registered handlers.
+   */
+  @NonNull HttpRouteTree routeTree() {
+    return this.routeTree;
+  }
+
+  /**
+   * Get the executor to run handlers with the given execution mode on.
+   *
+   * @param executionMode the execution mode of the handlers.
+   * @return the executor for the given execution mode, null if the handlers should be run on the event loop.
+   * @throws NullPointerException if the given execution mode is null.
+   */
+  @Nullable Executor handlerExecutor(@NonNull HttpExecutionMode executionMode) {
+    return switch (executionMode) {
+      case EVENT_LOOP -> null;
+      case VIRTUAL_THREAD -> this.virtualThreadExecutor;
+      case BOUNDED_POOL -> this.boundedPoolExecutor;
+    };
+  }
+
+  /**
+   * Compiles all currently registered handlers into a new route tree which is then used for all upcoming requests.
+   * Compiling is synchronized, so the last compilation always sees the latest set of registered handlers.
+   */
+  protected synchronized void compileRoutes() {
+    this.routeTree = HttpRouteTree.compile(this.registeredHandlers);
+  }
+
   /**
    * Represents a registered http handler, holding all the information needed for later calling of it.
    *
@@ -21,11 +21,13 @@
 import eu.cloudnetservice.common.util.StringUtil;
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.http.HttpContext;
+import eu.cloudnetservice.driver.network.http.HttpExecutionMode;
 import eu.cloudnetservice.driver.network.http.HttpHandleException;
 import eu.cloudnetservice.driver.network.http.HttpResponseCode;
 import io.netty5.channel.Channel;
 import io.netty5.channel.ChannelFutureListeners;
 import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.ChannelOption;
 import io.netty5.channel.SimpleChannelInboundHandler;
 import io.netty5.handler.codec.http.DefaultHttpResponse;
 import io.netty5.handler.codec.http.EmptyLastHttpContent;
@@ -37,13 +39,16 @@
 import io.netty5.handler.codec.http.HttpUtil;
 import io.netty5.handler.stream.ChunkedStream;
 import io.netty5.handler.timeout.ReadTimeoutException;
+import io.netty5.util.Resource;
 import io.netty5.util.concurrent.Future;
 import java.io.IOException;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 
@@ -58,10 +63,17 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
 
   private static final Logger LOGGER = LogManager.logger(NettyHttpServerHandler.class);
 
+  // the maximum amount of requests which are accepted on a connection before the previous requests were answered
+  private static final int MAX_PENDING_REQUESTS = 16;
+
   private final NettyHttpServer nettyHttpServer;
   private final HostAndPort connectedAddress;
 
+  private final Deque<HttpRequest> pendingRequests = new ArrayDeque<>();
+
   private NettyHttpChannel channel;
+  private boolean processingRequest;
+  private boolean readingSuspended;
 
   /**
    * Constructs a new http server handler instance.
@@ -71,6 +83,7 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
    * @throws NullPointerException if the given server or host and port are null.
    */
   public NettyHttpServerHandler(@NonNull NettyHttpServer nettyHttpServer, @NonNull HostAndPort connectedAddress) {
+    super(false);
     this.nettyHttpServer = nettyHttpServer;
     this.connectedAddress = connectedAddress;
   }
@@ -89,6 +102,11 @@ public void channelActive(@NonNull ChannelHandlerContext ctx) {
    */
   @Override
   public void channelInactive(@NonNull ChannelHandlerContext ctx) {
+    // release all requests which were not processed yet
+    while (!this.pendingRequests.isEmpty()) {
+      Resource.dispose(this.pendingRequests.poll());
+    }
+
     if (!ctx.channel().isActive() || !ctx.channel().isOpen() || !ctx.channel().isWritable()) {
       ctx.channel().close();
     }
@@ -119,11 +137,44 @@ public void channelReadComplete(@NonNull ChannelHandlerContext ctx) {
   protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull HttpRequest msg) {
     // validate that the request was actually decoded before processing
     if (msg.decoderResult().isFailure()) {
+      Resource.dispose(msg);
       ctx.channel().close();
       return;
     }
 
-    this.handleMessage(ctx.channel(), msg);
+    // stop reading from the channel if too many requests are waiting to be processed
+    this.pendingRequests.add(msg);
+    if (!this.readingSuspended && this.pendingRequests.size() >= MAX_PENDING_REQUESTS) {
+      this.readingSuspended = true;
+      ctx.channel().setOption(ChannelOption.AUTO_READ, false);
+    }
+
+    this.processPendingRequests(ctx.channel());
+  }
+
+  /**
+   * Processes the pending requests of the channel in order, until either no requests are pending anymore or a request
+   * is processed outside the event loop. Responses must be sent in the same order as the requests came in, therefore
+   * only one request is processed at a time.
+   *
+   * @param channel the channel from which the requests came.
+   * @throws NullPointerException if the given channel is null.
+   */
+  private void processPendingRequests(@NonNull Channel channel) {
+    while (!this.processingRequest) {
+      var request = this.pendingRequests.poll();
+      if (request == null) {
+        break;
+      }
+
+      // resume reading from the channel if there is space for new requests again
+      if (this.readingSuspended && this.pendingRequests.size() < MAX_PENDING_REQUESTS) {
+        this.readingSuspended = false;
+        channel.setOption(ChannelOption.AUTO_READ, true);
+      }
+
+      this.handleMessage(channel, request);
+    }
   }
 
   /**
@@ -139,6 +190,7 @@ private void handleMessage(@NonNull Channel channel, @NonNull HttpRequest httpRe
     // to the lack of path information which is the base of our internal handling)
     var uri = URI.create(httpRequest.uri());
     if (uri.isOpaque()) {
+      Resource.dispose(httpRequest);
       channel
         .writeAndFlush(new DefaultHttpResponse(httpRequest.protocolVersion(), HttpResponseStatus.BAD_REQUEST))
         .addListener(channel, ChannelFutureListeners.CLOSE);
@@ -151,23 +203,111 @@ private void handleMessage(@NonNull Channel channel, @NonNull HttpRequest httpRe
       fullPath = fullPath.substring(0, fullPath.length() - 1);
     }
 
-    // get all handlers which should be tested if they can accept the http request
-    var entries = new ArrayList<>(this.nettyHttpServer.registeredHandlers);
-    entries.sort(Comparator.comparingInt(NettyHttpServer.HttpHandlerEntry::priority).reversed());
+    // resolve all handlers which are matching the request uri, ordered by their priority
+    var segments = HttpRouteTree.segments(fullPath.split("/"));
+    var routes = this.nettyHttpServer.routeTree().match(segments, this.connectedAddress.port());
 
     // build the context around the http request
-    var pathEntries = fullPath.split("/");
+    var path = StringUtil.toLower(fullPath);
     var context = new NettyHttpServerContext(this.nettyHttpServer, this.channel, uri, new HashMap<>(), httpRequest);
 
-    // loop over each handler, posting the message to the handlers which are matching the request uri
-    for (var httpHandlerEntry : entries) {
+    // check if one of the handlers should not be called on the event loop, in that case the whole chain is offloaded
+    var executor = this.nettyHttpServer.handlerExecutor(executionMode(routes));
+    if (executor == null) {
+      try {
+        this.invokeHandlers(routes, segments, path, context);
+        this.writeResponse(channel, context);
+      } finally {
+        Resource.dispose(httpRequest);
+      }
+      return;
+    }
+
+    // no other request of the channel is processed until the offloaded request completed
+    this.processingRequest = true;
+    try {
+      executor.execute(() -> {
+        try {
+          this.invokeHandlers(routes, segments, path, context);
+        } finally {
+          // send the response from the event loop of the channel
+          channel.executor().execute(() -> this.completeOffloadedRequest(channel, httpRequest, context));
+        }
+      });
+    } catch (RejectedExecutionException exception) {
+      // too many requests are waiting for the executor
+      context.response().status(HttpResponseCode.SERVICE_UNAVAILABLE);
+      this.completeOffloadedRequest(channel, httpRequest, context);
+    }
+  }
+
+  /**
+   * Resolves the execution mode to use for the given routes. If any of the handlers requests to not be called on the
+   * event loop, the first requested execution mode is used.
+   *
+   * @param routes the routes to resolve the execution mode of.
+   * @return the execution mode to use for the given routes.
+   * @throws NullPointerException if the given route list is null.
+   */
+  private static @NonNull HttpExecutionMode executionMode(@NonNull List<HttpRouteTree.Route> routes) {
+    for (var route : routes) {
+      var executionMode = route.entry().httpHandler().executionMode();
+      if (executionMode != HttpExecutionMode.EVENT_LOOP) {
+        return executionMode;
+      }
+    }
+    return HttpExecutionMode.EVENT_LOOP;
+  }
+
+  /**
+   * Sends the response of a request which was processed outside the event loop and continues processing the pending
+   * requests of the channel. This method must be called on the event loop of the channel.
+   *
+   * @param channel     the channel from which the request came.
+   * @param httpRequest the request which was processed.
+   * @param context     the context of the processed request.
+   * @throws NullPointerException if the given channel, request or context is null.
+   */
+  private void completeOffloadedRequest(
+    @NonNull Channel channel,
+    @NonNull HttpRequest httpRequest,
+    @NonNull NettyHttpServerContext context
+  ) {
+    try {
+      this.writeResponse(channel, context);
+    } finally {
+      Resource.dispose(httpRequest);
+      this.processingRequest = false;
+    }
+
+    this.processPendingRequests(channel);
+  }
+
+  /**
+   * Posts the request to the given matching routes, until one of the handlers requests to cancel the processing.
+   *
+   * @param routes   the routes matching the request, ordered by their priority.
+   * @param segments the segments of the requested path.
+   * @param path     the full requested path, in lower case.
+   * @param context  the context of the request.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  private void invokeHandlers(
+    @NonNull List<HttpRouteTree.Route> routes,
+    @NonNull String[] segments,
+    @NonNull String path,
+    @NonNull NettyHttpServerContext context
+  ) {
+    // loop over each matching handler, posting the message to them
+    for (var route : routes) {
       // prepare the context to post to the handler
+      var httpHandlerEntry = route.entry();
       context.invocationHints.clear();
       context.pathPrefix(httpHandlerEntry.path());
+      route.extractParameters(segments, context.request().pathParameters());
 
-      // check and post to the handler if matching
-      var handlerPathEntries = httpHandlerEntry.path().split("/");
-      if (this.handleMessage0(httpHandlerEntry, context, fullPath, pathEntries, handlerPathEntries)) {
+      // post to the handler
+      if (this.handleMessage0(httpHandlerEntry, context, path)) {
         // update the last handler in the pipeline which handled the request
         context.pushChain(httpHandlerEntry.httpHandler());
         // stop processing the request if a handler requested that
@@ -176,7 +316,17 @@ private void handleMessage(@NonNull Channel channel, @NonNull HttpRequest httpRe
         }
       }
     }
+  }
 
+  /**
+   * Writes the response which was set in the given context to the channel, unless the handlers requested to not send
+   * the response.
+   *
+   * @param channel the channel to write the response to.
+   * @param context the context of the request.
+   * @throws NullPointerException if the given channel or context is null.
+   */
+  private void writeResponse(@NonNull Channel channel, @NonNull NettyHttpServerContext context) {
     // check if the response set in the context should actually be transferred to the client
     if (!context.cancelSendResponse) {
       var response = context.httpServerResponse;
@@ -221,69 +371,19 @@ private void handleMessage(@NonNull Channel channel, @NonNull HttpRequest httpRe
   }
 
   /**
-   * Handles the incoming request and posts it the given handler if the data matches the settings of the handler.
+   * Posts the incoming request to the given handler, the handler must match the requested path.
    *
-   * @param httpHandlerEntry   the handler to post to if everything matches.
-   * @param context            the context of the request.
-   * @param fullPath           the full requested path.
-   * @param pathEntries        the entries one by one of the path uri.
-   * @param handlerPathEntries the entries of the http handler.
+   * @param httpHandlerEntry the handler to post to.
+   * @param context          the context of the request.
+   * @param path             the full requested path, in lower case.
    * @return true if the message was posted to the handler, false otherwise.
    * @throws NullPointerException if one of the given parameters is null.
    */
   private boolean handleMessage0(
     @NonNull NettyHttpServer.HttpHandlerEntry httpHandlerEntry,
     @NonNull HttpContext context,
-    @NonNull String fullPath,
-    @NonNull String[] pathEntries,
-    @NonNull String[] handlerPathEntries
+    @NonNull String path
   ) {
-    var path = StringUtil.toLower(fullPath);
-
-    // validate that the port (if given) of the server and entry are matching
-    if (httpHandlerEntry.port() != null && httpHandlerEntry.port() != this.connectedAddress.port()) {
-      return false;
-    }
-
-    // check if the path either ends with a wildcard or if the path entry length are matching
-    if (!httpHandlerEntry.path().endsWith("*") && pathEntries.length != handlerPathEntries.length) {
-      return false;
-    }
-
-    // wildcard path check, if the path handler expects more entries than the original requested path
-    if (pathEntries.length < handlerPathEntries.length) {
-      return false;
-    }
-
-    // validate that all path entries are matching
-    if (pathEntries.length != 1 || handlerPathEntries.length != 1) {
-      for (var index = 1; index < pathEntries.length; ++index) {
-        // check if the current index of the handler entries is a wildcard char and continue without further checking
-        var entry = handlerPathEntries[index];
-        if (entry.equals("*")) {
-          // special case: if the entry is the last entry of the path entries we can stop the check as it should
-          // match all upcoming uri path parts
-          if (handlerPathEntries.length - 1 == index) {
-            break;
-          }
-          continue;
-        }
-
-        // check for a path parameter in the form {name}
-        if (entry.startsWith("{") && entry.endsWith("}") && entry.length() > 2) {
-          // remove the initial { and ending } and register the name with the provided value in the path
-          // parameters in the context and continue.
-          context.request().pathParameters().put(entry.substring(1, entry.length() - 1), pathEntries[index]);
-          continue;
-        }
-
-        // check if the uri does match at the position
-        if (!entry.equals(pathEntries[index])) {
-          return false;
-        }
-      }
-    }
-
     // post the context to the invocation handlers (if any registered)
     var preprocessors = httpHandlerEntry.httpHandler().preprocessors();
     if (!preprocessors.isEmpty()) {
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.network.protocol;
 
+import eu.cloudnetservice.common.concurrent.Task;
 import lombok.NonNull;
 
 /**
@@ -42,6 +43,20 @@ public interface PacketSender {
    */
   void sendPacketSync(@NonNull Packet packet);
 
+  /**
+   * Sends the given packet to the associated target without waiting for the write of the packet to complete. The
+   * returned task is completed once the packet was written, or exceptionally if the packet could not be written. By
+   * default, this method sends the packet using {@link #sendPacket(Packet)} and returns an already completed task.
+   *
+   * @param packet the packet to send.
+   * @return a task completed once the packet was written to the associated target.
+   * @throws NullPointerException if the given packet is null.
+   */
+  default @NonNull Task<Void> sendPacketAsync(@NonNull Packet packet) {
+    this.sendPacket(packet);
+    return Task.completedTask(null);
+  }
+
   /**
    * Sends all the given packets to the associated target.
    *
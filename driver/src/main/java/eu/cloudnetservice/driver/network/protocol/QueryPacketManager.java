@@ -97,7 +97,8 @@ public interface QueryPacketManager {
 
   /**
    * Sends a query packet to the associated network channel, automatically setting the id in the packet. An existing
-   * query unique id in the packet will get overridden.
+   * query unique id in the packet will get overridden. The returned future is completed exceptionally without waiting
+   * for the query timeout if the packet could not be written to the channel.
    *
    * @param packet        the packet to convert to a query packet and send to the channel.
    * @param queryUniqueId the unique id to use when sending the packet.
@@ -16,10 +16,6 @@
 
 package eu.cloudnetservice.driver.network.protocol.defaults;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.RemovalListener;
-import com.github.benmanes.caffeine.cache.Scheduler;
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.protocol.Packet;
@@ -28,7 +24,8 @@
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
@@ -44,7 +41,7 @@ public class DefaultQueryPacketManager implements QueryPacketManager {
 
   private final Duration queryTimeout;
   private final NetworkChannel networkChannel;
-  private final Cache<UUID, Task<Packet>> waitingHandlers;
+  private final Map<UUID, Task<Packet>> waitingHandlers = new ConcurrentHashMap<>();
 
   /**
    * Constructs a new query manager for the given network channel and a timeout of 30 seconds for each query.
@@ -66,12 +63,6 @@ public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel) {
   public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel, @NonNull Duration queryTimeout) {
     this.networkChannel = networkChannel;
     this.queryTimeout = queryTimeout;
-    // construct the cache based on the given information
-    this.waitingHandlers = Caffeine.newBuilder()
-      .expireAfterWrite(queryTimeout)
-      .scheduler(Scheduler.systemScheduler())
-      .removalListener(this.newRemovalListener())
-      .build();
   }
 
   /**
@@ -95,7 +86,7 @@ public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel, @NonNul
    */
   @Override
   public @NonNull @UnmodifiableView Map<UUID, Task<Packet>> waitingHandlers() {
-    return Collections.unmodifiableMap(this.waitingHandlers.asMap());
+    return Collections.unmodifiableMap(this.waitingHandlers);
   }
 
   /**
@@ -103,7 +94,7 @@ public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel, @NonNul
    */
   @Override
   public boolean hasWaitingHandler(@NonNull UUID queryUniqueId) {
-    return this.waitingHandlers.getIfPresent(queryUniqueId) != null;
+    return this.waitingHandlers.containsKey(queryUniqueId);
   }
 
   /**
@@ -111,8 +102,7 @@ public boolean hasWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
-    this.waitingHandlers.invalidate(queryUniqueId);
-    return true;
+    return this.waitingHandlers.remove(queryUniqueId) != null;
   }
 
   /**
@@ -120,11 +110,7 @@ public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public @Nullable Task<Packet> waitingHandler(@NonNull UUID queryUniqueId) {
-    var task = this.waitingHandlers.getIfPresent(queryUniqueId);
-    if (task != null) {
-      this.waitingHandlers.invalidate(queryUniqueId);
-    }
-    return task;
+    return this.waitingHandlers.remove(queryUniqueId);
   }
 
   /**
@@ -143,24 +129,18 @@ public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
     // create & register the result handler
     var task = new Task<Packet>();
     this.waitingHandlers.put(queryUniqueId, task);
-    // set the unique id of the packet and send
+    // complete the handler with a timeout exception if no response arrives in time, remove it once completed
+    task.orTimeout(this.queryTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    task.whenComplete(($, exception) -> this.waitingHandlers.remove(queryUniqueId, task));
+    // set the unique id of the packet and send, the response is not bound to the write completion. If the write
+    // fails there will never be a response, fail the handler directly instead of waiting for the timeout
     packet.uniqueId(queryUniqueId);
-    this.networkChannel.sendPacketSync(packet);
+    this.networkChannel.sendPacketAsync(packet).whenComplete(($, exception) -> {
+      if (exception != null) {
+        task.completeExceptionally(exception);
+      }
+    });
     // return the created handler
     return task;
   }
-
-  /**
-   * Constructs a new removal listener for the cache, completing the future of a query packet with a timeout exception
-   * when evicted from the cache.
-   *
-   * @return a new removal listeners for unanswered packet future completion.
-   */
-  protected @NonNull RemovalListener<UUID, Task<Packet>> newRemovalListener() {
-    return ($, value, cause) -> {
-      if (cause.wasEvicted() && value != null) {
-        value.completeExceptionally(new TimeoutException());
-      }
-    };
-  }
 }
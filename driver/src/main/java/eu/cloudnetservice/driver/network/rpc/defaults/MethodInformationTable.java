@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults;
+
+import eu.cloudnetservice.driver.network.rpc.exception.CannotDecideException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A dispatch table for method information, keyed by the method name and indexed by the argument count of the method.
+ * Once a method was resolved, further lookups of the same method are a single hash lookup followed by an array access
+ * and do not allocate any objects.
+ * <p>
+ * Methods are still sent by name over the network, as the sender and receiver of a method call have no shared state
+ * in which ids for the methods could be agreed on: handlers are registered and unregistered by modules at any time and
+ * components in a cluster can run different versions. Ids derived from the method signature on both sides could
+ * collide, which would silently invoke the wrong method. The name is therefore only resolved once per table, all
+ * further lookups of it are served from this table.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class MethodInformationTable {
+
+  private final MethodLoader loader;
+  private final Map<String, MethodInformation[]> methods = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new method information table.
+   *
+   * @param loader the loader to call when a method was not yet resolved.
+   * @throws NullPointerException if the given loader is null.
+   */
+  public MethodInformationTable(@NonNull MethodLoader loader) {
+    this.loader = loader;
+  }
+
+  /**
+   * Get the information of the method with the given name and argument count, resolving it using the loader of this
+   * table if the method was not requested before.
+   *
+   * @param name          the name of the method.
+   * @param argumentCount the amount of arguments the method must have.
+   * @return the information of the method with the given name and argument count.
+   * @throws NullPointerException  if the given name is null.
+   * @throws CannotDecideException if the loader is unable to resolve the method.
+   */
+  public @NonNull MethodInformation method(@NonNull String name, int argumentCount) {
+    var methods = this.methods.get(name);
+    if (methods != null && argumentCount >= 0 && argumentCount < methods.length) {
+      var information = methods[argumentCount];
+      if (information != null) {
+        return information;
+      }
+    }
+
+    // not yet resolved
+    return this.loadMethod(name, argumentCount);
+  }
+
+  private @NonNull MethodInformation loadMethod(@NonNull String name, int argumentCount) {
+    // no method can ever take a negative amount of arguments
+    if (argumentCount < 0) {
+      throw new CannotDecideException(name);
+    }
+
+    // resolve the method while holding the lock of the name, this ensures that the method is only resolved once
+    var methods = this.methods.compute(name, ($, current) -> {
+      if (current != null && argumentCount < current.length && current[argumentCount] != null) {
+        return current;
+      }
+
+      // copy the array to ensure that readers never see a partially updated table
+      var information = this.loader.load(name, argumentCount);
+      var updated = current == null
+        ? new MethodInformation[argumentCount + 1]
+        : Arrays.copyOf(current, Math.max(current.length, argumentCount + 1));
+      updated[argumentCount] = information;
+      return updated;
+    });
+    return methods[argumentCount];
+  }
+
+  /**
+   * A loader for method information which were not yet requested from a method information table.
+   *
+   * @since 4.0
+   */
+  @FunctionalInterface
+  public interface MethodLoader {
+
+    /**
+     * Resolves the information of the method with the given name and argument count.
+     *
+     * @param name          the name of the method.
+     * @param argumentCount the amount of arguments the method must have.
+     * @return the information of the method with the given name and argument count.
+     * @throws NullPointerException  if the given name is null.
+     * @throws CannotDecideException if no or multiple methods are matching the given name and argument count.
+     */
+    @NonNull MethodInformation load(@NonNull String name, int argumentCount);
+  }
+}
@@ -25,8 +25,10 @@
 import eu.cloudnetservice.driver.network.rpc.RPCInvocationContext;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
 import eu.cloudnetservice.driver.network.rpc.defaults.MethodInformation;
+import eu.cloudnetservice.driver.network.rpc.defaults.MethodInformationTable;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.invoker.MethodInvokerGenerator;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
+import java.util.function.Function;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -41,7 +43,13 @@ public class DefaultRPCHandler extends DefaultRPCProvider implements RPCHandler
   protected final Object bindingInstance;
   protected final MethodInvokerGenerator generator;
 
-  protected final Cache<String, MethodInformation> methodCache = Caffeine.newBuilder().build();
+  // methods of the binding instance and methods without an instance are resolved the most, keep them separate
+  protected final MethodInformationTable staticMethods;
+  protected final MethodInformationTable boundMethods;
+  // instances returned from a method chain are compared by identity and dropped once they are no longer in use
+  protected final Cache<Object, MethodInformationTable> instanceMethods = Caffeine.newBuilder().weakKeys().build();
+
+  private final Function<Object, MethodInformationTable> methodTableFactory = this::createMethodTable;
 
   /**
    * Constructs a new default rpc handler instance.
@@ -63,6 +71,9 @@ public DefaultRPCHandler(
     this.bindingClass = clazz;
     this.bindingInstance = binding;
     this.generator = new MethodInvokerGenerator();
+
+    this.staticMethods = this.createMethodTable(null);
+    this.boundMethods = binding == null ? this.staticMethods : this.createMethodTable(binding);
   }
 
   /**
@@ -85,19 +96,7 @@ public void registerTo(@NonNull RPCHandlerRegistry registry) {
     }
     // now we try to find the associated method information to the given method name or try to read it
     var instance = inst; // pail
-    var information = this.methodCache.get(
-      String.format(
-        "%d@%s@%s@%d",
-        inst == null ? -1 : inst.hashCode(),
-        this.bindingClass.getCanonicalName(),
-        context.methodName(),
-        context.argumentCount()),
-      $ -> MethodInformation.find(
-        instance,
-        this.bindingClass,
-        context.methodName(),
-        instance == null ? null : this.generator,
-        context.argumentCount()));
+    var information = this.methodTable(instance).method(context.methodName(), context.argumentCount());
     // now as we have the method info, try to read all arguments needed
     var arguments = new Object[information.arguments().length];
     for (var i = 0; i < arguments.length; i++) {
@@ -132,4 +131,38 @@ public void registerTo(@NonNull RPCHandlerRegistry registry) {
     // return the result
     return result;
   }
+
+  /**
+   * Get the method table which holds the methods bound to the given instance.
+   *
+   * @param instance the instance to get the method table for, null for methods which are not bound to an instance.
+   * @return the method table for the given instance.
+   */
+  protected @NonNull MethodInformationTable methodTable(@Nullable Object instance) {
+    if (instance == null) {
+      return this.staticMethods;
+    }
+
+    if (instance == this.bindingInstance) {
+      return this.boundMethods;
+    }
+
+    return this.instanceMethods.get(instance, this.methodTableFactory);
+  }
+
+  /**
+   * Creates a new method table which resolves the methods of the binding class bound to the given instance.
+   *
+   * @param instance the instance to bind the resolved methods to, null for methods which are not bound to an instance.
+   * @return a new method table for the given instance.
+   */
+  protected @NonNull MethodInformationTable createMethodTable(@Nullable Object instance) {
+    var generator = instance == null ? null : this.generator;
+    return new MethodInformationTable((name, argumentCount) -> MethodInformation.find(
+      instance,
+      this.bindingClass,
+      name,
+      generator,
+      argumentCount));
+  }
 }
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.network.rpc.defaults.object;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.Scheduler;
@@ -80,6 +81,7 @@
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -186,6 +188,13 @@ public class DefaultObjectMapper implements ObjectMapper {
       return types;
     });
 
+  // the serializers which are candidates for a type, in the order in which they should be tried
+  private final Cache<Type, ObjectSerializer<?>[]> resolvedSerializers = Caffeine.newBuilder()
+    .expireAfterAccess(Duration.ofDays(1))
+    .scheduler(Scheduler.systemScheduler())
+    .build();
+  private final Function<Type, ObjectSerializer<?>[]> serializerResolver = this::resolveSerializers;
+
   /**
    * Constructs a new default object mapper instance with all default object serializers already registered. This call
    * is equivalent to {@code new DefaultObjectMapper(true)}.
@@ -221,6 +230,8 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
       // we don't need to unregister the subtypes of the type, skip the lookup
       this.registeredSerializers.remove(type);
     }
+
+    this.resolvedSerializers.invalidateAll();
     return this;
   }
 
@@ -234,6 +245,8 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
         this.registeredSerializers.remove(entry.getKey(), entry.getValue());
       }
     }
+
+    this.resolvedSerializers.invalidateAll();
     // for chaining
     return this;
   }
@@ -258,6 +271,8 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
       // we don't need to register the subtypes of the type, skip the lookup
       this.registeredSerializers.putIfAbsent(type, serializer);
     }
+
+    this.resolvedSerializers.invalidateAll();
     return this;
   }
 
@@ -267,22 +282,20 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
   @Override
   public @NonNull <T> DataBuf.Mutable writeObject(@NonNull DataBuf.Mutable dataBuf, @Nullable T object) {
     return dataBuf.writeNullable(object, (buffer, obj) -> {
-      // Get the type token of the type
-      var subTypes = this.typeCache.get(obj.getClass());
-      // get the registered serializer for the type
-      ObjectSerializer<T> serializer = null;
-      for (var subType : subTypes) {
-        serializer = this.serializerForType(subType);
-        if (serializer != null && serializer.preWriteCheckAccepts(obj, this)) {
-          break;
+      // use the first serializer which accepts the object
+      var serializers = this.resolvedSerializers.get(obj.getClass(), this.serializerResolver);
+      for (var candidate : serializers) {
+        @SuppressWarnings("unchecked")
+        var serializer = (ObjectSerializer<T>) candidate;
+        if (serializer.preWriteCheckAccepts(obj, this)) {
+          // serialize the object into the buffer
+          serializer.write(buffer, obj, obj.getClass(), this);
+          return;
         }
       }
-      // check if a serializer was found
-      if (serializer == null || !serializer.preWriteCheckAccepts(obj, this)) {
-        throw new MissingObjectSerializerException(obj.getClass());
-      }
-      // serialize the object into the buffer
-      serializer.write(buffer, obj, obj.getClass(), this);
+
+      // no serializer found
+      throw new MissingObjectSerializerException(obj.getClass());
     });
   }
 
@@ -293,25 +306,40 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
   @SuppressWarnings("unchecked")
   public <T> @Nullable T readObject(@NonNull DataBuf dataBuf, @NonNull Type type) {
     return dataBuf.readNullable(buffer -> {
-      // Get the type token of the type
-      var subTypes = this.typeCache.get(type);
-      // get the registered serializer for the type
-      ObjectSerializer<?> serializer = null;
-      for (var subType : subTypes) {
-        serializer = this.serializerForType(subType);
-        if (serializer != null && serializer.preReadCheckAccepts(type, this)) {
-          break;
+      // use the first serializer which accepts the type
+      var serializers = this.resolvedSerializers.get(type, this.serializerResolver);
+      for (var serializer : serializers) {
+        if (serializer.preReadCheckAccepts(type, this)) {
+          // read the object from the buffer
+          return (T) serializer.read(buffer, type, this);
         }
       }
-      // check if a serializer was found
-      if (serializer == null || !serializer.preReadCheckAccepts(type, this)) {
-        throw new MissingObjectSerializerException(type);
-      }
-      // read the object from the buffer
-      return (T) serializer.read(buffer, type, this);
+
+      // no serializer found
+      throw new MissingObjectSerializerException(type);
     });
   }
 
+  /**
+   * Resolves all serializers which are registered for the given type or one of its super types, in the order in which
+   * they should be tried when reading or writing an object of the given type.
+   *
+   * @param type the type to resolve the serializers for.
+   * @return the serializers registered for the given type or one of its super types.
+   * @throws NullPointerException if the given type is null.
+   */
+  protected @NonNull ObjectSerializer<?>[] resolveSerializers(@NonNull Type type) {
+    List<ObjectSerializer<?>> serializers = new ArrayList<>();
+    for (var subType : this.typeCache.get(type)) {
+      // a serializer is often registered for multiple types of the hierarchy, it only needs to be tried once
+      ObjectSerializer<?> serializer = this.serializerForType(subType);
+      if (serializer != null && !serializers.contains(serializer)) {
+        serializers.add(serializer);
+      }
+    }
+    return serializers.toArray(new ObjectSerializer<?>[0]);
+  }
+
   /**
    * Finds the best matching serializer for the given type. The method first tries to get the serializer by the exact
    * type of the supplied type token, then by the raw type.
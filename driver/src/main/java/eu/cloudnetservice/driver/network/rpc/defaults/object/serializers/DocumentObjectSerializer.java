@@ -27,12 +27,41 @@
 import org.jetbrains.annotations.Nullable;
 
 /**
- * An object serializer which can write and read a json document to/from the buffer.
+ * An object serializer which can write and read a document to/from the buffer. Documents are either transferred in their
+ * textual representation or in the binary document format (see {@link Document#writeBinary(DataBuf.Mutable)}), and are
+ * always received into the factory of the original document.
+ * <p>
+ * Readers accept both representations, the binary representation is marked by a prefix of the factory name, which
+ * makes older readers fail with an unknown document factory rather than reading garbage. As older components cannot
+ * read the binary format, it is only written when enabled using the {@code cloudnet.binary-documents} system property.
+ * The property should only be enabled once all nodes and services of a cluster support the binary format.
  *
  * @since 4.0
  */
 public class DocumentObjectSerializer implements ObjectSerializer<Document> {
 
+  private static final String BINARY_FACTORY_PREFIX = "binary:";
+  private static final boolean WRITE_BINARY = Boolean.getBoolean("cloudnet.binary-documents");
+
+  private final boolean writeBinary;
+
+  /**
+   * Constructs a new document object serializer which writes the binary document format if enabled by the system
+   * property.
+   */
+  public DocumentObjectSerializer() {
+    this(WRITE_BINARY);
+  }
+
+  /**
+   * Constructs a new document object serializer.
+   *
+   * @param writeBinary if documents should be written in the binary document format.
+   */
+  public DocumentObjectSerializer(boolean writeBinary) {
+    this.writeBinary = writeBinary;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -46,8 +75,12 @@ public class DocumentObjectSerializer implements ObjectSerializer<Document> {
     var documentFactoryRegistry = InjectionLayer.boot().instance(DocumentFactoryRegistry.class);
 
     // get the document factory for the document and construct the document
-    var documentFactory = documentFactoryRegistry.documentFactory(documentFactoryName);
-    return documentFactory.parse(source);
+    if (documentFactoryName.startsWith(BINARY_FACTORY_PREFIX)) {
+      var factoryName = documentFactoryName.substring(BINARY_FACTORY_PREFIX.length());
+      return documentFactoryRegistry.documentFactory(factoryName).parseBinary(source);
+    } else {
+      return documentFactoryRegistry.documentFactory(documentFactoryName).parse(source);
+    }
   }
 
   /**
@@ -60,7 +93,12 @@ public void write(
     @NonNull Type type,
     @NonNull ObjectMapper caller
   ) {
-    dataBuf.writeString(object.factoryName());
-    object.writeTo(dataBuf);
+    if (this.writeBinary) {
+      dataBuf.writeString(BINARY_FACTORY_PREFIX + object.factoryName());
+      object.writeBinary(dataBuf);
+    } else {
+      dataBuf.writeString(object.factoryName());
+      object.writeTo(dataBuf);
+    }
   }
 }
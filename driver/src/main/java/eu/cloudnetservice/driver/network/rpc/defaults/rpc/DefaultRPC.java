@@ -202,7 +202,9 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
-    // write the default needed information we need
+    // write the default needed information we need. The method is identified by its name rather than by a numeric id,
+    // the receiving handler might be registered by a module loaded at any time and there is no handshake which could
+    // agree on ids for both sides. The name is only resolved once per handler, see MethodInformationTable
     var dataBuf = this.dataBufFactory.createEmpty()
       .writeBoolean(false) // not a method chain
       .writeString(this.className)
@@ -16,8 +16,6 @@
 
 package eu.cloudnetservice.driver.network.rpc.defaults.sender;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import eu.cloudnetservice.driver.network.NetworkComponent;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.rpc.RPC;
@@ -25,6 +23,7 @@
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
 import eu.cloudnetservice.driver.network.rpc.defaults.MethodInformation;
+import eu.cloudnetservice.driver.network.rpc.defaults.MethodInformationTable;
 import eu.cloudnetservice.driver.network.rpc.defaults.rpc.DefaultRPC;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
 import lombok.NonNull;
@@ -42,7 +41,7 @@ public class DefaultRPCSender extends DefaultRPCProvider implements RPCSender {
   protected final Class<?> targetClass;
   protected final RPCFactory factory;
   protected final NetworkComponent networkComponent;
-  protected final Cache<String, MethodInformation> cachedMethodInformation;
+  protected final MethodInformationTable cachedMethodInformation;
 
   /**
    * Constructs a new default rpc sender instance.
@@ -66,7 +65,8 @@ public DefaultRPCSender(
     this.factory = factory;
     this.targetClass = targetClass;
     this.networkComponent = component;
-    this.cachedMethodInformation = Caffeine.newBuilder().build();
+    this.cachedMethodInformation = new MethodInformationTable(
+      (name, argumentCount) -> MethodInformation.find(null, targetClass, name, null, argumentCount));
   }
 
   /**
@@ -103,9 +103,7 @@ public DefaultRPCSender(
   @Override
   public @NonNull RPC invokeMethod(@NonNull String methodName, Object... args) {
     // find the method information of the method we want to invoke
-    var information = this.cachedMethodInformation.get(
-      String.format("%s@%d", methodName, args.length),
-      $ -> MethodInformation.find(null, this.targetClass, methodName, null, args.length));
+    var information = this.cachedMethodInformation.method(methodName, args.length);
     // generate the rpc from this information
     return new DefaultRPC(
       this,
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.permission;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable, pre-compiled view of all effective permissions of a permissible. Exact permissions are resolved using a
+ * hash lookup, wildcard permissions (for example {@code cloudnet.command.*}) are stored in a character trie which is
+ * walked along the requested permission name. This class resolves permissions with the same rules as
+ * {@link PermissionManagement#findHighestPermission(Collection, Permission)}.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class CompiledPermissions {
+
+  private final long expirationTime;
+  private final Permission starPermission;
+  private final WildcardNode wildcardRoot;
+  private final Map<String, Permission> exactPermissions;
+
+  private CompiledPermissions(
+    long expirationTime,
+    @Nullable Permission starPermission,
+    @Nullable WildcardNode wildcardRoot,
+    @NonNull Map<String, Permission> exactPermissions
+  ) {
+    this.expirationTime = expirationTime;
+    this.starPermission = starPermission;
+    this.wildcardRoot = wildcardRoot;
+    this.exactPermissions = exactPermissions;
+  }
+
+  /**
+   * Compiles the given permissions. Permissions which are already timed out at the given time are ignored, the earliest
+   * time-out of the remaining permissions is used as the expiration time of the compiled permissions.
+   *
+   * @param permissions the permissions to compile, earlier permissions win over later ones with the same potency.
+   * @param currentTime the current time in millis, used to filter out timed out permissions.
+   * @return the compiled permissions.
+   * @throws NullPointerException if the given permission collection is null.
+   */
+  public static @NonNull CompiledPermissions compile(@NonNull Collection<Permission> permissions, long currentTime) {
+    var expirationTime = Long.MAX_VALUE;
+    Permission starPermission = null;
+    WildcardNodeBuilder wildcardRoot = null;
+    Map<String, Permission> exactPermissions = new HashMap<>();
+
+    for (var permission : permissions) {
+      // skip permissions which are already timed out, compute the expiration time based on the others
+      var timeOut = permission.timeOutMillis();
+      if (timeOut > 0) {
+        if (timeOut < currentTime) {
+          continue;
+        }
+        expirationTime = Math.min(expirationTime, timeOut);
+      }
+
+      var name = permission.name();
+      if (name.endsWith("*")) {
+        var strippedName = name.replace("*", "");
+        if (strippedName.isEmpty()) {
+          // matches all permissions
+          starPermission = higher(starPermission, permission);
+        } else {
+          if (wildcardRoot == null) {
+            wildcardRoot = new WildcardNodeBuilder();
+          }
+          wildcardRoot.insert(strippedName, permission);
+        }
+      }
+
+      // permissions ending with a star can also be requested directly
+      exactPermissions.merge(name.toLowerCase(Locale.ROOT), permission, CompiledPermissions::higher);
+    }
+
+    return new CompiledPermissions(
+      expirationTime,
+      starPermission,
+      wildcardRoot == null ? null : wildcardRoot.build(),
+      Map.copyOf(exactPermissions));
+  }
+
+  private static @Nullable Permission higher(@Nullable Permission current, @NonNull Permission candidate) {
+    return current == null || candidate.compareTo(current) > 0 ? candidate : current;
+  }
+
+  /**
+   * Get if these compiled permissions contain a permission which timed out at the given time and must be re-compiled.
+   *
+   * @param currentTime the current time in millis.
+   * @return true if a permission included in these compiled permissions timed out, false otherwise.
+   */
+  public boolean expired(long currentTime) {
+    return currentTime > this.expirationTime;
+  }
+
+  /**
+   * Finds the permission with the highest potency which matches the given permission. The permission must have at least
+   * the same absolute potency as the given permission.
+   *
+   * @param permission the permission to search for.
+   * @return the highest matching permission, null if no permission matches.
+   * @throws NullPointerException if the given permission is null.
+   */
+  public @Nullable Permission findHighestPermission(@NonNull Permission permission) {
+    var name = permission.name();
+
+    // exact matches are preferred over wildcard matches with the same potency
+    var match = this.exactPermissions.get(name.toLowerCase(Locale.ROOT));
+    if (this.wildcardRoot != null) {
+      // a wildcard matches if the requested name contains the name of the wildcard without the star
+      for (var start = 0; start < name.length(); start++) {
+        var node = this.wildcardRoot;
+        for (var index = start; index < name.length(); index++) {
+          node = node.child(name.charAt(index));
+          if (node == null) {
+            break;
+          }
+
+          if (node.permission != null && (match == null || node.permission.compareTo(match) > 0)) {
+            match = node.permission;
+          }
+        }
+      }
+    }
+
+    if (this.starPermission != null && (match == null || this.starPermission.compareTo(match) > 0)) {
+      match = this.starPermission;
+    }
+
+    return match == null || match.compareTo(permission) < 0 ? null : match;
+  }
+
+  private static final class WildcardNode {
+
+    private final char[] keys;
+    private final WildcardNode[] children;
+    private final Permission permission;
+
+    private WildcardNode(@NonNull char[] keys, @NonNull WildcardNode[] children, @Nullable Permission permission) {
+      this.keys = keys;
+      this.children = children;
+      this.permission = permission;
+    }
+
+    private @Nullable WildcardNode child(char key) {
+      var index = Arrays.binarySearch(this.keys, key);
+      return index < 0 ? null : this.children[index];
+    }
+  }
+
+  private static final class WildcardNodeBuilder {
+
+    private final Map<Character, WildcardNodeBuilder> children = new TreeMap<>();
+    private Permission permission;
+
+    private void insert(@NonNull String name, @NonNull Permission permission) {
+      var node = this;
+      for (var index = 0; index < name.length(); index++) {
+        node = node.children.computeIfAbsent(name.charAt(index), $ -> new WildcardNodeBuilder());
+      }
+      node.permission = higher(node.permission, permission);
+    }
+
+    private @NonNull WildcardNode build() {
+      var keys = new char[this.children.size()];
+      var nodes = new WildcardNode[this.children.size()];
+
+      // the tree map is sorted, so the keys can be binary searched later
+      var index = 0;
+      for (var entry : this.children.entrySet()) {
+        keys[index] = entry.getKey();
+        nodes[index++] = entry.getValue().build();
+      }
+
+      return new WildcardNode(keys, nodes, this.permission);
+    }
+  }
+}
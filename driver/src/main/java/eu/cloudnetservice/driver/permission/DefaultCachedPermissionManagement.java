@@ -19,6 +19,8 @@
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,6 +61,81 @@ public abstract class DefaultCachedPermissionManagement extends DefaultPermissio
       }
     })
     .build();
+  // holds the compiled permissions of permissibles for each requested set of task groups, the permissibles are compared
+  // by identity, updates of a permissible replace the instance which results in a re-compilation of the permissions
+  protected final Cache<Permissible, Map<List<String>, CompiledPermissions>> compiledPermissionCache = Caffeine.newBuilder()
+    .weakKeys()
+    .expireAfterAccess(5, TimeUnit.MINUTES)
+    .build();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull PermissionCheckResult permissionResult(
+    @NonNull Permissible permissible,
+    @NonNull Permission permission
+  ) {
+    var compiledPermissions = this.compiledPermissions(permissible, null);
+    return PermissionCheckResult.fromPermission(compiledPermissions.findHighestPermission(permission));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull PermissionCheckResult groupsPermissionResult(
+    @NonNull Permissible permissible,
+    @NonNull String[] groups,
+    @NonNull Permission permission
+  ) {
+    var compiledPermissions = this.compiledPermissions(permissible, groups);
+    return PermissionCheckResult.fromPermission(compiledPermissions.findHighestPermission(permission));
+  }
+
+  /**
+   * Invalidates all compiled permissions of all permissibles. This method should be called when a permission group was
+   * changed, as the change might affect the permissions of every permissible.
+   */
+  public void invalidateCompiledPermissions() {
+    this.compiledPermissionCache.invalidateAll();
+  }
+
+  /**
+   * Invalidates the compiled permissions of the given permissible. The permissible is compared by identity.
+   *
+   * @param permissible the permissible to invalidate the compiled permissions of.
+   * @throws NullPointerException if the given permissible is null.
+   */
+  public void invalidateCompiledPermissions(@NonNull Permissible permissible) {
+    this.compiledPermissionCache.invalidate(permissible);
+  }
+
+  /**
+   * Gets the compiled permissions of the given permissible including the group permissions of the given groups. The
+   * permissions are compiled if they are not cached yet, or if a permission included in them timed out.
+   *
+   * @param permissible the permissible to get the compiled permissions of.
+   * @param groups      the groups to include the group permissions of, null to include no group permissions.
+   * @return the compiled permissions of the given permissible.
+   * @throws NullPointerException if the given permissible is null.
+   */
+  protected @NonNull CompiledPermissions compiledPermissions(@NonNull Permissible permissible, @Nullable String[] groups) {
+    var groupKey = groups == null ? List.<String>of() : List.of(groups);
+    var compiledByGroups = this.compiledPermissionCache.get(permissible, $ -> new ConcurrentHashMap<>());
+
+    // check if the permissions were compiled already and are not timed out
+    var currentTime = System.currentTimeMillis();
+    var compiledPermissions = compiledByGroups.get(groupKey);
+    if (compiledPermissions == null || compiledPermissions.expired(currentTime)) {
+      // collect in insertion order, the own permissions of the permissible are preferred over group permissions
+      var permissions = this.collectAllPermissionsTo(new LinkedHashSet<>(), permissible, groups);
+      compiledPermissions = CompiledPermissions.compile(permissions, currentTime);
+      compiledByGroups.put(groupKey, compiledPermissions);
+    }
+
+    return compiledPermissions;
+  }
 
   /**
    * {@inheritDoc}
@@ -167,8 +244,8 @@ public void unlockFully(@NonNull PermissionGroup group) {
   }
 
   /**
-   * Handles the removal of the permission user in the cache. If the user still is locked and wasn't removed because he
-   * is replaced the user is added back to the cache.
+   * Handles the removal of the permission user in the cache. The compiled permissions of the user are invalidated. If
+   * the user still is locked and wasn't removed because he is replaced the user is added back to the cache.
    *
    * @param key   the unique id of the removed user.
    * @param user  the removed user.
@@ -176,14 +253,15 @@ public void unlockFully(@NonNull PermissionGroup group) {
    * @throws NullPointerException if the given key, user or cause is null.
    */
   protected void handleUserRemove(@NonNull UUID key, @NonNull PermissionUser user, @NonNull RemovalCause cause) {
+    this.invalidateCompiledPermissions(user);
     if (cause.wasEvicted() && this.locked(user)) {
       this.permissionUserCache.put(key, user);
     }
   }
 
   /**
-   * Handles the removal of the permission group in the cache. If the group still is locked and wasn't removed because
-   * it is replaced the group is added back to the cache.
+   * Handles the removal of the permission group in the cache. All compiled permissions are invalidated. If the group
+   * still is locked and wasn't removed because it is replaced the group is added back to the cache.
    *
    * @param key   the unique id of the removed group.
    * @param group the removed group.
@@ -191,6 +269,7 @@ protected void handleUserRemove(@NonNull UUID key, @NonNull PermissionUser user,
    * @throws NullPointerException if the given key, group or cause is null.
    */
   protected void handleGroupRemove(@NonNull String key, @NonNull PermissionGroup group, @NonNull RemovalCause cause) {
+    this.invalidateCompiledPermissions();
     if (cause.wasEvicted() && this.locked(group)) {
       this.permissionGroupCache.put(key, group);
     }
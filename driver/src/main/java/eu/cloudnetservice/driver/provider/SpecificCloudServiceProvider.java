@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.channel.ChannelMessageSender;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.network.rpc.annotation.RPCValidation;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceDeployment;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
@@ -83,6 +84,20 @@ public interface SpecificCloudServiceProvider {
    */
   @Nullable ServiceInfoSnapshot forceUpdateServiceInfo();
 
+  /**
+   * Requests a new process snapshot from the service which, unlike the process snapshot included in the service info
+   * snapshots, contains a snapshot of all threads of the service. Dumping all threads is expensive for the service, this
+   * method should only be used when the thread information is actually needed. This method returns null when the
+   * underlying service
+   * <ol>
+   *   <li>doesn't exist anymore.
+   *   <li>is not started and therefore not connected to a node.
+   * </ol>
+   *
+   * @return a process snapshot of the service including all threads, can be null as described above.
+   */
+  @Nullable ProcessSnapshot detailedProcessSnapshot();
+
   /**
    * Adds the given service template to the inclusion queue. This does not mean that the given template will be copied
    * directly onto the service. The template will be copied when
@@ -344,6 +359,22 @@ default void removeAndExecuteDeployments() {
     return Task.supply(this::forceUpdateServiceInfo);
   }
 
+  /**
+   * Requests a new process snapshot from the service which, unlike the process snapshot included in the service info
+   * snapshots, contains a snapshot of all threads of the service. Dumping all threads is expensive for the service, this
+   * method should only be used when the thread information is actually needed. This method returns null when the
+   * underlying service
+   * <ol>
+   *   <li>doesn't exist anymore.
+   *   <li>is not started and therefore not connected to a node.
+   * </ol>
+   *
+   * @return a task completed with a process snapshot of the service including all threads, can be null as described.
+   */
+  default @NonNull Task<ProcessSnapshot> detailedProcessSnapshotAsync() {
+    return Task.supply(this::detailedProcessSnapshot);
+  }
+
   /**
    * Adds the given service template to the inclusion queue. This does not mean that the given template will be copied
    * directly onto the service. The template will be copied when
@@ -24,12 +24,23 @@
 import java.lang.management.ThreadMXBean;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import lombok.NonNull;
 
 /**
  * A snapshot of the process resources at a specific time. It holds the most useful information for displaying or
  * storing statistics about a service / node (or anything else).
+ * <p>
+ * Snapshots which are created for the regular service and node updates only contain the cheap counters of the process,
+ * the thread information is only included in snapshots which were explicitly requested with thread details, as dumping
+ * all threads requires the jvm to reach a safepoint.
+ * <p>
+ * Compatibility note: the thread count component changes the network representation of this snapshot and of all
+ * service and node snapshots containing it. Snapshots are serialized component by component without a version, a
+ * component that does not know about the thread count is not able to read snapshots of a component that does (and
+ * vice versa). All nodes of a cluster must be updated at the same time, services are not affected as they always use
+ * the wrapper shipped with the node they are running on.
  *
  * @param pid                     the process id of the component which created the snapshot.
  * @param cpuUsage                the recent usage (in percent) of the cpu usage associated with the component process.
@@ -40,7 +51,8 @@
  * @param unloadedClassCount      the amount of classes the associated process unloaded since starting.
  * @param totalLoadedClassCount   the amount of classes which were loaded since the associated process was started.
  * @param currentLoadedClassCount the amount of classes which are currently loaded by the associated process.
- * @param threads                 a snapshot of all threads which are currently known to the associated process.
+ * @param threadCount             the amount of threads which are currently alive in the associated process.
+ * @param threads                 a snapshot of all threads of the associated process, empty if not requested.
  * @since 4.0
  */
 public record ProcessSnapshot(
@@ -53,6 +65,7 @@ public record ProcessSnapshot(
   long unloadedClassCount,
   long totalLoadedClassCount,
   int currentLoadedClassCount,
+  int threadCount,
   @NonNull Collection<ThreadSnapshot> threads
 ) implements Cloneable {
 
@@ -64,7 +77,48 @@ public record ProcessSnapshot(
 
   private static final long OWN_PID = ProcessHandle.current().pid();
   private static final ProcessSnapshot EMPTY = new ProcessSnapshot(
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, Set.of());
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, Set.of());
+
+  /**
+   * Constructs a new process snapshot, using the size of the given thread collection as the thread count.
+   *
+   * @param pid                     the process id of the component which created the snapshot.
+   * @param cpuUsage                the recent usage (in percent) of the cpu associated with the component process.
+   * @param systemCpuUsage          the recent usage (in percent) of the hosts' system cpu the process is running on.
+   * @param maxHeapMemory           the maximum heap memory space the associated process is allowed to use.
+   * @param heapUsageMemory         the heap memory of all pools which the associated process is currently using.
+   * @param noHeapUsageMemory       the off-heap memory of all pools which the associated process is currently using.
+   * @param unloadedClassCount      the amount of classes the associated process unloaded since starting.
+   * @param totalLoadedClassCount   the amount of classes which were loaded since the associated process was started.
+   * @param currentLoadedClassCount the amount of classes which are currently loaded by the associated process.
+   * @param threads                 a snapshot of all threads which are currently known to the associated process.
+   * @throws NullPointerException if the given thread collection is null.
+   */
+  public ProcessSnapshot(
+    long pid,
+    double cpuUsage,
+    double systemCpuUsage,
+    long maxHeapMemory,
+    long heapUsageMemory,
+    long noHeapUsageMemory,
+    long unloadedClassCount,
+    long totalLoadedClassCount,
+    int currentLoadedClassCount,
+    @NonNull Collection<ThreadSnapshot> threads
+  ) {
+    this(
+      pid,
+      cpuUsage,
+      systemCpuUsage,
+      maxHeapMemory,
+      heapUsageMemory,
+      noHeapUsageMemory,
+      unloadedClassCount,
+      totalLoadedClassCount,
+      currentLoadedClassCount,
+      threads.size(),
+      threads);
+  }
 
   /**
    * Get a jvm static process snapshot which holds no information about any process.
@@ -76,22 +130,41 @@ public record ProcessSnapshot(
   }
 
   /**
-   * Creates a new process snapshot info filled with information about the current process.
+   * Creates a new process snapshot info filled with the counters of the current process. The returned snapshot does not
+   * contain any thread information except the thread count, use {@link #selfWithThreads()} for that.
    *
    * @return a process snapshot holding information about the current process.
    */
   public static @NonNull ProcessSnapshot self() {
+    return self(List.of(), THREAD_MX_BEAN.getThreadCount());
+  }
+
+  /**
+   * Creates a new process snapshot info filled with information about the current process, including a snapshot of all
+   * threads of the process. Dumping the threads is expensive, this method should only be used if the thread information
+   * was explicitly requested.
+   *
+   * @return a process snapshot holding information about the current process and its threads.
+   */
+  public static @NonNull ProcessSnapshot selfWithThreads() {
+    var threads = Arrays.stream(THREAD_MX_BEAN.dumpAllThreads(false, false, 0)).map(ThreadSnapshot::from).toList();
+    return self(threads, threads.size());
+  }
+
+  private static @NonNull ProcessSnapshot self(@NonNull Collection<ThreadSnapshot> threads, int threadCount) {
+    var heapMemoryUsage = MEMORY_MX_BEAN.getHeapMemoryUsage();
     return new ProcessSnapshot(
       ownPID(),
       CpuUsageResolver.processCpuLoad(),
       CpuUsageResolver.systemCpuLoad(),
-      MEMORY_MX_BEAN.getHeapMemoryUsage().getMax(),
-      MEMORY_MX_BEAN.getHeapMemoryUsage().getUsed(),
+      heapMemoryUsage.getMax(),
+      heapMemoryUsage.getUsed(),
       MEMORY_MX_BEAN.getNonHeapMemoryUsage().getUsed(),
       CLASS_LOADING_MX_BEAN.getUnloadedClassCount(),
       CLASS_LOADING_MX_BEAN.getTotalLoadedClassCount(),
       CLASS_LOADING_MX_BEAN.getLoadedClassCount(),
-      Arrays.stream(THREAD_MX_BEAN.dumpAllThreads(false, false, 0)).map(ThreadSnapshot::from).toList());
+      threadCount,
+      threads);
   }
 
   /**
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.service;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.send.BinaryDocumentSend;
+import eu.cloudnetservice.driver.document.send.element.ArrayElement;
+import eu.cloudnetservice.driver.document.send.element.Element;
+import eu.cloudnetservice.driver.document.send.element.NullElement;
+import eu.cloudnetservice.driver.document.send.element.ObjectElement;
+import eu.cloudnetservice.driver.document.send.element.PrimitiveElement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The changes between two service info snapshots of the same service. A delta only contains the fields of a snapshot
+ * which are changing frequently and the changes of the properties. Properties are compared recursively, a change of a
+ * nested property only contains the changed element and a change of an array only contains the replaced range of
+ * entries (for example the joined player in a player list). The creation time of a snapshot is used as its version, a
+ * delta can only be applied to the snapshot it was created from.
+ *
+ * @param serviceUniqueId  the unique id of the service the delta was created for.
+ * @param serviceName      the name of the service the delta was created for.
+ * @param baseCreationTime the creation time of the snapshot the delta must be applied to.
+ * @param creationTime     the creation time of the new snapshot.
+ * @param connectedTime    the connected time of the new snapshot.
+ * @param lifeCycle        the lifecycle of the new snapshot.
+ * @param processSnapshot  the process snapshot of the new snapshot.
+ * @param propertyChanges  the changes of the properties, in the order they must be applied.
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public record ServiceInfoSnapshotDelta(
+  @NonNull UUID serviceUniqueId,
+  @NonNull String serviceName,
+  long baseCreationTime,
+  long creationTime,
+  long connectedTime,
+  @NonNull ServiceLifeCycle lifeCycle,
+  @NonNull ProcessSnapshot processSnapshot,
+  @NonNull Collection<PropertyChange> propertyChanges
+) {
+
+  private static final String VALUE_KEY = "value";
+
+  /**
+   * Computes the delta between the given base and the given new snapshot. No delta can be created if the snapshots are
+   * of different services, the new snapshot is not newer than the base snapshot or if a field changed which is not
+   * included in a delta. In that case the full snapshot must be sent instead.
+   *
+   * @param base     the snapshot the receivers of the delta already know.
+   * @param snapshot the new snapshot.
+   * @return the delta between the given snapshots, null if the full snapshot must be sent.
+   * @throws NullPointerException if the given base or new snapshot is null.
+   */
+  public static @Nullable ServiceInfoSnapshotDelta between(
+    @NonNull ServiceInfoSnapshot base,
+    @NonNull ServiceInfoSnapshot snapshot
+  ) {
+    if (snapshot.creationTime() <= base.creationTime()
+      || !base.address().equals(snapshot.address())
+      || !base.configuration().equals(snapshot.configuration())) {
+      return null;
+    }
+
+    Collection<PropertyChange> propertyChanges = new ArrayList<>();
+    diffObject(
+      List.of(),
+      base.propertyHolder().send().rootElement(),
+      snapshot.propertyHolder().send().rootElement(),
+      propertyChanges);
+
+    return new ServiceInfoSnapshotDelta(
+      snapshot.serviceId().uniqueId(),
+      snapshot.name(),
+      base.creationTime(),
+      snapshot.creationTime(),
+      snapshot.connectedTime(),
+      snapshot.lifeCycle(),
+      snapshot.processSnapshot(),
+      propertyChanges);
+  }
+
+  /**
+   * Applies this delta to the given snapshot. If the given snapshot is not the snapshot this delta was created from,
+   * for example because a previous update was missed, this method returns null and the full snapshot must be requested
+   * from the service.
+   *
+   * @param base the snapshot to apply this delta to.
+   * @return the new snapshot, null if this delta cannot be applied to the given snapshot.
+   */
+  public @Nullable ServiceInfoSnapshot applyTo(@Nullable ServiceInfoSnapshot base) {
+    if (base == null || base.creationTime() != this.baseCreationTime) {
+      return null;
+    }
+
+    var properties = base.propertyHolder().send().rootElement();
+    for (var change : this.propertyChanges) {
+      properties = change.applyTo(properties);
+      if (properties == null) {
+        // the structure of the base properties does not match the structure the delta was created from
+        return null;
+      }
+    }
+
+    return new ServiceInfoSnapshot(
+      this.creationTime,
+      base.address(),
+      this.processSnapshot,
+      base.configuration(),
+      this.connectedTime,
+      this.lifeCycle,
+      new BinaryDocumentSend(properties).into(DocumentFactory.json()).immutableCopy());
+  }
+
+  private static void diffObject(
+    @NonNull List<String> path,
+    @NonNull ObjectElement base,
+    @NonNull ObjectElement object,
+    @NonNull Collection<PropertyChange> changes
+  ) {
+    var baseElements = elementsByKey(base);
+    var keys = new HashSet<String>();
+    for (Element element : object.elements()) {
+      keys.add(element.key());
+      var elementPath = append(path, element.key());
+      var baseElement = baseElements.get(element.key());
+
+      if (baseElement == null) {
+        changes.add(new PropertyChange(elementPath, -1, 0, wrapValue(element)));
+      } else if (!sameElement(baseElement, element)) {
+        // only send the changed parts of nested objects and arrays
+        if (baseElement instanceof ObjectElement baseObject && element instanceof ObjectElement newObject) {
+          diffObject(elementPath, baseObject, newObject, changes);
+        } else if (baseElement instanceof ArrayElement baseArray && element instanceof ArrayElement newArray) {
+          diffArray(elementPath, baseArray, newArray, changes);
+        } else {
+          changes.add(new PropertyChange(elementPath, -1, 0, wrapValue(element)));
+        }
+      }
+    }
+
+    // remove all elements which are no longer present
+    for (var key : baseElements.keySet()) {
+      if (!keys.contains(key)) {
+        changes.add(new PropertyChange(append(path, key), -1, 0, Document.emptyDocument()));
+      }
+    }
+  }
+
+  private static void diffArray(
+    @NonNull List<String> path,
+    @NonNull ArrayElement base,
+    @NonNull ArrayElement array,
+    @NonNull Collection<PropertyChange> changes
+  ) {
+    List<Element> baseEntries = List.copyOf(base.entries());
+    List<Element> entries = List.copyOf(array.entries());
+
+    // find the range of entries that changed, usually a single added or removed entry
+    var maxUnchanged = Math.min(baseEntries.size(), entries.size());
+    var prefix = 0;
+    while (prefix < maxUnchanged && sameElement(baseEntries.get(prefix), entries.get(prefix))) {
+      prefix++;
+    }
+
+    var suffix = 0;
+    while (suffix < maxUnchanged - prefix && sameElement(
+      baseEntries.get(baseEntries.size() - suffix - 1),
+      entries.get(entries.size() - suffix - 1))) {
+      suffix++;
+    }
+
+    var insertedEntries = entries.subList(prefix, entries.size() - suffix);
+    changes.add(new PropertyChange(
+      path,
+      prefix,
+      baseEntries.size() - prefix - suffix,
+      wrapValue(new ArrayElement(Element.NO_KEY, insertedEntries))));
+  }
+
+  private static boolean sameElement(@NonNull Element left, @NonNull Element right) {
+    if (left instanceof NullElement) {
+      return right instanceof NullElement;
+    }
+
+    if (left instanceof PrimitiveElement leftPrimitive && right instanceof PrimitiveElement rightPrimitive) {
+      var leftValue = leftPrimitive.innerValue();
+      var rightValue = rightPrimitive.innerValue();
+      // numbers might be represented by different types depending on where they were read from
+      return leftValue instanceof Number && rightValue instanceof Number
+        ? leftValue.toString().equals(rightValue.toString())
+        : leftValue.equals(rightValue);
+    }
+
+    if (left instanceof ObjectElement leftObject && right instanceof ObjectElement rightObject) {
+      var leftElements = elementsByKey(leftObject);
+      if (leftElements.size() != rightObject.elements().size()) {
+        return false;
+      }
+
+      for (Element element : rightObject.elements()) {
+        var leftElement = leftElements.get(element.key());
+        if (leftElement == null || !sameElement(leftElement, element)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    if (left instanceof ArrayElement leftArray && right instanceof ArrayElement rightArray) {
+      if (leftArray.entries().size() != rightArray.entries().size()) {
+        return false;
+      }
+
+      var rightEntries = rightArray.entries().iterator();
+      for (Element entry : leftArray.entries()) {
+        if (!sameElement(entry, rightEntries.next())) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    return false;
+  }
+
+  private static @NonNull Map<String, Element> elementsByKey(@NonNull ObjectElement object) {
+    Map<String, Element> elements = new HashMap<>();
+    for (Element element : object.elements()) {
+      elements.put(element.key(), element);
+    }
+    return elements;
+  }
+
+  private static @NonNull List<String> append(@NonNull List<String> path, @NonNull String key) {
+    List<String> newPath = new ArrayList<>(path.size() + 1);
+    newPath.addAll(path);
+    newPath.add(key);
+    return newPath;
+  }
+
+  private static @NonNull Document wrapValue(@NonNull Element element) {
+    var root = new ObjectElement(Element.NO_KEY, List.of(withKey(element, VALUE_KEY)));
+    return new BinaryDocumentSend(root).into(DocumentFactory.json()).immutableCopy();
+  }
+
+  private static @NonNull Element withKey(@NonNull Element element, @NonNull String key) {
+    if (element instanceof NullElement) {
+      return new NullElement(key);
+    } else if (element instanceof PrimitiveElement primitive) {
+      return new PrimitiveElement(key, primitive.innerValue());
+    } else if (element instanceof ObjectElement object) {
+      return new ObjectElement(key, object.elements());
+    } else {
+      return new ArrayElement(key, ((ArrayElement) element).entries());
+    }
+  }
+
+  /**
+   * A single change of the properties of a service info snapshot. A change either sets or removes the element at the
+   * given path, or replaces a range of entries in the array at the given path.
+   *
+   * @param path           the keys leading from the root properties to the changed element.
+   * @param index          the index of the first replaced array entry, -1 if the element at the path is replaced.
+   * @param removedEntries the amount of array entries which were removed starting at the index.
+   * @param value          a document holding the new element, or the inserted array entries, as its value. An empty
+   *                       document if the element at the path was removed.
+   * @since 4.0
+   */
+  @ApiStatus.Internal
+  public record PropertyChange(
+    @NonNull List<String> path,
+    int index,
+    int removedEntries,
+    @NonNull Document value
+  ) {
+
+    /**
+     * Applies this change to the given root properties element.
+     *
+     * @param root the root properties element to apply this change to.
+     * @return the changed root properties element, null if the path of this change does not exist in the given root.
+     * @throws NullPointerException if the given root element is null.
+     */
+    public @Nullable ObjectElement applyTo(@NonNull ObjectElement root) {
+      if (this.path.isEmpty()) {
+        return null;
+      }
+
+      var newValue = this.value.send().rootElement().elements().stream()
+        .filter(element -> element.key().equals(VALUE_KEY))
+        .findFirst()
+        .orElse(null);
+      if (this.index < 0) {
+        // replaces or removes the element at the path
+        return replace(root, 0, current -> newValue == null ? null : withKey(newValue, current.key()));
+      }
+
+      return replace(root, 0, current -> {
+        if (!(current instanceof ArrayElement array) || !(newValue instanceof ArrayElement insertedEntries)) {
+          return null;
+        }
+
+        List<Element> entries = new ArrayList<>(array.entries());
+        if (this.index + this.removedEntries > entries.size()) {
+          return null;
+        }
+
+        // replace the changed range of entries
+        var changedRange = entries.subList(this.index, this.index + this.removedEntries);
+        changedRange.clear();
+        changedRange.addAll(insertedEntries.entries());
+        return new ArrayElement(array.key(), entries);
+      });
+    }
+
+    private @Nullable ObjectElement replace(
+      @NonNull ObjectElement object,
+      int depth,
+      @NonNull UnaryOperator<Element> replacer
+    ) {
+      var key = this.path.get(depth);
+      var last = depth == this.path.size() - 1;
+
+      List<Element> elements = new ArrayList<>(object.elements().size() + 1);
+      var found = false;
+      for (Element element : object.elements()) {
+        if (!element.key().equals(key)) {
+          elements.add(element);
+          continue;
+        }
+
+        found = true;
+        Element replacement;
+        if (last) {
+          replacement = replacer.apply(element);
+          // removing the element is only valid when replacing the element itself
+          if (replacement == null && this.index >= 0) {
+            return null;
+          }
+        } else if (element instanceof ObjectElement nested) {
+          replacement = this.replace(nested, depth + 1, replacer);
+          if (replacement == null) {
+            return null;
+          }
+        } else {
+          return null;
+        }
+
+        if (replacement != null) {
+          elements.add(replacement);
+        }
+      }
+
+      if (!found) {
+        // only the last element of the path can be added
+        if (!last || this.index >= 0) {
+          return null;
+        }
+
+        var newElement = replacer.apply(new NullElement(key));
+        if (newElement != null) {
+          elements.add(newElement);
+        }
+      }
+
+      return new ObjectElement(object.key(), elements);
+    }
+  }
+}
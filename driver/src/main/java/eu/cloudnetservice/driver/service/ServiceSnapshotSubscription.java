@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.service;
+
+import java.util.HashSet;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * The interest of a service in the snapshot updates of other services in the network. A service only receives the
+ * snapshot updates of services which are matching its subscription and updates of itself. Services which did not
+ * register a subscription receive the snapshot updates of all services.
+ *
+ * @param wildcard     if the snapshot updates of all services should be received.
+ * @param tasks        the names of the tasks to receive the snapshot updates of the services of.
+ * @param groups       the names of the groups to receive the snapshot updates of the services of.
+ * @param environments the names of the environments to receive the snapshot updates of the services of.
+ * @since 4.0
+ */
+public record ServiceSnapshotSubscription(
+  boolean wildcard,
+  @NonNull Set<String> tasks,
+  @NonNull Set<String> groups,
+  @NonNull Set<String> environments
+) {
+
+  private static final ServiceSnapshotSubscription ALL = new ServiceSnapshotSubscription(
+    true, Set.of(), Set.of(), Set.of());
+  private static final ServiceSnapshotSubscription NONE = new ServiceSnapshotSubscription(
+    false, Set.of(), Set.of(), Set.of());
+
+  /**
+   * Get a subscription which matches the snapshot updates of all services in the network.
+   *
+   * @return a subscription to all services.
+   */
+  public static @NonNull ServiceSnapshotSubscription all() {
+    return ALL;
+  }
+
+  /**
+   * Get a subscription which does not match the snapshot updates of any service.
+   *
+   * @return a subscription to no services.
+   */
+  public static @NonNull ServiceSnapshotSubscription none() {
+    return NONE;
+  }
+
+  /**
+   * Constructs a new builder for a service snapshot subscription.
+   *
+   * @return a new service snapshot subscription builder.
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Checks if the updates of the given service snapshot are matching this subscription.
+   *
+   * @param snapshot the snapshot to check.
+   * @return true if the given snapshot matches this subscription, false otherwise.
+   * @throws NullPointerException if the given snapshot is null.
+   */
+  public boolean matches(@NonNull ServiceInfoSnapshot snapshot) {
+    if (this.wildcard) {
+      return true;
+    }
+
+    var configuration = snapshot.configuration();
+    if (this.tasks.contains(configuration.serviceId().taskName())
+      || this.environments.contains(configuration.serviceId().environmentName())) {
+      return true;
+    }
+
+    for (var group : configuration.groups()) {
+      if (this.groups.contains(group)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Creates a new subscription which matches all services which are matching this or the given subscription.
+   *
+   * @param other the subscription to combine with this subscription.
+   * @return a new subscription matching the services of both subscriptions.
+   * @throws NullPointerException if the given subscription is null.
+   */
+  public @NonNull ServiceSnapshotSubscription union(@NonNull ServiceSnapshotSubscription other) {
+    if (this.wildcard || other.wildcard) {
+      return ALL;
+    }
+
+    return builder()
+      .tasks(this.tasks).tasks(other.tasks)
+      .groups(this.groups).groups(other.groups)
+      .environments(this.environments).environments(other.environments)
+      .build();
+  }
+
+  /**
+   * A builder for a service snapshot subscription.
+   *
+   * @since 4.0
+   */
+  public static class Builder {
+
+    protected final Set<String> tasks = new HashSet<>();
+    protected final Set<String> groups = new HashSet<>();
+    protected final Set<String> environments = new HashSet<>();
+
+    /**
+     * Adds the given task to the subscription, matching all services of the task.
+     *
+     * @param task the name of the task to subscribe to.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given task name is null.
+     */
+    public @NonNull Builder task(@NonNull String task) {
+      this.tasks.add(task);
+      return this;
+    }
+
+    /**
+     * Adds all the given tasks to the subscription, matching all services of the tasks.
+     *
+     * @param tasks the names of the tasks to subscribe to.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given task name collection is null.
+     */
+    public @NonNull Builder tasks(@NonNull Set<String> tasks) {
+      this.tasks.addAll(tasks);
+      return this;
+    }
+
+    /**
+     * Adds the given group to the subscription, matching all services which are in the group.
+     *
+     * @param group the name of the group to subscribe to.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given group name is null.
+     */
+    public @NonNull Builder group(@NonNull String group) {
+      this.groups.add(group);
+      return this;
+    }
+
+    /**
+     * Adds all the given groups to the subscription, matching all services which are in one of the groups.
+     *
+     * @param groups the names of the groups to subscribe to.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given group name collection is null.
+     */
+    public @NonNull Builder groups(@NonNull Set<String> groups) {
+      this.groups.addAll(groups);
+      return this;
+    }
+
+    /**
+     * Adds the given environment to the subscription, matching all services which are using the environment.
+     *
+     * @param environment the environment to subscribe to.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given environment is null.
+     */
+    public @NonNull Builder environment(@NonNull ServiceEnvironmentType environment) {
+      this.environments.add(environment.name());
+      return this;
+    }
+
+    /**
+     * Adds all the given environments to the subscription, matching all services which are using one of them.
+     *
+     * @param environments the names of the environments to subscribe to.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given environment name collection is null.
+     */
+    public @NonNull Builder environments(@NonNull Set<String> environments) {
+      this.environments.addAll(environments);
+      return this;
+    }
+
+    /**
+     * Builds a service snapshot subscription instance based on this builder.
+     *
+     * @return the service snapshot subscription.
+     */
+    public @NonNull ServiceSnapshotSubscription build() {
+      return new ServiceSnapshotSubscription(
+        false,
+        Set.copyOf(this.tasks),
+        Set.copyOf(this.groups),
+        Set.copyOf(this.environments));
+    }
+  }
+}
@@ -54,4 +54,14 @@ private ClassDefiners() {
   public static @NonNull ClassDefiner current() {
     return DEFINER;
   }
+
+  /**
+   * Get if the classes defined by the current definer are nestmates of their parent class, which allows them to access
+   * private members of the parent class and the other nestmates of it.
+   *
+   * @return true if defined classes can access private members of their parent class, false otherwise.
+   */
+  public static boolean nestmateAccess() {
+    return DEFINER instanceof LookupClassDefiner;
+  }
 }
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.document;
 
+import eu.cloudnetservice.driver.document.send.BinaryDocumentSend;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.rpc.object.AllPrimitiveTypesDataClass;
 import java.io.IOException;
@@ -120,6 +121,69 @@ void testDataBufSerialisation(Document input, SerialisationStyle style) {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("serialisationInputSource")
+  void testBinarySendSerialisation(Document input, SerialisationStyle style) {
+    try (var buf = DataBuf.empty()) {
+      Assertions.assertDoesNotThrow(() -> BinaryDocumentSend.writeTo(buf, input.send()));
+
+      var deserialized = Assertions.assertDoesNotThrow(() -> BinaryDocumentSend.readFrom(buf).into(DocumentFactory.json()));
+      Assertions.assertEquals(input, deserialized);
+      Assertions.assertEquals(0, buf.readableBytes());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("serialisationInputSource")
+  void testDirectBinarySerialisation(Document input, SerialisationStyle style) {
+    try (var buf = DataBuf.empty()) {
+      Assertions.assertDoesNotThrow(() -> input.writeBinary(buf));
+
+      var deserialized = Assertions.assertDoesNotThrow(() -> DocumentFactory.json().parseBinary(buf));
+      Assertions.assertEquals(input, deserialized);
+      Assertions.assertEquals(0, buf.readableBytes());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("serialisationInputSource")
+  void testDirectAndSendBinaryFormatsAreCompatible(Document input, SerialisationStyle style) {
+    // written from the document send, read directly into the document
+    try (var buf = DataBuf.empty()) {
+      BinaryDocumentSend.writeTo(buf, input.send());
+      Assertions.assertEquals(input, DocumentFactory.json().parseBinary(buf));
+    }
+
+    // written directly from the document, read into a document send
+    try (var buf = DataBuf.empty()) {
+      input.writeBinary(buf);
+      Assertions.assertEquals(input, BinaryDocumentSend.readFrom(buf).into(DocumentFactory.json()));
+    }
+  }
+
+  @Test
+  void testBinaryFormatIsSmallerThanJson() {
+    var players = Document.newJsonDocument();
+    for (var i = 0; i < 100; i++) {
+      players.append("player-" + i, Document.newJsonDocument()
+        .append("uniqueId", new UUID(i, i).toString())
+        .append("firstLoginTimeMillis", 1_700_000_000_000L + i)
+        .append("lastLoginTimeMillis", 1_700_000_000_000L + i)
+        .append("protocolVersion", 763)
+        .append("onlineMode", true));
+    }
+
+    try (var json = DataBuf.empty(); var binary = DataBuf.empty()) {
+      players.writeTo(json);
+      players.writeBinary(binary);
+
+      // the keys of the nested documents are only written once and the numbers are var encoded
+      Assertions.assertTrue(
+        binary.readableBytes() < json.readableBytes() * 2 / 3,
+        "binary: " + binary.readableBytes() + " bytes, json: " + json.readableBytes() + " bytes");
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("serialisationInputSource")
   void testStringSerialisation(Document input, SerialisationStyle style) {
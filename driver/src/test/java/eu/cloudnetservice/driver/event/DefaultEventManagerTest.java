@@ -98,6 +98,67 @@ private DefaultEventManager newEventManagerWithListener() {
     return eventManager;
   }
 
+  @Test
+  @Order(20)
+  void testChannelDispatch() {
+    var eventManager = new DefaultEventManager();
+    var listener = new ChannelListener();
+    eventManager.registerListener(listener);
+
+    var event = new TestEvent(0);
+    eventManager.callEvent(event);
+    Assertions.assertEquals(1, event.counter);
+    Assertions.assertEquals(0, event.number);
+
+    eventManager.callEvent("custom", event);
+    Assertions.assertEquals(1, event.counter);
+    Assertions.assertEquals(1, event.number);
+
+    eventManager.callEvent("unknown", event);
+    Assertions.assertEquals(1, event.counter);
+    Assertions.assertEquals(1, event.number);
+
+    // no listener should be called after unregistering
+    eventManager.unregisterListener(listener);
+    eventManager.callEvent(event);
+    eventManager.callEvent("custom", event);
+    Assertions.assertEquals(1, event.counter);
+    Assertions.assertEquals(1, event.number);
+  }
+
+  @Test
+  @Order(30)
+  void testListenerExceptionIsWrapped() {
+    var eventManager = new DefaultEventManager();
+    eventManager.registerListener(new ThrowingListener());
+
+    var exception = Assertions.assertThrows(
+      EventListenerException.class,
+      () -> eventManager.callEvent(new TestEvent(0)));
+    Assertions.assertInstanceOf(UnsupportedOperationException.class, exception.getCause());
+  }
+
+  private static final class ChannelListener {
+
+    @EventListener
+    private void handleDefaultChannel(TestEvent event) {
+      event.counter++;
+    }
+
+    @EventListener(channel = "custom")
+    private void handleCustomChannel(TestEvent event) {
+      event.number++;
+    }
+  }
+
+  private static final class ThrowingListener {
+
+    @EventListener
+    public void handle(TestEvent event) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
   private static final class TestListener {
 
     private static final TestListener INSTANCE = new TestListener();
@@ -16,16 +16,33 @@
 
 package eu.cloudnetservice.driver.network.chunk;
 
+import com.google.common.collect.Iterables;
+import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.driver.network.chunk.defaults.DefaultFileChunkedPacketHandler;
 import eu.cloudnetservice.driver.network.chunk.defaults.splitter.NetworkChannelsPacketSplitter;
+import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacket;
+import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacketListener;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -35,6 +52,8 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -95,6 +114,227 @@ void testNetworkChannelSplitter() throws Exception {
       .get());
   }
 
+  @Test
+  @Order(20)
+  @Timeout(20)
+  void testResumedTransferToFileHandler(@TempDir Path tempDir) throws Exception {
+    var chunkData = this.generateRandomChunkData();
+    List<Packet> packets = new ArrayList<>();
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, ChunkedPacketSender.forFileTransfer()
+      .chunkSize(256)
+      .readAheadChunks(4)
+      .transferChannel("hello_world")
+      .source(new ByteArrayInputStream(chunkData))
+      .packetSplitter(packets::add)
+      .build()
+      .transferChunkedData()
+      .get());
+
+    var firstContent = packets.get(0).content().startTransaction();
+    var information = firstContent.readObject(ChunkSessionInformation.class);
+    firstContent.redoTransaction();
+
+    var receivedData = new AtomicReference<byte[]>();
+    var handler = new DefaultFileChunkedPacketHandler(
+      information,
+      (info, dataInput) -> receivedData.set(dataInput.readAllBytes()),
+      tempDir.resolve("transfer"));
+
+    // deliver the chunks in reverse order, re-sending the first half as a resumed transfer would
+    Collections.reverse(packets);
+    var resentPackets = packets.subList(packets.size() / 2, packets.size());
+    for (var packet : Iterables.concat(resentPackets, packets)) {
+      var content = packet.content();
+      content.startTransaction();
+      content.readObject(ChunkSessionInformation.class);
+      var done = handler.handleChunkPart(content.readInt(), content);
+      content.redoTransaction();
+
+      if (done) {
+        break;
+      }
+    }
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, handler.transferStatus());
+    Assertions.assertArrayEquals(chunkData, receivedData.get());
+  }
+
+  @Test
+  @Order(30)
+  @Timeout(20)
+  void testResumedTransferSkipsChunksReceivedByAllChannels() throws Exception {
+    var chunkData = this.generateRandomChunkData();
+    var sentChunks = Collections.synchronizedList(new ArrayList<Integer>());
+
+    // the first channel received the chunks 0, 1, 2 and 5, the second one 0, 1, 5 and 7
+    var firstChannel = this.mockResumeChannel(BitSet.valueOf(new long[]{0b100111}), sentChunks::add);
+    var secondChannel = this.mockResumeChannel(BitSet.valueOf(new long[]{0b10100011}), $ -> {
+    });
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, ChunkedPacketSender.forFileTransfer()
+      .chunkSize(256)
+      .transferChannel("hello_world")
+      .source(new ByteArrayInputStream(chunkData))
+      .toChannels(firstChannel, secondChannel)
+      .resumeTransfer(true)
+      .build()
+      .transferChunkedData()
+      .get());
+
+    // only the chunks received by both channels are skipped, the final chunk is always sent
+    var expectedChunks = IntStream.rangeClosed(0, chunkData.length / 256)
+      .filter(index -> index != 0 && index != 1 && index != 5)
+      .boxed()
+      .toList();
+    Assertions.assertEquals(expectedChunks, sentChunks);
+  }
+
+  @Test
+  @Order(40)
+  @Timeout(20)
+  void testResumedTransferSendsAllChunksWhenRequestFails() throws Exception {
+    var chunkData = this.generateRandomChunkData();
+    var sentChunks = Collections.synchronizedList(new ArrayList<Integer>());
+
+    var channel = this.mockNetworkChannel(packet -> sentChunks.add(this.readChunkIndex(packet)));
+    Mockito
+      .when(channel.sendQueryAsync(Mockito.any(Packet.class)))
+      .thenReturn(Task.wrapFuture(CompletableFuture.failedFuture(new IllegalStateException("unsupported"))));
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, ChunkedPacketSender.forFileTransfer()
+      .chunkSize(256)
+      .transferChannel("hello_world")
+      .source(new ByteArrayInputStream(chunkData))
+      .toChannels(channel)
+      .resumeTransfer(true)
+      .build()
+      .transferChunkedData()
+      .get());
+    Assertions.assertEquals(IntStream.rangeClosed(0, chunkData.length / 256).boxed().toList(), sentChunks);
+  }
+
+  @Test
+  @Order(50)
+  void testResumeRequiresTargetChannels() {
+    var builder = ChunkedPacketSender.forFileTransfer()
+      .transferChannel("hello_world")
+      .source(new ByteArrayInputStream(new byte[0]))
+      .packetSplitter($ -> {
+      })
+      .resumeTransfer(true);
+    Assertions.assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  @Order(60)
+  @Timeout(20)
+  void testReadAheadIsBounded() throws Exception {
+    var readBytes = new AtomicInteger();
+    var source = new ByteArrayInputStream(new byte[64 * 256]) {
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        var read = super.read(b, off, len);
+        readBytes.addAndGet(Math.max(read, 0));
+        return read;
+      }
+    };
+
+    // block the first chunk in the splitter, which simulates a slow receiver
+    var firstChunkSent = new CountDownLatch(1);
+    var releaseSplitter = new CountDownLatch(1);
+    var transfer = ChunkedPacketSender.forFileTransfer()
+      .chunkSize(256)
+      .readAheadChunks(2)
+      .transferChannel("hello_world")
+      .source(source)
+      .packetSplitter($ -> {
+        firstChunkSent.countDown();
+        try {
+          releaseSplitter.await();
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      })
+      .build()
+      .transferChunkedData();
+
+    firstChunkSent.await();
+    TimeUnit.MILLISECONDS.sleep(200);
+
+    // the chunk which is sent, the read ahead chunks and the chunk which the reader waits to enqueue
+    Assertions.assertTrue(readBytes.get() <= (2 + 2) * 256, "read " + readBytes.get() + " bytes ahead");
+
+    releaseSplitter.countDown();
+    Assertions.assertEquals(TransferStatus.SUCCESS, transfer.get());
+    Assertions.assertEquals(64 * 256, readBytes.get());
+  }
+
+  @Test
+  @Order(65)
+  @Timeout(20)
+  void testReadFailureFailsTransfer() {
+    var source = new ByteArrayInputStream(new byte[64 * 256]) {
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        if (this.pos >= 4 * 256) {
+          // not an io exception, the transfer must fail nevertheless
+          throw new AssertionError("unable to read");
+        }
+        return super.read(b, off, len);
+      }
+    };
+
+    var transfer = ChunkedPacketSender.forFileTransfer()
+      .chunkSize(256)
+      .transferChannel("hello_world")
+      .source(source)
+      .packetSplitter($ -> {
+      })
+      .build()
+      .transferChunkedData();
+
+    var exception = Assertions.assertThrows(ExecutionException.class, transfer::get);
+    Assertions.assertInstanceOf(AssertionError.class, exception.getCause().getCause());
+  }
+
+  @Test
+  @Order(70)
+  void testListenerReportsReceivedChunks() throws Exception {
+    var handler = Mockito.mock(ChunkedPacketHandler.class);
+    Mockito.when(handler.receivedChunks()).thenReturn(BitSet.valueOf(new long[]{0b1011}));
+
+    var listener = new ChunkedPacketListener($ -> handler);
+    var information = this.sessionInformation();
+    var channel = Mockito.mock(NetworkChannel.class);
+
+    // a request for an unknown session reports no received chunks
+    Assertions.assertEquals(new BitSet(), this.requestReceivedChunks(listener, channel, information));
+
+    listener.handle(channel, ChunkedPacket.createChunk(information, 0, new byte[256]));
+    Assertions.assertEquals(
+      BitSet.valueOf(new long[]{0b1011}),
+      this.requestReceivedChunks(listener, channel, information));
+  }
+
+  @Test
+  @Order(80)
+  @Timeout(20)
+  void testListenerCancelsIdleSession() throws Exception {
+    var handler = Mockito.mock(ChunkedPacketHandler.class);
+    Mockito.when(handler.receivedChunks()).thenReturn(BitSet.valueOf(new long[]{0b1}));
+
+    var listener = new ChunkedPacketListener($ -> handler, Duration.ofMillis(100));
+    var information = this.sessionInformation();
+    var channel = Mockito.mock(NetworkChannel.class);
+
+    listener.handle(channel, ChunkedPacket.createChunk(information, 0, new byte[256]));
+    Mockito.verify(handler, Mockito.timeout(5000)).cancel();
+
+    // the session was removed, a resuming sender has to send all chunks again
+    Assertions.assertEquals(new BitSet(), this.requestReceivedChunks(listener, channel, information));
+  }
+
   private byte[] generateRandomChunkData() {
     var data = new byte[4096];
     ThreadLocalRandom.current().nextBytes(data);
@@ -145,4 +385,45 @@ private NetworkChannel mockNetworkChannel(Consumer<Packet> packetSyncSendHandler
 
     return channel;
   }
+
+  private NetworkChannel mockResumeChannel(BitSet receivedChunks, Consumer<Integer> chunkHandler) {
+    var channel = this.mockNetworkChannel(packet -> chunkHandler.accept(this.readChunkIndex(packet)));
+    Mockito
+      .when(channel.sendQueryAsync(Mockito.any(Packet.class)))
+      .thenAnswer(invocation -> {
+        Packet request = invocation.getArgument(0);
+        Assertions.assertEquals(ChunkedPacket.RECEIVED_CHUNKS_REQUEST_INDEX, this.readChunkIndex(request));
+
+        var response = DataBuf.empty().writeByteArray(receivedChunks.toByteArray());
+        return Task.completedTask(new BasePacket(-1, response));
+      });
+
+    return channel;
+  }
+
+  private int readChunkIndex(Packet packet) {
+    var content = packet.content();
+    content.startTransaction();
+    content.readObject(ChunkSessionInformation.class);
+    var index = content.readInt();
+    content.redoTransaction();
+    return index;
+  }
+
+  private ChunkSessionInformation sessionInformation() {
+    return new ChunkSessionInformation(256, UUID.randomUUID(), "hello_world", DataBuf.empty());
+  }
+
+  private BitSet requestReceivedChunks(
+    ChunkedPacketListener listener,
+    NetworkChannel channel,
+    ChunkSessionInformation information
+  ) throws Exception {
+    Mockito.clearInvocations(channel);
+    listener.handle(channel, ChunkedPacket.createReceivedChunksRequest(information));
+
+    var response = ArgumentCaptor.forClass(Packet.class);
+    Mockito.verify(channel).sendPacket(response.capture());
+    return BitSet.valueOf(response.getValue().content().readByteArray());
+  }
 }
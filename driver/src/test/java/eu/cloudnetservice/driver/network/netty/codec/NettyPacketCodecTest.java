@@ -22,58 +22,169 @@
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import io.netty5.buffer.Buffer;
 import io.netty5.buffer.DefaultBufferAllocators;
-import io.netty5.channel.Channel;
-import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.embedded.EmbeddedChannel;
+import java.util.Arrays;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 
 public class NettyPacketCodecTest {
 
   @Test
   void testNettyPacketCodec() {
-    // dummy write
-    var packetChannel = ThreadLocalRandom.current().nextInt();
-    DataBuf dataBuf = DataBufFactory.defaultFactory().createEmpty()
+    var packetChannel = ThreadLocalRandom.current().nextInt(1, Integer.MAX_VALUE);
+    var encoded = this.encode(packetChannel, null, this.content(1234, 5D));
+
+    var channel = this.decoderChannel();
+    Assertions.assertTrue(channel.writeInbound(this.buffer(encoded)));
+
+    this.assertPacket(channel.readInbound(), packetChannel, null, 1234, 5D);
+    Assertions.assertNull(channel.readInbound());
+    Assertions.assertFalse(channel.finish());
+  }
+
+  @Test
+  void testNettyQueryPacketCodec() {
+    var queryUniqueId = UUID.randomUUID();
+    var encoded = this.encode(12, queryUniqueId, this.content(-1, 0.5D));
+
+    var channel = this.decoderChannel();
+    Assertions.assertTrue(channel.writeInbound(this.buffer(encoded)));
+
+    this.assertPacket(channel.readInbound(), 12, queryUniqueId, -1, 0.5D);
+    Assertions.assertFalse(channel.finish());
+  }
+
+  @Test
+  void testFrameSplitAcrossReads() {
+    var queryUniqueId = UUID.randomUUID();
+    var encoded = this.encode(42, queryUniqueId, this.content(7, 8D));
+
+    // deliver the frame byte by byte, nothing must be decoded before the last byte arrived
+    var channel = this.decoderChannel();
+    for (var index = 0; index < encoded.length - 1; index++) {
+      Assertions.assertFalse(channel.writeInbound(this.buffer(Arrays.copyOfRange(encoded, index, index + 1))));
+      Assertions.assertNull(channel.readInbound());
+    }
+
+    var lastByte = Arrays.copyOfRange(encoded, encoded.length - 1, encoded.length);
+    Assertions.assertTrue(channel.writeInbound(this.buffer(lastByte)));
+    this.assertPacket(channel.readInbound(), 42, queryUniqueId, 7, 8D);
+    Assertions.assertFalse(channel.finish());
+  }
+
+  @Test
+  void testMultipleFramesInOneRead() {
+    var first = this.encode(1, null, this.content(1, 1D));
+    var secondQueryId = UUID.randomUUID();
+    var second = this.encode(2, secondQueryId, this.content(2, 2D));
+    var third = this.encode(3, null, this.content(3, 3D));
+
+    // the third frame is incomplete in the first read and completed by the second one
+    var firstRead = new byte[first.length + second.length + 5];
+    System.arraycopy(first, 0, firstRead, 0, first.length);
+    System.arraycopy(second, 0, firstRead, first.length, second.length);
+    System.arraycopy(third, 0, firstRead, first.length + second.length, 5);
+
+    var channel = this.decoderChannel();
+    Assertions.assertTrue(channel.writeInbound(this.buffer(firstRead)));
+    this.assertPacket(channel.readInbound(), 1, null, 1, 1D);
+    this.assertPacket(channel.readInbound(), 2, secondQueryId, 2, 2D);
+    Assertions.assertNull(channel.readInbound());
+
+    Assertions.assertTrue(channel.writeInbound(this.buffer(Arrays.copyOfRange(third, 5, third.length))));
+    this.assertPacket(channel.readInbound(), 3, null, 3, 3D);
+    Assertions.assertFalse(channel.finish());
+  }
+
+  @Test
+  void testLargeFrameIsSplitOff() {
+    // a frame making up the full cumulation buffer is split off instead of being copied
+    var payload = new byte[1024 * 1024];
+    ThreadLocalRandom.current().nextBytes(payload);
+    var encoded = this.encode(5, null, DataBufFactory.defaultFactory().createEmpty().writeByteArray(payload));
+
+    var channel = this.decoderChannel();
+    Assertions.assertTrue(channel.writeInbound(this.buffer(encoded)));
+
+    Packet packet = channel.readInbound();
+    Assertions.assertNotNull(packet);
+    Assertions.assertEquals(5, packet.channel());
+    Assertions.assertArrayEquals(payload, packet.content().readByteArray());
+    packet.content().release();
+    Assertions.assertFalse(channel.finish());
+  }
+
+  @Test
+  void testLargeFrameSplitAcrossReads() {
+    var payload = new byte[256 * 1024];
+    ThreadLocalRandom.current().nextBytes(payload);
+    var content = DataBufFactory.defaultFactory().createEmpty().writeByteArray(payload);
+    var encoded = this.encode(6, UUID.randomUUID(), content);
+
+    // deliver the frame in chunks like a socket read would, the frame is split off the merged cumulation
+    var channel = this.decoderChannel();
+    for (var offset = 0; offset < encoded.length; offset += 8192) {
+      channel.writeInbound(this.buffer(Arrays.copyOfRange(encoded, offset, Math.min(encoded.length, offset + 8192))));
+    }
+
+    Packet packet = channel.readInbound();
+    Assertions.assertNotNull(packet);
+    Assertions.assertEquals(6, packet.channel());
+    Assertions.assertNotNull(packet.uniqueId());
+    Assertions.assertArrayEquals(payload, packet.content().readByteArray());
+    packet.content().release();
+    Assertions.assertFalse(channel.finish());
+  }
+
+  private EmbeddedChannel decoderChannel() {
+    return new EmbeddedChannel(new VarInt32FrameDecoder(), new NettyPacketDecoder());
+  }
+
+  private DataBuf.Mutable content(int intValue, double doubleValue) {
+    return DataBufFactory.defaultFactory().createEmpty()
       .writeBoolean(true)
-      .writeInt(1234)
-      .writeDouble(5D);
-
-    var outCtx = Mockito.mock(ChannelHandlerContext.class);
-    Mockito.when(outCtx.bufferAllocator()).thenReturn(DefaultBufferAllocators.onHeapAllocator());
-    Mockito.when(outCtx.write(Mockito.any(Buffer.class))).then(invocation -> {
-      // called from within the encoder call
-      Buffer buffer = invocation.getArgument(0);
-      Assertions.assertTrue(buffer.readableBytes() > 0);
-
-      // test deserialize
-      var inChannel = Mockito.mock(Channel.class);
-      Mockito.when(inChannel.isActive()).thenReturn(true);
-
-      var inCtx = Mockito.mock(ChannelHandlerContext.class);
-      Mockito.when(inCtx.channel()).thenReturn(inChannel);
-      Mockito.when(inCtx.fireChannelRead(Mockito.any(Packet.class))).then(inv -> {
-        Packet packet = inv.getArgument(0);
-        // validate
-        Assertions.assertEquals(packetChannel, packet.channel());
-        Assertions.assertTrue(packet.content().readBoolean());
-        Assertions.assertEquals(1234, packet.content().readInt());
-        Assertions.assertEquals(5D, packet.content().readDouble());
-
-        // whatever
-        return null;
-      });
-
-      // decode the packet again
-      var decoder = new NettyPacketDecoder();
-      decoder.decode(inCtx, buffer);
-
-      // whatever
-      return null;
-    });
-
-    // encode the packet
-    NettyPacketEncoder.INSTANCE.write(outCtx, new BasePacket(packetChannel, dataBuf));
+      .writeInt(intValue)
+      .writeDouble(doubleValue);
+  }
+
+  private byte[] encode(int packetChannel, @Nullable UUID queryUniqueId, DataBuf content) {
+    var packet = new BasePacket(packetChannel, content);
+    packet.uniqueId(queryUniqueId);
+
+    var channel = new EmbeddedChannel(NettyPacketEncoder.INSTANCE);
+    Assertions.assertTrue(channel.writeOutbound(packet));
+
+    try (Buffer buffer = channel.readOutbound()) {
+      var encoded = new byte[buffer.readableBytes()];
+      buffer.copyInto(buffer.readerOffset(), encoded, 0, encoded.length);
+      Assertions.assertFalse(channel.finish());
+      return encoded;
+    }
+  }
+
+  private Buffer buffer(byte[] data) {
+    return DefaultBufferAllocators.onHeapAllocator().copyOf(data);
+  }
+
+  private void assertPacket(
+    @Nullable Packet packet,
+    int packetChannel,
+    @Nullable UUID queryUniqueId,
+    int intValue,
+    double doubleValue
+  ) {
+    Assertions.assertNotNull(packet);
+    Assertions.assertEquals(packetChannel, packet.channel());
+    Assertions.assertEquals(queryUniqueId, packet.uniqueId());
+
+    var content = packet.content();
+    Assertions.assertTrue(content.readBoolean());
+    Assertions.assertEquals(intValue, content.readInt());
+    Assertions.assertEquals(doubleValue, content.readDouble());
+    Assertions.assertEquals(0, content.readableBytes());
+    content.release();
   }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.http;
+
+import eu.cloudnetservice.driver.network.http.HttpHandler;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+
+class HttpRouteTreeTest {
+
+  private static final List<NettyHttpServer.HttpHandlerEntry> ENTRIES = List.of(
+    entry("/", null, 0),
+    entry("/service", null, 0),
+    entry("/service/{name}", null, 0),
+    entry("/service/{name}/logs", null, 0),
+    entry("/service/*", null, 10),
+    entry("/service/*/logs", null, 5),
+    entry("/service/static", 1234, 0),
+    entry("/*", null, -10));
+
+  static Stream<Arguments> pathSource() {
+    return Stream.of(
+      Arguments.of("/", 0, List.of("/")),
+      Arguments.of("/service", 0, List.of("/service", "/*")),
+      Arguments.of("/service/lobby", 0, List.of("/service/*", "/service/{name}", "/*")),
+      Arguments.of("/service/lobby/logs", 0, List.of("/service/*", "/service/*/logs", "/service/{name}/logs", "/*")),
+      Arguments.of("/service/static", 0, List.of("/service/*", "/service/{name}", "/*")),
+      Arguments.of("/service/static", 1234, List.of("/service/*", "/service/{name}", "/service/static", "/*")),
+      Arguments.of("/Service", 0, List.of("/*")),
+      Arguments.of("/other/path", 0, List.of("/*")));
+  }
+
+  private static NettyHttpServer.HttpHandlerEntry entry(String path, Integer port, int priority) {
+    return new NettyHttpServer.HttpHandlerEntry(path, Mockito.mock(HttpHandler.class), port, priority);
+  }
+
+  @ParameterizedTest
+  @MethodSource("pathSource")
+  void testMatchingOrder(String path, int port, List<String> expectedPaths) {
+    var tree = HttpRouteTree.compile(ENTRIES);
+    var routes = tree.match(HttpRouteTree.segments(path.split("/")), port);
+
+    Assertions.assertEquals(expectedPaths, routes.stream().map(route -> route.entry().path()).toList());
+  }
+
+  @Test
+  void testPathParameterExtraction() {
+    var tree = HttpRouteTree.compile(ENTRIES);
+    var segments = HttpRouteTree.segments("/service/lobby/logs".split("/"));
+
+    var parameters = new HashMap<String, String>();
+    for (var route : tree.match(segments, 0)) {
+      route.extractParameters(segments, parameters);
+    }
+
+    Assertions.assertEquals(1, parameters.size());
+    Assertions.assertEquals("lobby", parameters.get("name"));
+  }
+}
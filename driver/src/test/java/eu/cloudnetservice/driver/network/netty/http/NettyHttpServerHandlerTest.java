@@ -0,0 +1,242 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.http;
+
+import eu.cloudnetservice.driver.network.NetworkTestCase;
+import eu.cloudnetservice.driver.network.http.HttpContext;
+import eu.cloudnetservice.driver.network.http.HttpExecutionMode;
+import eu.cloudnetservice.driver.network.http.HttpHandler;
+import eu.cloudnetservice.driver.network.http.HttpResponseCode;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelOption;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import lombok.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class NettyHttpServerHandlerTest extends NetworkTestCase {
+
+  private int serverPort;
+  private NettyHttpServer httpServer;
+
+  @BeforeEach
+  void initHttpServer() {
+    this.serverPort = randomFreePort();
+    this.httpServer = new NettyHttpServer() {
+      @Override
+      Executor handlerExecutor(@NonNull HttpExecutionMode executionMode) {
+        // simulate a bounded pool which is fully saturated
+        if (executionMode == HttpExecutionMode.BOUNDED_POOL) {
+          return command -> {
+            throw new RejectedExecutionException("Pool saturated");
+          };
+        }
+        return super.handlerExecutor(executionMode);
+      }
+    };
+    this.httpServer.addListener(this.serverPort).join();
+  }
+
+  @AfterEach
+  void teardownHttpServer() throws Exception {
+    this.httpServer.close();
+  }
+
+  @Test
+  @Timeout(20)
+  void testResponsesKeepRequestOrder() throws Exception {
+    var slowHandler = new BodyHandler("slow", 250).executionMode(HttpExecutionMode.VIRTUAL_THREAD);
+    this.httpServer.registerHandler("/slow", slowHandler);
+    this.httpServer.registerHandler("/fast", new BodyHandler("fast", 0));
+
+    try (var socket = this.connect()) {
+      // pipeline all requests, the offloaded slow requests complete after the fast ones were received
+      this.sendRequests(socket, "/slow", "/fast", "/slow", "/fast", "/fast");
+
+      var in = new BufferedInputStream(socket.getInputStream());
+      for (var expected : new String[]{"slow", "fast", "slow", "fast", "fast"}) {
+        var response = readResponse(in);
+        Assertions.assertEquals(200, response.status());
+        Assertions.assertEquals(expected, response.body());
+      }
+    }
+  }
+
+  @Test
+  @Timeout(20)
+  void testReadingIsSuspendedWhileTooManyRequestsArePending() throws Exception {
+    var releaseLatch = new CountDownLatch(1);
+    var handledRequests = new AtomicInteger();
+    var nettyChannel = new AtomicReference<Channel>();
+    this.httpServer.registerHandler("/block", new HttpHandler() {
+      @Override
+      public void handle(@NonNull String path, @NonNull HttpContext context) throws Exception {
+        nettyChannel.set(((NettyHttpChannel) context.channel()).channel());
+        releaseLatch.await();
+        var requestNumber = handledRequests.incrementAndGet();
+        context.response().status(HttpResponseCode.OK).body(String.valueOf(requestNumber)).context().cancelNext(true);
+      }
+    }.executionMode(HttpExecutionMode.VIRTUAL_THREAD));
+
+    try (var socket = this.connect()) {
+      var requests = new String[40];
+      Arrays.fill(requests, "/block");
+      this.sendRequests(socket, requests);
+
+      // the first request blocks the connection, reading is paused once the pending requests hit the limit
+      awaitCondition(() -> nettyChannel.get() != null);
+      awaitCondition(() -> !nettyChannel.get().getOption(ChannelOption.AUTO_READ));
+      Assertions.assertEquals(0, handledRequests.get());
+
+      // once the requests are processed, reading is resumed and all requests are answered in order
+      releaseLatch.countDown();
+      var in = new BufferedInputStream(socket.getInputStream());
+      for (var index = 1; index <= requests.length; index++) {
+        var response = readResponse(in);
+        Assertions.assertEquals(200, response.status());
+        Assertions.assertEquals(String.valueOf(index), response.body());
+      }
+
+      Assertions.assertTrue(nettyChannel.get().getOption(ChannelOption.AUTO_READ));
+    }
+  }
+
+  @Test
+  @Timeout(20)
+  void testRejectedRequestIsAnsweredWithServiceUnavailable() throws Exception {
+    var handlerCalls = new AtomicInteger();
+    this.httpServer.registerHandler("/pool", new HttpHandler() {
+      @Override
+      public void handle(@NonNull String path, @NonNull HttpContext context) {
+        handlerCalls.incrementAndGet();
+      }
+    }.executionMode(HttpExecutionMode.BOUNDED_POOL));
+    this.httpServer.registerHandler("/fast", new BodyHandler("fast", 0));
+
+    try (var socket = this.connect()) {
+      this.sendRequests(socket, "/pool", "/fast");
+
+      // the rejected request must not block the requests following it on the same connection
+      var in = new BufferedInputStream(socket.getInputStream());
+      Assertions.assertEquals(503, readResponse(in).status());
+
+      var response = readResponse(in);
+      Assertions.assertEquals(200, response.status());
+      Assertions.assertEquals("fast", response.body());
+      Assertions.assertEquals(0, handlerCalls.get());
+    }
+  }
+
+  private Socket connect() throws IOException {
+    var socket = new Socket(InetAddress.getLoopbackAddress(), this.serverPort);
+    socket.setSoTimeout(10_000);
+    return socket;
+  }
+
+  private void sendRequests(@NonNull Socket socket, @NonNull String... paths) throws IOException {
+    var requests = new StringBuilder();
+    for (var path : paths) {
+      requests.append("GET ").append(path).append(" HTTP/1.1\r\n")
+        .append("Host: 127.0.0.1:").append(this.serverPort).append("\r\n")
+        .append("\r\n");
+    }
+
+    var out = socket.getOutputStream();
+    out.write(requests.toString().getBytes(StandardCharsets.US_ASCII));
+    out.flush();
+  }
+
+  private static void awaitCondition(@NonNull BooleanSupplier condition) throws InterruptedException {
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      Assertions.assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+  }
+
+  private static @NonNull Response readResponse(@NonNull InputStream in) throws IOException {
+    var statusLine = readLine(in);
+    var status = Integer.parseInt(statusLine.split(" ")[1]);
+
+    // read the headers, only the content length is of interest
+    var contentLength = 0;
+    String header;
+    while (!(header = readLine(in)).isEmpty()) {
+      var separator = header.indexOf(':');
+      if (header.substring(0, separator).trim().toLowerCase(Locale.ROOT).equals("content-length")) {
+        contentLength = Integer.parseInt(header.substring(separator + 1).trim());
+      }
+    }
+
+    var body = in.readNBytes(contentLength);
+    Assertions.assertEquals(contentLength, body.length);
+    return new Response(status, new String(body, StandardCharsets.UTF_8));
+  }
+
+  private static @NonNull String readLine(@NonNull InputStream in) throws IOException {
+    var line = new ByteArrayOutputStream();
+    int read;
+    while ((read = in.read()) != '\n') {
+      Assertions.assertNotEquals(-1, read, "Connection closed unexpectedly");
+      if (read != '\r') {
+        line.write(read);
+      }
+    }
+    return line.toString(StandardCharsets.US_ASCII);
+  }
+
+  private record Response(int status, @NonNull String body) {
+
+  }
+
+  private static final class BodyHandler extends HttpHandler {
+
+    private final String body;
+    private final long delayMillis;
+
+    public BodyHandler(@NonNull String body, long delayMillis) {
+      this.body = body;
+      this.delayMillis = delayMillis;
+    }
+
+    @Override
+    public void handle(@NonNull String path, @NonNull HttpContext context) throws Exception {
+      if (this.delayMillis > 0) {
+        TimeUnit.MILLISECONDS.sleep(this.delayMillis);
+      }
+      context.response().status(HttpResponseCode.OK).body(this.body).context().cancelNext(true);
+    }
+  }
+}
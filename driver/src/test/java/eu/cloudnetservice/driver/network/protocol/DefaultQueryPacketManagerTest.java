@@ -16,11 +16,14 @@
 
 package eu.cloudnetservice.driver.network.protocol;
 
+import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.common.tuple.Tuple2;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.protocol.defaults.DefaultQueryPacketManager;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -32,7 +35,7 @@ public class DefaultQueryPacketManagerTest {
   @Test
   void testSendQueryPacket() {
     var mockedPacket = this.mockUniqueIdAblePacket();
-    QueryPacketManager manager = new DefaultQueryPacketManager(Mockito.mock(NetworkChannel.class));
+    QueryPacketManager manager = new DefaultQueryPacketManager(this.mockNetworkChannel());
 
     manager.sendQueryPacket(mockedPacket.first());
 
@@ -47,7 +50,7 @@ void testSendQueryPacket() {
   void testSendQueryPacketWithFixedId() {
     var uniqueId = UUID.randomUUID();
     var mockedPacket = this.mockUniqueIdAblePacket();
-    QueryPacketManager manager = new DefaultQueryPacketManager(Mockito.mock(NetworkChannel.class));
+    QueryPacketManager manager = new DefaultQueryPacketManager(this.mockNetworkChannel());
 
     manager.sendQueryPacket(mockedPacket.first(), uniqueId);
 
@@ -62,7 +65,7 @@ void testSendQueryPacketWithFixedId() {
   @Test
   void testGetAndRemoveHandler() {
     var mockedPacket = this.mockUniqueIdAblePacket();
-    QueryPacketManager manager = new DefaultQueryPacketManager(Mockito.mock(NetworkChannel.class));
+    QueryPacketManager manager = new DefaultQueryPacketManager(this.mockNetworkChannel());
 
     var task = manager.sendQueryPacket(mockedPacket.first());
 
@@ -75,7 +78,7 @@ void testGetAndRemoveHandler() {
   void testHandlerTimeout() throws InterruptedException {
     var mockedPacket = this.mockUniqueIdAblePacket();
     QueryPacketManager manager = new DefaultQueryPacketManager(
-      Mockito.mock(NetworkChannel.class),
+      this.mockNetworkChannel(),
       Duration.ofSeconds(2));
 
     var task = manager.sendQueryPacket(mockedPacket.first());
@@ -87,6 +90,49 @@ void testHandlerTimeout() throws InterruptedException {
     manager.sendQueryPacket(mockedPacket.first());
 
     Assertions.assertTrue(task.isDone());
+    Assertions.assertTrue(task.isCompletedExceptionally());
+  }
+
+  @Test
+  void testCompletedHandlerIsRemoved() {
+    var mockedPacket = this.mockUniqueIdAblePacket();
+    var channel = this.mockNetworkChannel();
+    QueryPacketManager manager = new DefaultQueryPacketManager(channel);
+
+    var task = manager.sendQueryPacket(mockedPacket.first());
+    Mockito.verify(channel).sendPacketAsync(mockedPacket.first());
+    Assertions.assertTrue(manager.hasWaitingHandler(mockedPacket.second().get()));
+
+    task.cancel(true);
+    Assertions.assertFalse(manager.hasWaitingHandler(mockedPacket.second().get()));
+  }
+
+  @Test
+  void testFailedWriteFailsHandler() {
+    var mockedPacket = this.mockUniqueIdAblePacket();
+    var writeTask = new Task<Void>();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.sendPacketAsync(Mockito.any())).thenReturn(writeTask);
+    QueryPacketManager manager = new DefaultQueryPacketManager(channel);
+
+    var task = manager.sendQueryPacket(mockedPacket.first());
+    Assertions.assertFalse(task.isDone());
+    Assertions.assertTrue(manager.hasWaitingHandler(mockedPacket.second().get()));
+
+    // the handler must fail with the write failure directly, not after the query timeout
+    var failure = new IOException("Connection reset");
+    writeTask.completeExceptionally(failure);
+
+    Assertions.assertTrue(task.isCompletedExceptionally());
+    Assertions.assertFalse(manager.hasWaitingHandler(mockedPacket.second().get()));
+    var exception = Assertions.assertThrows(ExecutionException.class, task::get);
+    Assertions.assertSame(failure, exception.getCause());
+  }
+
+  private NetworkChannel mockNetworkChannel() {
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.sendPacketAsync(Mockito.any())).thenReturn(Task.completedTask(null));
+    return channel;
   }
 
   private Tuple2<Packet, AtomicReference<UUID>> mockUniqueIdAblePacket() {
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults;
+
+import eu.cloudnetservice.driver.network.rpc.exception.CannotDecideException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class MethodInformationTableTest {
+
+  private static MethodInformationTable table(AtomicInteger loads) {
+    return new MethodInformationTable((name, argumentCount) -> {
+      loads.incrementAndGet();
+      return MethodInformation.find(null, TestApi.class, name, null, argumentCount);
+    });
+  }
+
+  @Test
+  void testResolvedMethodIsStable() {
+    var loads = new AtomicInteger();
+    var table = table(loads);
+
+    var first = table.method("greet", 1);
+    for (var i = 0; i < 100; i++) {
+      Assertions.assertSame(first, table.method("greet", 1));
+    }
+
+    // the method is only resolved once, further lookups are served from the table
+    Assertions.assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testOverloadsAreResolvedByArgumentCount() {
+    var loads = new AtomicInteger();
+    var table = table(loads);
+
+    // resolve the overload with the most arguments first to force the table to grow
+    var twoArgs = table.method("greet", 2);
+    var noArgs = table.method("greet", 0);
+    var oneArg = table.method("greet", 1);
+
+    Assertions.assertEquals(2, twoArgs.arguments().length);
+    Assertions.assertEquals(0, noArgs.arguments().length);
+    Assertions.assertEquals(1, oneArg.arguments().length);
+    Assertions.assertEquals(String.class, oneArg.returnType());
+
+    // growing the table must not drop the already resolved overloads
+    Assertions.assertSame(twoArgs, table.method("greet", 2));
+    Assertions.assertSame(noArgs, table.method("greet", 0));
+    Assertions.assertEquals(3, loads.get());
+  }
+
+  @Test
+  void testHashCollidingNamesAreDistinct() {
+    // ensure that the names are actually colliding
+    Assertions.assertEquals("aa".hashCode(), "bB".hashCode());
+
+    var table = table(new AtomicInteger());
+    var aa = table.method("aa", 0);
+    var bb = table.method("bB", 0);
+
+    Assertions.assertEquals("aa", aa.name());
+    Assertions.assertEquals("bB", bb.name());
+    Assertions.assertSame(aa, table.method("aa", 0));
+    Assertions.assertSame(bb, table.method("bB", 0));
+  }
+
+  @Test
+  void testLookupMisses() {
+    var loads = new AtomicInteger();
+    var table = table(loads);
+
+    Assertions.assertThrows(CannotDecideException.class, () -> table.method("unknown", 0));
+    Assertions.assertThrows(CannotDecideException.class, () -> table.method("greet", 5));
+
+    // a negative argument count is rejected without asking the loader
+    Assertions.assertThrows(CannotDecideException.class, () -> table.method("greet", -1));
+    Assertions.assertEquals(2, loads.get());
+
+    // failed lookups are not cached and do not break later lookups of the same name
+    Assertions.assertThrows(CannotDecideException.class, () -> table.method("greet", 5));
+    Assertions.assertEquals(3, loads.get());
+    Assertions.assertEquals(1, table.method("greet", 1).arguments().length);
+  }
+
+  @Test
+  void testAmbiguousOverloadIsRejected() {
+    var table = table(new AtomicInteger());
+
+    Assertions.assertThrows(CannotDecideException.class, () -> table.method("ambiguous", 1));
+    Assertions.assertThrows(CannotDecideException.class, () -> table.method("ambiguous", 1));
+  }
+
+  @Test
+  @Timeout(30)
+  void testConcurrentLookupsResolveOnce() {
+    var loads = new AtomicInteger();
+    var table = table(loads);
+
+    var threads = 8;
+    var start = new CountDownLatch(1);
+    var resolved = ConcurrentHashMap.<MethodInformation>newKeySet();
+    var executor = Executors.newFixedThreadPool(threads);
+    var futures = new CompletableFuture<?>[threads];
+    for (var i = 0; i < threads; i++) {
+      futures[i] = CompletableFuture.runAsync(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+        resolved.add(table.method("greet", 2));
+      }, executor);
+    }
+
+    start.countDown();
+    CompletableFuture.allOf(futures).join();
+    executor.shutdown();
+
+    Assertions.assertEquals(1, resolved.size());
+    Assertions.assertEquals(1, loads.get());
+  }
+
+  public interface TestApi {
+
+    void greet();
+
+    String greet(String name);
+
+    void greet(String name, int times);
+
+    void aa();
+
+    void bB();
+
+    void ambiguous(String value);
+
+    void ambiguous(int value);
+  }
+}
@@ -23,6 +23,9 @@
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.DocumentObjectSerializer;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.FunctionalObjectSerializer;
+import eu.cloudnetservice.driver.network.rpc.exception.MissingObjectSerializerException;
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
@@ -373,4 +376,39 @@ void testTimeClassSerialization(Object timeInstance) {
     Assertions.assertNotNull(result);
     Assertions.assertEquals(timeInstance, result);
   }
+
+  @Test
+  @Order(90)
+  void testBindingChangesAfterResolution() {
+    var mapper = new DefaultObjectMapper(false);
+    var serializer = FunctionalObjectSerializer.of(DataBuf::readString, DataBuf.Mutable::writeString);
+
+    // the serializers of a type are resolved once, changes to the bindings must still be visible
+    Assertions.assertThrows(MissingObjectSerializerException.class, () -> mapper.writeObject(DataBuf.empty(), "test"));
+
+    mapper.registerBinding(String.class, serializer, false);
+    var buf = mapper.writeObject(DataBuf.empty(), "test");
+    Assertions.assertEquals("test", mapper.readObject(buf, String.class));
+
+    mapper.unregisterBinding(String.class, false);
+    Assertions.assertThrows(MissingObjectSerializerException.class, () -> mapper.writeObject(DataBuf.empty(), "test"));
+  }
+
+  @Test
+  @Order(100)
+  void testLegacyAndBinaryDocumentsAreReadable() {
+    var mapper = new DefaultObjectMapper();
+    var document = Document.newJsonDocument().append("test", 1234).append("nested", Document.newJsonDocument());
+
+    // readers must accept both formats, independent of the format they write themselves
+    var legacyWriter = new DocumentObjectSerializer(false);
+    var binaryWriter = new DocumentObjectSerializer(true);
+    var buf = DataBuf.empty();
+    legacyWriter.write(buf, document, Document.class, mapper);
+    binaryWriter.write(buf, document, Document.class, mapper);
+
+    Assertions.assertEquals(document, legacyWriter.read(buf, Document.class, mapper));
+    Assertions.assertEquals(document, legacyWriter.read(buf, Document.class, mapper));
+    Assertions.assertEquals(0, buf.readableBytes());
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.permission;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+
+class CompiledPermissionsTest {
+
+  private static final List<Permission> PERMISSIONS = List.of(
+    Permission.builder().name("cloudnet.command.*").potency(1).build(),
+    Permission.builder().name("cloudnet.command.service").potency(-2).build(),
+    Permission.builder().name("Bukkit.Command.Plugins").potency(3).build(),
+    Permission.builder().name("bukkit.*").potency(-4).build(),
+    Permission.builder().name("worldedit.*.wand").potency(5).build(),
+    Permission.builder().name("chat.color").potency(0).build());
+
+  static Stream<Arguments> permissionSource() {
+    return Stream.of(
+      Arguments.of("cloudnet.command.tasks", 0),
+      Arguments.of("cloudnet.command.service", 0),
+      Arguments.of("cloudnet.command.service", 3),
+      Arguments.of("bukkit.command.plugins", 0),
+      Arguments.of("bukkit.command.version", 0),
+      Arguments.of("other.bukkit.permission", 0),
+      Arguments.of("worldedit..wand", 0),
+      Arguments.of("worldedit.wand", 0),
+      Arguments.of("chat.color", 0),
+      Arguments.of("CHAT.COLOR", 0),
+      Arguments.of("chat.format", 0),
+      Arguments.of("", 0));
+  }
+
+  @ParameterizedTest
+  @MethodSource("permissionSource")
+  void testCompiledMatchesDefaultResolution(String name, int potency) {
+    var management = Mockito.mock(DefaultPermissionManagement.class, Mockito.CALLS_REAL_METHODS);
+    var compiled = CompiledPermissions.compile(PERMISSIONS, System.currentTimeMillis());
+
+    var permission = Permission.builder().name(name).potency(potency).build();
+    Assertions.assertEquals(
+      management.findHighestPermission(PERMISSIONS, permission),
+      compiled.findHighestPermission(permission));
+  }
+
+  @Test
+  void testStarPermission() {
+    var star = Permission.builder().name("*").potency(10).build();
+    var compiled = CompiledPermissions.compile(List.of(star, PERMISSIONS.get(0)), System.currentTimeMillis());
+
+    Assertions.assertSame(star, compiled.findHighestPermission(Permission.of("some.permission")));
+    Assertions.assertSame(star, compiled.findHighestPermission(Permission.of("cloudnet.command.tasks")));
+  }
+
+  @Test
+  void testTimedOutPermissions() {
+    var currentTime = System.currentTimeMillis();
+    var timedOut = Permission.builder().name("timed.out").timeOutMillis(currentTime - 1000).build();
+    var timingOut = Permission.builder().name("timing.out").timeOutMillis(currentTime + 1000).build();
+
+    var compiled = CompiledPermissions.compile(List.of(timedOut, timingOut), currentTime);
+    Assertions.assertNull(compiled.findHighestPermission(Permission.of("timed.out")));
+    Assertions.assertSame(timingOut, compiled.findHighestPermission(Permission.of("timing.out")));
+
+    Assertions.assertFalse(compiled.expired(currentTime));
+    Assertions.assertTrue(compiled.expired(currentTime + 1001));
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.service;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ProcessSnapshotTest {
+
+  @Test
+  void testSelfContainsNoThreads() {
+    var snapshot = ProcessSnapshot.self();
+
+    Assertions.assertEquals(ProcessSnapshot.ownPID(), snapshot.pid());
+    Assertions.assertTrue(snapshot.threadCount() > 0);
+    Assertions.assertTrue(snapshot.threads().isEmpty());
+  }
+
+  @Test
+  void testSelfWithThreads() {
+    var snapshot = ProcessSnapshot.selfWithThreads();
+
+    Assertions.assertFalse(snapshot.threads().isEmpty());
+    Assertions.assertEquals(snapshot.threads().size(), snapshot.threadCount());
+    Assertions.assertTrue(snapshot.threads().stream()
+      .anyMatch(thread -> thread.id() == Thread.currentThread().getId()));
+  }
+
+  @Test
+  void testThreadCountDerivedFromThreads() {
+    var thread = ThreadSnapshot.from(Thread.currentThread());
+    var snapshot = new ProcessSnapshot(1, 0, 0, 0, 0, 0, 0, 0, 0, List.of(thread));
+
+    Assertions.assertEquals(1, snapshot.threadCount());
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.service;
+
+import eu.cloudnetservice.driver.TestInjectionLayerConfigurator;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ServiceInfoSnapshotDeltaTest {
+
+  private static final ServiceConfiguration CONFIGURATION = ServiceConfiguration.builder()
+    .taskName("Lobby")
+    .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+    .maxHeapMemory(512)
+    .startPort(44955)
+    .build();
+
+  @BeforeAll
+  static void setupBootInjectionLayer() {
+    TestInjectionLayerConfigurator.loadAutoconfigureBindings();
+  }
+
+  private static ServiceInfoSnapshot snapshot(long creationTime, Document properties) {
+    return new ServiceInfoSnapshot(
+      creationTime,
+      new HostAndPort("127.0.0.1", 44955),
+      ProcessSnapshot.empty(),
+      CONFIGURATION,
+      1000,
+      ServiceLifeCycle.RUNNING,
+      properties);
+  }
+
+  private static Document properties(int onlineCount) {
+    return properties(IntStream.range(0, onlineCount));
+  }
+
+  private static Document properties(IntStream playerIndices) {
+    var players = playerIndices
+      .mapToObj(index -> Document.newJsonDocument()
+        .append("uniqueId", new UUID(index, index))
+        .append("name", "Player" + index))
+      .toList();
+    return Document.newJsonDocument()
+      .append("Online", true)
+      .append("Version", "1.20.4")
+      .append("Motd", "A CloudNet provided Minecraft server")
+      .append("Max-Players", 100)
+      .append("Online-Count", players.size())
+      .append("Players", players);
+  }
+
+  private static ServiceInfoSnapshotDelta.PropertyChange playersChange(ServiceInfoSnapshotDelta delta) {
+    return delta.propertyChanges().stream()
+      .filter(change -> change.path().equals(List.of("Players")))
+      .findFirst()
+      .orElseThrow();
+  }
+
+  @Test
+  void testDeltaRoundTrip() {
+    var base = snapshot(1, properties(50).mutableCopy().append("Extra", "value"));
+    var snapshot = snapshot(2, properties(51));
+
+    var delta = ServiceInfoSnapshotDelta.between(base, snapshot);
+    Assertions.assertNotNull(delta);
+    Assertions.assertEquals(
+      Set.of(List.of("Extra"), List.of("Online-Count"), List.of("Players")),
+      delta.propertyChanges().stream().map(ServiceInfoSnapshotDelta.PropertyChange::path).collect(Collectors.toSet()));
+
+    // the delta must survive a round trip through the network
+    var buf = DataBuf.empty().writeObject(delta);
+    var decoded = buf.readObject(ServiceInfoSnapshotDelta.class);
+
+    var applied = decoded.applyTo(base);
+    Assertions.assertNotNull(applied);
+    Assertions.assertEquals(snapshot.creationTime(), applied.creationTime());
+    Assertions.assertEquals(snapshot.lifeCycle(), applied.lifeCycle());
+    Assertions.assertEquals(snapshot.configuration(), applied.configuration());
+    Assertions.assertEquals(snapshot.propertyHolder(), applied.propertyHolder());
+  }
+
+  @Test
+  void testDeltaRequiresMatchingBase() {
+    var first = snapshot(1, properties(10));
+    var second = snapshot(2, properties(11));
+    var third = snapshot(3, properties(12));
+
+    var delta = ServiceInfoSnapshotDelta.between(second, third);
+    Assertions.assertNotNull(delta);
+
+    // a missed update or an unknown service results in a full resync
+    Assertions.assertNull(delta.applyTo(first));
+    Assertions.assertNull(delta.applyTo(null));
+    Assertions.assertNotNull(delta.applyTo(second));
+  }
+
+  @Test
+  void testNoDeltaForChangedStructure() {
+    var base = snapshot(2, properties(10));
+
+    // older snapshots and changed configurations must be sent in full
+    Assertions.assertNull(ServiceInfoSnapshotDelta.between(base, snapshot(2, properties(11))));
+    Assertions.assertNull(ServiceInfoSnapshotDelta.between(base, new ServiceInfoSnapshot(
+      3,
+      new HostAndPort("127.0.0.1", 44956),
+      ProcessSnapshot.empty(),
+      CONFIGURATION,
+      1000,
+      ServiceLifeCycle.RUNNING,
+      properties(11))));
+  }
+
+  @Test
+  void testArrayChangesOnlyContainChangedEntries() {
+    var base = snapshot(1, properties(100));
+    var joined = snapshot(2, properties(101));
+
+    // a joined player only adds the new entry to the player list
+    var delta = ServiceInfoSnapshotDelta.between(base, joined);
+    Assertions.assertNotNull(delta);
+    var playersChange = playersChange(delta);
+    Assertions.assertEquals(100, playersChange.index());
+    Assertions.assertEquals(0, playersChange.removedEntries());
+    Assertions.assertEquals(1, playersChange.value().readObject("value", List.class).size());
+
+    var applied = delta.applyTo(base);
+    Assertions.assertNotNull(applied);
+    Assertions.assertEquals(joined.propertyHolder(), applied.propertyHolder());
+
+    // a player leaving in the middle of the list only removes the entry
+    var left = snapshot(3, properties(IntStream.range(0, 101).filter(index -> index != 50)));
+    var leaveDelta = ServiceInfoSnapshotDelta.between(joined, left);
+    Assertions.assertNotNull(leaveDelta);
+
+    var leaveChange = playersChange(leaveDelta);
+    Assertions.assertEquals(50, leaveChange.index());
+    Assertions.assertEquals(1, leaveChange.removedEntries());
+    Assertions.assertEquals(0, leaveChange.value().readObject("value", List.class).size());
+    Assertions.assertEquals(left.propertyHolder(), Objects.requireNonNull(leaveDelta.applyTo(joined)).propertyHolder());
+  }
+
+  @Test
+  void testNestedPropertyChanges() {
+    var base = snapshot(1, properties(1).mutableCopy()
+      .append("Extra", Document.newJsonDocument().append("a", 1).append("b", "value")));
+    var snapshot = snapshot(2, properties(1).mutableCopy()
+      .append("Extra", Document.newJsonDocument().append("a", 2).append("c", true)));
+
+    // only the changed nested properties are included
+    var delta = ServiceInfoSnapshotDelta.between(base, snapshot);
+    Assertions.assertNotNull(delta);
+    Assertions.assertEquals(
+      Set.of(List.of("Extra", "a"), List.of("Extra", "b"), List.of("Extra", "c")),
+      delta.propertyChanges().stream().map(ServiceInfoSnapshotDelta.PropertyChange::path).collect(Collectors.toSet()));
+
+    var decoded = DataBuf.empty().writeObject(delta).readObject(ServiceInfoSnapshotDelta.class);
+    var applied = decoded.applyTo(base);
+    Assertions.assertNotNull(applied);
+    Assertions.assertEquals(snapshot.propertyHolder(), applied.propertyHolder());
+
+    // a delta which does not match the structure of the base properties cannot be applied
+    var changedStructure = snapshot(1, properties(1).mutableCopy().append("Extra", "value"));
+    Assertions.assertNull(delta.applyTo(changedStructure));
+  }
+
+  @Test
+  void testDeltaIsSmallerThanSnapshot() {
+    var base = snapshot(1, properties(100).mutableCopy().append("Online-Count", 99));
+    var snapshot = snapshot(2, properties(100));
+
+    var delta = ServiceInfoSnapshotDelta.between(base, snapshot);
+    Assertions.assertNotNull(delta);
+    Assertions.assertEquals(1, delta.propertyChanges().size());
+
+    var fullSize = DataBuf.empty().writeObject(snapshot).readableBytes();
+    var deltaSize = DataBuf.empty().writeObject(delta).readableBytes();
+    Assertions.assertTrue(deltaSize * 4 < fullSize, "delta: " + deltaSize + ", full: " + fullSize);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.service;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ServiceSnapshotSubscriptionTest {
+
+  private static ServiceInfoSnapshot snapshot(String task, ServiceEnvironmentType environment, String... groups) {
+    return new ServiceInfoSnapshot(
+      System.currentTimeMillis(),
+      new HostAndPort("127.0.0.1", 25565),
+      ProcessSnapshot.empty(),
+      ServiceConfiguration.builder()
+        .taskName(task)
+        .environment(environment)
+        .groups(Set.of(groups))
+        .build(),
+      -1,
+      ServiceLifeCycle.RUNNING,
+      Document.emptyDocument());
+  }
+
+  @Test
+  void testMatches() {
+    var lobby = snapshot("Lobby", ServiceEnvironmentType.MINECRAFT_SERVER, "Global-Server");
+    var bedWars = snapshot("BedWars", ServiceEnvironmentType.MINECRAFT_SERVER, "Minigames");
+    var proxy = snapshot("Proxy", ServiceEnvironmentType.VELOCITY);
+
+    Assertions.assertTrue(ServiceSnapshotSubscription.all().matches(proxy));
+    Assertions.assertFalse(ServiceSnapshotSubscription.none().matches(proxy));
+
+    var taskSubscription = ServiceSnapshotSubscription.builder().task("Lobby").build();
+    Assertions.assertTrue(taskSubscription.matches(lobby));
+    Assertions.assertFalse(taskSubscription.matches(bedWars));
+
+    var groupSubscription = ServiceSnapshotSubscription.builder().group("Minigames").build();
+    Assertions.assertTrue(groupSubscription.matches(bedWars));
+    Assertions.assertFalse(groupSubscription.matches(lobby));
+
+    var environmentSubscription = ServiceSnapshotSubscription.builder()
+      .environment(ServiceEnvironmentType.VELOCITY)
+      .build();
+    Assertions.assertTrue(environmentSubscription.matches(proxy));
+    Assertions.assertFalse(environmentSubscription.matches(lobby));
+  }
+
+  @Test
+  void testUnion() {
+    var lobby = snapshot("Lobby", ServiceEnvironmentType.MINECRAFT_SERVER);
+    var bedWars = snapshot("BedWars", ServiceEnvironmentType.MINECRAFT_SERVER, "Minigames");
+
+    var union = ServiceSnapshotSubscription.builder().task("Lobby").build()
+      .union(ServiceSnapshotSubscription.builder().group("Minigames").build());
+    Assertions.assertTrue(union.matches(lobby));
+    Assertions.assertTrue(union.matches(bedWars));
+
+    Assertions.assertEquals(ServiceSnapshotSubscription.none(),
+      ServiceSnapshotSubscription.none().union(ServiceSnapshotSubscription.none()));
+    Assertions.assertEquals(ServiceSnapshotSubscription.all(), union.union(ServiceSnapshotSubscription.all()));
+  }
+}
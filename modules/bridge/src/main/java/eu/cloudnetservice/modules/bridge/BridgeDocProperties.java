@@ -101,6 +101,16 @@ public final class BridgeDocProperties {
   public static final DocProperty<Boolean> IS_ONLINE = DocProperty.property("Online", Boolean.class)
     .asReadOnly()
     .withDefault(false);
+  /**
+   * This service property marks a service as a warm standby service. A standby service is fully started, but is not
+   * registered to proxies and never used as a fallback until it gets promoted. Promoting a standby service removes this
+   * property from it, which is done by sending the {@code promote_standby_service} message on the
+   * {@link BridgeManagement#BRIDGE_CHANNEL_NAME} channel to the service. This property defaults to {@code false}.
+   * <p>
+   * Note: this property must be set in the properties of the service configuration when creating the service.
+   */
+  public static final DocProperty<Boolean> STANDBY = DocProperty.property("Standby", Boolean.class)
+    .withDefault(false);
   /**
    * This service property allows accessing all players that are connected to the given service. The property is only
    * updated after the service itself was updated.
@@ -72,6 +72,7 @@ public BridgeServiceHelper(
    * Tries to guess the {@link ServiceInfoState} from the lifecycle and {@link BridgeDocProperties} of the given
    * service.
    * <ol>
+   *   <li>If the service is a running standby service {@link ServiceInfoState#STARTING} is guessed.</li>
    *   <li>If the service is not running or not in-game {@link ServiceInfoState#STOPPED} is guessed.</li>
    *   <li>If the service is empty {@link ServiceInfoState#EMPTY_ONLINE} is guessed.</li>
    *   <li>If the service is full {@link ServiceInfoState#FULL_ONLINE} is guessed.</li>
@@ -86,6 +87,11 @@ public BridgeServiceHelper(
    * @see BridgeDocProperties
    */
   public static @NonNull ServiceInfoState guessStateFromServiceInfoSnapshot(@NonNull ServiceInfoSnapshot service) {
+    // standby services are not joinable until they get promoted
+    if (service.lifeCycle() == ServiceLifeCycle.RUNNING && standbyService(service)) {
+      return ServiceInfoState.STARTING;
+    }
+
     // convert not running or ingame services to STOPPED
     if (service.lifeCycle() != ServiceLifeCycle.RUNNING || inGameService(service)) {
       return ServiceInfoState.STOPPED;
@@ -150,7 +156,7 @@ public BridgeServiceHelper(
     value = value.replace("%port%", Integer.toString(service.configuration().port()));
     // process information
     value = value.replace("%pid%", Long.toString(service.processSnapshot().pid()));
-    value = value.replace("%threads%", Integer.toString(service.processSnapshot().threads().size()));
+    value = value.replace("%threads%", Integer.toString(service.processSnapshot().threadCount()));
     value = value.replace("%heap_usage%", Long.toString(service.processSnapshot().heapUsageMemory()));
     value = value.replace("%max_heap_usage%", Long.toString(service.processSnapshot().maxHeapMemory()));
     value = value.replace(
@@ -178,6 +184,19 @@ public BridgeServiceHelper(
     return value;
   }
 
+  /**
+   * Checks if the given service is a standby service which was not promoted yet. Standby services must not be listed
+   * to players or used as a connection target.
+   *
+   * @param service the service to check.
+   * @return true if the service is a standby service, false otherwise.
+   * @throws NullPointerException if the given service is null.
+   * @see BridgeDocProperties#STANDBY
+   */
+  public static boolean standbyService(@NonNull ServiceInfoSnapshot service) {
+    return service.readProperty(BridgeDocProperties.STANDBY);
+  }
+
   /**
    * Checks if the given service is empty. This is only the case if all following conditions apply:
    * <ul>
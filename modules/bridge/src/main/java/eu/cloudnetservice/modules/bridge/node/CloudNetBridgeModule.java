@@ -35,6 +35,7 @@
 import eu.cloudnetservice.modules.bridge.config.ProxyFallbackConfiguration;
 import eu.cloudnetservice.modules.bridge.node.command.BridgeCommand;
 import eu.cloudnetservice.modules.bridge.node.http.V2HttpHandlerBridge;
+import eu.cloudnetservice.modules.bridge.node.player.NodePlayerManager;
 import eu.cloudnetservice.modules.bridge.rpc.ComponentObjectSerializer;
 import eu.cloudnetservice.modules.bridge.rpc.TitleObjectSerializer;
 import eu.cloudnetservice.node.cluster.sync.DataSyncHandler;
@@ -49,6 +50,7 @@
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 import lombok.NonNull;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.title.Title;
@@ -76,10 +78,13 @@ public void convertOldDatabaseEntries(
     @NonNull ServiceVersionProvider versionProvider,
     @NonNull NodeDatabaseProvider databaseProvider
   ) {
+    // offline players are looked up by their name, make sure that the lookup can use an index
+    var playerDb = databaseProvider.database(BRIDGE_PLAYER_DB_NAME);
+    playerDb.createIndex("name");
+
     // read the first player from the database - if the first player is valid we don't need to take a look at the other
     // players in the database as they were already converted
-    var playerDb = databaseProvider.database(BRIDGE_PLAYER_DB_NAME);
-    var first = playerDb.readChunk(0, 1);
+    var first = playerDb.readChunkAfter(null, 1);
     if (first != null && !first.isEmpty()) {
       // validate the offline player
       var document = Iterables.getOnlyElement(first.values());
@@ -91,9 +96,12 @@ public void convertOldDatabaseEntries(
 
         // invalid player data - convert the database
         var convertedPlayers = 0;
+        String lastConvertedKey = null;
         Map<String, Document> chunkData;
-        while ((chunkData = playerDb.readChunk(convertedPlayers, 100)) != null) {
+        while ((chunkData = playerDb.readChunkAfter(lastConvertedKey, 100)) != null) {
           for (var entry : chunkData.entrySet()) {
+            lastConvertedKey = entry.getKey();
+
             // get all the required path
             var valueCopy = entry.getValue().mutableCopy();
             var lastProxyInfo = valueCopy.readMutableDocument("lastNetworkConnectionInfo");
@@ -210,6 +218,11 @@ public void registerCommand(@NonNull CommandProvider commandProvider) {
     commandProvider.register(BridgeCommand.class);
   }
 
+  @ModuleTask(order = 127, lifecycle = ModuleLifeCycle.STOPPED)
+  public void flushPlayerWrites(@NonNull NodePlayerManager playerManager) throws TimeoutException {
+    playerManager.close();
+  }
+
   @ModuleTask(lifecycle = ModuleLifeCycle.RELOADING)
   public void handleReload(@Nullable BridgeManagement management) {
     if (management != null) {
@@ -18,6 +18,7 @@
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.Striped;
 import dev.derklaro.aerogel.PostConstruct;
@@ -29,6 +30,7 @@
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
 import eu.cloudnetservice.driver.network.rpc.RPCHandlerRegistry;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import eu.cloudnetservice.modules.bridge.BridgeManagement;
 import eu.cloudnetservice.modules.bridge.event.BridgeDeleteCloudOfflinePlayerEvent;
 import eu.cloudnetservice.modules.bridge.event.BridgeProxyPlayerDisconnectEvent;
@@ -52,18 +54,23 @@
 import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
 import lombok.NonNull;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
 
 @Singleton
 @Provides(PlayerManager.class)
@@ -75,18 +82,36 @@ public class NodePlayerManager implements PlayerManager {
   protected final NodeDatabaseProvider nodeDatabaseProvider;
 
   protected final Map<UUID, CloudPlayer> onlinePlayers = new ConcurrentHashMap<>();
+  protected final OnlinePlayerIndex onlinePlayerIndex = new OnlinePlayerIndex();
+  protected final Map<String, UUID> offlinePlayerNames = new ConcurrentHashMap<>();
   protected final PlayerProvider allPlayerProvider = new NodePlayerProvider(() -> this.onlinePlayers.values().stream());
 
-  protected final Striped<Lock> playerReadWriteLocks = Striped.lazyWeakLock(1);
+  protected final Striped<Lock> playerReadWriteLocks = Striped.lazyWeakLock(
+    Runtime.getRuntime().availableProcessors() * 4);
+  protected final PlayerWriteBehindQueue playerWriteQueue = new PlayerWriteBehindQueue(
+    ExecutorServiceUtil.newVirtualThreadExecutor("Bridge-Player-Writer-", Executors::newCachedThreadPool));
   protected final LoadingCache<UUID, Optional<CloudOfflinePlayer>> offlinePlayerCache = Caffeine.newBuilder()
     .expireAfterAccess(5, TimeUnit.MINUTES)
+    .evictionListener((UUID uniqueId, Optional<CloudOfflinePlayer> player, RemovalCause cause) -> {
+      // remove the name mapping of the player if it still points to the evicted player
+      if (uniqueId != null && player != null && player.isPresent()) {
+        NodePlayerManager.this.offlinePlayerNames.remove(OnlinePlayerIndex.nameKey(player.get().name()), uniqueId);
+      }
+    })
     .build(uniqueId -> {
+      // pending writes of the player are not visible in the database yet, serve the pending state instead
+      var pendingWrite = NodePlayerManager.this.playerWriteQueue.pendingWrite(uniqueId);
+      if (pendingWrite != null) {
+        return Optional.ofNullable(pendingWrite.player());
+      }
       // load the player from the database sync to block the current thread
       var document = NodePlayerManager.this.database().get(uniqueId.toString());
       if (document == null) {
         return Optional.empty();
       } else {
-        return Optional.of(document.toInstanceOf(CloudOfflinePlayer.class));
+        var player = document.toInstanceOf(CloudOfflinePlayer.class);
+        NodePlayerManager.this.offlinePlayerNames.put(OnlinePlayerIndex.nameKey(player.name()), uniqueId);
+        return Optional.of(player);
       }
     });
 
@@ -115,7 +140,7 @@ public NodePlayerManager(
       .nameExtractor(CloudPlayer::name)
       .dataCollector(this.onlinePlayers::values)
       .currentGetter(player -> this.onlinePlayers.get(player.uniqueId()))
-      .writer(player -> this.onlinePlayers.put(player.uniqueId(), player))
+      .writer(this::putOnlinePlayer)
       .build());
   }
 
@@ -147,30 +172,17 @@ public long registeredCount() {
 
   @Override
   public @Nullable CloudPlayer firstOnlinePlayer(@NonNull String name) {
-    for (var player : this.onlinePlayers.values()) {
-      if (player.name().equalsIgnoreCase(name)) {
-        return player;
-      }
-    }
-    return null;
+    return this.onlinePlayerIndex.firstPlayerByName(name);
   }
 
   @Override
   public @NonNull List<CloudPlayer> onlinePlayers(@NonNull String name) {
-    return this.onlinePlayers.values().stream()
-      .filter(cloudPlayer -> cloudPlayer.name().equalsIgnoreCase(name))
-      .toList();
+    return List.copyOf(this.onlinePlayerIndex.playersByName(name));
   }
 
   @Override
   public @NonNull List<CloudPlayer> environmentOnlinePlayers(@NonNull ServiceEnvironmentType environment) {
-    return this.onlinePlayers.values()
-      .stream()
-      .filter(cloudPlayer -> {
-        var serviceInfo = Objects.requireNonNullElse(cloudPlayer.connectedService(), cloudPlayer.loginService());
-        return serviceInfo.environment().equals(environment);
-      })
-      .toList();
+    return List.copyOf(this.onlinePlayerIndex.playersByEnvironment(environment));
   }
 
   @Override
@@ -180,22 +192,12 @@ public long registeredCount() {
 
   @Override
   public @NonNull PlayerProvider taskOnlinePlayers(@NonNull String task) {
-    return new NodePlayerProvider(() -> this.onlinePlayers.values()
-      .stream()
-      .filter(player -> {
-        var serviceInfo = Objects.requireNonNullElse(player.connectedService(), player.loginService());
-        return serviceInfo.taskName().equals(task);
-      }));
+    return new NodePlayerProvider(() -> this.onlinePlayerIndex.playersByTask(task).stream());
   }
 
   @Override
   public @NonNull PlayerProvider groupOnlinePlayers(@NonNull String group) {
-    return new NodePlayerProvider(() -> this.onlinePlayers.values()
-      .stream()
-      .filter(player -> {
-        var serviceInfo = Objects.requireNonNullElse(player.connectedService(), player.loginService());
-        return serviceInfo.groups().contains(group);
-      }));
+    return new NodePlayerProvider(() -> this.onlinePlayerIndex.playersByGroup(group).stream());
   }
 
   @Override
@@ -205,30 +207,35 @@ public long registeredCount() {
 
   @Override
   public @Nullable CloudOfflinePlayer firstOfflinePlayer(@NonNull String name) {
-    return this.offlinePlayerCache.asMap().values().stream()
-      .filter(Optional::isPresent)
-      .map(Optional::get)
-      .filter(player -> player.name().equalsIgnoreCase(name))
-      .findFirst()
-      .orElseGet(() -> {
-        var players = this.offlinePlayers(name);
-        return players.isEmpty() ? null : players.get(0);
-      });
+    // check if the player is cached, the name mapping might be outdated so validate the cached player
+    var uniqueId = this.offlinePlayerNames.get(OnlinePlayerIndex.nameKey(name));
+    if (uniqueId != null) {
+      var cachedPlayer = this.offlinePlayerCache.getIfPresent(uniqueId);
+      if (cachedPlayer != null && cachedPlayer.isPresent() && cachedPlayer.get().name().equalsIgnoreCase(name)) {
+        return cachedPlayer.get();
+      }
+    }
+
+    // not cached, query the database
+    var players = this.offlinePlayers(name);
+    return players.isEmpty() ? null : players.get(0);
   }
 
   @Override
   public @NonNull List<CloudOfflinePlayer> offlinePlayers(@NonNull String name) {
-    return this.database().find("name", name).stream()
+    var storedPlayers = this.database().find("name", name).stream()
       .map(document -> document.toInstanceOf(CloudOfflinePlayer.class))
       .toList();
+    return this.applyPendingWrites(storedPlayers, player -> player.name().equals(name));
   }
 
   @Override
   public @NonNull List<CloudOfflinePlayer> registeredPlayers() {
-    return this.database().entries().values().stream()
+    var storedPlayers = this.database().entries().values().stream()
       .map(doc -> doc.toInstanceOf(CloudOfflinePlayer.class))
       .filter(Objects::nonNull)
       .toList();
+    return this.applyPendingWrites(storedPlayers, $ -> true);
   }
 
   @Override
@@ -236,7 +243,7 @@ public void updateOfflinePlayer(@NonNull CloudOfflinePlayer player) {
     // push the change to the cache
     this.pushOfflinePlayerCache(player.uniqueId(), player);
     // update the database
-    this.database().insert(player.uniqueId().toString(), Document.newJsonDocument().appendTree(player));
+    this.persistOfflinePlayer(player);
     // notify the cluster
     ChannelMessage.builder()
       .targetAll()
@@ -270,7 +277,8 @@ public void deleteCloudOfflinePlayer(@NonNull CloudOfflinePlayer cloudOfflinePla
     // push the change to the cache
     this.pushOfflinePlayerCache(cloudOfflinePlayer.uniqueId(), null);
     // delete from the database
-    this.database().delete(cloudOfflinePlayer.uniqueId().toString());
+    var uniqueId = cloudOfflinePlayer.uniqueId();
+    this.playerWriteQueue.enqueue(uniqueId, null, () -> this.database().delete(uniqueId.toString()));
     // notify the cluster
     ChannelMessage.builder()
       .targetAll()
@@ -295,19 +303,81 @@ public void deleteCloudOfflinePlayer(@NonNull CloudOfflinePlayer cloudOfflinePla
 
   public void pushOfflinePlayerCache(@NonNull UUID uniqueId, @Nullable CloudOfflinePlayer cloudOfflinePlayer) {
     this.offlinePlayerCache.put(uniqueId, Optional.ofNullable(cloudOfflinePlayer));
+    if (cloudOfflinePlayer != null) {
+      this.offlinePlayerNames.put(OnlinePlayerIndex.nameKey(cloudOfflinePlayer.name()), uniqueId);
+    }
   }
 
   public void pushOnlinePlayerCache(@NonNull CloudPlayer cloudPlayer) {
-    this.onlinePlayers.replace(cloudPlayer.uniqueId(), cloudPlayer);
+    this.replaceOnlinePlayer(cloudPlayer);
     this.pushOfflinePlayerCache(cloudPlayer.uniqueId(), CloudOfflinePlayer.offlineCopy(cloudPlayer));
   }
 
+  public void removeOnlinePlayer(@NonNull UUID uniqueId) {
+    // the index is updated while holding the lock of the player entry to keep it consistent
+    this.onlinePlayers.computeIfPresent(uniqueId, ($, current) -> {
+      this.onlinePlayerIndex.remove(uniqueId);
+      return null;
+    });
+  }
+
+  protected void putOnlinePlayer(@NonNull CloudPlayer cloudPlayer) {
+    this.onlinePlayers.compute(cloudPlayer.uniqueId(), ($, current) -> {
+      this.onlinePlayerIndex.index(cloudPlayer);
+      return cloudPlayer;
+    });
+  }
+
+  protected void replaceOnlinePlayer(@NonNull CloudPlayer cloudPlayer) {
+    this.onlinePlayers.computeIfPresent(cloudPlayer.uniqueId(), ($, current) -> {
+      this.onlinePlayerIndex.index(cloudPlayer);
+      return cloudPlayer;
+    });
+  }
+
+  protected void persistOfflinePlayer(@NonNull CloudOfflinePlayer player) {
+    // serialize the player now to persist the current state, the actual write is done async
+    var document = Document.newJsonDocument().appendTree(player);
+    this.playerWriteQueue.enqueue(
+      player.uniqueId(),
+      player,
+      () -> this.database().insert(player.uniqueId().toString(), document));
+  }
+
+  protected @NonNull List<CloudOfflinePlayer> applyPendingWrites(
+    @NonNull List<CloudOfflinePlayer> storedPlayers,
+    @NonNull Predicate<CloudOfflinePlayer> filter
+  ) {
+    var pendingWrites = this.playerWriteQueue.pendingWrites();
+    if (pendingWrites.isEmpty()) {
+      return storedPlayers;
+    }
+
+    // the pending writes are newer than the database state, replace or remove the stored players accordingly
+    Map<UUID, CloudOfflinePlayer> players = new LinkedHashMap<>();
+    storedPlayers.forEach(player -> players.put(player.uniqueId(), player));
+    pendingWrites.forEach((uniqueId, pendingWrite) -> {
+      var player = pendingWrite.player();
+      if (player != null && filter.test(player)) {
+        players.put(uniqueId, player);
+      } else {
+        players.remove(uniqueId);
+      }
+    });
+    return List.copyOf(players.values());
+  }
+
+  public void close() throws TimeoutException {
+    // persist all pending writes before the database is closed
+    this.playerWriteQueue.close();
+  }
+
   protected @NonNull LocalDatabase database() {
     return this.nodeDatabaseProvider.database(this.databaseName);
   }
 
-  public @NonNull Map<UUID, CloudPlayer> players() {
-    return this.onlinePlayers;
+  public @NonNull @UnmodifiableView Map<UUID, CloudPlayer> players() {
+    return Collections.unmodifiableMap(this.onlinePlayers);
   }
 
   public void loginPlayer(
@@ -345,7 +415,7 @@ protected void loginPlayer0(
     var cloudPlayer = this.onlinePlayer(connectionInfo.uniqueId());
     if (cloudPlayer == null) {
       // try to load the player using the name and the login service
-      for (var player : this.players().values()) {
+      for (var player : this.onlinePlayerIndex.playersByName(connectionInfo.name())) {
         if (player.name().equals(connectionInfo.name())) {
           if (player.loginService().uniqueId().equals(connectionInfo.networkService().uniqueId())) {
             cloudPlayer = player;
@@ -370,7 +440,7 @@ protected void loginPlayer0(
           cloudOfflinePlayer.lastNetworkPlayerProxyInfo(),
           cloudOfflinePlayer.propertyHolder());
         // cache the online player for later use
-        this.onlinePlayers.put(cloudPlayer.uniqueId(), cloudPlayer);
+        this.putOnlinePlayer(cloudPlayer);
       }
     }
     // cannot never be null at this point
@@ -381,9 +451,7 @@ protected void processLogin(@NonNull CloudPlayer cloudPlayer) {
     // push the player into the cache
     this.pushOnlinePlayerCache(cloudPlayer);
     // update the database
-    this.database().insert(
-      cloudPlayer.uniqueId().toString(),
-      Document.newJsonDocument().appendTree(CloudOfflinePlayer.offlineCopy(cloudPlayer)));
+    this.persistOfflinePlayer(CloudOfflinePlayer.offlineCopy(cloudPlayer));
     // notify the other nodes that we received the login
     ChannelMessage.builder()
       .targetAll()
@@ -404,8 +472,8 @@ public void processLoginMessage(@NonNull CloudPlayer cloudPlayer) {
       // check if the player is already loaded
       var registeredPlayer = this.onlinePlayers.get(cloudPlayer.uniqueId());
       if (registeredPlayer == null) {
-        this.onlinePlayers.put(cloudPlayer.uniqueId(), cloudPlayer);
-        this.offlinePlayerCache.put(cloudPlayer.uniqueId(), Optional.of(cloudPlayer));
+        this.putOnlinePlayer(cloudPlayer);
+        this.pushOfflinePlayerCache(cloudPlayer.uniqueId(), cloudPlayer);
       } else {
         var needsUpdate = false;
         // check if the player has a known login service
@@ -428,7 +496,7 @@ public void processLoginMessage(@NonNull CloudPlayer cloudPlayer) {
         }
         // check if we need to update the player
         if (needsUpdate) {
-          this.onlinePlayers.replace(cloudPlayer.uniqueId(), cloudPlayer);
+          this.replaceOnlinePlayer(cloudPlayer);
         }
       }
     } finally {
@@ -447,7 +515,7 @@ public void processLoginMessage(@NonNull CloudPlayer cloudPlayer) {
         System.currentTimeMillis(),
         proxyInfo,
         Document.newJsonDocument());
-      this.offlinePlayerCache.put(proxyInfo.uniqueId(), Optional.of(cloudOfflinePlayer));
+      this.pushOfflinePlayerCache(proxyInfo.uniqueId(), cloudOfflinePlayer);
     }
     // the selected player
     return cloudOfflinePlayer;
@@ -467,14 +535,14 @@ public void logoutPlayer(@NonNull CloudPlayer cloudPlayer) {
 
   private void logoutPlayer0(@NonNull CloudPlayer cloudPlayer) {
     // remove the player from the cache
-    this.onlinePlayers.remove(cloudPlayer.uniqueId());
+    this.removeOnlinePlayer(cloudPlayer.uniqueId());
     cloudPlayer.lastNetworkPlayerProxyInfo(cloudPlayer.networkPlayerProxyInfo());
     // copy to an offline version
     var offlinePlayer = CloudOfflinePlayer.offlineCopy(cloudPlayer);
     // update the offline version of the player into the cache
     this.pushOfflinePlayerCache(cloudPlayer.uniqueId(), offlinePlayer);
     // push the change to the database
-    this.database().insert(offlinePlayer.uniqueId().toString(), Document.newJsonDocument().appendTree(offlinePlayer));
+    this.persistOfflinePlayer(offlinePlayer);
     // notify the cluster
     ChannelMessage.builder()
       .targetAll()
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.common.concurrent.ConcurrentBucketIndex;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.modules.bridge.player.CloudPlayer;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+public final class OnlinePlayerIndex {
+
+  private final Map<UUID, IndexKeys> indexedPlayers = new ConcurrentHashMap<>();
+
+  private final ConcurrentBucketIndex<String, UUID, CloudPlayer> playersByName = new ConcurrentBucketIndex<>();
+  private final ConcurrentBucketIndex<String, UUID, CloudPlayer> playersByTask = new ConcurrentBucketIndex<>();
+  private final ConcurrentBucketIndex<String, UUID, CloudPlayer> playersByGroup = new ConcurrentBucketIndex<>();
+  private final ConcurrentBucketIndex<ServiceEnvironmentType, UUID, CloudPlayer> playersByEnvironment =
+    new ConcurrentBucketIndex<>();
+
+  static @NonNull String nameKey(@NonNull String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  public void index(@NonNull CloudPlayer player) {
+    // the connected service is preferred, the login service is used when the player is not yet connected to a server
+    var service = Objects.requireNonNullElse(player.connectedService(), player.loginService());
+    var keys = new IndexKeys(
+      nameKey(player.name()),
+      service.taskName(),
+      service.serviceId().environment(),
+      Set.copyOf(service.groups()));
+
+    // remove the previous index entries, the player instance might have changed even if the keys are the same
+    var previous = this.indexedPlayers.put(player.uniqueId(), keys);
+    if (previous != null) {
+      this.removeKeys(player.uniqueId(), previous);
+    }
+
+    this.playersByName.put(keys.name(), player.uniqueId(), player);
+    this.playersByTask.put(keys.task(), player.uniqueId(), player);
+    this.playersByEnvironment.put(keys.environment(), player.uniqueId(), player);
+    for (var group : keys.groups()) {
+      this.playersByGroup.put(group, player.uniqueId(), player);
+    }
+  }
+
+  public void remove(@NonNull UUID uniqueId) {
+    var keys = this.indexedPlayers.remove(uniqueId);
+    if (keys != null) {
+      this.removeKeys(uniqueId, keys);
+    }
+  }
+
+  public @Nullable CloudPlayer firstPlayerByName(@NonNull String name) {
+    return this.playersByName.first(nameKey(name));
+  }
+
+  public @NonNull @Unmodifiable Collection<CloudPlayer> playersByName(@NonNull String name) {
+    return this.playersByName.values(nameKey(name));
+  }
+
+  public @NonNull @Unmodifiable Collection<CloudPlayer> playersByTask(@NonNull String task) {
+    return this.playersByTask.values(task);
+  }
+
+  public @NonNull @Unmodifiable Collection<CloudPlayer> playersByGroup(@NonNull String group) {
+    return this.playersByGroup.values(group);
+  }
+
+  public @NonNull @Unmodifiable Collection<CloudPlayer> playersByEnvironment(@NonNull ServiceEnvironmentType env) {
+    return this.playersByEnvironment.values(env);
+  }
+
+  private void removeKeys(@NonNull UUID uniqueId, @NonNull IndexKeys keys) {
+    this.playersByName.remove(keys.name(), uniqueId);
+    this.playersByTask.remove(keys.task(), uniqueId);
+    this.playersByEnvironment.remove(keys.environment(), uniqueId);
+    for (var group : keys.groups()) {
+      this.playersByGroup.remove(group, uniqueId);
+    }
+  }
+
+  private record IndexKeys(
+    @NonNull String name,
+    @NonNull String task,
+    @Nullable ServiceEnvironmentType environment,
+    @NonNull Set<String> groups
+  ) {
+
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.modules.bridge.player.CloudOfflinePlayer;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+public final class PlayerWriteBehindQueue implements AutoCloseable {
+
+  private static final Logger LOGGER = LogManager.logger(PlayerWriteBehindQueue.class);
+
+  private final ExecutorService executor;
+  private final Executor writeExecutor;
+  private final Map<UUID, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+  private volatile boolean closed;
+
+  public PlayerWriteBehindQueue(@NonNull ExecutorService executor) {
+    this.executor = executor;
+    this.writeExecutor = command -> {
+      try {
+        this.executor.execute(command);
+      } catch (RejectedExecutionException exception) {
+        // the queue was closed concurrently, run the write in the caller thread to not lose it
+        command.run();
+      }
+    };
+  }
+
+  private static void runWrite(@NonNull UUID uniqueId, @NonNull Runnable write) {
+    try {
+      write.run();
+    } catch (Exception exception) {
+      // catch the exception here, an exceptionally completed future would skip all following writes
+      LOGGER.severe("Exception while persisting player %s", exception, uniqueId);
+    }
+  }
+
+  public @NonNull CompletableFuture<Void> enqueue(
+    @NonNull UUID uniqueId,
+    @Nullable CloudOfflinePlayer player,
+    @NonNull Runnable write
+  ) {
+    // the write is only created here and started once the previous write of the player completed. Starting it
+    // while updating the map could run it in the caller thread (after closing) while holding the lock of the map bin
+    var previousWriteDone = new CompletableFuture<Void>();
+    Executor executor = this.closed ? Runnable::run : this.writeExecutor;
+    var pendingWrite = new PendingWrite(
+      previousWriteDone.thenRunAsync(() -> runWrite(uniqueId, write), executor),
+      player);
+
+    // chain the write to the last pending write of the player, this ensures that the writes of one
+    // player are executed in order while writes of different players can run in parallel
+    var tail = this.pendingWrites.put(uniqueId, pendingWrite);
+    if (tail == null) {
+      previousWriteDone.complete(null);
+    } else {
+      tail.future().whenComplete(($, exception) -> previousWriteDone.complete(null));
+    }
+
+    // remove the pending write once it completed unless another write was enqueued in the meantime
+    var future = pendingWrite.future();
+    future.whenComplete(($, exception) -> this.pendingWrites.remove(uniqueId, pendingWrite));
+    return future;
+  }
+
+  public @Nullable PendingWrite pendingWrite(@NonNull UUID uniqueId) {
+    return this.pendingWrites.get(uniqueId);
+  }
+
+  public @NonNull @Unmodifiable Map<UUID, PendingWrite> pendingWrites() {
+    return Map.copyOf(this.pendingWrites);
+  }
+
+  public void awaitPendingWrites(@NonNull UUID uniqueId) {
+    var pendingWrite = this.pendingWrites.get(uniqueId);
+    if (pendingWrite != null) {
+      pendingWrite.future().join();
+    }
+  }
+
+  public int pendingWriteCount() {
+    return this.pendingWrites.size();
+  }
+
+  public void flush(long timeout, @NonNull TimeUnit unit) throws TimeoutException {
+    var deadline = System.nanoTime() + unit.toNanos(timeout);
+    // writes might be enqueued while waiting, repeat until no write is pending anymore
+    while (!this.pendingWrites.isEmpty()) {
+      var futures = this.pendingWrites.values().stream()
+        .map(PendingWrite::future)
+        .toArray(CompletableFuture[]::new);
+      try {
+        CompletableFuture.allOf(futures).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ExecutionException ignored) {
+        // not possible, exceptions of the writes are caught before completing the future
+      }
+    }
+  }
+
+  @Override
+  public void close() throws TimeoutException {
+    // all writes enqueued from now on are executed directly by the thread completing the previous write
+    this.closed = true;
+    try {
+      this.flush(30, TimeUnit.SECONDS);
+    } finally {
+      this.executor.shutdown();
+    }
+  }
+
+  public record PendingWrite(@NonNull CompletableFuture<Void> future, @Nullable CloudOfflinePlayer player) {
+
+  }
+}
@@ -71,7 +71,8 @@
 
   protected static final Predicate<ServiceInfoSnapshot> CONNECTED_SERVICE_TESTER = service -> service.connected()
     && service.lifeCycle() == ServiceLifeCycle.RUNNING
-    && service.readProperty(BridgeDocProperties.IS_ONLINE);
+    && service.readProperty(BridgeDocProperties.IS_ONLINE)
+    && !BridgeServiceHelper.standbyService(service);
 
   protected final RPCSender sender;
   protected final EventManager eventManager;
@@ -162,6 +163,15 @@ public void appendServiceInformation(@NonNull ServiceInfoPropertiesConfigureEven
     configureEvent.propertyHolder().append("Max-Players", this.bridgeServiceHelper.maxPlayers().get());
   }
 
+  public void promoteStandbyService() {
+    var properties = this.serviceInfoHolder.serviceInfo().propertyHolder();
+    if (properties.readProperty(BridgeDocProperties.STANDBY)) {
+      // remove the standby marker, proxies will register the service as soon as they receive the update
+      var snapshot = this.serviceInfoHolder.createServiceInfoSnapshot(properties.mutableCopy().remove("Standby"));
+      this.serviceInfoHolder.publishServiceInfoUpdate(snapshot);
+    }
+  }
+
   public @NonNull Collection<ServiceInfoSnapshot> cachedServices() {
     return this.cachedServices.values();
   }
@@ -312,6 +322,7 @@ public boolean isOnAnyFallbackInstance(
       .filter(service -> !profile.hasTried(service.name()))
       // check if the service is marked as joinable
       .filter(service -> service.connected() && service.readProperty(BridgeDocProperties.IS_ONLINE))
+      .filter(service -> !BridgeServiceHelper.standbyService(service))
       // check if the player is not currently connected to that service
       .filter(service -> currentServerName == null || !service.name().equals(currentServerName))
       // find the service with the lowest player count known to use
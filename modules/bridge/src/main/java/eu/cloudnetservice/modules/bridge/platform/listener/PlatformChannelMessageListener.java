@@ -64,6 +64,14 @@ public void handleConfigurationChannelMessage(@NonNull ChannelMessageReceiveEven
     }
   }
 
+  @EventListener
+  public void handleStandbyPromoteChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
+    if (event.channel().equals(BridgeManagement.BRIDGE_CHANNEL_NAME)
+      && event.message().equals("promote_standby_service")) {
+      this.management.promoteStandbyService();
+    }
+  }
+
   @EventListener
   public void handlePlayerChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
     if (event.channel().equals(BridgeManagement.BRIDGE_PLAYER_CHANNEL_NAME)) {
@@ -91,8 +91,8 @@ public void handle(@NonNull ServerSideConnectionEvent.Join event, @First @NonNul
     this.serverPlatformHelper.sendChannelMessageLoginSuccess(
       player.uniqueId(),
       this.management.createPlayerInformation(player));
-    // update service info
-    this.executorService.schedule(() -> this.serviceInfoHolder.publishServiceInfoUpdate(), 50, TimeUnit.MILLISECONDS);
+    // update service info, the player is already in the online player list
+    this.serviceInfoHolder.publishServiceInfoUpdate();
   }
 
   @Listener
@@ -100,7 +100,8 @@ public void handle(@NonNull ServerSideConnectionEvent.Disconnect event, @First @
     this.serverPlatformHelper.sendChannelMessageDisconnected(
       player.uniqueId(),
       this.management.ownNetworkServiceInfo());
-    // update service info
+    // update service info once the player was removed from the online player list. Note that this delay adds up with
+    // the coalescing delay of the service info holder before the update is sent
     this.executorService.schedule(() -> this.serviceInfoHolder.publishServiceInfoUpdate(), 50, TimeUnit.MILLISECONDS);
   }
 }
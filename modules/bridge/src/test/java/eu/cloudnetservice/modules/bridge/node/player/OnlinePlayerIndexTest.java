@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceId;
+import eu.cloudnetservice.modules.bridge.player.CloudPlayer;
+import eu.cloudnetservice.modules.bridge.player.NetworkPlayerProxyInfo;
+import eu.cloudnetservice.modules.bridge.player.NetworkServiceInfo;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class OnlinePlayerIndexTest {
+
+  private static NetworkServiceInfo service(String task, ServiceEnvironmentType environment, String... groups) {
+    var serviceId = ServiceId.builder()
+      .taskName(task)
+      .taskServiceId(1)
+      .environment(environment)
+      .uniqueId(UUID.randomUUID())
+      .build();
+    return new NetworkServiceInfo(Set.of(groups), serviceId);
+  }
+
+  private static CloudPlayer player(String name, NetworkServiceInfo proxy, NetworkServiceInfo server) {
+    var address = new HostAndPort("127.0.0.1", 25565);
+    var proxyInfo = new NetworkPlayerProxyInfo(UUID.randomUUID(), name, null, 47, address, address, true, proxy);
+    return new CloudPlayer(
+      proxyInfo,
+      proxy,
+      server,
+      null,
+      Document.newJsonDocument(),
+      name,
+      0,
+      0,
+      proxyInfo,
+      Document.newJsonDocument());
+  }
+
+  @Test
+  void testIndexLookups() {
+    var index = new OnlinePlayerIndex();
+    var proxy = service("Proxy", ServiceEnvironmentType.VELOCITY, "Global");
+    var lobby = service("Lobby", ServiceEnvironmentType.MINECRAFT_SERVER, "Global", "Lobby");
+
+    var alice = player("Alice", proxy, lobby);
+    var bob = player("Bob", proxy, lobby);
+    index.index(alice);
+    index.index(bob);
+
+    // name lookups are case-insensitive
+    Assertions.assertSame(alice, index.firstPlayerByName("alice"));
+    Assertions.assertEquals(1, index.playersByName("BOB").size());
+    Assertions.assertNull(index.firstPlayerByName("Carol"));
+
+    // the connected service is used for the task, group and environment lookups
+    Assertions.assertEquals(2, index.playersByTask("Lobby").size());
+    Assertions.assertTrue(index.playersByTask("Proxy").isEmpty());
+    Assertions.assertEquals(2, index.playersByGroup("Lobby").size());
+    Assertions.assertEquals(2, index.playersByEnvironment(ServiceEnvironmentType.MINECRAFT_SERVER).size());
+  }
+
+  @Test
+  void testReindexMovesPlayer() {
+    var index = new OnlinePlayerIndex();
+    var proxy = service("Proxy", ServiceEnvironmentType.VELOCITY, "Global");
+    var lobby = service("Lobby", ServiceEnvironmentType.MINECRAFT_SERVER, "Lobby");
+    var game = service("Game", ServiceEnvironmentType.MINECRAFT_SERVER, "Game");
+
+    var alice = player("Alice", proxy, lobby);
+    index.index(alice);
+    alice.connectedService(game);
+    index.index(alice);
+
+    Assertions.assertTrue(index.playersByTask("Lobby").isEmpty());
+    Assertions.assertTrue(index.playersByGroup("Lobby").isEmpty());
+    Assertions.assertIterableEquals(Set.of(alice), index.playersByTask("Game"));
+    Assertions.assertIterableEquals(Set.of(alice), index.playersByGroup("Game"));
+    Assertions.assertEquals(1, index.playersByName("Alice").size());
+  }
+
+  @Test
+  void testRemoval() {
+    var index = new OnlinePlayerIndex();
+    var proxy = service("Proxy", ServiceEnvironmentType.VELOCITY, "Global");
+
+    // a player without a connected service is indexed using the login service
+    var alice = player("Alice", proxy, proxy);
+    alice.connectedService(null);
+    index.index(alice);
+    Assertions.assertEquals(1, index.playersByTask("Proxy").size());
+
+    index.remove(alice.uniqueId());
+    Assertions.assertNull(index.firstPlayerByName("Alice"));
+    Assertions.assertTrue(index.playersByTask("Proxy").isEmpty());
+    Assertions.assertTrue(index.playersByGroup("Global").isEmpty());
+    Assertions.assertTrue(index.playersByEnvironment(ServiceEnvironmentType.VELOCITY).isEmpty());
+  }
+
+  @Test
+  void testConcurrentIndexAndRemoveKeepsPlayers() {
+    var index = new OnlinePlayerIndex();
+    var proxy = service("Proxy", ServiceEnvironmentType.VELOCITY, "Global");
+    var lobby = service("Lobby", ServiceEnvironmentType.MINECRAFT_SERVER, "Global");
+
+    var executor = Executors.newFixedThreadPool(8);
+    var futures = new CompletableFuture<?>[8];
+    for (var thread = 0; thread < futures.length; thread++) {
+      var kept = thread % 2 == 0;
+      futures[thread] = CompletableFuture.runAsync(() -> {
+        // half of the threads keep their players, the others constantly empty the shared buckets
+        for (var i = 0; i < 1_000; i++) {
+          var player = player("Player", proxy, lobby);
+          index.index(player);
+          if (!kept) {
+            index.remove(player.uniqueId());
+          }
+        }
+      }, executor);
+    }
+
+    CompletableFuture.allOf(futures).join();
+    executor.shutdown();
+
+    Assertions.assertEquals(4_000, index.playersByTask("Lobby").size());
+    Assertions.assertEquals(4_000, index.playersByName("Player").size());
+    Assertions.assertEquals(4_000, index.playersByGroup("Global").size());
+  }
+}
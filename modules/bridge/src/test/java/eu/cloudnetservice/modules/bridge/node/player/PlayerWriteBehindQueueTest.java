@@ -0,0 +1,288 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.modules.bridge.player.CloudOfflinePlayer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+
+class PlayerWriteBehindQueueTest {
+
+  @Test
+  @Timeout(30)
+  void testWritesOfOnePlayerAreOrdered() throws Exception {
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var queue = new PlayerWriteBehindQueue(executor);
+      var uniqueId = UUID.randomUUID();
+
+      var executed = new CopyOnWriteArrayList<Integer>();
+      var futures = new ArrayList<CompletableFuture<Void>>();
+      for (var i = 0; i < 1_000; i++) {
+        var index = i;
+        futures.add(queue.enqueue(uniqueId, null, () -> executed.add(index)));
+      }
+
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+      for (var i = 0; i < executed.size(); i++) {
+        Assertions.assertEquals(i, executed.get(i));
+      }
+      Assertions.assertEquals(1_000, executed.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Timeout(30)
+  void testFailingWriteDoesNotBreakChain() throws Exception {
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      var queue = new PlayerWriteBehindQueue(executor);
+      var uniqueId = UUID.randomUUID();
+      var executed = new AtomicInteger();
+
+      queue.enqueue(uniqueId, null, () -> {
+        throw new IllegalStateException("expected");
+      });
+      queue.enqueue(uniqueId, null, executed::incrementAndGet).get(10, TimeUnit.SECONDS);
+
+      Assertions.assertEquals(1, executed.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Timeout(30)
+  void testWritesScaleWithThreads() throws Exception {
+    // every write blocks until all writes are running at the same time, which is only
+    // possible if the writes of different players are not serialized behind each other
+    var players = 16;
+    var executor = Executors.newFixedThreadPool(players);
+    try {
+      var queue = new PlayerWriteBehindQueue(executor);
+      var allRunning = new CountDownLatch(players);
+      var timedOut = new AtomicInteger();
+
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (var i = 0; i < players; i++) {
+        futures.add(queue.enqueue(UUID.randomUUID(), null, () -> {
+          allRunning.countDown();
+          try {
+            if (!allRunning.await(10, TimeUnit.SECONDS)) {
+              timedOut.incrementAndGet();
+            }
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+          }
+        }));
+      }
+
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(20, TimeUnit.SECONDS);
+      Assertions.assertEquals(0, timedOut.get());
+      Assertions.assertEquals(0, allRunning.getCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Timeout(30)
+  void testAwaitPendingWrites() {
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      var queue = new PlayerWriteBehindQueue(executor);
+      var uniqueId = UUID.randomUUID();
+      var executed = new AtomicInteger();
+
+      queue.enqueue(uniqueId, null, () -> {
+        try {
+          Thread.sleep(200);
+          executed.incrementAndGet();
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      queue.awaitPendingWrites(uniqueId);
+
+      Assertions.assertEquals(1, executed.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Timeout(60)
+  void testConcurrentWritesToSharedAndDistinctPlayers() throws Exception {
+    var producers = 8;
+    var writesPerProducer = 500;
+    var executor = Executors.newFixedThreadPool(producers);
+    var producerExecutor = Executors.newFixedThreadPool(producers);
+    try {
+      var queue = new PlayerWriteBehindQueue(executor);
+      var sharedPlayer = UUID.randomUUID();
+
+      // tracks the writes of the shared player: they must never overlap and must be in order per producer
+      var sharedInFlight = new AtomicInteger();
+      var sharedOverlaps = new AtomicInteger();
+      var sharedWrites = new CopyOnWriteArrayList<Long>();
+
+      // tracks the writes of the distinct players: at least two of them must have run at the same time
+      var distinctInFlight = new AtomicInteger();
+      var maxDistinctInFlight = new AtomicInteger();
+      var distinctWrites = new AtomicLong();
+
+      var producerFutures = new ArrayList<CompletableFuture<Void>>();
+      var writeFutures = new CopyOnWriteArrayList<CompletableFuture<Void>>();
+      for (var producer = 0; producer < producers; producer++) {
+        var producerId = producer;
+        var ownPlayer = UUID.randomUUID();
+        producerFutures.add(CompletableFuture.runAsync(() -> {
+          for (var i = 0; i < writesPerProducer; i++) {
+            var sequence = ((long) producerId << 32) | i;
+            writeFutures.add(queue.enqueue(sharedPlayer, null, () -> {
+              if (sharedInFlight.incrementAndGet() != 1) {
+                sharedOverlaps.incrementAndGet();
+              }
+              sharedWrites.add(sequence);
+              sharedInFlight.decrementAndGet();
+            }));
+            writeFutures.add(queue.enqueue(ownPlayer, null, () -> {
+              var running = distinctInFlight.incrementAndGet();
+              maxDistinctInFlight.accumulateAndGet(running, Math::max);
+              try {
+                Thread.sleep(0, 100_000);
+              } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+              }
+              distinctWrites.incrementAndGet();
+              distinctInFlight.decrementAndGet();
+            }));
+          }
+        }, producerExecutor));
+      }
+
+      CompletableFuture.allOf(producerFutures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+      CompletableFuture.allOf(writeFutures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+      Assertions.assertEquals(0, sharedOverlaps.get());
+      Assertions.assertEquals(producers * writesPerProducer, sharedWrites.size());
+      Assertions.assertEquals(producers * writesPerProducer, distinctWrites.get());
+      Assertions.assertTrue(maxDistinctInFlight.get() > 1);
+
+      // the writes of each producer to the shared player must be executed in the order they were enqueued
+      var lastSequence = new long[producers];
+      Arrays.fill(lastSequence, -1);
+      for (var sequence : sharedWrites) {
+        var producerId = (int) (sequence >>> 32);
+        var index = (int) (sequence & 0xFFFFFFFFL);
+        Assertions.assertEquals(lastSequence[producerId] + 1, index);
+        lastSequence[producerId] = index;
+      }
+    } finally {
+      producerExecutor.shutdownNow();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Timeout(30)
+  void testPendingWriteIsVisibleUntilCompleted() throws Exception {
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      var queue = new PlayerWriteBehindQueue(executor);
+      var uniqueId = UUID.randomUUID();
+      var release = new CountDownLatch(1);
+      var player = Mockito.mock(CloudOfflinePlayer.class);
+
+      var future = queue.enqueue(uniqueId, player, () -> {
+        try {
+          release.await();
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      });
+
+      var pendingWrite = queue.pendingWrite(uniqueId);
+      Assertions.assertNotNull(pendingWrite);
+      Assertions.assertSame(player, pendingWrite.player());
+
+      release.countDown();
+      future.get(10, TimeUnit.SECONDS);
+
+      // the entry is removed by a completion callback which might run after the waiter woke up
+      queue.flush(10, TimeUnit.SECONDS);
+      Assertions.assertNull(queue.pendingWrite(uniqueId));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Timeout(30)
+  void testCloseFlushesPendingWrites() throws Exception {
+    var executor = Executors.newFixedThreadPool(4);
+    var queue = new PlayerWriteBehindQueue(executor);
+    var executed = new AtomicInteger();
+
+    for (var i = 0; i < 100; i++) {
+      queue.enqueue(UUID.randomUUID(), null, () -> {
+        try {
+          Thread.sleep(5);
+          executed.incrementAndGet();
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+    queue.close();
+
+    Assertions.assertEquals(100, executed.get());
+    Assertions.assertEquals(0, queue.pendingWriteCount());
+    Assertions.assertTrue(executor.isShutdown());
+
+    // writes after the close are still executed, but in the calling thread
+    queue.enqueue(UUID.randomUUID(), null, executed::incrementAndGet).get(10, TimeUnit.SECONDS);
+    Assertions.assertEquals(101, executed.get());
+
+    // a write running in the calling thread must be able to enqueue another write of the same player
+    var uniqueId = UUID.randomUUID();
+    var nested = new CompletableFuture<Void>();
+    queue.enqueue(uniqueId, null, () -> {
+      executed.incrementAndGet();
+      queue.enqueue(uniqueId, null, executed::incrementAndGet).whenComplete(($, exception) -> nested.complete(null));
+    }).get(10, TimeUnit.SECONDS);
+    nested.get(10, TimeUnit.SECONDS);
+
+    Assertions.assertEquals(103, executed.get());
+    Assertions.assertEquals(0, queue.pendingWriteCount());
+  }
+}
@@ -17,9 +17,12 @@
 package eu.cloudnetservice.modules.mongodb;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
 import eu.cloudnetservice.driver.document.Document;
@@ -29,20 +32,27 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
 import org.bson.conversions.Bson;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 public class MongoDBDatabase extends AbstractDatabase {
 
   protected static final String KEY_NAME = "Key";
   protected static final String VALUE_NAME = "Value";
 
+  protected static final String VALUE_INDEX_PREFIX = "Index_";
+
   protected static final IndexOptions UNIQUE_KEY_OPTIONS = new IndexOptions().unique(true);
   protected static final UpdateOptions INSERT_OR_REPLACE_OPTIONS = new UpdateOptions().upsert(true);
+  protected static final BulkWriteOptions UNORDERED_BULK_WRITE_OPTIONS = new BulkWriteOptions().ordered(false);
 
   protected final MongoCollection<org.bson.Document> collection;
 
@@ -65,14 +75,30 @@ public boolean insert(@NonNull String key, @NonNull Document document) {
   protected boolean insertOrUpdate(String key, Document document) {
     var result = this.collection.updateOne(
       Filters.eq(KEY_NAME, key),
-      Updates.combine(
-        Updates.setOnInsert(new org.bson.Document(KEY_NAME, key)),
-        Updates.set(VALUE_NAME, org.bson.Document.parse(this.serializeDocumentToJsonString(document)))
-      ),
+      this.upsertDocument(key, document),
       INSERT_OR_REPLACE_OPTIONS);
     return result.getUpsertedId() != null || result.getMatchedCount() > 0;
   }
 
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> documents) {
+    if (documents.isEmpty()) {
+      return true;
+    }
+
+    // send all upserts to the database in one bulk write
+    List<UpdateOneModel<org.bson.Document>> updates = new ArrayList<>(documents.size());
+    for (var entry : documents.entrySet()) {
+      updates.add(new UpdateOneModel<>(
+        Filters.eq(KEY_NAME, entry.getKey()),
+        this.upsertDocument(entry.getKey(), entry.getValue()),
+        INSERT_OR_REPLACE_OPTIONS));
+    }
+
+    var result = this.collection.bulkWrite(updates, UNORDERED_BULK_WRITE_OPTIONS);
+    return result.getUpserts().size() + result.getMatchedCount() == documents.size();
+  }
+
   @Override
   public boolean contains(@NonNull String key) {
     return this.collection.find(Filters.eq(KEY_NAME, key)).first() != null;
@@ -83,6 +109,11 @@ public boolean delete(@NonNull String key) {
     return this.collection.deleteOne(Filters.eq(KEY_NAME, key)).getDeletedCount() > 0;
   }
 
+  @Override
+  public long deleteAll(@NonNull Collection<String> keys) {
+    return keys.isEmpty() ? 0 : this.collection.deleteMany(Filters.in(KEY_NAME, keys)).getDeletedCount();
+  }
+
   @Override
   public @Nullable Document get(@NonNull String key) {
     var document = this.collection.find(Filters.eq(KEY_NAME, key)).first();
@@ -206,6 +237,48 @@ public boolean synced() {
     return result.isEmpty() ? null : result;
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String afterKey, int chunkSize) {
+    // continue at the given key using the unique key index instead of skipping over all previous documents
+    var filter = afterKey == null ? Filters.empty() : Filters.gt(KEY_NAME, afterKey);
+    Map<String, Document> result = new LinkedHashMap<>();
+    try (var cursor = this.collection.find(filter).sort(Sorts.ascending(KEY_NAME)).limit(chunkSize).iterator()) {
+      while (cursor.hasNext()) {
+        var document = cursor.next();
+        var parsedDocument = this.parseDocumentValue(document);
+        if (parsedDocument != null) {
+          var entryKey = document.getString(KEY_NAME);
+          result.put(entryKey, parsedDocument);
+        }
+      }
+    }
+
+    return result.isEmpty() ? null : result;
+  }
+
+  @Override
+  public void createIndex(@NonNull String fieldName) {
+    validateIndexFieldName(fieldName);
+
+    // the find methods are filtering on the value fields already, mongodb uses the index for them on its own
+    this.collection.createIndex(
+      Indexes.ascending(VALUE_NAME + '.' + fieldName),
+      new IndexOptions().name(VALUE_INDEX_PREFIX + fieldName));
+  }
+
+  @Override
+  public @NonNull @Unmodifiable Set<String> indexedFields() {
+    Set<String> indexedFields = new HashSet<>();
+    for (var index : this.collection.listIndexes()) {
+      var indexName = index.getString("name");
+      if (indexName != null && indexName.startsWith(VALUE_INDEX_PREFIX)) {
+        indexedFields.add(indexName.substring(VALUE_INDEX_PREFIX.length()));
+      }
+    }
+
+    return Set.copyOf(indexedFields);
+  }
+
   @Override
   public void close() {
   }
@@ -214,6 +287,12 @@ public void close() {
     return Filters.eq(VALUE_NAME + '.' + fieldName, value);
   }
 
+  protected @NonNull Bson upsertDocument(@NonNull String key, @NonNull Document document) {
+    return Updates.combine(
+      Updates.setOnInsert(new org.bson.Document(KEY_NAME, key)),
+      Updates.set(VALUE_NAME, org.bson.Document.parse(this.serializeDocumentToJsonString(document))));
+  }
+
   protected @Nullable Document parseDocumentValue(@Nullable org.bson.Document in) {
     if (in == null) {
       return null;
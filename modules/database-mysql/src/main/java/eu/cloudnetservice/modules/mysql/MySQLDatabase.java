@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.modules.mysql;
 
+import com.google.common.collect.Iterables;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.sql.SQLDatabase;
@@ -23,20 +24,45 @@
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 public final class MySQLDatabase extends SQLDatabase {
 
+  private static final int MAX_KEYS_PER_DELETE = 500;
+  private static final int MAX_INDEX_VALUE_LENGTH = 512;
+  private static final String INDEX_COLUMN_PREFIX = "Index_";
+
+  private final String getQuery;
+  private final String insertQuery;
+  private final String deleteQuery;
+  private final String containsQuery;
+  private final Set<String> indexedFields = ConcurrentHashMap.newKeySet();
+
   public MySQLDatabase(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
     super(provider, name);
 
+    // the queries of the frequently called methods only need to be formatted once
+    this.getQuery = String.format("SELECT %s FROM `%s` WHERE %s = ?;", TABLE_COLUMN_VAL, name, TABLE_COLUMN_KEY);
+    this.insertQuery = String.format(
+      "INSERT INTO `%s` (%s, %s) VALUES (?, ?) ON DUPLICATE KEY UPDATE %s = ?;",
+      name,
+      TABLE_COLUMN_KEY,
+      TABLE_COLUMN_VAL,
+      TABLE_COLUMN_VAL);
+    this.deleteQuery = String.format("DELETE FROM `%s` WHERE `%s` = ?;", name, TABLE_COLUMN_KEY);
+    this.containsQuery = String.format("SELECT %s FROM `%s` WHERE %s = ?;", TABLE_COLUMN_KEY, name, TABLE_COLUMN_KEY);
+
     // create the table
     provider.executeUpdate(String.format(
       "CREATE TABLE IF NOT EXISTS `%s` (%s VARCHAR(512) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci PRIMARY KEY, %s JSON NOT NULL);",
@@ -49,41 +75,60 @@ public MySQLDatabase(@NonNull SQLDatabaseProvider provider, @NonNull String name
       name,
       TABLE_COLUMN_KEY,
       TABLE_COLUMN_VAL));
+
+    this.loadIndexedFields();
   }
 
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
     var serializedDocument = this.serializeDocumentToJsonString(document);
-    return this.databaseProvider.executeUpdate(
-      String.format(
-        "INSERT INTO `%s` (%s, %s) VALUES (?, ?) ON DUPLICATE KEY UPDATE %s = ?;",
-        this.name,
-        TABLE_COLUMN_KEY,
-        TABLE_COLUMN_VAL,
-        TABLE_COLUMN_VAL),
-      key, serializedDocument, serializedDocument) > 0;
+    return this.databaseProvider.executeUpdate(this.insertQuery, key, serializedDocument, serializedDocument) > 0;
+  }
+
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> documents) {
+    if (documents.isEmpty()) {
+      return true;
+    }
+
+    List<Object[]> parameters = new ArrayList<>(documents.size());
+    for (var entry : documents.entrySet()) {
+      var serializedDocument = this.serializeDocumentToJsonString(entry.getValue());
+      parameters.add(new Object[]{entry.getKey(), serializedDocument, serializedDocument});
+    }
+
+    return this.databaseProvider.executeBatchUpdate(this.insertQuery, parameters);
   }
 
   @Override
   public boolean contains(@NonNull String key) {
-    return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s` WHERE %s = ?;", TABLE_COLUMN_KEY, this.name, TABLE_COLUMN_KEY),
-      ResultSet::next,
-      false,
-      key);
+    return this.databaseProvider.executeQuery(this.containsQuery, ResultSet::next, false, key);
   }
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.databaseProvider.executeUpdate(
-      String.format("DELETE FROM %s WHERE `%s` = ?;", this.name, TABLE_COLUMN_KEY),
-      key) > 0;
+    return this.databaseProvider.executeUpdate(this.deleteQuery, key) > 0;
+  }
+
+  @Override
+  public long deleteAll(@NonNull Collection<String> keys) {
+    long deleted = 0;
+    for (var partition : Iterables.partition(keys, MAX_KEYS_PER_DELETE)) {
+      var query = String.format(
+        "DELETE FROM `%s` WHERE `%s` IN (%s);",
+        this.name,
+        TABLE_COLUMN_KEY,
+        String.join(", ", Collections.nCopies(partition.size(), "?")));
+      deleted += Math.max(0, this.databaseProvider.executeUpdate(query, partition.toArray()));
+    }
+
+    return deleted;
   }
 
   @Override
   public @Nullable Document get(@NonNull String key) {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s` WHERE %s = ?;", TABLE_COLUMN_VAL, this.name, TABLE_COLUMN_KEY),
+      this.getQuery,
       resultSet -> {
         if (resultSet.next()) {
           return DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
@@ -95,6 +140,10 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public @NonNull Collection<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
+    if (this.indexUsable(fieldName, fieldValue)) {
+      return this.find(Map.of(fieldName, fieldValue));
+    }
+
     return this.databaseProvider.executeQuery(
       String.format(
         "SELECT %s FROM `%s` WHERE JSON_SEARCH(%s, 'one', '%s', NULL, '$.%s') IS NOT NULL;",
@@ -121,11 +170,21 @@ public boolean delete(@NonNull String key) {
       .append(this.name)
       .append('`');
 
+    Collection<Object> parameters = new ArrayList<>();
     if (!filters.isEmpty()) {
       stringBuilder.append(" WHERE ");
       var iterator = filters.entrySet().iterator();
       while (iterator.hasNext()) {
         var entry = iterator.next();
+        if (this.indexUsable(entry.getKey(), entry.getValue())) {
+          // use the generated index column of the field instead of searching through the document
+          stringBuilder
+            .append('`').append(INDEX_COLUMN_PREFIX).append(entry.getKey()).append("` = ?")
+            .append(iterator.hasNext() ? " AND " : ';');
+          parameters.add(entry.getValue());
+          continue;
+        }
+
         stringBuilder
           .append("JSON_SEARCH(")
           .append(TABLE_COLUMN_VAL)
@@ -145,7 +204,7 @@ public boolean delete(@NonNull String key) {
       }
 
       return results;
-    }, List.of());
+    }, List.of(), parameters.toArray());
   }
 
   @Override
@@ -239,7 +298,85 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
       }, null, chunkSize, beginIndex);
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String afterKey, int chunkSize) {
+    // continue at the given key using the primary key index instead of skipping over all previous rows
+    var query = afterKey == null
+      ? String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ?;", this.name, TABLE_COLUMN_KEY)
+      : String.format(
+        "SELECT * FROM `%s` WHERE `%s` > ? ORDER BY `%s` LIMIT ?;",
+        this.name,
+        TABLE_COLUMN_KEY,
+        TABLE_COLUMN_KEY);
+    var parameters = afterKey == null ? new Object[]{chunkSize} : new Object[]{afterKey, chunkSize};
+
+    return this.databaseProvider.executeQuery(
+      query,
+      resultSet -> {
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          var key = resultSet.getString(TABLE_COLUMN_KEY);
+          var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+          result.put(key, document);
+        }
+
+        return result.isEmpty() ? null : result;
+      }, null, parameters);
+  }
+
+  @Override
+  public synchronized void createIndex(@NonNull String fieldName) {
+    validateIndexFieldName(fieldName);
+    if (this.indexedFields.contains(fieldName)) {
+      return;
+    }
+
+    // the column is generated from the document, mysql fills and maintains it (and the index on it) on its own
+    var columnName = INDEX_COLUMN_PREFIX + fieldName;
+    this.databaseProvider.executeUpdate(String.format(
+      "ALTER TABLE `%s` ADD COLUMN `%s` VARCHAR(%d) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin "
+        + "AS (LEFT(JSON_UNQUOTE(JSON_EXTRACT(%s, '$.%s')), %d)) VIRTUAL, ADD INDEX `%s` (`%s`);",
+      this.name,
+      columnName,
+      MAX_INDEX_VALUE_LENGTH,
+      TABLE_COLUMN_VAL,
+      fieldName,
+      MAX_INDEX_VALUE_LENGTH,
+      columnName,
+      columnName));
+
+    // reload the index columns, the column might have been added by another node in the meantime
+    this.loadIndexedFields();
+  }
+
+  @Override
+  public @NonNull @Unmodifiable Set<String> indexedFields() {
+    return Set.copyOf(this.indexedFields);
+  }
+
   @Override
   public void close() {
   }
+
+  private void loadIndexedFields() {
+    this.databaseProvider.executeQuery(
+      "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?;",
+      resultSet -> {
+        while (resultSet.next()) {
+          var columnName = resultSet.getString(1);
+          if (columnName.startsWith(INDEX_COLUMN_PREFIX)) {
+            this.indexedFields.add(columnName.substring(INDEX_COLUMN_PREFIX.length()));
+          }
+        }
+
+        return null;
+      }, null, this.name);
+  }
+
+  private boolean indexUsable(@NonNull String fieldName, @Nullable String fieldValue) {
+    // longer values are truncated in the index column and can not be looked up using it
+    return fieldValue != null
+      && fieldValue.length() < MAX_INDEX_VALUE_LENGTH
+      && this.indexedFields.contains(fieldName);
+  }
 }
@@ -143,6 +143,28 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     }
   }
 
+  @Override
+  public boolean executeBatchUpdate(@NonNull String query, @NonNull Collection<Object[]> parameters) {
+    try (var con = this.connection(); var statement = con.prepareStatement(query)) {
+      // write all parameters of each statement into the batch
+      for (var objects : parameters) {
+        for (var i = 0; i < objects.length; i++) {
+          statement.setString(i + 1, Objects.toString(objects[i], null));
+        }
+        statement.addBatch();
+      }
+
+      // execute the whole batch in a single transaction, the connection pool resets the auto commit state
+      con.setAutoCommit(false);
+      statement.executeBatch();
+      con.commit();
+      return true;
+    } catch (SQLException exception) {
+      LOGGER.severe("Exception while executing database batch update", exception);
+      return false;
+    }
+  }
+
   @Override
   public <T> @UnknownNullability T executeQuery(
     @NonNull String query,
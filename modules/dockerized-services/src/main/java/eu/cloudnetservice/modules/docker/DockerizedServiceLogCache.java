@@ -21,11 +21,15 @@
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
 import eu.cloudnetservice.node.service.defaults.log.AbstractServiceLogCache;
-import java.nio.charset.StandardCharsets;
+import eu.cloudnetservice.node.service.defaults.log.LogLineFramer;
 import lombok.NonNull;
 
 public class DockerizedServiceLogCache extends AbstractServiceLogCache {
 
+  // frames are not aligned to lines, keep the partial lines of each stream
+  private final LogLineFramer outputFramer = new LogLineFramer(line -> this.handleItem(line, false));
+  private final LogLineFramer errorFramer = new LogLineFramer(line -> this.handleItem(line, true));
+
   public DockerizedServiceLogCache(@NonNull Configuration configuration, @NonNull CloudService service) {
     super(configuration, service);
   }
@@ -36,23 +40,19 @@ public DockerizedServiceLogCache(@NonNull Configuration configuration, @NonNull
   }
 
   public void handle(@NonNull Frame frame) {
+    var payload = frame.getPayload();
     switch (frame.getStreamType()) {
-      case STDERR -> this.handleItem(new String(frame.getPayload(), StandardCharsets.UTF_8), true);
-      case STDOUT -> this.handleItem(new String(frame.getPayload(), StandardCharsets.UTF_8), false);
+      case STDERR -> this.feed(this.errorFramer, payload);
+      case STDOUT -> this.feed(this.outputFramer, payload);
       default -> {
       }
     }
   }
 
-  @Override
-  protected void handleItem(@NonNull String content, boolean comesFromErrorStream) {
-    if (content.contains("\n") || content.contains("\r")) {
-      for (var input : content.split("\r")) {
-        for (var text : input.split("\n")) {
-          if (!text.trim().isEmpty()) {
-            super.handleItem(text, comesFromErrorStream);
-          }
-        }
+  private void feed(@NonNull LogLineFramer framer, byte[] payload) {
+    if (payload != null) {
+      synchronized (framer) {
+        framer.feed(payload, 0, payload.length);
       }
     }
   }
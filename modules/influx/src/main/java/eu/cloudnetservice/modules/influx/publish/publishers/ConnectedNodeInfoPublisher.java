@@ -47,7 +47,7 @@ public record ConnectedNodeInfoPublisher(@NonNull NodeServerProvider nodeServerP
       .addField("ServiceReservedMemory", snapshot.reservedMemory())
       .addField("ServiceCount", snapshot.currentServicesCount())
       .addField("UsedCpu", snapshot.processSnapshot().systemCpuUsage())
-      .addField("Threads", snapshot.processSnapshot().threads().size())
+      .addField("Threads", snapshot.processSnapshot().threadCount())
       .addField("MaxMemory", snapshot.processSnapshot().maxHeapMemory())
       .addField("UsedMemory", snapshot.processSnapshot().heapUsageMemory())
       .addField("LoadedClassCount", snapshot.processSnapshot().currentLoadedClassCount());
@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.database.DatabaseProvider;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.network.http.HttpContext;
+import eu.cloudnetservice.driver.network.http.HttpExecutionMode;
 import eu.cloudnetservice.driver.network.http.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.driver.network.http.annotation.HttpRequestHandler;
 import eu.cloudnetservice.driver.network.http.annotation.RequestBody;
@@ -50,7 +51,7 @@ public V2HttpHandlerDatabase(@NonNull Configuration config, @NonNull DatabasePro
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/database")
+  @HttpRequestHandler(paths = "/api/v2/database", executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleNamesRequest(@NonNull HttpContext context) {
     this.ok(context)
       .body(this.success().append("names", this.databaseProvider.databaseNames()).toString())
@@ -60,7 +61,7 @@ private void handleNamesRequest(@NonNull HttpContext context) {
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/database/{name}/clear")
+  @HttpRequestHandler(paths = "/api/v2/database/{name}/clear", executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleClearRequest(@NonNull HttpContext context, @NonNull @RequestPathParam("name") String name) {
     var database = this.databaseProvider.database(name);
     database.clear();
@@ -72,7 +73,7 @@ private void handleClearRequest(@NonNull HttpContext context, @NonNull @RequestP
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/database/{name}/contains")
+  @HttpRequestHandler(paths = "/api/v2/database/{name}/contains", executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleContainsRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("name") String name,
@@ -87,7 +88,7 @@ private void handleContainsRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/database/{name}/keys")
+  @HttpRequestHandler(paths = "/api/v2/database/{name}/keys", executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleKeysRequest(@NonNull HttpContext context, @NonNull @RequestPathParam("name") String name) {
     var database = this.databaseProvider.database(name);
     this.ok(context)
@@ -98,7 +99,7 @@ private void handleKeysRequest(@NonNull HttpContext context, @NonNull @RequestPa
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/database/{name}/count")
+  @HttpRequestHandler(paths = "/api/v2/database/{name}/count", executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleCountRequest(@NonNull HttpContext context, @NonNull @RequestPathParam("name") String name) {
     var database = this.databaseProvider.database(name);
     this.ok(context)
@@ -109,7 +110,10 @@ private void handleCountRequest(@NonNull HttpContext context, @NonNull @RequestP
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/database/{name}", methods = "POST")
+  @HttpRequestHandler(
+    paths = "/api/v2/database/{name}",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleInsertRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("name") String name,
@@ -134,7 +138,10 @@ private void handleInsertRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/database/{name}/get", methods = "POST")
+  @HttpRequestHandler(
+    paths = "/api/v2/database/{name}/get",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleGetRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("name") String name,
@@ -149,7 +156,10 @@ private void handleGetRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "api/v2/database/{name}/find", methods = "POST")
+  @HttpRequestHandler(
+    paths = "api/v2/database/{name}/find",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleFindRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("name") String name,
@@ -166,7 +176,10 @@ private void handleFindRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/database/{name}", methods = "DELETE")
+  @HttpRequestHandler(
+    paths = "/api/v2/database/{name}",
+    methods = "DELETE",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleDeleteRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("name") String name,
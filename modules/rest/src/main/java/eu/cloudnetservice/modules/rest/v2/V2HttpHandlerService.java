@@ -19,6 +19,7 @@
 import eu.cloudnetservice.common.util.StringUtil;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.network.http.HttpContext;
+import eu.cloudnetservice.driver.network.http.HttpExecutionMode;
 import eu.cloudnetservice.driver.network.http.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.driver.network.http.annotation.HttpRequestHandler;
 import eu.cloudnetservice.driver.network.http.annotation.Optional;
@@ -95,7 +96,10 @@ private void handleServiceRequest(@NonNull HttpContext context, @NonNull @Reques
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/service/{id}/lifecycle", methods = "PATCH")
+  @HttpRequestHandler(
+    paths = "/api/v2/service/{id}/lifecycle",
+    methods = "PATCH",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleServiceStateUpdateRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("id") String id,
@@ -121,7 +125,10 @@ private void handleServiceStateUpdateRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/service/{id}/command", methods = "POST")
+  @HttpRequestHandler(
+    paths = "/api/v2/service/{id}/command",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleServiceCommandRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("id") String id,
@@ -143,7 +150,7 @@ private void handleServiceCommandRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/service/{id}/include")
+  @HttpRequestHandler(paths = "/api/v2/service/{id}/include", executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleIncludeRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("id") String id,
@@ -168,7 +175,7 @@ private void handleIncludeRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/service/{id}/deployResources")
+  @HttpRequestHandler(paths = "/api/v2/service/{id}/deployResources", executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleDeployResourcesRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("id") String id,
@@ -220,7 +227,10 @@ private void handleLiveLogRequest(@NonNull HttpContext context, @NonNull @Reques
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/service/create", methods = "POST")
+  @HttpRequestHandler(
+    paths = "/api/v2/service/create",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleCreateRequest(@NonNull HttpContext context, @NonNull @RequestBody Document body) {
     // check for a provided service configuration
     var configuration = body.readObject("serviceConfiguration", ServiceConfiguration.class);
@@ -266,7 +276,10 @@ private void handleCreateRequest(@NonNull HttpContext context, @NonNull @Request
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/service/{id}/add", methods = "POST")
+  @HttpRequestHandler(
+    paths = "/api/v2/service/{id}/add",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleAddRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("id") String id,
@@ -343,7 +356,10 @@ private void handleAddRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/service/{id}", methods = "DELETE")
+  @HttpRequestHandler(
+    paths = "/api/v2/service/{id}",
+    methods = "DELETE",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleServiceDeleteRequest(@NonNull HttpContext context, @NonNull @RequestPathParam("id") String id) {
     this.handleWithServiceContext(context, id, service -> {
       service.provider().delete();
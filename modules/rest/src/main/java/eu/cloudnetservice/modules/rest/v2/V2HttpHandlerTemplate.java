@@ -20,6 +20,7 @@
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.network.http.HttpContext;
+import eu.cloudnetservice.driver.network.http.HttpExecutionMode;
 import eu.cloudnetservice.driver.network.http.HttpResponse;
 import eu.cloudnetservice.driver.network.http.HttpResponseCode;
 import eu.cloudnetservice.driver.network.http.annotation.FirstRequestQueryParam;
@@ -59,7 +60,9 @@ public V2HttpHandlerTemplate(@NonNull Configuration config, @NonNull ServiceVers
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/download")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/download",
+    executionMode = HttpExecutionMode.BOUNDED_POOL)
   private void handleDownloadRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -87,7 +90,9 @@ private void handleDownloadRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/file/download")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/file/download",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleFileDownloadRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -117,7 +122,9 @@ private void handleFileDownloadRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/file/info")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/file/info",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleFileInfoRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -144,7 +151,9 @@ private void handleFileInfoRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/file/exists")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/file/exists",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleFileExistsRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -163,7 +172,9 @@ private void handleFileExistsRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/directory/list")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/directory/list",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleFileListRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -183,7 +194,10 @@ private void handleFileListRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/create", methods = "PUT")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/create",
+    methods = "PUT",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleCreateRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -201,7 +215,10 @@ private void handleCreateRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/deploy", methods = "POST")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/deploy",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleDeployRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -220,7 +237,10 @@ private void handleDeployRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/file", methods = "DELETE")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/file",
+    methods = "DELETE",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleFileDeleteRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -239,7 +259,10 @@ private void handleFileDeleteRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}", methods = "DELETE")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}",
+    methods = "DELETE",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleTemplateDeleteRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -257,7 +280,10 @@ private void handleTemplateDeleteRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/install", methods = "POST")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/install",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleInstallationRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -311,7 +337,10 @@ private void handleInstallationRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/directory/create", methods = "POST")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/directory/create",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleDirectoryCreateRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -330,7 +359,10 @@ private void handleDirectoryCreateRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/file/create", methods = "POST")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/file/create",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleFileCreateRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -343,7 +375,10 @@ private void handleFileCreateRequest(
   }
 
   @BearerAuth
-  @HttpRequestHandler(paths = "/api/v2/template/{storage}/{prefix}/{name}/file/append", methods = "POST")
+  @HttpRequestHandler(
+    paths = "/api/v2/template/{storage}/{prefix}/{name}/file/append",
+    methods = "POST",
+    executionMode = HttpExecutionMode.VIRTUAL_THREAD)
   private void handleFileAppendRequest(
     @NonNull HttpContext context,
     @NonNull @RequestPathParam("storage") String storageName,
@@ -27,6 +27,8 @@
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceSnapshotSubscription;
+import eu.cloudnetservice.modules.bridge.BridgeServiceHelper;
 import eu.cloudnetservice.modules.bridge.WorldPosition;
 import eu.cloudnetservice.modules.signs.AbstractSignManagement;
 import eu.cloudnetservice.modules.signs.SharedChannelMessageListener;
@@ -37,10 +39,12 @@
 import eu.cloudnetservice.modules.signs.util.LayoutUtil;
 import eu.cloudnetservice.modules.signs.util.PriorityUtil;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceSnapshotSubscriptionHolder;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -50,6 +54,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
@@ -70,25 +75,29 @@
   protected final WrapperConfiguration wrapperConfig;
   protected final CloudServiceProvider serviceProvider;
   protected final ScheduledExecutorService executorService;
+  protected final ServiceSnapshotSubscriptionHolder subscriptionHolder;
 
   protected final Lock updatingLock = new ReentrantLock();
   protected final Map<WorldPosition, PlatformSign<P, C>> platformSigns = new ConcurrentHashMap<>();
   protected final Queue<ServiceInfoSnapshot> waitingAssignments = new ConcurrentLinkedQueue<>();
 
   protected int currentTick;
+  protected ServiceSnapshotSubscription snapshotSubscription;
 
   protected PlatformSignManagement(
     @NonNull EventManager eventManager,
     @NonNull Executor mainThreadExecutor,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull ScheduledExecutorService executorService
+    @NonNull ScheduledExecutorService executorService,
+    @NonNull ServiceSnapshotSubscriptionHolder subscriptionHolder
   ) {
     super(loadSignsConfiguration(wrapperConfig));
     this.mainThreadExecutor = mainThreadExecutor;
     this.wrapperConfig = wrapperConfig;
     this.serviceProvider = serviceProvider;
     this.executorService = executorService;
+    this.subscriptionHolder = subscriptionHolder;
     // get the signs for the current group
     var groups = wrapperConfig.serviceConfiguration().groups();
     for (var sign : this.signs(groups)) {
@@ -169,6 +178,7 @@ public void handleInternalSignCreate(@NonNull Sign sign) {
       // register the sign
       this.platformSigns.put(sign.location(), newSign);
       super.handleInternalSignCreate(sign);
+      this.updateSnapshotSubscription();
     }
   }
 
@@ -181,6 +191,7 @@ public void handleInternalSignRemove(@NonNull WorldPosition position) {
       }
 
       super.handleInternalSignRemove(position);
+      this.updateSnapshotSubscription();
     }
   }
 
@@ -257,7 +268,8 @@ public void initialize(@NonNull Map<SignLayoutsHolder, Set<PlatformSign<P, C>>>
       }, 0, 1000 / this.tps(), TimeUnit.MILLISECONDS);
       this.startKnockbackTask();
 
-      // load and register all services
+      // only receive the updates of the services targeted by the signs, then load and register all services
+      this.updateSnapshotSubscription();
       this.serviceProvider.servicesAsync().thenAccept(services -> {
         for (var service : services) {
           this.handleServiceAdd(service);
@@ -275,11 +287,34 @@ public void initialize(@NonNull Map<SignLayoutsHolder, Set<PlatformSign<P, C>>>
     return null;
   }
 
+  protected synchronized void updateSnapshotSubscription() {
+    // the signs only need the updates of the services in their target groups. The holder only applies the subscription
+    // if all consumers of the updates on this service registered one, other plugins might need all updates
+    var targetGroups = this.signs.values().stream().map(Sign::targetGroup).collect(Collectors.toSet());
+    var subscription = targetGroups.isEmpty()
+      ? null
+      : ServiceSnapshotSubscription.builder().groups(targetGroups).build();
+
+    var previousSubscription = this.snapshotSubscription;
+    if (!Objects.equals(previousSubscription, subscription)) {
+      this.snapshotSubscription = subscription;
+      // register the new subscription first, to not receive the updates of all services in between
+      if (subscription != null) {
+        this.subscriptionHolder.register(subscription);
+      }
+      if (previousSubscription != null) {
+        this.subscriptionHolder.unregister(previousSubscription);
+      }
+    }
+  }
+
   protected boolean shouldAssign(@NonNull ServiceInfoSnapshot snapshot) {
     var currentEnv = this.wrapperConfig.serviceConfiguration().serviceId().environment();
     var serviceEnv = snapshot.serviceId().environment();
 
-    return (currentEnv.readProperty(JAVA_SERVER) && serviceEnv.readProperty(JAVA_SERVER)
+    // standby services are assigned to a sign once they get promoted
+    return !BridgeServiceHelper.standbyService(snapshot)
+      && (currentEnv.readProperty(JAVA_SERVER) && serviceEnv.readProperty(JAVA_SERVER)
       || currentEnv.readProperty(PE_SERVER) && serviceEnv.readProperty(PE_SERVER));
   }
 
@@ -27,6 +27,7 @@
 import eu.cloudnetservice.modules.signs.platform.PlatformSign;
 import eu.cloudnetservice.modules.signs.platform.PlatformSignManagement;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceSnapshotSubscriptionHolder;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -59,7 +60,8 @@ protected BukkitSignManagement(
     @NonNull @Service PlayerManager playerManager,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
+    @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
+    @NonNull ServiceSnapshotSubscriptionHolder subscriptionHolder
   ) {
     super(eventManager, runnable -> {
       // check if we're already on main
@@ -68,7 +70,7 @@ protected BukkitSignManagement(
       } else {
         scheduler.runTask(plugin, runnable);
       }
-    }, wrapperConfig, serviceProvider, executorService);
+    }, wrapperConfig, serviceProvider, executorService, subscriptionHolder);
 
     this.plugin = plugin;
     this.scheduler = scheduler;
@@ -34,6 +34,7 @@
 import eu.cloudnetservice.modules.signs.platform.PlatformSign;
 import eu.cloudnetservice.modules.signs.platform.PlatformSignManagement;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceSnapshotSubscriptionHolder;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -61,7 +62,8 @@ protected NukkitSignManagement(
     @NonNull @Service PlayerManager playerManager,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
+    @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
+    @NonNull ServiceSnapshotSubscriptionHolder subscriptionHolder
   ) {
     super(
       eventManager,
@@ -74,7 +76,8 @@ protected NukkitSignManagement(
       },
       wrapperConfig,
       serviceProvider,
-      executorService);
+      executorService,
+      subscriptionHolder);
 
     this.plugin = plugin;
     this.server = server;
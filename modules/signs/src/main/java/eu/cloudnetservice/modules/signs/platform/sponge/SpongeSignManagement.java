@@ -26,6 +26,7 @@
 import eu.cloudnetservice.modules.signs.platform.PlatformSign;
 import eu.cloudnetservice.modules.signs.platform.PlatformSignManagement;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceSnapshotSubscriptionHolder;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -69,6 +70,7 @@ protected SpongeSignManagement(
     @NonNull CloudServiceProvider serviceProvider,
     @NonNull @Named("sync") Scheduler syncScheduler,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
+    @NonNull ServiceSnapshotSubscriptionHolder subscriptionHolder,
     @NonNull eu.cloudnetservice.driver.event.EventManager eventManager
   ) {
     super(eventManager, runnable -> {
@@ -78,7 +80,7 @@ protected SpongeSignManagement(
       } else {
         syncScheduler.submit(Task.builder().plugin(pluginContainer).execute(runnable).build());
       }
-    }, wrapperConfig, serviceProvider, executorService);
+    }, wrapperConfig, serviceProvider, executorService, subscriptionHolder);
 
     this.game = game;
     this.worldManager = worldManager;
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.modules.smart;
 
+import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.module.ModuleLifeCycle;
 import eu.cloudnetservice.driver.module.ModuleTask;
@@ -81,6 +82,16 @@ public void addMissingSmartConfigurationEntries(@NonNull ServiceTaskProvider tas
           .modifyProperties(properties -> properties.append("smartConfig", SmartServiceTaskConfig.builder().build()))
           .build();
         taskProvider.addServiceTask(newTask);
+      } else {
+        // add all options to the smart entry which were added after it was created
+        var smartEntry = task.propertyHolder().readDocument("smartConfig");
+        var defaults = Document.newJsonDocument().appendTree(SmartServiceTaskConfig.builder().build());
+        if (!smartEntry.keys().containsAll(defaults.keys())) {
+          var newTask = ServiceTask.builder(task)
+            .modifyProperties(properties -> properties.append("smartConfig", defaults.append(smartEntry)))
+            .build();
+          taskProvider.addServiceTask(newTask);
+        }
       }
     }
   }
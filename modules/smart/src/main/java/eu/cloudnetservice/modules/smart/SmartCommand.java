@@ -127,6 +127,21 @@ public void preparedServices(
         preparedServices));
   }
 
+  @CommandMethod("smart task <task> standbyServices <amount>")
+  public void standbyServices(
+    @NonNull CommandSource source,
+    @NonNull @Argument(value = "task", parserName = "smartTask") ServiceTask task,
+    @Argument("amount") @Range(min = "0") int standbyServices
+  ) {
+    this.updateSmart(task, config -> config.standbyServices(standbyServices));
+    source.sendMessage(
+      I18n.trans(
+        "command-tasks-set-property-success",
+        "standbyServices",
+        task.name(),
+        standbyServices));
+  }
+
   @CommandMethod("smart task <task> smartMinServiceCount <amount>")
   public void smartMinServiceCount(
     @NonNull CommandSource source,
@@ -241,6 +256,48 @@ public void percentOfPlayersForANewServiceByInstance(
       percent));
   }
 
+  @CommandMethod("smart task <task> predictiveScaling <enabled>")
+  public void predictiveScaling(
+    @NonNull CommandSource source,
+    @NonNull @Argument(value = "task", parserName = "smartTask") ServiceTask task,
+    @Argument("enabled") boolean enabled
+  ) {
+    this.updateSmart(task, config -> config.predictiveScaling(enabled));
+    source.sendMessage(I18n.trans(
+      "command-tasks-set-property-success",
+      "predictiveScaling",
+      task.name(),
+      enabled));
+  }
+
+  @CommandMethod("smart task <task> predictionHorizonInSeconds <seconds>")
+  public void predictionHorizonInSeconds(
+    @NonNull CommandSource source,
+    @NonNull @Argument(value = "task", parserName = "smartTask") ServiceTask task,
+    @Argument("seconds") @Range(min = "1") int seconds
+  ) {
+    this.updateSmart(task, config -> config.predictionHorizonInSeconds(seconds));
+    source.sendMessage(I18n.trans(
+      "command-tasks-set-property-success",
+      "predictionHorizonInSeconds",
+      task.name(),
+      seconds));
+  }
+
+  @CommandMethod("smart task <task> maxServicesStartedAtOnce <amount>")
+  public void maxServicesStartedAtOnce(
+    @NonNull CommandSource source,
+    @NonNull @Argument(value = "task", parserName = "smartTask") ServiceTask task,
+    @Argument("amount") @Range(min = "1") int amount
+  ) {
+    this.updateSmart(task, config -> config.maxServicesStartedAtOnce(amount));
+    source.sendMessage(I18n.trans(
+      "command-tasks-set-property-success",
+      "maxServicesStartedAtOnce",
+      task.name(),
+      amount));
+  }
+
   private void updateSmart(
     @NonNull ServiceTask serviceTask,
     @NonNull Function<SmartServiceTaskConfig.Builder, SmartServiceTaskConfig.Builder> modifier
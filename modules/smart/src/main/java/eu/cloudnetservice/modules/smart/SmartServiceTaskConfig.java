@@ -23,6 +23,7 @@ public record SmartServiceTaskConfig(
   int priority,
   int maxServices,
   int preparedServices,
+  int standbyServices,
   int smartMinServiceCount,
   boolean splitLogicallyOverNodes,
   boolean directTemplatesAndInclusionsSetup,
@@ -30,7 +31,10 @@ public record SmartServiceTaskConfig(
   int autoStopTimeByUnusedServiceInSeconds,
   int percentOfPlayersToCheckShouldStopTheService,
   int forAnewInstanceDelayTimeInSeconds,
-  int percentOfPlayersForANewServiceByInstance
+  int percentOfPlayersForANewServiceByInstance,
+  boolean predictiveScaling,
+  int predictionHorizonInSeconds,
+  int maxServicesStartedAtOnce
 ) implements Comparable<SmartServiceTaskConfig> {
 
   public static @NonNull Builder builder() {
@@ -44,6 +48,7 @@ public record SmartServiceTaskConfig(
 
       .maxServices(config.maxServices())
       .preparedServices(config.preparedServices())
+      .standbyServices(config.standbyServices())
       .smartMinServiceCount(config.smartMinServiceCount())
       .splitLogicallyOverNodes(config.splitLogicallyOverNodes())
 
@@ -54,7 +59,11 @@ public record SmartServiceTaskConfig(
       .percentOfPlayersToCheckShouldStop(config.percentOfPlayersToCheckShouldStopTheService())
 
       .forAnewInstanceDelayTimeInSeconds(config.forAnewInstanceDelayTimeInSeconds())
-      .percentOfPlayersForANewServiceByInstance(config.percentOfPlayersForANewServiceByInstance());
+      .percentOfPlayersForANewServiceByInstance(config.percentOfPlayersForANewServiceByInstance())
+
+      .predictiveScaling(config.predictiveScaling())
+      .predictionHorizonInSeconds(config.predictionHorizonInSeconds())
+      .maxServicesStartedAtOnce(config.maxServicesStartedAtOnce());
   }
 
   @Override
@@ -77,6 +86,7 @@ public static class Builder {
 
     private int maxServices = -1;
     private int preparedServices = 0;
+    private int standbyServices = 0;
     private int smartMinServiceCount = 0;
     private boolean splitLogicallyOverNodes = true;
 
@@ -89,6 +99,10 @@ public static class Builder {
     private int forAnewInstanceDelayTimeInSeconds = 300;
     private int percentOfPlayersForANewServiceByInstance = 100;
 
+    private boolean predictiveScaling = false;
+    private int predictionHorizonInSeconds = 60;
+    private int maxServicesStartedAtOnce = 3;
+
     public @NonNull Builder enabled(boolean enabled) {
       this.enabled = enabled;
       return this;
@@ -109,6 +123,11 @@ public static class Builder {
       return this;
     }
 
+    public @NonNull Builder standbyServices(int standbyServices) {
+      this.standbyServices = standbyServices;
+      return this;
+    }
+
     public @NonNull Builder smartMinServiceCount(int smartMinServiceCount) {
       this.smartMinServiceCount = smartMinServiceCount;
       return this;
@@ -149,12 +168,28 @@ public static class Builder {
       return this;
     }
 
+    public @NonNull Builder predictiveScaling(boolean predictiveScaling) {
+      this.predictiveScaling = predictiveScaling;
+      return this;
+    }
+
+    public @NonNull Builder predictionHorizonInSeconds(int predictionHorizonInSeconds) {
+      this.predictionHorizonInSeconds = predictionHorizonInSeconds;
+      return this;
+    }
+
+    public @NonNull Builder maxServicesStartedAtOnce(int maxServicesStartedAtOnce) {
+      this.maxServicesStartedAtOnce = maxServicesStartedAtOnce;
+      return this;
+    }
+
     public @NonNull SmartServiceTaskConfig build() {
       return new SmartServiceTaskConfig(
         this.enabled,
         this.priority,
         this.maxServices,
         this.preparedServices,
+        this.standbyServices,
         this.smartMinServiceCount,
         this.splitLogicallyOverNodes,
         this.directTemplatesAndInclusionsSetup,
@@ -162,7 +197,10 @@ public static class Builder {
         this.autoStopTimeByUnusedServiceInSeconds,
         this.percentOfPlayersToCheckShouldStopTheService,
         this.forAnewInstanceDelayTimeInSeconds,
-        this.percentOfPlayersForANewServiceByInstance);
+        this.percentOfPlayersForANewServiceByInstance,
+        this.predictiveScaling,
+        this.predictionHorizonInSeconds,
+        this.maxServicesStartedAtOnce);
     }
   }
 }
@@ -17,6 +17,8 @@
 package eu.cloudnetservice.modules.smart.listener;
 
 import eu.cloudnetservice.common.tuple.Tuple2;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.event.EventListener;
 import eu.cloudnetservice.driver.provider.CloudServiceFactory;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
@@ -26,8 +28,13 @@
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.driver.service.ServiceTask;
 import eu.cloudnetservice.modules.bridge.BridgeDocProperties;
+import eu.cloudnetservice.modules.bridge.BridgeManagement;
 import eu.cloudnetservice.modules.smart.CloudNetSmartModule;
 import eu.cloudnetservice.modules.smart.SmartServiceTaskConfig;
+import eu.cloudnetservice.modules.smart.scaling.PredictiveScaler;
+import eu.cloudnetservice.modules.smart.scaling.ReactiveScaler;
+import eu.cloudnetservice.modules.smart.scaling.StandbyPool;
+import eu.cloudnetservice.modules.smart.scaling.TaskLoad;
 import eu.cloudnetservice.modules.smart.util.SmartUtil;
 import eu.cloudnetservice.node.cluster.NodeServer;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
@@ -40,8 +47,9 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.NonNull;
@@ -56,8 +64,10 @@ public final class CloudNetTickListener {
   private final CloudServiceFactory serviceFactory;
   private final NodeServerProvider nodeServerProvider;
 
-  private final Map<String, Long> autoStartBlocks = new HashMap<>();
   private final Map<UUID, AtomicLong> autoStopTicks = new HashMap<>();
+  private final Map<String, ReactiveScaler> reactiveScalers = new HashMap<>();
+  private final Map<String, PredictiveScaler> predictiveScalers = new HashMap<>();
+  private final StandbyPool standbyPool = new StandbyPool();
 
   @Inject
   public CloudNetTickListener(
@@ -80,17 +90,34 @@ public void handleTick(@NonNull CloudNetTickServiceStartEvent event) {
   }
 
   private void handleSmartEntries() {
+    // forget about promoted services which are either stopped, no longer marked as standby service or timed out
+    this.standbyPool.expirePromotions(System.currentTimeMillis(), uniqueId -> {
+      var service = this.serviceManager.service(uniqueId);
+      return service != null && service.readProperty(BridgeDocProperties.STANDBY);
+    });
+
+    Set<String> smartTasks = new HashSet<>();
+    Set<String> predictiveTasks = new HashSet<>();
     this.taskProvider.serviceTasks().forEach(task -> {
       var config = this.module.smartConfig(task);
       if (config != null && config.enabled()) {
-        // get all services of the task
-        var services = this.serviceManager.servicesByTask(task.name());
+        smartTasks.add(task.name());
+        if (config.predictiveScaling()) {
+          predictiveTasks.add(task.name());
+        }
+        // get all services of the task, split into the standby and the normal services
+        var services = this.serviceManager.servicesByTask(task.name()).stream()
+          .collect(Collectors.partitioningBy(this::standbyService, Collectors.toSet()));
+        var standbyServices = services.get(true).stream()
+          .filter(service -> service.lifeCycle() == ServiceLifeCycle.PREPARED
+            || service.lifeCycle() == ServiceLifeCycle.RUNNING)
+          .collect(Collectors.toSet());
         // get all prepared services
-        var preparedServices = services.stream()
+        var preparedServices = services.get(false).stream()
           .filter(service -> service.lifeCycle() == ServiceLifeCycle.PREPARED)
           .collect(Collectors.toSet());
         // get all running services
-        var runningServices = services.stream()
+        var runningServices = services.get(false).stream()
           .filter(service -> service.lifeCycle() == ServiceLifeCycle.RUNNING)
           .collect(Collectors.toSet());
         // get all services which are marked as online by the bridge
@@ -99,9 +126,35 @@ private void handleSmartEntries() {
           .collect(Collectors.toSet());
         // handle all smart entries
         this.handleAutoStop(task, config, runningServices, onlineServices);
-        this.handleAutoStart(task, config, preparedServices, runningServices, onlineServices);
+        this.handleAutoStart(task, config, preparedServices, runningServices, onlineServices, standbyServices);
+        this.handleStandbyServices(task, config, standbyServices);
       }
     });
+
+    // drop the scaling state of deleted tasks and tasks which no longer use the scaling mode
+    this.reactiveScalers.keySet().retainAll(smartTasks);
+    this.predictiveScalers.keySet().retainAll(predictiveTasks);
+  }
+
+  private boolean standbyService(@NonNull ServiceInfoSnapshot service) {
+    // promoted services are treated as normal services even if their update did not arrive yet
+    var uniqueId = service.serviceId().uniqueId();
+    return service.readProperty(BridgeDocProperties.STANDBY) && !this.standbyPool.promoted(uniqueId);
+  }
+
+  private void handleStandbyServices(
+    @NonNull ServiceTask task,
+    @NonNull SmartServiceTaskConfig config,
+    @NonNull Collection<ServiceInfoSnapshot> standbyServices
+  ) {
+    // refill the standby pool, one service per heartbeat
+    if (config.standbyServices() > standbyServices.size()) {
+      var properties = Document.newJsonDocument().writeProperty(BridgeDocProperties.STANDBY, true);
+      var service = this.createService(task, config, standbyServices, properties);
+      if (service != null) {
+        service.provider().start();
+      }
+    }
   }
 
   private void handleAutoStop(
@@ -135,7 +188,8 @@ private void handleAutoStart(
     @NonNull SmartServiceTaskConfig config,
     @NonNull Collection<ServiceInfoSnapshot> preparedServices,
     @NonNull Collection<ServiceInfoSnapshot> runningServices,
-    @NonNull Collection<ServiceInfoSnapshot> onlineServices
+    @NonNull Collection<ServiceInfoSnapshot> onlineServices,
+    @NonNull Collection<ServiceInfoSnapshot> standbyServices
   ) {
     // combine all prepared and running for logic splitting over nodes
     Collection<ServiceInfoSnapshot> allServices = new HashSet<>();
@@ -153,14 +207,21 @@ private void handleAutoStart(
     if (config.maxServices() > 0 && runningServices.size() >= config.maxServices()) {
       return;
     }
+    // start the services which the node does not start as it counts the standby services towards the minimum
+    var runningStandbyServices = (int) standbyServices.stream()
+      .filter(service -> service.lifeCycle() == ServiceLifeCycle.RUNNING)
+      .count();
+    if (StandbyPool.minServiceCountMissed(task.minServiceCount(), runningServices.size(), runningStandbyServices)) {
+      // create only one service per heartbeat
+      if (this.startService(task, config, runningServices, standbyServices) != null) {
+        return;
+      }
+    }
     // only start services by the smart module if the smart min service count overrides the task min service count
     if (config.smartMinServiceCount() > task.minServiceCount()
       && config.smartMinServiceCount() > runningServices.size()) {
-      var service = this.createService(task, config, runningServices);
-      // check if the service was created successfully and start it
-      if (service != null) {
-        service.provider().start();
-        // create only one service per heartbeat
+      // create only one service per heartbeat
+      if (this.startService(task, config, runningServices, standbyServices) != null) {
         return;
       }
     }
@@ -168,44 +229,111 @@ private void handleAutoStart(
     if (config.percentOfPlayersForANewServiceByInstance() < 0) {
       return;
     }
-    // validate that we can start a service now
-    var nextAutoStartTime = this.autoStartBlocks.get(task.name());
-    if (nextAutoStartTime != null && nextAutoStartTime >= System.currentTimeMillis()) {
-      return;
-    }
     // get the overall player counts
-    var onlinePlayers = onlineServices.stream()
-      .mapToDouble(service -> service.readProperty(BridgeDocProperties.ONLINE_COUNT))
-      .sum();
-    var maximumPlayers = onlineServices.stream()
-      .mapToDouble(service -> Math.max(0, service.readProperty(BridgeDocProperties.MAX_PLAYERS)))
-      .sum();
-    // check if we can create a percentage count
-    if (onlinePlayers == 0 || maximumPlayers == 0) {
+    var currentTime = System.currentTimeMillis();
+    var load = new TaskLoad(
+      runningServices.size(),
+      onlineServices.size(),
+      onlineServices.stream()
+        .mapToDouble(service -> service.readProperty(BridgeDocProperties.ONLINE_COUNT))
+        .sum(),
+      onlineServices.stream()
+        .mapToDouble(service -> Math.max(0, service.readProperty(BridgeDocProperties.MAX_PLAYERS)))
+        .sum());
+    // check if the services should be started based on the predicted player count
+    if (config.predictiveScaling()) {
+      this.handlePredictiveAutoStart(task, config, currentTime, load, runningServices, standbyServices);
       return;
     }
-    // make the values absolute
-    var absoluteOnline = onlinePlayers / runningServices.size();
-    var absoluteMaximum = maximumPlayers / runningServices.size();
-    // create the percentage
-    var percentage = SmartUtil.percentage(absoluteOnline, absoluteMaximum);
-    if (percentage >= config.percentOfPlayersForANewServiceByInstance()) {
-      var service = this.createService(task, config, runningServices);
-      // check if the service was created successfully and start it
-      if (service != null) {
-        service.provider().start();
-        // block player based service starting now
-        this.autoStartBlocks.put(
-          task.name(),
-          System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(config.forAnewInstanceDelayTimeInSeconds()));
+    // check if a service should be started based on the current player count
+    var scaler = this.reactiveScalers.computeIfAbsent(task.name(), $ -> new ReactiveScaler());
+    if (scaler.shouldStartService(currentTime, load, config)
+      && this.startService(task, config, runningServices, standbyServices) != null) {
+      scaler.serviceStarted(currentTime, config);
+    }
+  }
+
+  private void handlePredictiveAutoStart(
+    @NonNull ServiceTask task,
+    @NonNull SmartServiceTaskConfig config,
+    long currentTime,
+    @NonNull TaskLoad load,
+    @NonNull Collection<ServiceInfoSnapshot> runningServices,
+    @NonNull Collection<ServiceInfoSnapshot> standbyServices
+  ) {
+    var scaler = this.predictiveScalers.computeIfAbsent(task.name(), $ -> new PredictiveScaler());
+    var servicesToStart = scaler.servicesToStart(
+      currentTime,
+      load,
+      config,
+      this.freeMemory(task),
+      task.processConfiguration().maxHeapMemorySize());
+    // start the services which are needed to handle the predicted player count
+    Collection<ServiceInfoSnapshot> services = new HashSet<>(runningServices);
+    for (var i = 0; i < servicesToStart; i++) {
+      var service = this.startService(task, config, services, standbyServices);
+      if (service == null) {
+        break;
       }
+      // respect the new service when splitting the next one over the nodes
+      services.add(service);
     }
   }
 
+  private @Nullable ServiceInfoSnapshot startService(
+    @NonNull ServiceTask task,
+    @NonNull SmartServiceTaskConfig config,
+    @NonNull Collection<ServiceInfoSnapshot> runningServices,
+    @NonNull Collection<ServiceInfoSnapshot> standbyServices
+  ) {
+    // prefer promoting a standby service which is ready to accept players over starting a new service
+    var standbyService = standbyServices.stream()
+      .filter(service -> service.connected() && service.readProperty(BridgeDocProperties.IS_ONLINE))
+      .filter(service -> !this.standbyPool.promoted(service.serviceId().uniqueId()))
+      .findFirst()
+      .orElse(null);
+    if (standbyService != null) {
+      ChannelMessage.builder()
+        .targetService(standbyService.name())
+        .channel(BridgeManagement.BRIDGE_CHANNEL_NAME)
+        .message("promote_standby_service")
+        .build()
+        .send();
+      // the service is treated as a normal service until the update of it arrives
+      this.standbyPool.markPromoted(standbyService.serviceId().uniqueId(), System.currentTimeMillis());
+      return standbyService;
+    }
+
+    var service = this.createService(task, config, runningServices);
+    if (service != null) {
+      service.provider().start();
+    }
+    return service;
+  }
+
+  private long freeMemory(@NonNull ServiceTask task) {
+    return this.nodeServerProvider.nodeServers().stream()
+      .filter(nodeServer -> nodeServer.available() && !nodeServer.draining())
+      .filter(nodeServer -> task.associatedNodes().isEmpty() || task.associatedNodes().contains(nodeServer.name()))
+      .map(NodeServer::nodeInfoSnapshot)
+      .filter(Objects::nonNull)
+      .mapToLong(snapshot -> Math.max(0, snapshot.maxMemory() - snapshot.reservedMemory()))
+      .sum();
+  }
+
   private @Nullable ServiceInfoSnapshot createService(
     @NonNull ServiceTask task,
     @NonNull SmartServiceTaskConfig config,
     @NonNull Collection<ServiceInfoSnapshot> services
+  ) {
+    return this.createService(task, config, services, Document.newJsonDocument());
+  }
+
+  private @Nullable ServiceInfoSnapshot createService(
+    @NonNull ServiceTask task,
+    @NonNull SmartServiceTaskConfig config,
+    @NonNull Collection<ServiceInfoSnapshot> services,
+    @NonNull Document properties
   ) {
     // check if we should decide directly which node server we use
     NodeServer server = null;
@@ -215,6 +343,7 @@ private void handleAutoStart(
     // create a new service based on the task
     var createResult = this.serviceFactory.createCloudService(ServiceConfiguration.builder(task)
       .node(server == null ? null : server.info().uniqueId())
+      .properties(properties)
       .build());
     return createResult.state() == ServiceCreateResult.State.CREATED ? createResult.serviceInfo() : null;
   }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.smart.scaling;
+
+import java.util.concurrent.TimeUnit;
+
+final class PlayerCountForecast {
+
+  // the time after which ~63% of the weight was shifted to the newer samples
+  private static final double LEVEL_TIME_CONSTANT = TimeUnit.SECONDS.toMillis(15);
+  private static final double TREND_TIME_CONSTANT = TimeUnit.SECONDS.toMillis(45);
+
+  private long lastSampleTime = -1;
+  private double lastSample;
+
+  private double level;
+  private double trend;
+
+  public void record(long timestamp, double players) {
+    if (this.lastSampleTime < 0) {
+      // first sample, there is no trend yet
+      this.level = players;
+      this.lastSample = players;
+      this.lastSampleTime = timestamp;
+      return;
+    }
+
+    var elapsed = timestamp - this.lastSampleTime;
+    if (elapsed <= 0) {
+      this.lastSample = players;
+      return;
+    }
+
+    // double exponential smoothing, the weights are based on the elapsed time as samples are not taken in fixed
+    // intervals. the trend is stored as the player change per millisecond
+    var levelWeight = 1 - Math.exp(-elapsed / LEVEL_TIME_CONSTANT);
+    var trendWeight = 1 - Math.exp(-elapsed / TREND_TIME_CONSTANT);
+
+    var previousLevel = this.level;
+    this.level = levelWeight * players + (1 - levelWeight) * (this.level + this.trend * elapsed);
+    this.trend = trendWeight * ((this.level - previousLevel) / elapsed) + (1 - trendWeight) * this.trend;
+
+    this.lastSample = players;
+    this.lastSampleTime = timestamp;
+  }
+
+  public double forecastAt(long timestamp) {
+    // never predict less players than are currently online, scaling down is handled by the auto stop
+    var horizonMillis = timestamp - this.lastSampleTime;
+    return Math.max(this.lastSample, this.level + this.trend * horizonMillis);
+  }
+
+  public boolean hasSamples() {
+    return this.lastSampleTime >= 0;
+  }
+}
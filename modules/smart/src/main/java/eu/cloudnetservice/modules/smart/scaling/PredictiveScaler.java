@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.smart.scaling;
+
+import eu.cloudnetservice.modules.smart.SmartServiceTaskConfig;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+
+public final class PredictiveScaler {
+
+  // services started on other nodes need a moment until they show up as running
+  private static final long START_COOLDOWN_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+  private final PlayerCountForecast forecast = new PlayerCountForecast();
+  private double playersPerService;
+  private long nextStartTime;
+
+  public static int startLimit(
+    int activeServices,
+    int maxServices,
+    int maxServicesStartedAtOnce,
+    long freeMemory,
+    int memoryPerService
+  ) {
+    // the amount of services which can be started based on the configuration
+    var limit = Math.max(1, maxServicesStartedAtOnce);
+    if (maxServices > 0) {
+      limit = Math.min(limit, maxServices - activeServices);
+    }
+
+    // the amount of services which fit into the memory of the nodes
+    if (memoryPerService > 0) {
+      limit = (int) Math.min(limit, freeMemory / memoryPerService);
+    }
+
+    return Math.max(0, limit);
+  }
+
+  public int servicesToStart(
+    long timestamp,
+    @NonNull TaskLoad load,
+    @NonNull SmartServiceTaskConfig config,
+    long freeMemory,
+    int memoryPerService
+  ) {
+    // the player count is unknown rather than zero while no service is online (for example while all services are
+    // booting), continue to use the forecast and the service capacity based on the last known player count
+    if (load.onlineServices() > 0) {
+      this.forecast.record(timestamp, load.onlinePlayers());
+      this.playersPerService = load.maximumPlayers() / load.onlineServices();
+    }
+
+    if (!this.forecast.hasSamples() || timestamp < this.nextStartTime) {
+      return 0;
+    }
+
+    var targetPercentage = config.percentOfPlayersForANewServiceByInstance();
+    if (this.playersPerService <= 0 || targetPercentage <= 0) {
+      return 0;
+    }
+
+    // limit the services to start by the memory which is left on the nodes the task can run on
+    var startLimit = startLimit(
+      load.activeServices(),
+      config.maxServices(),
+      config.maxServicesStartedAtOnce(),
+      freeMemory,
+      memoryPerService);
+    if (startLimit <= 0) {
+      return 0;
+    }
+
+    // the amount of services needed to keep the player load of each service below the target percentage once the
+    // services which are started now are ready to accept players
+    var horizon = TimeUnit.SECONDS.toMillis(config.predictionHorizonInSeconds());
+    var predictedPlayers = this.forecast.forecastAt(timestamp + horizon);
+    var playersPerServiceAtTarget = this.playersPerService * Math.min(100, targetPercentage) / 100D;
+    var neededServices = (int) Math.ceil(predictedPlayers / playersPerServiceAtTarget);
+
+    var servicesToStart = Math.min(startLimit, Math.max(0, neededServices - load.activeServices()));
+    if (servicesToStart > 0) {
+      this.nextStartTime = timestamp + START_COOLDOWN_MILLIS;
+    }
+
+    return servicesToStart;
+  }
+}
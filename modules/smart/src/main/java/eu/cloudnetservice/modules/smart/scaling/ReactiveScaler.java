@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.smart.scaling;
+
+import eu.cloudnetservice.modules.smart.SmartServiceTaskConfig;
+import eu.cloudnetservice.modules.smart.util.SmartUtil;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+
+public final class ReactiveScaler {
+
+  private long nextStartTime = Long.MIN_VALUE;
+
+  public boolean shouldStartService(long timestamp, @NonNull TaskLoad load, @NonNull SmartServiceTaskConfig config) {
+    // validate that we can start a service now
+    if (timestamp <= this.nextStartTime) {
+      return false;
+    }
+    // check if we can create a percentage count
+    if (load.onlinePlayers() == 0 || load.maximumPlayers() == 0) {
+      return false;
+    }
+    // make the values absolute
+    var absoluteOnline = load.onlinePlayers() / load.activeServices();
+    var absoluteMaximum = load.maximumPlayers() / load.activeServices();
+    // create the percentage
+    var percentage = SmartUtil.percentage(absoluteOnline, absoluteMaximum);
+    return percentage >= config.percentOfPlayersForANewServiceByInstance();
+  }
+
+  public void serviceStarted(long timestamp, @NonNull SmartServiceTaskConfig config) {
+    // block player based service starting now
+    this.nextStartTime = timestamp + TimeUnit.SECONDS.toMillis(config.forAnewInstanceDelayTimeInSeconds());
+  }
+}
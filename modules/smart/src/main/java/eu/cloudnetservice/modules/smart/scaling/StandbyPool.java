@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.smart.scaling;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import lombok.NonNull;
+
+public final class StandbyPool {
+
+  // the time after which a promotion is assumed to be lost if the service is still marked as standby service
+  public static final long PROMOTION_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(15);
+
+  private final Map<UUID, Long> promotions = new HashMap<>();
+
+  public static boolean minServiceCountMissed(int minServiceCount, int runningServices, int runningStandbyServices) {
+    // the node counts standby services towards the minimum service count of the task and does not start the services
+    // which are missing because of them
+    return minServiceCount > runningServices && minServiceCount <= runningServices + runningStandbyServices;
+  }
+
+  public void markPromoted(@NonNull UUID serviceId, long timestamp) {
+    this.promotions.put(serviceId, timestamp + PROMOTION_TIMEOUT_MILLIS);
+  }
+
+  public boolean promoted(@NonNull UUID serviceId) {
+    return this.promotions.containsKey(serviceId);
+  }
+
+  public void expirePromotions(long timestamp, @NonNull Predicate<UUID> standbyService) {
+    // forget about promoted services which are either stopped or no longer marked as standby service. if a service is
+    // still marked as standby service after the timeout the promotion was lost, the service is a standby service again
+    // and the promotion is sent again once another service is needed
+    this.promotions.entrySet().removeIf(entry -> !standbyService.test(entry.getKey()) || entry.getValue() <= timestamp);
+  }
+}
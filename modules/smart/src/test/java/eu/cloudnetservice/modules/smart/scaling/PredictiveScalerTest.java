@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.smart.scaling;
+
+import eu.cloudnetservice.modules.smart.SmartServiceTaskConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PredictiveScalerTest {
+
+  @Test
+  void testPredictiveScalingQueuesLessPlayersOnSpike() {
+    var curve = ScalingSimulation.loadCurve("player-curves/event-spike.csv");
+
+    var reactive = ScalingSimulation.run(curve, false);
+    var predictive = ScalingSimulation.run(curve, true);
+
+    Assertions.assertTrue(
+      predictive.queuedPlayerSeconds() < reactive.queuedPlayerSeconds(),
+      () -> "predictive " + predictive + " is not better than reactive " + reactive);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"player-curves/event-spike.csv", "player-curves/evening-ramp.csv"})
+  void testPredictiveScalingStaysInLimits(String curveResource) {
+    var curve = ScalingSimulation.loadCurve(curveResource);
+
+    var reactive = ScalingSimulation.run(curve, false);
+    var predictive = ScalingSimulation.run(curve, true);
+
+    // a slow ramp is handled well by both modes, the predictive mode must never be worse
+    Assertions.assertTrue(predictive.queuedPlayerSeconds() <= reactive.queuedPlayerSeconds());
+    Assertions.assertTrue(
+      predictive.peakServices() * ScalingSimulation.MEMORY_PER_SERVICE <= ScalingSimulation.NODE_MEMORY);
+  }
+
+  @Test
+  void testSimulationIsDeterministic() {
+    var curve = ScalingSimulation.loadCurve("player-curves/event-spike.csv");
+    Assertions.assertEquals(ScalingSimulation.run(curve, true), ScalingSimulation.run(curve, true));
+  }
+
+  @Test
+  void testStartLimit() {
+    // limited by the maximum services started at once
+    Assertions.assertEquals(3, PredictiveScaler.startLimit(2, -1, 3, 10_000, 1024));
+    // limited by the maximum service count of the task
+    Assertions.assertEquals(1, PredictiveScaler.startLimit(4, 5, 3, 10_000, 1024));
+    // limited by the free memory
+    Assertions.assertEquals(2, PredictiveScaler.startLimit(0, -1, 3, 2500, 1024));
+    Assertions.assertEquals(0, PredictiveScaler.startLimit(0, -1, 3, 1000, 1024));
+  }
+
+  @Test
+  void testNoStartWithoutSamples() {
+    var config = SmartServiceTaskConfig.builder().percentOfPlayersForANewServiceByInstance(80).build();
+    var scaler = new PredictiveScaler();
+    Assertions.assertEquals(0, scaler.servicesToStart(0, new TaskLoad(1, 0, 0, 0), config, 10_000, 1024));
+
+    // a constant load does not need more services than required for the current players
+    for (var second = 0; second < 120; second++) {
+      scaler.servicesToStart(second * 1000L, new TaskLoad(2, 2, 150, 200), config, 10_000, 1024);
+    }
+    Assertions.assertEquals(0, scaler.servicesToStart(120_000, new TaskLoad(2, 2, 150, 200), config, 10_000, 1024));
+    Assertions.assertEquals(1, scaler.servicesToStart(125_000, new TaskLoad(1, 1, 150, 100), config, 10_000, 1024));
+  }
+
+  @Test
+  void testStartWithoutOnlineServices() {
+    var config = SmartServiceTaskConfig.builder().percentOfPlayersForANewServiceByInstance(80).build();
+    var scaler = new PredictiveScaler();
+    Assertions.assertEquals(0, scaler.servicesToStart(0, new TaskLoad(2, 2, 150, 200), config, 10_000, 1024));
+
+    // all services went down, the last known player count still needs to be handled
+    Assertions.assertEquals(2, scaler.servicesToStart(10_000, new TaskLoad(0, 0, 0, 0), config, 10_000, 1024));
+    // no start while the services are booting
+    Assertions.assertEquals(0, scaler.servicesToStart(20_000, new TaskLoad(2, 0, 0, 0), config, 10_000, 1024));
+  }
+
+  @Test
+  void testReactiveStartDelay() {
+    var config = SmartServiceTaskConfig.builder()
+      .percentOfPlayersForANewServiceByInstance(80)
+      .forAnewInstanceDelayTimeInSeconds(30)
+      .build();
+    var scaler = new ReactiveScaler();
+    var load = new TaskLoad(1, 1, 90, 100);
+
+    Assertions.assertFalse(scaler.shouldStartService(0, new TaskLoad(1, 1, 50, 100), config));
+    Assertions.assertTrue(scaler.shouldStartService(0, load, config));
+
+    // no start until the delay passed
+    scaler.serviceStarted(0, config);
+    Assertions.assertFalse(scaler.shouldStartService(30_000, load, config));
+    Assertions.assertTrue(scaler.shouldStartService(30_001, load, config));
+  }
+}
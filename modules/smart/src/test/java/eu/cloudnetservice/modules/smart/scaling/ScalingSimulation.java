@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.smart.scaling;
+
+import eu.cloudnetservice.modules.smart.SmartServiceTaskConfig;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+
+// replays a recorded player curve against a simulated task using the scalers of the tick listener, one step per second
+// like the tick of the head node
+final class ScalingSimulation {
+
+  static final int PLAYERS_PER_SERVICE = 100;
+  static final int MEMORY_PER_SERVICE = 1024;
+  static final int NODE_MEMORY = 16 * MEMORY_PER_SERVICE;
+  static final int BOOT_TIME_SECONDS = 40;
+  static final int TARGET_PERCENTAGE = 80;
+  static final int REACTIVE_DELAY_SECONDS = 30;
+  static final int MAX_SERVICES_STARTED_AT_ONCE = 4;
+  static final int PREDICTION_HORIZON_SECONDS = 60;
+
+  private ScalingSimulation() {
+    throw new UnsupportedOperationException();
+  }
+
+  static int @NonNull [] loadCurve(@NonNull String resource) {
+    List<int[]> points = new ArrayList<>();
+    try (var stream = Objects.requireNonNull(ScalingSimulation.class.getClassLoader().getResourceAsStream(resource))) {
+      for (var line : new String(stream.readAllBytes()).split("\n")) {
+        if (!line.isBlank() && !line.startsWith("#")) {
+          var parts = line.trim().split(",");
+          points.add(new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1])});
+        }
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    // interpolate linearly between the recorded points to get one value per second
+    var curve = new int[points.get(points.size() - 1)[0] + 1];
+    for (var index = 1; index < points.size(); index++) {
+      var from = points.get(index - 1);
+      var to = points.get(index);
+      for (var second = from[0]; second <= to[0]; second++) {
+        var progress = (second - from[0]) / (double) (to[0] - from[0]);
+        curve[second] = (int) Math.round(from[1] + (to[1] - from[1]) * progress);
+      }
+    }
+
+    return curve;
+  }
+
+  static @NonNull Result run(int @NonNull [] curve, boolean predictive) {
+    var config = SmartServiceTaskConfig.builder()
+      .enabled(true)
+      .percentOfPlayersForANewServiceByInstance(TARGET_PERCENTAGE)
+      .forAnewInstanceDelayTimeInSeconds(REACTIVE_DELAY_SECONDS)
+      .predictiveScaling(predictive)
+      .predictionHorizonInSeconds(PREDICTION_HORIZON_SECONDS)
+      .maxServicesStartedAtOnce(MAX_SERVICES_STARTED_AT_ONCE)
+      .build();
+
+    // the scalers which are used by the tick listener of the module
+    var reactiveScaler = new ReactiveScaler();
+    var predictiveScaler = new PredictiveScaler();
+
+    List<Integer> readyTimes = new ArrayList<>();
+    readyTimes.add(0);
+
+    long queuedPlayerSeconds = 0;
+    var peakServices = 0;
+
+    for (var second = 0; second < curve.length; second++) {
+      var time = second;
+      var onlineServices = (int) readyTimes.stream().filter(readyTime -> readyTime <= time).count();
+      var activeServices = readyTimes.size();
+      peakServices = Math.max(peakServices, activeServices);
+
+      // players which don't fit on the online services are waiting in the queue
+      var capacity = onlineServices * PLAYERS_PER_SERVICE;
+      var onlinePlayers = Math.min(curve[second], capacity);
+      queuedPlayerSeconds += curve[second] - onlinePlayers;
+
+      var timestamp = TimeUnit.SECONDS.toMillis(second);
+      var freeMemory = NODE_MEMORY - (long) activeServices * MEMORY_PER_SERVICE;
+      var load = new TaskLoad(activeServices, onlineServices, onlinePlayers, capacity);
+
+      int servicesToStart;
+      if (predictive) {
+        servicesToStart = predictiveScaler.servicesToStart(timestamp, load, config, freeMemory, MEMORY_PER_SERVICE);
+      } else {
+        // the service factory refuses to create a service if no node has enough memory left
+        var startService = reactiveScaler.shouldStartService(timestamp, load, config)
+          && freeMemory >= MEMORY_PER_SERVICE;
+        if (startService) {
+          reactiveScaler.serviceStarted(timestamp, config);
+        }
+        servicesToStart = startService ? 1 : 0;
+      }
+
+      for (var i = 0; i < servicesToStart; i++) {
+        readyTimes.add(second + BOOT_TIME_SECONDS);
+      }
+    }
+
+    return new Result(queuedPlayerSeconds, peakServices);
+  }
+
+  record Result(long queuedPlayerSeconds, int peakServices) {
+
+  }
+}
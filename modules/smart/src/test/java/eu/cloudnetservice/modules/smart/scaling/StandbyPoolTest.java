@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.smart.scaling;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class StandbyPoolTest {
+
+  @Test
+  void testPromotionIsForgottenOnceApplied() {
+    var pool = new StandbyPool();
+    var serviceId = UUID.randomUUID();
+    Set<UUID> standbyServices = new HashSet<>(Set.of(serviceId));
+
+    pool.markPromoted(serviceId, 0);
+    Assertions.assertTrue(pool.promoted(serviceId));
+
+    // the update of the service did not arrive yet
+    pool.expirePromotions(1000, standbyServices::contains);
+    Assertions.assertTrue(pool.promoted(serviceId));
+
+    // the service published its snapshot without the standby marker
+    standbyServices.remove(serviceId);
+    pool.expirePromotions(2000, standbyServices::contains);
+    Assertions.assertFalse(pool.promoted(serviceId));
+  }
+
+  @Test
+  void testLostPromotionTimesOut() {
+    var pool = new StandbyPool();
+    var serviceId = UUID.randomUUID();
+
+    pool.markPromoted(serviceId, 0);
+    pool.expirePromotions(StandbyPool.PROMOTION_TIMEOUT_MILLIS - 1, $ -> true);
+    Assertions.assertTrue(pool.promoted(serviceId));
+
+    // the service is still marked as standby service, the promotion message was lost
+    pool.expirePromotions(StandbyPool.PROMOTION_TIMEOUT_MILLIS, $ -> true);
+    Assertions.assertFalse(pool.promoted(serviceId));
+
+    // the service can be promoted again
+    pool.markPromoted(serviceId, StandbyPool.PROMOTION_TIMEOUT_MILLIS);
+    Assertions.assertTrue(pool.promoted(serviceId));
+  }
+
+  @Test
+  void testStoppedServiceIsForgotten() {
+    var pool = new StandbyPool();
+    var serviceId = UUID.randomUUID();
+
+    pool.markPromoted(serviceId, 0);
+    pool.expirePromotions(0, $ -> false);
+    Assertions.assertFalse(pool.promoted(serviceId));
+  }
+
+  @Test
+  void testMinServiceCountIgnoresStandbyServices() {
+    // the node already starts the missing services, no standby service is counted
+    Assertions.assertFalse(StandbyPool.minServiceCountMissed(3, 1, 0));
+    // the node counts the standby services towards the minimum service count
+    Assertions.assertTrue(StandbyPool.minServiceCountMissed(3, 1, 2));
+    Assertions.assertTrue(StandbyPool.minServiceCountMissed(3, 2, 5));
+    // the node starts one service, the missing service caused by the standby service is started by the module
+    Assertions.assertFalse(StandbyPool.minServiceCountMissed(3, 1, 1));
+    // enough services are running
+    Assertions.assertFalse(StandbyPool.minServiceCountMissed(3, 3, 2));
+  }
+}
@@ -83,6 +83,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
 import lombok.NonNull;
 
 @Singleton
@@ -170,7 +171,14 @@ private void setupModuleProvider(
   private void registerDefaultServices(@NonNull ServiceRegistry serviceRegistry, @NonNull Configuration configuration) {
     // local template storage
     var localStoragePath = Path.of(System.getProperty("cloudnet.storage.local", "local/templates"));
-    serviceRegistry.registerProvider(TemplateStorage.class, "local", new LocalTemplateStorage(localStoragePath));
+    var linkTemplateFiles = Boolean.getBoolean("cloudnet.storage.local.linkFiles");
+    var linkedTemplateFiles = System.getProperty("cloudnet.storage.local.linkedFiles");
+    serviceRegistry.registerProvider(TemplateStorage.class, "local", new LocalTemplateStorage(
+      localStoragePath,
+      linkTemplateFiles,
+      linkedTemplateFiles == null
+        ? LocalTemplateStorage.DEFAULT_LINKED_FILE_PATTERNS
+        : Stream.of(linkedTemplateFiles.split(",")).map(String::trim).toList()));
 
     // xodus database
     var runsInCluster = !configuration.clusterConfig().nodes().isEmpty();
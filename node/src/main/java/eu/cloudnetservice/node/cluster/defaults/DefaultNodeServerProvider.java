@@ -16,7 +16,11 @@
 
 package eu.cloudnetservice.node.cluster.defaults;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
 import dev.derklaro.aerogel.auto.Provides;
+import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.cluster.NetworkCluster;
@@ -37,12 +41,18 @@
 import eu.cloudnetservice.node.network.listener.message.NodeChannelMessageListener;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -163,21 +173,11 @@ public void selectHeadNode() {
     @NonNull InputStream stream,
     boolean overwrite
   ) {
-    // collect all known & available channels in the cluster
-    var channels = this.connectedNodeChannels();
-    if (!channels.isEmpty()) {
-      // send the template chunked to the cluster
-      return ChunkedPacketSender.forFileTransfer()
-        .transferChannel("deploy_service_template")
-        .withExtraData(
-          DataBuf.empty().writeString(template.storageName()).writeObject(template).writeBoolean(overwrite))
-        .toChannels(channels)
-        .source(stream)
-        .build()
-        .transferChunkedData();
-    }
-    // if there are no channels we "pseudo" completed the transfer
-    return Task.completedTask(TransferStatus.SUCCESS);
+    return this.deployToCluster(
+      "deploy_service_template",
+      template + ":" + overwrite,
+      () -> DataBuf.empty().writeString(template.storageName()).writeObject(template).writeBoolean(overwrite),
+      stream);
   }
 
   @Override
@@ -185,21 +185,52 @@ public void selectHeadNode() {
     @NonNull String name,
     @NonNull InputStream stream,
     boolean overwrite
+  ) {
+    return this.deployToCluster(
+      "deploy_static_service",
+      name + ":" + overwrite,
+      () -> DataBuf.empty().writeString(name).writeBoolean(overwrite),
+      stream);
+  }
+
+  protected @NonNull Task<TransferStatus> deployToCluster(
+    @NonNull String transferChannel,
+    @NonNull String deploymentTarget,
+    @NonNull Supplier<DataBuf> extraDataSupplier,
+    @NonNull InputStream stream
   ) {
     // collect all known & available channels in the cluster
     var channels = this.connectedNodeChannels();
-    if (!channels.isEmpty()) {
-      // send the template chunked to the cluster
+    if (channels.isEmpty()) {
+      // if there are no channels we "pseudo" completed the transfer
+      return Task.completedTask(TransferStatus.SUCCESS);
+    }
+
+    var content = FileUtil.createTempFile();
+    try {
+      // copy the content into a temporary file to get a session id which only depends on the deployed content.
+      // Deploying the same content again resumes a dropped transfer, the nodes only receive the chunks they are missing
+      HashCode contentHash;
+      try (stream; var hashingStream = new HashingInputStream(Hashing.sha256(), stream)) {
+        Files.copy(hashingStream, content);
+        contentHash = hashingStream.hash();
+      }
+
+      var sessionId = UUID.nameUUIDFromBytes(
+        (transferChannel + ":" + deploymentTarget + ":" + contentHash).getBytes(StandardCharsets.UTF_8));
       return ChunkedPacketSender.forFileTransfer()
-        .transferChannel("deploy_static_service")
-        .withExtraData(DataBuf.empty().writeString(name).writeBoolean(overwrite))
+        .transferChannel(transferChannel)
+        .withExtraData(extraDataSupplier.get())
+        .sessionUniqueId(sessionId)
         .toChannels(channels)
-        .source(stream)
+        .resumeTransfer(true)
+        .source(Files.newInputStream(content, StandardOpenOption.DELETE_ON_CLOSE))
         .build()
         .transferChunkedData();
+    } catch (IOException exception) {
+      FileUtil.delete(content);
+      return Task.completedTask(exception);
     }
-    // if there are no channels we "pseudo" completed the transfer
-    return Task.completedTask(TransferStatus.SUCCESS);
   }
 
   @Override
@@ -108,6 +108,8 @@ public void migrateDatabase(
         var sourceDatabase = sourceDatabaseProvider.database(databaseName);
         var targetDatabase = targetDatabaseProvider.database(databaseName);
 
+        // create the indexes first so that they are filled while copying the documents
+        sourceDatabase.indexedFields().forEach(targetDatabase::createIndex);
         sourceDatabase.iterate(targetDatabase::insert, chunkSize);
       }
     } catch (Exception exception) {
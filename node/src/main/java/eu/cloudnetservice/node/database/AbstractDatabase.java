@@ -16,14 +16,20 @@
 
 package eu.cloudnetservice.node.database;
 
+import com.google.common.base.Preconditions;
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
+import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
 import lombok.NonNull;
 
 public abstract class AbstractDatabase implements LocalDatabase, Database {
 
+  // index field names end up in table columns and store names, only allow names that are safe to use there
+  protected static final Pattern INDEX_FIELD_NAME_PATTERN = Pattern.compile("^[a-zA-Z0-9_]{1,48}$");
+
   protected final String name;
   protected final NodeDatabaseProvider databaseProvider;
 
@@ -39,22 +45,23 @@ protected AbstractDatabase(@NonNull String name, @NonNull NodeDatabaseProvider d
 
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize) {
-    var documentCount = this.documentCount();
-    if (documentCount != 0) {
-      long currentIndex = 0;
-      while (currentIndex < documentCount) {
-        var result = this.readChunk(currentIndex, chunkSize);
-        if (result != null) {
-          result.forEach(consumer);
-          currentIndex += chunkSize;
-          continue;
-        }
-
-        break;
+    String lastKey = null;
+    Map<String, Document> result;
+    while ((result = this.readChunkAfter(lastKey, chunkSize)) != null) {
+      for (var entry : result.entrySet()) {
+        consumer.accept(entry.getKey(), entry.getValue());
+        lastKey = entry.getKey();
       }
     }
   }
 
+  protected static void validateIndexFieldName(@NonNull String fieldName) {
+    Preconditions.checkArgument(
+      INDEX_FIELD_NAME_PATTERN.matcher(fieldName).matches(),
+      "Invalid index field name %s",
+      fieldName);
+  }
+
   protected @NonNull String serializeDocumentToJsonString(@NonNull Document document) {
     // send the given document into a new json document
     var jsonDocument = Document.newJsonDocument();
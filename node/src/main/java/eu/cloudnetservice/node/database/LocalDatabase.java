@@ -19,9 +19,11 @@
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.document.Document;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 public interface LocalDatabase extends Database {
 
@@ -41,5 +43,42 @@ public interface LocalDatabase extends Database {
    */
   void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize);
 
+  /**
+   * Reads the entries at the given position in the database. Each call needs to skip over all entries in front of the
+   * given index, use {@link #readChunkAfter(String, int)} to read through the whole database instead.
+   *
+   * @param beginIndex the index of the first entry to read
+   * @param chunkSize  the maximum amount of entries to read
+   * @return the entries at the given position, null if there are no entries at the position
+   */
   @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize);
+
+  /**
+   * Reads the entries which are following the given key in the database, ordered by their keys. The last key of the
+   * returned chunk can be passed to the next call to continue reading where the previous chunk ended, which allows to
+   * read through the whole database without skipping over the already read entries again.
+   *
+   * @param afterKey  the key after which the chunk should start, null to start with the first entry
+   * @param chunkSize the maximum amount of entries to read
+   * @return the entries following the given key in key order, null if there are no more entries
+   */
+  @Nullable Map<String, Document> readChunkAfter(@Nullable String afterKey, int chunkSize);
+
+  /**
+   * Creates a secondary index on the given top-level field of all documents in this database, if it does not exist
+   * already. The index is maintained when documents are inserted or deleted and is used by {@link #find(String, String)}
+   * and {@link #find(Map)} when filtering for the field. An index is persistent and only needs to be created once, but
+   * calling this method again has no effect.
+   *
+   * @param fieldName the name of the field to index, may only contain letters, digits and underscores
+   * @throws IllegalArgumentException if the given field name is not allowed as an index name
+   */
+  void createIndex(@NonNull String fieldName);
+
+  /**
+   * Get the names of all fields for which an index was created in this database.
+   *
+   * @return the names of all indexed fields in this database
+   */
+  @NonNull @Unmodifiable Set<String> indexedFields();
 }
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.node.database.h2;
 
+import com.google.common.collect.Iterables;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.sql.SQLDatabase;
@@ -23,20 +24,40 @@
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 public final class H2Database extends SQLDatabase {
 
+  private static final int MAX_KEYS_PER_DELETE = 500;
+  private static final String INDEX_COLUMN_PREFIX = "Index_";
+
+  private final String getQuery;
+  private final String containsQuery;
+  private final String deleteQuery;
+  private final Set<String> indexedFields = ConcurrentHashMap.newKeySet();
+  private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+
+  private volatile UpsertStatement upsertStatement;
+
   public H2Database(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
     super(provider, name);
+    this.getQuery = String.format("SELECT %s FROM `%s` WHERE %s = ?", TABLE_COLUMN_VAL, name, TABLE_COLUMN_KEY);
+    this.containsQuery = String.format("SELECT %s FROM `%s` WHERE %s = ?", TABLE_COLUMN_KEY, name, TABLE_COLUMN_KEY);
+    this.deleteQuery = String.format("DELETE FROM `%s` WHERE %s = ?", name, TABLE_COLUMN_KEY);
 
     // create the table
     provider.executeUpdate(String.format(
@@ -44,6 +65,24 @@ public H2Database(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
       name,
       TABLE_COLUMN_KEY,
       TABLE_COLUMN_VAL));
+
+    // find the indexes which were created for the table, the index columns are quoted to keep the field name case
+    provider.executeQuery(
+      "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS "
+        + "WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND UPPER(TABLE_NAME) = UPPER(?);",
+      resultSet -> {
+        while (resultSet.next()) {
+          var columnName = resultSet.getString(1);
+          if (columnName.startsWith(INDEX_COLUMN_PREFIX)) {
+            this.indexedFields.add(columnName.substring(INDEX_COLUMN_PREFIX.length()));
+          }
+        }
+
+        return null;
+      },
+      null,
+      name);
+    this.upsertStatement = UpsertStatement.create(name, List.copyOf(this.indexedFields));
   }
 
   @Override
@@ -51,53 +90,114 @@ public void close() {
   }
 
   @Override
-  public boolean insert(@NonNull String key, @NonNull Document document) {
-    return this.insertOrUpdate(key, document);
+  public void createIndex(@NonNull String fieldName) {
+    validateIndexFieldName(fieldName);
+    if (this.indexedFields.contains(fieldName)) {
+      return;
+    }
+
+    // block all writes until the index column is filled and written by inserts
+    this.indexLock.writeLock().lock();
+    try {
+      if (this.indexedFields.contains(fieldName)) {
+        return;
+      }
+
+      var columnName = INDEX_COLUMN_PREFIX + fieldName;
+      this.databaseProvider.executeUpdate(String.format(
+        "ALTER TABLE `%s` ADD COLUMN IF NOT EXISTS \"%s\" VARCHAR;",
+        this.name,
+        columnName));
+      this.databaseProvider.executeUpdate(String.format(
+        "CREATE INDEX IF NOT EXISTS \"%s_%s\" ON `%s` (\"%s\");",
+        this.name,
+        columnName,
+        this.name,
+        columnName));
+
+      // fill the column for all documents which are already in the table
+      List<Object[]> updates = new ArrayList<>();
+      this.iterate((key, document) -> updates.add(new Object[]{document.getString(fieldName), key}));
+      if (!updates.isEmpty()) {
+        this.databaseProvider.executeBatchUpdate(
+          String.format("UPDATE `%s` SET \"%s\" = ? WHERE %s = ?;", this.name, columnName, TABLE_COLUMN_KEY),
+          updates);
+      }
+
+      var indexedFields = new ArrayList<>(this.upsertStatement.indexedFields());
+      indexedFields.add(fieldName);
+      this.upsertStatement = UpsertStatement.create(this.name, List.copyOf(indexedFields));
+      this.indexedFields.add(fieldName);
+    } finally {
+      this.indexLock.writeLock().unlock();
+    }
   }
 
-  private boolean insert0(@NonNull String key, @NonNull Document document) {
-    return this.databaseProvider.executeUpdate(
-      "INSERT INTO `" + this.name + "` (" + TABLE_COLUMN_KEY + "," + TABLE_COLUMN_VAL + ") VALUES (?, ?);",
-      key, this.serializeDocumentToJsonString(document)
-    ) != -1;
+  @Override
+  public @NonNull @Unmodifiable Set<String> indexedFields() {
+    return Set.copyOf(this.indexedFields);
   }
 
-  public boolean update0(String key, Document document) {
-    return this.databaseProvider.executeUpdate(
-      "UPDATE `" + this.name + "` SET " + TABLE_COLUMN_VAL + "=? WHERE " + TABLE_COLUMN_KEY + "=?",
-      this.serializeDocumentToJsonString(document), key
-    ) != -1;
+  @Override
+  public boolean insert(@NonNull String key, @NonNull Document document) {
+    this.indexLock.readLock().lock();
+    try {
+      var statement = this.upsertStatement;
+      return this.databaseProvider.executeUpdate(statement.query(), statement.parameters(this, key, document)) != -1;
+    } finally {
+      this.indexLock.readLock().unlock();
+    }
   }
 
-  public boolean insertOrUpdate(String key, Document document) {
-    return this.contains(key) ? this.update0(key, document) : this.insert0(key, document);
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> documents) {
+    if (documents.isEmpty()) {
+      return true;
+    }
+
+    this.indexLock.readLock().lock();
+    try {
+      var statement = this.upsertStatement;
+      List<Object[]> parameters = new ArrayList<>(documents.size());
+      for (var entry : documents.entrySet()) {
+        parameters.add(statement.parameters(this, entry.getKey(), entry.getValue()));
+      }
+
+      return this.databaseProvider.executeBatchUpdate(statement.query(), parameters);
+    } finally {
+      this.indexLock.readLock().unlock();
+    }
   }
 
   @Override
   public boolean contains(@NonNull String key) {
-    return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s` WHERE %s = ?", TABLE_COLUMN_KEY, this.name, TABLE_COLUMN_KEY),
-      ResultSet::next,
-      false,
-      key);
+    return this.databaseProvider.executeQuery(this.containsQuery, ResultSet::next, false, key);
   }
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.delete0(key);
+    return this.databaseProvider.executeUpdate(this.deleteQuery, key) > 0;
   }
 
-  public boolean delete0(String key) {
-    return this.databaseProvider.executeUpdate(
-      String.format("DELETE FROM `%s` WHERE %s = ?", this.name, TABLE_COLUMN_KEY),
-      key
-    ) > 0;
+  @Override
+  public long deleteAll(@NonNull Collection<String> keys) {
+    long deleted = 0;
+    for (var partition : Iterables.partition(keys, MAX_KEYS_PER_DELETE)) {
+      var query = String.format(
+        "DELETE FROM `%s` WHERE %s IN (%s);",
+        this.name,
+        TABLE_COLUMN_KEY,
+        String.join(", ", Collections.nCopies(partition.size(), "?")));
+      deleted += Math.max(0, this.databaseProvider.executeUpdate(query, partition.toArray()));
+    }
+
+    return deleted;
   }
 
   @Override
   public @Nullable Document get(@NonNull String key) {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s` WHERE %s = ?", TABLE_COLUMN_VAL, this.name, TABLE_COLUMN_KEY),
+      this.getQuery,
       resultSet -> resultSet.next() ? DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL)) : null,
       null,
       key
@@ -106,6 +206,10 @@ public boolean delete0(String key) {
 
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, String fieldValue) {
+    if (fieldValue != null && this.indexedFields.contains(fieldName)) {
+      return this.find(Map.of(fieldName, fieldValue));
+    }
+
     return this.databaseProvider.executeQuery(
       String.format("SELECT %s FROM `%s` WHERE %s LIKE ? ESCAPE '$'", TABLE_COLUMN_VAL, this.name, TABLE_COLUMN_VAL),
       resultSet -> {
@@ -135,8 +239,14 @@ public boolean delete0(String key) {
       while (iterator.hasNext()) {
         var entry = iterator.next();
 
-        stringBuilder.append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
-        collection.add("%\"" + entry.getKey() + "\":\"" + entry.getValue().replaceAll("([_%])", "\\$$1") + "\"%");
+        if (this.indexedFields.contains(entry.getKey())) {
+          // use the index column of the field instead of searching through the document
+          stringBuilder.append('"').append(INDEX_COLUMN_PREFIX).append(entry.getKey()).append("\" = ?");
+          collection.add(entry.getValue());
+        } else {
+          stringBuilder.append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
+          collection.add("%\"" + entry.getKey() + "\":\"" + entry.getValue().replaceAll("([_%])", "\\$$1") + "\"%");
+        }
 
         if (iterator.hasNext()) {
           stringBuilder.append(" and ");
@@ -256,4 +366,60 @@ public boolean synced() {
       beginIndex, chunkSize
     );
   }
+
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String afterKey, int chunkSize) {
+    // continue at the given key using the primary key index instead of skipping over all previous rows
+    var query = afterKey == null
+      ? String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ?;", this.name, TABLE_COLUMN_KEY)
+      : String.format(
+        "SELECT * FROM `%s` WHERE `%s` > ? ORDER BY `%s` LIMIT ?;",
+        this.name,
+        TABLE_COLUMN_KEY,
+        TABLE_COLUMN_KEY);
+    var parameters = afterKey == null ? new Object[]{chunkSize} : new Object[]{afterKey, chunkSize};
+
+    return this.databaseProvider.executeQuery(
+      query,
+      resultSet -> {
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          var key = resultSet.getString(TABLE_COLUMN_KEY);
+          var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+          result.put(key, document);
+        }
+
+        return result.isEmpty() ? null : result;
+      }, null, parameters);
+  }
+
+  private record UpsertStatement(@NonNull String query, @NonNull List<String> indexedFields) {
+
+    private static @NonNull UpsertStatement create(@NonNull String table, @NonNull List<String> indexedFields) {
+      // merge the document into the table in one statement, writing the values of the indexed fields as well
+      var columns = new StringBuilder(TABLE_COLUMN_KEY).append(',').append(TABLE_COLUMN_VAL);
+      for (var indexedField : indexedFields) {
+        columns.append(",\"").append(INDEX_COLUMN_PREFIX).append(indexedField).append('"');
+      }
+
+      var query = String.format(
+        "MERGE INTO `%s` (%s) KEY (%s) VALUES (?, ?%s);",
+        table,
+        columns,
+        TABLE_COLUMN_KEY,
+        ", ?".repeat(indexedFields.size()));
+      return new UpsertStatement(query, indexedFields);
+    }
+
+    private @NonNull Object[] parameters(@NonNull H2Database database, @NonNull String key, @NonNull Document document) {
+      var parameters = new Object[this.indexedFields.size() + 2];
+      parameters[0] = key;
+      parameters[1] = database.serializeDocumentToJsonString(document);
+      for (var index = 0; index < this.indexedFields.size(); index++) {
+        parameters[index + 2] = document.getString(this.indexedFields.get(index));
+      }
+
+      return parameters;
+    }
+  }
 }
@@ -28,6 +28,7 @@
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Set;
 import lombok.NonNull;
 import org.h2.Driver;
@@ -105,7 +106,7 @@ public void close() throws Exception {
   public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     try (var preparedStatement = this.connection().prepareStatement(query)) {
       for (var i = 0; i < objects.length; i++) {
-        preparedStatement.setString(i + 1, objects[i].toString());
+        preparedStatement.setString(i + 1, Objects.toString(objects[i], null));
       }
 
       return preparedStatement.executeUpdate();
@@ -115,6 +116,24 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     }
   }
 
+  @Override
+  public boolean executeBatchUpdate(@NonNull String query, @NonNull Collection<Object[]> parameters) {
+    try (var preparedStatement = this.connection().prepareStatement(query)) {
+      for (var objects : parameters) {
+        for (var i = 0; i < objects.length; i++) {
+          preparedStatement.setString(i + 1, Objects.toString(objects[i], null));
+        }
+        preparedStatement.addBatch();
+      }
+
+      preparedStatement.executeBatch();
+      return true;
+    } catch (SQLException exception) {
+      LOGGER.severe("Exception while executing database batch update", exception);
+      return false;
+    }
+  }
+
   @Override
   public @UnknownNullability <T> T executeQuery(
     @NonNull String query,
@@ -124,7 +143,7 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
   ) {
     try (var preparedStatement = this.connection().prepareStatement(query)) {
       for (var i = 0; i < objects.length; i++) {
-        preparedStatement.setString(i + 1, objects[i].toString());
+        preparedStatement.setString(i + 1, Objects.toString(objects[i], null));
       }
 
       try (var resultSet = preparedStatement.executeQuery()) {
@@ -23,38 +23,80 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import jetbrains.exodus.ArrayByteIterable;
+import jetbrains.exodus.ByteIterable;
 import jetbrains.exodus.bindings.StringBinding;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.Store;
+import jetbrains.exodus.env.StoreConfig;
+import jetbrains.exodus.env.Transaction;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 public class XodusDatabase extends AbstractDatabase {
 
+  protected static final String INDEX_STORE_INFIX = "$index$";
+
   protected final Environment environment;
   protected final AtomicReference<Store> store;
+  protected final Map<String, Store> indexStores;
+  protected final ReadWriteLock indexLock = new ReentrantReadWriteLock();
 
-  protected XodusDatabase(@NonNull String name, @NonNull Store store, @NonNull XodusDatabaseProvider provider) {
+  protected XodusDatabase(
+    @NonNull String name,
+    @NonNull Store store,
+    @NonNull Map<String, Store> indexStores,
+    @NonNull XodusDatabaseProvider provider
+  ) {
     super(name, provider);
 
     this.environment = store.getEnvironment();
     this.store = new AtomicReference<>(store);
+    this.indexStores = new ConcurrentHashMap<>(indexStores);
+  }
+
+  protected static @NonNull String indexStorePrefix(@NonNull String databaseName) {
+    return databaseName + INDEX_STORE_INFIX;
   }
 
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
-    return this.environment.computeInExclusiveTransaction(
-      txn -> this.store().put(
-        txn,
-        StringBinding.stringToEntry(key),
-        new ArrayByteIterable(this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8))));
+    this.indexLock.readLock().lock();
+    try {
+      return this.environment.computeInExclusiveTransaction(txn -> this.insert(txn, key, document));
+    } finally {
+      this.indexLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> documents) {
+    this.indexLock.readLock().lock();
+    try {
+      return this.environment.computeInExclusiveTransaction(txn -> {
+        // write all documents in the same transaction, so they are only flushed once
+        var success = true;
+        for (var entry : documents.entrySet()) {
+          success &= this.insert(txn, entry.getKey(), entry.getValue());
+        }
+        return success;
+      });
+    } finally {
+      this.indexLock.readLock().unlock();
+    }
   }
 
   @Override
@@ -65,7 +107,30 @@ public boolean contains(@NonNull String key) {
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.environment.computeInTransaction(txn -> this.store().delete(txn, StringBinding.stringToEntry(key)));
+    this.indexLock.readLock().lock();
+    try {
+      return this.environment.computeInTransaction(txn -> this.delete(txn, key));
+    } finally {
+      this.indexLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public long deleteAll(@NonNull Collection<String> keys) {
+    this.indexLock.readLock().lock();
+    try {
+      return this.environment.computeInExclusiveTransaction(txn -> {
+        long deleted = 0;
+        for (var key : keys) {
+          if (this.delete(txn, key)) {
+            deleted++;
+          }
+        }
+        return deleted;
+      });
+    } finally {
+      this.indexLock.readLock().unlock();
+    }
   }
 
   @Override
@@ -78,6 +143,11 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
+    var indexStore = fieldValue == null ? null : this.indexStores.get(fieldName);
+    if (indexStore != null) {
+      return this.findIndexed(indexStore, fieldName, fieldValue, $ -> true);
+    }
+
     return this.handleWithCursor(($, document) -> {
       if (Objects.equals(document.getString(fieldName), fieldValue)) {
         return document;
@@ -89,14 +159,24 @@ public boolean delete(@NonNull String key) {
   @Override
   public @NonNull List<Document> find(@NonNull Map<String, String> filters) {
     var entries = filters.entrySet();
-    return this.handleWithCursor(($, document) -> {
+    Predicate<Document> filter = document -> {
       for (var entry : entries) {
         if (!Objects.equals(document.getString(entry.getKey()), entry.getValue())) {
-          return null;
+          return false;
         }
       }
-      return document;
-    });
+      return true;
+    };
+
+    // use the index of the first filtered field that has one to find the candidates
+    for (var entry : entries) {
+      var indexStore = entry.getValue() == null ? null : this.indexStores.get(entry.getKey());
+      if (indexStore != null) {
+        return this.findIndexed(indexStore, entry.getKey(), entry.getValue(), filter);
+      }
+    }
+
+    return this.handleWithCursor(($, document) -> filter.test(document) ? document : null);
   }
 
   @Override
@@ -123,10 +203,22 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
 
   @Override
   public void clear() {
-    this.environment.executeInExclusiveTransaction(txn -> {
-      this.environment.truncateStore(this.name, txn);
-      this.store.set(this.environment.openStore(this.name, this.store().getConfig(), txn));
-    });
+    this.indexLock.readLock().lock();
+    try {
+      this.environment.executeInExclusiveTransaction(txn -> {
+        this.environment.truncateStore(this.name, txn);
+        this.store.set(this.environment.openStore(this.name, this.store().getConfig(), txn));
+
+        // the indexes are empty as well now
+        for (var entry : this.indexStores.entrySet()) {
+          var indexStore = entry.getValue();
+          this.environment.truncateStore(indexStore.getName(), txn);
+          entry.setValue(this.environment.openStore(indexStore.getName(), indexStore.getConfig(), txn));
+        }
+      });
+    } finally {
+      this.indexLock.readLock().unlock();
+    }
   }
 
   @Override
@@ -139,10 +231,133 @@ public boolean synced() {
     return false;
   }
 
+  @Override
+  public void createIndex(@NonNull String fieldName) {
+    validateIndexFieldName(fieldName);
+    if (this.indexStores.containsKey(fieldName)) {
+      return;
+    }
+
+    // block all writes until the index store is filled and published, writes made after building the index but
+    // before publishing the store would not be added to the index otherwise
+    this.indexLock.writeLock().lock();
+    try {
+      if (this.indexStores.containsKey(fieldName)) {
+        return;
+      }
+
+      var createdIndexStore = this.environment.computeInExclusiveTransaction(txn -> {
+        var indexStore = this.environment.openStore(
+          indexStorePrefix(this.name) + fieldName,
+          StoreConfig.WITH_DUPLICATES_WITH_PREFIXING,
+          txn);
+        try (var cursor = this.store().openCursor(txn)) {
+          while (cursor.getNext()) {
+            var fieldValue = DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()).getString(fieldName);
+            if (fieldValue != null) {
+              indexStore.put(txn, StringBinding.stringToEntry(fieldValue), cursor.getKey());
+            }
+          }
+        }
+
+        return indexStore;
+      });
+      this.indexStores.put(fieldName, createdIndexStore);
+    } finally {
+      this.indexLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public @NonNull @Unmodifiable Set<String> indexedFields() {
+    return Set.copyOf(this.indexStores.keySet());
+  }
+
   @Override
   public void close() {
   }
 
+  protected boolean insert(@NonNull Transaction txn, @NonNull String key, @NonNull Document document) {
+    var entryKey = StringBinding.stringToEntry(key);
+    if (!this.indexStores.isEmpty()) {
+      // replace the index entries of the previous document with the entries of the new document
+      this.removeIndexEntries(txn, entryKey, this.store().get(txn, entryKey));
+      this.addIndexEntries(txn, entryKey, document);
+    }
+
+    return this.store().put(
+      txn,
+      entryKey,
+      new ArrayByteIterable(this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8)));
+  }
+
+  protected boolean delete(@NonNull Transaction txn, @NonNull String key) {
+    var entryKey = StringBinding.stringToEntry(key);
+    if (!this.indexStores.isEmpty()) {
+      this.removeIndexEntries(txn, entryKey, this.store().get(txn, entryKey));
+    }
+
+    return this.store().delete(txn, entryKey);
+  }
+
+  protected @NonNull List<Document> findIndexed(
+    @NonNull Store indexStore,
+    @NonNull String fieldName,
+    @NonNull String fieldValue,
+    @NonNull Predicate<Document> filter
+  ) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      List<Document> result = new ArrayList<>();
+      try (var cursor = indexStore.openCursor(txn)) {
+        // the keys of all documents with the field value are stored as duplicates of the value
+        var hasEntry = cursor.getSearchKey(StringBinding.stringToEntry(fieldValue)) != null;
+        while (hasEntry) {
+          var entry = this.store().get(txn, cursor.getValue());
+          if (entry != null) {
+            // re-check the field value, the index might not have caught up with a concurrent change yet
+            var document = DocumentFactory.json().parse(entry.getBytesUnsafe());
+            if (Objects.equals(document.getString(fieldName), fieldValue) && filter.test(document)) {
+              result.add(document);
+            }
+          }
+
+          hasEntry = cursor.getNextDup();
+        }
+      }
+
+      return result;
+    });
+  }
+
+  protected void addIndexEntries(@NonNull Transaction txn, @NonNull ByteIterable key, @NonNull Document document) {
+    for (var entry : this.indexStores.entrySet()) {
+      var fieldValue = document.getString(entry.getKey());
+      if (fieldValue != null) {
+        entry.getValue().put(txn, StringBinding.stringToEntry(fieldValue), key);
+      }
+    }
+  }
+
+  protected void removeIndexEntries(
+    @NonNull Transaction txn,
+    @NonNull ByteIterable key,
+    @Nullable ByteIterable previousDocument
+  ) {
+    if (previousDocument != null) {
+      var document = DocumentFactory.json().parse(previousDocument.getBytesUnsafe());
+      for (var entry : this.indexStores.entrySet()) {
+        var fieldValue = document.getString(entry.getKey());
+        if (fieldValue != null) {
+          try (var cursor = entry.getValue().openCursor(txn)) {
+            if (cursor.getSearchBoth(StringBinding.stringToEntry(fieldValue), key)) {
+              cursor.deleteCurrent();
+            }
+          }
+        }
+      }
+    }
+  }
+
   protected @NonNull <T> List<T> handleWithCursor(@NonNull BiFunction<String, Document, T> mapper) {
     List<T> result = new ArrayList<>();
     this.acceptWithCursor((key, document) -> {
@@ -192,6 +407,32 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
     });
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String afterKey, int chunkSize) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      try (var cursor = this.store().openCursor(txn)) {
+        // jump directly to the given key (or the next key if the given key is no longer present)
+        boolean hasEntry;
+        if (afterKey == null) {
+          hasEntry = cursor.getNext();
+        } else {
+          var key = StringBinding.stringToEntry(afterKey);
+          hasEntry = cursor.getSearchKeyRange(key) != null && (cursor.getKey().compareTo(key) != 0 || cursor.getNext());
+        }
+
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (hasEntry && result.size() < chunkSize) {
+          result.put(
+            StringBinding.entryToString(cursor.getKey()),
+            DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()));
+          hasEntry = cursor.getNext();
+        }
+
+        return result.isEmpty() ? null : result;
+      }
+    });
+  }
+
   protected @NonNull Store store() {
     return this.store.get();
   }
@@ -33,10 +33,16 @@
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshotDelta;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.driver.service.ServiceSnapshotSubscription;
+import eu.cloudnetservice.node.provider.NodeMessenger;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.NonNull;
 
 @Singleton
@@ -44,16 +50,20 @@ public final class ServiceChannelMessageListener {
 
   private static final Logger LOGGER = LogManager.logger(ServiceChannelMessageListener.class);
 
+  private final NodeMessenger messenger;
   private final EventManager eventManager;
   private final CloudServiceManager serviceManager;
   private final CloudServiceFactory cloudServiceFactory;
+  private final Set<UUID> pendingSnapshotRequests = ConcurrentHashMap.newKeySet();
 
   @Inject
   public ServiceChannelMessageListener(
+    @NonNull NodeMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull CloudServiceManager serviceManager,
     @NonNull CloudServiceFactory cloudServiceFactory
   ) {
+    this.messenger = messenger;
     this.eventManager = eventManager;
     this.serviceManager = serviceManager;
     this.cloudServiceFactory = cloudServiceFactory;
@@ -121,6 +131,24 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
           this.eventManager.callEvent(new CloudServiceUpdateEvent(snapshot));
         }
 
+        // delta update of a service in the network
+        case "update_service_info_delta" -> {
+          var delta = event.content().readObject(ServiceInfoSnapshotDelta.class);
+          var knownSnapshot = this.serviceManager.service(delta.serviceUniqueId());
+          // deltas older than the known snapshot are ignored, for example when received after a full resync
+          if (knownSnapshot == null || knownSnapshot.creationTime() < delta.creationTime()) {
+            var snapshot = delta.applyTo(knownSnapshot);
+            if (snapshot == null) {
+              // the base snapshot of the delta is not known, request the full snapshot from the service
+              this.requestServiceInfoSnapshot(delta, event);
+            } else {
+              // update locally and call the event
+              this.serviceManager.handleServiceUpdate(snapshot, event.networkChannel());
+              this.eventManager.callEvent(new CloudServiceUpdateEvent(snapshot));
+            }
+          }
+        }
+
         // update of a service lifecycle in the network
         case "update_service_lifecycle" -> {
           var lifeCycle = event.content().readObject(ServiceLifeCycle.class);
@@ -130,6 +158,12 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
           this.eventManager.callEvent(new CloudServiceLifecycleChangeEvent(lifeCycle, snapshot));
         }
 
+        // a local service changed the services it wants to receive the snapshot updates of
+        case "update_service_snapshot_subscription" -> {
+          var subscription = event.content().readObject(ServiceSnapshotSubscription.class);
+          this.messenger.subscription(event.networkChannel(), subscription);
+        }
+
         // call the event for a new line in the log of the service
         case "screen_new_line" -> {
           var snapshot = event.content().readObject(ServiceInfoSnapshot.class);
@@ -157,6 +191,30 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
     }
   }
 
+  private void requestServiceInfoSnapshot(
+    @NonNull ServiceInfoSnapshotDelta delta,
+    @NonNull ChannelMessageReceiveEvent event
+  ) {
+    // only request the snapshot once, all deltas received until the response arrives are based on it
+    var uniqueId = delta.serviceUniqueId();
+    if (this.pendingSnapshotRequests.add(uniqueId)) {
+      ChannelMessage.builder()
+        .targetService(delta.serviceName())
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .message("request_service_info_snapshot")
+        .build()
+        .sendSingleQueryAsync()
+        .whenComplete((response, exception) -> {
+          this.pendingSnapshotRequests.remove(uniqueId);
+          var snapshot = response == null ? null : response.content().readObject(ServiceInfoSnapshot.class);
+          if (snapshot != null) {
+            this.serviceManager.handleServiceUpdate(snapshot, event.networkChannel());
+            this.eventManager.callEvent(new CloudServiceUpdateEvent(snapshot));
+          }
+        });
+    }
+  }
+
   @EventListener
   public void handleRemoteLifecycleChanges(@NonNull CloudServiceLifecycleChangeEvent event) {
     var id = event.serviceInfo().serviceId();
@@ -122,6 +122,9 @@ public void init() {
       this.loadGroups();
     }
 
+    // users are looked up by their name frequently, for example during the rest authentication
+    this.userDatabaseTable().createIndex("name");
+
     this.eventManager.registerListener(this.networkListener);
     this.rpcFactory.newHandler(PermissionManagement.class, this).registerTo(this.handlerRegistry);
   }
@@ -17,16 +17,22 @@
 package eu.cloudnetservice.node.provider;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.MapMaker;
 import dev.derklaro.aerogel.auto.Provides;
 import eu.cloudnetservice.common.concurrent.CountingTask;
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.def.PacketServerChannelMessage;
 import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.defaults.DefaultMessenger;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.driver.service.ServiceSnapshotSubscription;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.CloudServiceManager;
@@ -37,26 +43,40 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 @Singleton
 @Provides(CloudMessenger.class)
 public class NodeMessenger extends DefaultMessenger implements CloudMessenger {
 
   protected static final Type COL_MSG = TypeFactory.parameterizedClass(Collection.class, ChannelMessage.class);
+  protected static final Set<String> SNAPSHOT_UPDATE_MESSAGES = Set.of(
+    "update_service_info",
+    "update_service_info_delta",
+    "update_service_lifecycle");
 
+  protected final DataBufFactory dataBufFactory;
   protected final NodeServerProvider nodeServerProvider;
   protected final CloudServiceManager cloudServiceManager;
 
+  // the channels are weakly referenced, subscriptions are dropped once the channel of a service is gone
+  protected final Map<NetworkChannel, ServiceSnapshotSubscription> subscriptions = new MapMaker().weakKeys().makeMap();
+
   @Inject
   public NodeMessenger(
+    @NonNull DataBufFactory dataBufFactory,
     @NonNull NodeServerProvider nodeServerProvider,
     @NonNull CloudServiceManager cloudServiceManager
   ) {
+    this.dataBufFactory = dataBufFactory;
     this.nodeServerProvider = nodeServerProvider;
     this.cloudServiceManager = cloudServiceManager;
   }
@@ -76,26 +96,36 @@ public void sendChannelMessage(@NonNull ChannelMessage message) {
     return this.sendChannelMessageQueryAsync(channelMessage).get(20, TimeUnit.SECONDS, Collections.emptyList());
   }
 
+  public void subscription(@NonNull NetworkChannel channel, @NonNull ServiceSnapshotSubscription subscription) {
+    this.subscriptions.put(channel, subscription);
+  }
+
   public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClusterRedirect) {
     // find the target channels to send the message to
-    var channels = this.findChannels(message.targets(), allowClusterRedirect);
-    for (var channel : channels) {
-      // acquire the message content for each channel we're sending the message to
-      // when writing the message content to the target buffer, the message is released
-      // that means when the message was written to all channels it's released unless someone acquired it before
-      message.content().acquire();
+    var channels = this.filterSubscribedChannels(message, this.findChannels(message.targets(), allowClusterRedirect));
+    if (channels.isEmpty()) {
+      // no target channels found, release the message now
+      message.content().release();
+      return;
+    }
 
-      // construct and send the packet
-      var packet = new PacketServerChannelMessage(message, false);
-      if (message.sendSync()) {
-        channel.sendPacketSync(packet);
-      } else {
-        channel.sendPacket(packet);
+    // encode the message only once, no matter to how many channels the message is sent
+    var encodedMessage = this.encodeMessage(message);
+    try {
+      for (var channel : channels) {
+        // each packet gets its own view of the encoded message as the content is released once written
+        var content = this.dataBufFactory.copyOf(encodedMessage);
+        var packet = new PacketServerChannelMessage(message.prioritized(), content);
+        if (message.sendSync()) {
+          channel.sendPacketSync(packet);
+        } else {
+          channel.sendPacket(packet);
+        }
       }
+    } finally {
+      // release the encoded message now
+      encodedMessage.release();
     }
-
-    // release the message now
-    message.content().release();
   }
 
   public @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
@@ -103,43 +133,109 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
     boolean allowClusterRedirect
   ) {
     // find the target channels to send the message to
-    var channels = this.findChannels(message.targets(), allowClusterRedirect);
+    var channels = this.filterSubscribedChannels(message, this.findChannels(message.targets(), allowClusterRedirect));
     if (channels.isEmpty()) {
       // no target channels found, release the message now
       message.content().release();
       return Task.completedTask(new HashSet<>());
     } else {
       // the result we generate
-      Set<ChannelMessage> result = new HashSet<>();
+      Set<ChannelMessage> result = ConcurrentHashMap.newKeySet();
       var task = new CountingTask<Collection<ChannelMessage>>(result, channels.size());
 
-      // send the packet to each channel
-      for (var channel : channels) {
-        // acquire the message content for each channel we're sending the message to
-        // when writing the message content to the target buffer, the message is released
-        // that means when the message was written to all channels it's released unless someone acquired it before
-        message.content().acquire();
-
-        channel.sendQueryAsync(new PacketServerChannelMessage(message, false)).whenComplete((packet, th) -> {
-          // check if we got an actual result from the request
-          if (th == null && packet.readable()) {
-            // add all resulting messages we got
-            result.addAll(packet.content().readObject(COL_MSG));
-          }
+      // encode the message only once, no matter to how many channels the message is sent
+      var encodedMessage = this.encodeMessage(message);
+      try {
+        // send the packet to each channel
+        for (var channel : channels) {
+          // each packet gets its own view of the encoded message as the content is released once written
+          var content = this.dataBufFactory.copyOf(encodedMessage);
+          var query = new PacketServerChannelMessage(message.prioritized(), content);
+          channel.sendQueryAsync(query).whenComplete((packet, th) -> {
+            // check if we got an actual result from the request
+            if (th == null && packet.readable()) {
+              // add all resulting messages we got
+              result.addAll(packet.content().readObject(COL_MSG));
+            }
 
-          // count down - one channel responded
-          task.countDown();
-        });
+            // count down - one channel responded
+            task.countDown();
+          });
+        }
+      } finally {
+        // release the encoded message now
+        encodedMessage.release();
       }
 
-      // release the message now
-      message.content().release();
-
       // return the task on which the user can wait
       return task;
     }
   }
 
+  protected @NonNull Collection<NetworkChannel> filterSubscribedChannels(
+    @NonNull ChannelMessage message,
+    @NonNull Collection<NetworkChannel> channels
+  ) {
+    // only snapshot updates are filtered, and only if any service registered a subscription
+    if (this.subscriptions.isEmpty()
+      || !message.channel().equals(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      || !SNAPSHOT_UPDATE_MESSAGES.contains(message.message())) {
+      return channels;
+    }
+
+    var snapshot = this.readUpdatedService(message);
+    if (snapshot == null) {
+      return channels;
+    }
+
+    // services always receive the updates of themselves
+    var localService = this.cloudServiceManager.localCloudService(snapshot.serviceId().uniqueId());
+    var serviceChannel = localService == null ? null : localService.networkChannel();
+    return channels.stream()
+      .filter(channel -> {
+        var subscription = this.subscriptions.get(channel);
+        return subscription == null || channel == serviceChannel || subscription.matches(snapshot);
+      })
+      .collect(Collectors.toSet());
+  }
+
+  protected @Nullable ServiceInfoSnapshot readUpdatedService(@NonNull ChannelMessage message) {
+    var content = message.content();
+    content.startTransaction();
+    try {
+      // the unique id of the service is the first component of a delta, there is no need to read the full delta
+      if (message.message().equals("update_service_info_delta")) {
+        var serviceUniqueId = content.readNullable(buf -> buf.readObject(UUID.class));
+        return serviceUniqueId == null ? null : this.cloudServiceManager.service(serviceUniqueId);
+      }
+
+      // full snapshots are rare (wrappers only send them if no delta is possible) and can be sent by any component for
+      // any service, for example a wrapper publishing the snapshot of another service. Read the snapshot from them
+      return switch (message.message()) {
+        case "update_service_info" -> content.readObject(ServiceInfoSnapshot.class);
+        case "update_service_lifecycle" -> {
+          content.readObject(ServiceLifeCycle.class);
+          yield content.readObject(ServiceInfoSnapshot.class);
+        }
+        default -> null;
+      };
+    } finally {
+      // reset the content for the encoding of the message
+      content.redoTransaction();
+    }
+  }
+
+  protected @NonNull DataBuf encodeMessage(@NonNull ChannelMessage message) {
+    // encoding the message releases the message content. The encoded message is copied once into a read-only
+    // buffer, copies of a read-only buffer share its memory instead of copying it again for each target channel
+    var encodedMessage = PacketServerChannelMessage.encodeMessage(message, false);
+    try {
+      return this.dataBufFactory.copyOf(encodedMessage);
+    } finally {
+      encodedMessage.release();
+    }
+  }
+
   protected @NonNull Collection<NetworkChannel> findChannels(
     @NonNull Collection<ChannelMessageTarget> targets,
     boolean allowClusterRedirect
@@ -190,18 +190,24 @@ public boolean valid() {
   public @Nullable ServiceInfoSnapshot forceUpdateServiceInfo() {
     // check if the service is able to serve the request
     if (this.networkChannel != null) {
-      var response = ChannelMessage.builder()
-        .targetService(this.serviceId().name())
-        .message("request_update_service_information")
-        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
-        .build()
-        .sendSingleQuery();
-      return response == null ? this.currentServiceInfo : response.content().readObject(ServiceInfoSnapshot.class);
+      var response = this.sendServiceQuery("request_update_service_information");
+      return response == null ? this.currentServiceInfo : response.readObject(ServiceInfoSnapshot.class);
     } else {
       return this.currentServiceInfo;
     }
   }
 
+  @Override
+  public @Nullable ProcessSnapshot detailedProcessSnapshot() {
+    // check if the service is able to serve the request
+    if (this.networkChannel != null) {
+      var response = this.sendServiceQuery("request_detailed_process_snapshot");
+      return response == null ? null : response.readObject(ProcessSnapshot.class);
+    } else {
+      return null;
+    }
+  }
+
   @Override
   public void addServiceTemplate(@NonNull ServiceTemplate serviceTemplate) {
     this.waitingTemplates.add(serviceTemplate);
@@ -658,6 +664,17 @@ protected void pushServiceInfoSnapshotUpdate(
     }
   }
 
+  protected @Nullable DataBuf sendServiceQuery(@NonNull String message) {
+    // send the query to the wrapper of this service, the response is null if the service did not answer in time
+    var response = ChannelMessage.builder()
+      .targetService(this.serviceId().name())
+      .message(message)
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .build()
+      .sendSingleQuery();
+    return response == null ? null : response.content();
+  }
+
   protected boolean canStartNow() {
     // check jvm heap size
     if (this.cloudServiceManager.currentUsedHeapMemory()
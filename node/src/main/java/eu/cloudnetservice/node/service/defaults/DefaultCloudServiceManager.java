@@ -38,6 +38,7 @@
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceId;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.driver.service.ServiceTask;
@@ -69,6 +70,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -97,6 +99,7 @@ public class DefaultCloudServiceManager implements CloudServiceManager {
   protected final CloudServiceFactory cloudServiceFactory;
 
   protected final Map<UUID, SpecificCloudServiceProvider> knownServices = new ConcurrentHashMap<>();
+  protected final ServiceProviderIndex serviceIndex = new ServiceProviderIndex();
   protected final Cache<UUID, CloudService> localUnacceptedServices = Caffeine.newBuilder()
     .expireAfterWrite(Duration.ofMinutes(1))
     .build();
@@ -178,13 +181,8 @@ private void registerDefaultServiceFactory() {
 
   @Override
   public @NonNull SpecificCloudServiceProvider serviceProviderByName(@NonNull String serviceName) {
-    return this.knownServices.values().stream()
-      .filter(provider -> {
-        var serviceInfo = provider.serviceInfo();
-        return serviceInfo != null && serviceInfo.serviceId().name().equals(serviceName);
-      })
-      .findFirst()
-      .orElse(EmptySpecificCloudServiceProvider.INSTANCE);
+    var provider = this.serviceIndex.serviceByName(serviceName);
+    return provider == null ? EmptySpecificCloudServiceProvider.INSTANCE : provider;
   }
 
   @Override
@@ -206,29 +204,17 @@ private void registerDefaultServiceFactory() {
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByTask(@NonNull String taskName) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().taskName().equals(taskName))
-      .toList();
+    return this.snapshotsOf(this.serviceIndex.servicesByTask(taskName));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByEnvironment(@NonNull String environment) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().environmentName().equals(environment))
-      .toList();
+    return this.snapshotsOf(this.serviceIndex.servicesByEnvironment(environment));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByGroup(@NonNull String group) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.configuration().groups().contains(group))
-      .toList();
+    return this.snapshotsOf(this.serviceIndex.servicesByGroup(group));
   }
 
   @Override
@@ -238,12 +224,12 @@ public int serviceCount() {
 
   @Override
   public int serviceCountByGroup(@NonNull String group) {
-    return this.servicesByGroup(group).size();
+    return this.serviceIndex.serviceCountByGroup(group);
   }
 
   @Override
   public int serviceCountByTask(@NonNull String taskName) {
-    return this.servicesByTask(taskName).size();
+    return this.serviceIndex.serviceCountByTask(taskName);
   }
 
   @Override
@@ -345,10 +331,7 @@ public void deleteAllCloudServices() {
 
   @Override
   public @NonNull @UnmodifiableView Collection<CloudService> localCloudServices() {
-    return this.knownServices.values().stream()
-      .filter(provider -> provider instanceof CloudService) // -> CloudService => local service
-      .map(provider -> (CloudService) provider)
-      .toList();
+    return this.serviceIndex.localServices();
   }
 
   @Override
@@ -436,12 +419,12 @@ public int currentReservedMemory() {
 
   @Override
   public void registerLocalService(@NonNull CloudService service) {
-    this.knownServices.putIfAbsent(service.serviceId().uniqueId(), service);
+    this.registerKnownService(service, service.serviceId(), service.serviceConfiguration().groups());
   }
 
   @Override
   public void unregisterLocalService(@NonNull CloudService service) {
-    this.knownServices.remove(service.serviceId().uniqueId());
+    this.removeKnownService(service.serviceId().uniqueId());
   }
 
   @Override
@@ -458,7 +441,7 @@ public void registerUnacceptedService(@NonNull CloudService service) {
 
   @Override
   public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
-    this.knownServices.remove(uniqueId);
+    this.removeKnownService(uniqueId);
   }
 
   @Override
@@ -481,15 +464,15 @@ public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
     ).newInstance(new Object[]{snapshot}, new Object[]{snapshot.serviceId().uniqueId()});
 
     // register the service and return the new provider, unless some other thread registered the service
-    var knownProvider = this.knownServices.putIfAbsent(serviceUniqueId, serviceProvider);
-    return knownProvider == null ? serviceProvider : null;
+    var registered = this.registerKnownService(serviceProvider, snapshot.serviceId(), snapshot.configuration().groups());
+    return registered ? serviceProvider : null;
   }
 
   @Override
   public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable NetworkChannel source) {
     // deleted services were removed on the other node - remove it here too
     if (snapshot.lifeCycle() == ServiceLifeCycle.DELETED) {
-      this.knownServices.remove(snapshot.serviceId().uniqueId());
+      this.removeKnownService(snapshot.serviceId().uniqueId());
       LOGGER.fine("Deleted cloud service %s after lifecycle change to deleted", null, snapshot.serviceId());
     } else {
       // register the service if the provider is available
@@ -503,10 +486,12 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable
         // update the provider if possible - we need only to handle remote node providers as local providers will update
         // the snapshot directly "in" them
         remoteProvider.snapshot(snapshot);
+        this.reindexKnownService(snapshot);
         LOGGER.fine("Updated service snapshot of %s to %s", null, snapshot.serviceId(), snapshot);
       } else if (provider instanceof CloudService localService) {
         // just set the service information locally - no further processing
         localService.updateServiceInfoSnapshot(snapshot);
+        this.reindexKnownService(snapshot);
       }
     }
   }
@@ -580,10 +565,46 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable
     }
   }
 
+  protected boolean registerKnownService(
+    @NonNull SpecificCloudServiceProvider provider,
+    @NonNull ServiceId serviceId,
+    @NonNull Set<String> groups
+  ) {
+    // the index is updated while holding the lock of the known service entry, this ensures that
+    // concurrent modifications of the same service can't leave the index in an inconsistent state
+    var knownProvider = this.knownServices.computeIfAbsent(serviceId.uniqueId(), $ -> {
+      this.serviceIndex.index(provider, serviceId, groups);
+      return provider;
+    });
+    return knownProvider == provider;
+  }
+
+  protected void removeKnownService(@NonNull UUID serviceUniqueId) {
+    this.knownServices.computeIfPresent(serviceUniqueId, (uniqueId, $) -> {
+      this.serviceIndex.remove(uniqueId);
+      return null;
+    });
+  }
+
+  protected void reindexKnownService(@NonNull ServiceInfoSnapshot snapshot) {
+    this.knownServices.computeIfPresent(snapshot.serviceId().uniqueId(), ($, provider) -> {
+      this.serviceIndex.reindex(provider, snapshot.serviceId(), snapshot.configuration().groups());
+      return provider;
+    });
+  }
+
+  protected @NonNull @Unmodifiable Collection<ServiceInfoSnapshot> snapshotsOf(
+    @NonNull Collection<? extends SpecificCloudServiceProvider> providers
+  ) {
+    return providers.stream()
+      .map(SpecificCloudServiceProvider::serviceInfo)
+      .filter(Objects::nonNull)
+      .toList();
+  }
+
   protected int calculateReservedMemoryPercentage(@NonNull NodeServer server) {
     // get the reserved memory on the given node based on the services which are running on it and sum it up
-    var reservedMemory = this.services().stream()
-      .filter(info -> info.serviceId().nodeUniqueId().equals(server.name()))
+    var reservedMemory = this.snapshotsOf(this.serviceIndex.servicesByNode(server.name())).stream()
       .mapToInt(info -> info.configuration().processConfig().maxHeapMemorySize())
       .sum();
     // convert to a percentage
@@ -229,6 +229,7 @@ protected void doStartProcess(
 
       // start the process and fire the post start event
       this.process = builder.start();
+      super.logCache.update();
       this.eventManager.callEvent(new CloudServicePostProcessStartEvent(this));
     } catch (IOException exception) {
       LOGGER.severe("Unable to start process in %s with command line %s",
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import eu.cloudnetservice.common.concurrent.ConcurrentBucketIndex;
+import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ServiceId;
+import eu.cloudnetservice.node.service.CloudService;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+public final class ServiceProviderIndex {
+
+  private final Map<UUID, IndexEntry> indexedServices = new ConcurrentHashMap<>();
+  private final Map<UUID, CloudService> localServices = new ConcurrentHashMap<>();
+  private final Map<String, UUID> servicesByName = new ConcurrentHashMap<>();
+
+  private final ConcurrentBucketIndex<String, UUID, SpecificCloudServiceProvider> servicesByTask =
+    new ConcurrentBucketIndex<>();
+  private final ConcurrentBucketIndex<String, UUID, SpecificCloudServiceProvider> servicesByNode =
+    new ConcurrentBucketIndex<>();
+  private final ConcurrentBucketIndex<String, UUID, SpecificCloudServiceProvider> servicesByGroup =
+    new ConcurrentBucketIndex<>();
+  private final ConcurrentBucketIndex<String, UUID, SpecificCloudServiceProvider> servicesByEnvironment =
+    new ConcurrentBucketIndex<>();
+
+  public void index(
+    @NonNull SpecificCloudServiceProvider provider,
+    @NonNull ServiceId serviceId,
+    @NonNull Set<String> groups
+  ) {
+    var uniqueId = serviceId.uniqueId();
+    var keys = new IndexKeys(
+      serviceId.name(),
+      serviceId.taskName(),
+      serviceId.environmentName(),
+      serviceId.nodeUniqueId(),
+      Set.copyOf(groups));
+
+    // remove the old index entries if the service was already indexed
+    var previous = this.indexedServices.put(uniqueId, new IndexEntry(provider, keys));
+    if (previous != null) {
+      this.removeKeys(uniqueId, previous.keys());
+    }
+
+    this.servicesByName.put(keys.name(), uniqueId);
+    this.servicesByTask.put(keys.task(), uniqueId, provider);
+    this.servicesByNode.put(keys.node(), uniqueId, provider);
+    this.servicesByEnvironment.put(keys.environment(), uniqueId, provider);
+    for (var group : keys.groups()) {
+      this.servicesByGroup.put(group, uniqueId, provider);
+    }
+
+    // local services are the only ones which are represented as a cloud service
+    if (provider instanceof CloudService localService) {
+      this.localServices.put(uniqueId, localService);
+    }
+  }
+
+  public void reindex(
+    @NonNull SpecificCloudServiceProvider provider,
+    @NonNull ServiceId serviceId,
+    @NonNull Set<String> groups
+  ) {
+    // only re-index the service if it is still known, prevents the resurrection of removed services
+    var current = this.indexedServices.get(serviceId.uniqueId());
+    if (current != null && !current.keys().matches(serviceId, groups)) {
+      this.index(provider, serviceId, groups);
+    }
+  }
+
+  public void remove(@NonNull UUID uniqueId) {
+    var entry = this.indexedServices.remove(uniqueId);
+    if (entry != null) {
+      this.removeKeys(uniqueId, entry.keys());
+      this.localServices.remove(uniqueId);
+    }
+  }
+
+  public @Nullable SpecificCloudServiceProvider serviceByName(@NonNull String name) {
+    var uniqueId = this.servicesByName.get(name);
+    var entry = uniqueId == null ? null : this.indexedServices.get(uniqueId);
+    return entry == null ? null : entry.provider();
+  }
+
+  public @NonNull @Unmodifiable Collection<SpecificCloudServiceProvider> servicesByTask(@NonNull String task) {
+    return this.servicesByTask.values(task);
+  }
+
+  public @NonNull @Unmodifiable Collection<SpecificCloudServiceProvider> servicesByNode(@NonNull String node) {
+    return this.servicesByNode.values(node);
+  }
+
+  public @NonNull @Unmodifiable Collection<SpecificCloudServiceProvider> servicesByGroup(@NonNull String group) {
+    return this.servicesByGroup.values(group);
+  }
+
+  public @NonNull @Unmodifiable Collection<SpecificCloudServiceProvider> servicesByEnvironment(@NonNull String env) {
+    return this.servicesByEnvironment.values(env);
+  }
+
+  public @NonNull @Unmodifiable Collection<CloudService> localServices() {
+    return List.copyOf(this.localServices.values());
+  }
+
+  public int serviceCountByTask(@NonNull String task) {
+    return this.servicesByTask.size(task);
+  }
+
+  public int serviceCountByGroup(@NonNull String group) {
+    return this.servicesByGroup.size(group);
+  }
+
+  private void removeKeys(@NonNull UUID uniqueId, @NonNull IndexKeys keys) {
+    // only remove the name mapping if it still points to the service we're removing
+    this.servicesByName.remove(keys.name(), uniqueId);
+
+    this.servicesByTask.remove(keys.task(), uniqueId);
+    this.servicesByNode.remove(keys.node(), uniqueId);
+    this.servicesByEnvironment.remove(keys.environment(), uniqueId);
+    for (var group : keys.groups()) {
+      this.servicesByGroup.remove(group, uniqueId);
+    }
+  }
+
+  private record IndexEntry(@NonNull SpecificCloudServiceProvider provider, @NonNull IndexKeys keys) {
+
+  }
+
+  private record IndexKeys(
+    @NonNull String name,
+    @NonNull String task,
+    @NonNull String environment,
+    @Nullable String node,
+    @NonNull Set<String> groups
+  ) {
+
+    public boolean matches(@NonNull ServiceId serviceId, @NonNull Set<String> groups) {
+      return this.name.equals(serviceId.name())
+        && this.task.equals(serviceId.taskName())
+        && this.environment.equals(serviceId.environmentName())
+        && Objects.equals(this.node, serviceId.nodeUniqueId())
+        && this.groups.equals(groups);
+    }
+  }
+}
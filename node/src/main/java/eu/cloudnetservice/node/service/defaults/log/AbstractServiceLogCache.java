@@ -23,12 +23,14 @@
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.ServiceConsoleLineHandler;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import lombok.NonNull;
 import org.jetbrains.annotations.UnmodifiableView;
 
@@ -38,15 +40,16 @@ public abstract class AbstractServiceLogCache implements ServiceConsoleLogCache
 
   protected final CloudService service;
 
-  protected final Queue<String> cachedLogMessages = new ConcurrentLinkedQueue<>();
   protected final Set<ServiceConsoleLineHandler> handlers = ConcurrentHashMap.newKeySet();
+  // lines are added while holding the read lock, the buffer is only replaced while holding the write lock
+  protected final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
 
-  protected volatile int logCacheSize;
+  protected volatile LogLineRingBuffer cachedLogMessages;
   protected volatile boolean alwaysPrintErrorStreamToConsole;
 
   public AbstractServiceLogCache(@NonNull Configuration configuration, @NonNull CloudService service) {
     this.service = service;
-    this.logCacheSize = configuration.maxServiceConsoleLogCacheSize();
+    this.cachedLogMessages = new LogLineRingBuffer(configuration.maxServiceConsoleLogCacheSize());
     this.alwaysPrintErrorStreamToConsole = configuration.printErrorStreamLinesFromServices();
   }
 
@@ -57,18 +60,26 @@ public AbstractServiceLogCache(@NonNull Configuration configuration, @NonNull Cl
 
   @Override
   public @NonNull Queue<String> cachedLogMessages() {
-    return this.cachedLogMessages;
+    return new ArrayDeque<>(this.cachedLogMessages.snapshot());
   }
 
   @Override
   public int logCacheSize() {
-    return this.logCacheSize;
+    return this.cachedLogMessages.capacity();
   }
 
   @Override
   public void logCacheSize(int cacheSize) {
     Preconditions.checkArgument(cacheSize >= 0, "Cache size must be higher or equal to 0");
-    this.logCacheSize = cacheSize;
+    // no line can be added to the old buffer after its contents were moved into the new buffer
+    this.cacheLock.writeLock().lock();
+    try {
+      if (this.cachedLogMessages.capacity() != cacheSize) {
+        this.cachedLogMessages = this.cachedLogMessages.resize(cacheSize);
+      }
+    } finally {
+      this.cacheLock.writeLock().unlock();
+    }
   }
 
   @Override
@@ -97,16 +108,17 @@ public void removeHandler(@NonNull ServiceConsoleLineHandler handler) {
   }
 
   protected void handleItem(@NonNull String entry, boolean comesFromErrorStream) {
-    // drain the cache
-    while (this.cachedLogMessages.size() > this.logCacheSize) {
-      this.cachedLogMessages.poll();
-    }
     // print the line to the console if enabled
     if (this.alwaysPrintErrorStreamToConsole && comesFromErrorStream) {
       LOGGER.warning(String.format("[%s/SERR]: %s", this.service.serviceId().name(), entry));
     }
-    // add the line
-    this.cachedLogMessages.add(entry);
+    // add the line, multiple streams can add lines concurrently
+    this.cacheLock.readLock().lock();
+    try {
+      this.cachedLogMessages.add(entry);
+    } finally {
+      this.cacheLock.readLock().unlock();
+    }
     // call all handlers
     if (!this.handlers.isEmpty()) {
       for (var handler : this.handlers) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+public final class LogLineFramer {
+
+  private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+  private final Consumer<String> lineConsumer;
+
+  private byte[] buffer = new byte[256];
+  private int length;
+
+  public LogLineFramer(@NonNull Consumer<String> lineConsumer) {
+    this.lineConsumer = lineConsumer;
+  }
+
+  public void feed(byte @NonNull [] bytes, int offset, int length) {
+    var lineStart = offset;
+    var end = offset + length;
+    for (var index = offset; index < end; index++) {
+      var current = bytes[index];
+      if (current == '\n' || current == '\r') {
+        this.append(bytes, lineStart, index - lineStart);
+        this.flush();
+        lineStart = index + 1;
+      }
+    }
+
+    // keep the unterminated rest of the line until the line end is received
+    this.append(bytes, lineStart, end - lineStart);
+  }
+
+  public void flush() {
+    if (this.length > 0) {
+      // decode the whole line at once, multibyte characters can be split over multiple reads
+      var line = new String(this.buffer, 0, this.length, StandardCharsets.UTF_8);
+      this.length = 0;
+
+      if (!line.isBlank()) {
+        this.lineConsumer.accept(line);
+      }
+    }
+  }
+
+  private void append(byte @NonNull [] bytes, int offset, int length) {
+    while (length > 0) {
+      // emit the line if it gets too long, the rest of it is emitted as a new line
+      var writable = Math.min(length, MAX_LINE_LENGTH - this.length);
+      var required = this.length + writable;
+      if (required > this.buffer.length) {
+        var newLength = Math.min(MAX_LINE_LENGTH, Math.max(this.buffer.length << 1, required));
+        this.buffer = Arrays.copyOf(this.buffer, newLength);
+      }
+
+      System.arraycopy(bytes, offset, this.buffer, this.length, writable);
+      this.length += writable;
+      offset += writable;
+      length -= writable;
+
+      if (this.length == MAX_LINE_LENGTH) {
+        this.flush();
+      }
+    }
+  }
+}
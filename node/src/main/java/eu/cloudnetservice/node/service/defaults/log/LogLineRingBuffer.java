@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.NonNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+public final class LogLineRingBuffer {
+
+  private final int capacity;
+  private final AtomicLong sequence = new AtomicLong();
+  private final AtomicReferenceArray<Line> lines;
+
+  public LogLineRingBuffer(int capacity) {
+    this.capacity = Math.max(0, capacity);
+    this.lines = new AtomicReferenceArray<>(this.capacity);
+  }
+
+  public int capacity() {
+    return this.capacity;
+  }
+
+  public void add(@NonNull String line) {
+    if (this.capacity > 0) {
+      // each writer claims its own slot, the oldest line in the slot is overridden
+      this.write(this.claimSequence(), line);
+    }
+  }
+
+  long claimSequence() {
+    return this.sequence.getAndIncrement();
+  }
+
+  void write(long sequence, @NonNull String line) {
+    var slot = (int) (sequence % this.capacity);
+    var newLine = new Line(sequence, line);
+
+    // a slow writer must not override a line which was written to the slot by a writer which claimed a later sequence,
+    // the line of the slow writer is already outdated in that case and can be dropped
+    var current = this.lines.get(slot);
+    while (current == null || current.sequence() < sequence) {
+      if (this.lines.compareAndSet(slot, current, newLine)) {
+        return;
+      }
+      current = this.lines.get(slot);
+    }
+  }
+
+  public @NonNull @Unmodifiable List<String> snapshot() {
+    var end = this.sequence.get();
+    var start = Math.max(0, end - this.capacity);
+
+    List<String> result = new ArrayList<>((int) (end - start));
+    for (var sequence = start; sequence < end; sequence++) {
+      // skip slots which are not yet written or were already overridden by a newer line
+      var line = this.lines.get((int) (sequence % this.capacity));
+      if (line != null && line.sequence() == sequence) {
+        result.add(line.content());
+      }
+    }
+
+    return List.copyOf(result);
+  }
+
+  public @NonNull LogLineRingBuffer resize(int capacity) {
+    var buffer = new LogLineRingBuffer(capacity);
+    var lines = this.snapshot();
+
+    // only copy the lines which are fitting into the new buffer
+    for (var index = Math.max(0, lines.size() - buffer.capacity); index < lines.size(); index++) {
+      buffer.add(lines.get(index));
+    }
+
+    return buffer;
+  }
+
+  private record Line(long sequence, @NonNull String content) {
+
+  }
+}
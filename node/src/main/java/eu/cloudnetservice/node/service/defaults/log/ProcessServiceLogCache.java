@@ -16,21 +16,26 @@
 
 package eu.cloudnetservice.node.service.defaults.log;
 
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import lombok.NonNull;
 
 public class ProcessServiceLogCache extends AbstractServiceLogCache {
 
-  protected final Supplier<Process> processSupplier;
+  protected static final ExecutorService READER_EXECUTOR = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Service-Log-Reader-",
+    Executors::newCachedThreadPool);
 
-  protected final byte[] buffer = new byte[2048];
-  protected final StringBuffer stringBuffer = new StringBuffer();
+  protected final Supplier<Process> processSupplier;
+  protected final AtomicReference<Process> readingProcess = new AtomicReference<>();
 
   public ProcessServiceLogCache(
     @NonNull Supplier<Process> processSupplier,
@@ -43,43 +48,45 @@ public ProcessServiceLogCache(
 
   @Override
   public @NonNull ServiceConsoleLogCache update() {
-    // check if we can currently update
+    // start reading from the process streams if we're not yet reading from the current process
     var process = this.processSupplier.get();
     if (process != null) {
-      try {
-        this.readStream(process.getInputStream(), false);
-        this.readStream(process.getErrorStream(), true);
-      } catch (IOException exception) {
-        LOGGER.severe("Exception updating content of console for service %s",
-          exception,
-          this.service.serviceId().name());
-        // reset the string buffer
-        this.stringBuffer.setLength(0);
+      var current = this.readingProcess.get();
+      if (current != process && this.readingProcess.compareAndSet(current, process)) {
+        this.startReader(process, process.getInputStream(), false);
+        this.startReader(process, process.getErrorStream(), true);
       }
     }
     // for chaining
     return this;
   }
 
+  protected void startReader(@NonNull Process process, @NonNull InputStream stream, boolean isErrorStream) {
+    READER_EXECUTOR.execute(() -> {
+      try (stream) {
+        this.readStream(stream, isErrorStream);
+      } catch (IOException exception) {
+        // the stream gets closed when the process is destroyed, no need to log that
+        if (process.isAlive()) {
+          LOGGER.severe("Exception reading console of service %s", exception, this.service.serviceId().name());
+        }
+      }
+    });
+  }
+
   protected void readStream(@NonNull InputStream stream, boolean isErrorStream) throws IOException {
-    int len;
-    while (stream.available() > 0 && (len = stream.read(this.buffer, 0, this.buffer.length)) != -1) {
-      this.stringBuffer.append(new String(this.buffer, 0, len, StandardCharsets.UTF_8));
-    }
+    var buffer = new byte[2048];
+    var framer = new LogLineFramer(line -> this.handleItem(line, isErrorStream));
 
-    // check if we got a result we can work with
-    var content = this.stringBuffer.toString();
-    if (content.contains("\n") || content.contains("\r")) {
-      for (var input : content.split("\r")) {
-        for (var text : input.split("\n")) {
-          if (!text.trim().isEmpty()) {
-            this.handleItem(text, isErrorStream);
-          }
-        }
+    try {
+      // blocks until there is new output of the process, lines are emitted as soon as they are complete
+      int len;
+      while ((len = stream.read(buffer, 0, buffer.length)) != -1) {
+        framer.feed(buffer, 0, len);
       }
+    } finally {
+      // emit the last line, even if it was not terminated
+      framer.flush();
     }
-
-    // reset the string buffer
-    this.stringBuffer.setLength(0);
   }
 }
@@ -18,21 +18,29 @@
 
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.common.io.ZipUtil;
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
 import eu.cloudnetservice.driver.template.FileInfo;
 import eu.cloudnetservice.driver.template.TemplateStorage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.FileStore;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
@@ -43,10 +51,30 @@ public class LocalTemplateStorage implements TemplateStorage {
 
   public static final String LOCAL_TEMPLATE_STORAGE = "local";
 
+  // files which are only read by services, all other files are copied when linking files
+  public static final Collection<String> DEFAULT_LINKED_FILE_PATTERNS = List.of("*.jar");
+
+  private static final Logger LOGGER = LogManager.logger(LocalTemplateStorage.class);
+
   private final Path storageDirectory;
+  private final boolean linkFiles;
+  private final Collection<PathMatcher> linkedFileMatchers;
+  private final Set<FileStore> linkUnsupportedStores = ConcurrentHashMap.newKeySet();
 
   public LocalTemplateStorage(@NonNull Path storageDirectory) {
+    this(storageDirectory, false, DEFAULT_LINKED_FILE_PATTERNS);
+  }
+
+  public LocalTemplateStorage(
+    @NonNull Path storageDirectory,
+    boolean linkFiles,
+    @NonNull Collection<String> linkedFilePatterns
+  ) {
     this.storageDirectory = storageDirectory;
+    this.linkFiles = linkFiles;
+    this.linkedFileMatchers = linkedFilePatterns.stream()
+      .map(pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern))
+      .toList();
     FileUtil.createDirectory(storageDirectory);
   }
 
@@ -62,10 +90,19 @@ public boolean deployDirectory(
     @Nullable Predicate<Path> filter
   ) {
     if (Files.exists(directory)) {
-      FileUtil.copyDirectory(
-        directory,
-        this.getTemplatePath(target),
-        filter == null ? null : filter::test);
+      if (this.linkFiles) {
+        var templateDirectory = this.getTemplatePath(target);
+        FileUtil.walkFileTree(directory, ($, file) -> {
+          if (!Files.isDirectory(file)) {
+            this.replaceFile(file, templateDirectory.resolve(directory.relativize(file)), false);
+          }
+        }, true, filter == null ? $ -> true : filter::test);
+      } else {
+        FileUtil.copyDirectory(
+          directory,
+          this.getTemplatePath(target),
+          filter == null ? null : filter::test);
+      }
       return true;
     }
     return false;
@@ -73,16 +110,118 @@ public boolean deployDirectory(
 
   @Override
   public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inputStream) {
-    ZipUtil.extractZipStream(new ZipInputStream(inputStream), this.getTemplatePath(target));
+    if (this.linkFiles) {
+      // extract into a new directory first, extracting writes into the existing files which might be linked
+      var extractDirectory = FileUtil.createTempFile();
+      try {
+        if (ZipUtil.extractZipStream(new ZipInputStream(inputStream), extractDirectory) != null) {
+          var templateDirectory = this.getTemplatePath(target);
+          FileUtil.walkFileTree(extractDirectory, ($, file) -> {
+            var targetFile = templateDirectory.resolve(extractDirectory.relativize(file));
+            if (Files.isDirectory(file)) {
+              FileUtil.createDirectory(targetFile);
+            } else {
+              this.replaceFile(file, targetFile, true);
+            }
+          }, true);
+        }
+      } finally {
+        FileUtil.delete(extractDirectory);
+      }
+    } else {
+      ZipUtil.extractZipStream(new ZipInputStream(inputStream), this.getTemplatePath(target));
+    }
     return true;
   }
 
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
-    FileUtil.copyDirectory(this.getTemplatePath(template), directory);
+    var templateDirectory = this.getTemplatePath(template);
+    var fileStore = this.linkFiles ? this.linkableFileStore(templateDirectory, directory) : null;
+    if (fileStore != null) {
+      FileUtil.walkFileTree(templateDirectory, ($, file) -> {
+        if (!Files.isDirectory(file)) {
+          var relativePath = templateDirectory.relativize(file);
+          this.materializeFile(fileStore, relativePath, file, directory.resolve(relativePath));
+        }
+      }, true);
+    } else {
+      FileUtil.copyDirectory(templateDirectory, directory);
+    }
     return true;
   }
 
+  protected @Nullable FileStore linkableFileStore(@NonNull Path templateDirectory, @NonNull Path directory) {
+    try {
+      FileUtil.createDirectory(directory);
+      // files can only be linked within the same file store
+      var fileStore = Files.getFileStore(templateDirectory);
+      if (fileStore.equals(Files.getFileStore(directory)) && !this.linkUnsupportedStores.contains(fileStore)) {
+        return fileStore;
+      }
+    } catch (IOException ignored) {
+      // the template does not exist or the file stores are not accessible
+    }
+    return null;
+  }
+
+  protected void materializeFile(
+    @NonNull FileStore fileStore,
+    @NonNull Path relativePath,
+    @NonNull Path source,
+    @NonNull Path target
+  ) {
+    // remove files which were pulled from a previous template, these might be linked to the template file
+    FileUtil.createDirectory(target.getParent());
+    try {
+      Files.deleteIfExists(target);
+    } catch (IOException exception) {
+      LOGGER.fine("Unable to delete %s before pulling the template file", exception, target);
+    }
+
+    // only link files which are not written by services, writing to a linked file would change the template as well
+    if (this.linkedFile(relativePath) && !this.linkUnsupportedStores.contains(fileStore)) {
+      try {
+        Files.createLink(target, source);
+        return;
+      } catch (UnsupportedOperationException exception) {
+        this.linkUnsupportedStores.add(fileStore);
+        LOGGER.warning("File store %s does not support links, falling back to copying", exception, fileStore);
+      } catch (IOException exception) {
+        // might be caused by a file specific limit, for example the maximum link count of a file
+        LOGGER.warning("Unable to link template file %s to %s, falling back to copying", exception, source, target);
+      }
+    }
+
+    FileUtil.copy(source, target);
+  }
+
+  protected void replaceFile(@NonNull Path source, @NonNull Path target, boolean moveSource) {
+    try {
+      Files.createDirectories(target.getParent());
+      if (moveSource) {
+        // moving replaces the target file instead of writing into it
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+      } else {
+        // services might be linked to the target file, remove it instead of overwriting its content
+        Files.deleteIfExists(target);
+        Files.copy(source, target);
+      }
+    } catch (IOException exception) {
+      LOGGER.severe("Unable to replace template file %s with %s", exception, target, source);
+    }
+  }
+
+  protected boolean linkedFile(@NonNull Path relativePath) {
+    var fileName = relativePath.getFileName();
+    for (var matcher : this.linkedFileMatchers) {
+      if (matcher.matches(relativePath) || matcher.matches(fileName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   public @Nullable InputStream zipTemplate(@NonNull ServiceTemplate template) throws IOException {
     if (this.contains(template)) {
@@ -132,6 +271,11 @@ public boolean contains(@NonNull ServiceTemplate template) {
     var filePath = this.getTemplatePath(template).resolve(path);
     if (Files.notExists(filePath)) {
       Files.createDirectories(filePath.getParent());
+    } else if (this.linkFiles) {
+      // services might be linked to the file, append to a copy of it to keep their files unchanged
+      var copy = FileUtil.createTempFile();
+      Files.copy(filePath, copy, StandardCopyOption.REPLACE_EXISTING);
+      Files.move(copy, filePath, StandardCopyOption.REPLACE_EXISTING);
     }
 
     return Files.newOutputStream(filePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
@@ -145,6 +289,9 @@ public boolean contains(@NonNull ServiceTemplate template) {
     var filePath = this.getTemplatePath(template).resolve(path);
     if (Files.notExists(filePath)) {
       Files.createDirectories(filePath.getParent());
+    } else if (this.linkFiles) {
+      // services might be linked to the file, create a new file instead of truncating the linked one
+      Files.delete(filePath);
     }
 
     return Files.newOutputStream(filePath);
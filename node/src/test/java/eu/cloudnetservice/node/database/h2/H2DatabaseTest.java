@@ -20,8 +20,10 @@
 import eu.cloudnetservice.driver.document.Document;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -159,4 +161,84 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testChunkedDataReadAfterKey() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // fill in some data
+    var entries = 1235;
+    Set<String> keys = new HashSet<>();
+    var expectedReadCounts = (int) Math.ceil(entries / 50D);
+
+    for (var i = 0; i < entries; i++) {
+      var key = UUID.randomUUID().toString();
+
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    String lastKey = null;
+    var readsCalled = 0;
+
+    Map<String, Document> currentChunk;
+    while ((currentChunk = database.readChunkAfter(lastKey, 50)) != null) {
+      readsCalled++;
+
+      Assertions.assertFalse(currentChunk.size() > 50);
+      for (var key : currentChunk.keySet()) {
+        // each key must be returned exactly once
+        Assertions.assertTrue(keys.remove(key));
+        lastKey = key;
+      }
+    }
+
+    Assertions.assertEquals(expectedReadCounts, readsCalled);
+    Assertions.assertTrue(keys.isEmpty());
+  }
+
+  @Test
+  void testIndexedFind() {
+    var database = this.databaseProvider.database("test");
+    database.insert("1", Document.newJsonDocument().append("name", "Derklaro").append("rank", "admin"));
+
+    // the index must include documents which were inserted before it was created
+    database.createIndex("name");
+    Assertions.assertEquals(Set.of("name"), database.indexedFields());
+
+    database.insert("2", Document.newJsonDocument().append("name", "0utplay").append("rank", "admin"));
+    database.insert("3", Document.newJsonDocument().append("name", "Derklaro").append("rank", "user"));
+
+    Assertions.assertEquals(2, database.find("name", "Derklaro").size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "Derklaro", "rank", "user")).size());
+
+    // updates and deletions must be reflected by the index
+    database.insert("3", Document.newJsonDocument().append("name", "0utplay"));
+    database.delete("1");
+
+    Assertions.assertTrue(database.find("name", "Derklaro").isEmpty());
+    Assertions.assertEquals(2, database.find("name", "0utplay").size());
+  }
+
+  @Test
+  void testBatchWrites() {
+    var database = this.databaseProvider.database("test");
+    database.createIndex("name");
+    database.insert("1", Document.newJsonDocument().append("name", "Derklaro"));
+
+    // existing documents must be replaced by the batch
+    Assertions.assertTrue(database.insertAll(Map.of(
+      "1", Document.newJsonDocument().append("name", "0utplay"),
+      "2", Document.newJsonDocument().append("name", "0utplay"),
+      "3", Document.newJsonDocument().append("name", "Derklaro"))));
+
+    Assertions.assertEquals(3, database.documentCount());
+    Assertions.assertEquals("0utplay", database.get("1").getString("name"));
+    Assertions.assertEquals(2, database.find("name", "0utplay").size());
+
+    Assertions.assertEquals(2, database.deleteAll(List.of("1", "3", "4")));
+    Assertions.assertEquals(1, database.documentCount());
+    Assertions.assertTrue(database.find("name", "Derklaro").isEmpty());
+  }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.cloudnetservice.node.provider;
+
+import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageSender;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshotDelta;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.driver.service.ServiceSnapshotSubscription;
+import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.service.CloudService;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class NodeMessengerTest {
+
+  private static final ServiceInfoSnapshot PROXY = snapshot("Proxy", ServiceEnvironmentType.VELOCITY, "Proxy");
+  private static final ServiceInfoSnapshot LOBBY = snapshot("Lobby", ServiceEnvironmentType.MINECRAFT_SERVER, "Lobby");
+  private static final ServiceInfoSnapshot BED_WARS = snapshot(
+    "BedWars",
+    ServiceEnvironmentType.MINECRAFT_SERVER,
+    "Minigames");
+
+  private NetworkChannel proxyChannel;
+  private NetworkChannel lobbyChannel;
+  private NetworkChannel bedWarsChannel;
+  private NetworkChannel nodeChannel;
+
+  private NodeMessenger messenger;
+  private CloudServiceManager serviceManager;
+
+  @BeforeAll
+  static void setupBootInjectionLayer() {
+    var bootInjectionLayer = InjectionLayer.boot();
+    bootInjectionLayer.installAutoConfigureBindings(NodeMessengerTest.class.getClassLoader(), "driver");
+  }
+
+  private static ServiceInfoSnapshot snapshot(String task, ServiceEnvironmentType environment, String group) {
+    return new ServiceInfoSnapshot(
+      1,
+      new HostAndPort("127.0.0.1", 25565),
+      ProcessSnapshot.empty(),
+      ServiceConfiguration.builder()
+        .taskName(task)
+        .taskId(1)
+        .environment(environment)
+        .groups(Set.of(group))
+        .startPort(25565)
+        .build(),
+      -1,
+      ServiceLifeCycle.RUNNING,
+      Document.newJsonDocument().append("Online-Count", 1));
+  }
+
+  private CloudService localService(ServiceInfoSnapshot snapshot, NetworkChannel channel) {
+    var service = Mockito.mock(CloudService.class);
+    Mockito.when(service.networkChannel()).thenReturn(channel);
+    Mockito.when(this.serviceManager.serviceByName(snapshot.name())).thenReturn(snapshot);
+    Mockito.when(this.serviceManager.service(snapshot.serviceId().uniqueId())).thenReturn(snapshot);
+    Mockito.when(this.serviceManager.localCloudService(snapshot.serviceId().uniqueId())).thenReturn(service);
+    return service;
+  }
+
+  @BeforeEach
+  void setupMessenger() {
+    this.proxyChannel = Mockito.mock(NetworkChannel.class);
+    this.lobbyChannel = Mockito.mock(NetworkChannel.class);
+    this.bedWarsChannel = Mockito.mock(NetworkChannel.class);
+    this.nodeChannel = Mockito.mock(NetworkChannel.class);
+
+    this.serviceManager = Mockito.mock(CloudServiceManager.class);
+    var services = List.of(
+      this.localService(PROXY, this.proxyChannel),
+      this.localService(LOBBY, this.lobbyChannel),
+      this.localService(BED_WARS, this.bedWarsChannel));
+    Mockito.when(this.serviceManager.localCloudServices()).thenReturn(services);
+
+    var nodeServerProvider = Mockito.mock(NodeServerProvider.class);
+    Mockito.when(nodeServerProvider.connectedNodeChannels()).thenReturn(Set.of(this.nodeChannel));
+
+    // the proxy registered no subscription, which works as a wildcard
+    this.messenger = new NodeMessenger(DataBufFactory.defaultFactory(), nodeServerProvider, this.serviceManager);
+    this.messenger.subscription(this.lobbyChannel, ServiceSnapshotSubscription.builder().group("Minigames").build());
+    this.messenger.subscription(this.bedWarsChannel, ServiceSnapshotSubscription.none());
+  }
+
+  private void send(String message, ChannelMessageSender sender, DataBuf content) {
+    this.messenger.sendChannelMessage(ChannelMessage.builder()
+      .targetAll()
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .message(message)
+      .sender(sender)
+      .buffer(content)
+      .build());
+  }
+
+  private void assertDelivered(NetworkChannel channel, boolean delivered) {
+    Mockito.verify(channel, Mockito.times(delivered ? 1 : 0)).sendPacket(Mockito.any(Packet.class));
+  }
+
+  @Test
+  void testUpdateIsRoutedToSubscribedChannels() {
+    var sender = ChannelMessageSender.of(BED_WARS.name(), DriverEnvironment.WRAPPER);
+    this.send("update_service_info", sender, DataBuf.empty().writeObject(BED_WARS));
+
+    this.assertDelivered(this.proxyChannel, true);
+    this.assertDelivered(this.lobbyChannel, true);
+    this.assertDelivered(this.bedWarsChannel, true);
+    this.assertDelivered(this.nodeChannel, true);
+  }
+
+  @Test
+  void testUpdateIsFilteredForUnsubscribedChannels() {
+    var sender = ChannelMessageSender.of(LOBBY.name(), DriverEnvironment.WRAPPER);
+    this.send("update_service_info", sender, DataBuf.empty().writeObject(LOBBY));
+
+    // the lobby always receives its own update, node channels are never filtered
+    this.assertDelivered(this.proxyChannel, true);
+    this.assertDelivered(this.lobbyChannel, true);
+    this.assertDelivered(this.bedWarsChannel, false);
+    this.assertDelivered(this.nodeChannel, true);
+  }
+
+  @Test
+  void testUpdateOfOtherServiceIsRoutedBySnapshot() {
+    // wrappers are able to publish the snapshot of another service, the sender must not be used for routing
+    var sender = ChannelMessageSender.of(PROXY.name(), DriverEnvironment.WRAPPER);
+    this.send("update_service_info", sender, DataBuf.empty().writeObject(LOBBY));
+
+    this.assertDelivered(this.proxyChannel, true);
+    this.assertDelivered(this.lobbyChannel, true);
+    this.assertDelivered(this.bedWarsChannel, false);
+    this.assertDelivered(this.nodeChannel, true);
+  }
+
+  @Test
+  void testDeltaIsRoutedByServiceUniqueId() {
+    var updated = new ServiceInfoSnapshot(
+      2,
+      LOBBY.address(),
+      LOBBY.processSnapshot(),
+      LOBBY.configuration(),
+      LOBBY.connectedTime(),
+      LOBBY.lifeCycle(),
+      LOBBY.propertyHolder().mutableCopy().append("Online-Count", 2));
+    var delta = ServiceInfoSnapshotDelta.between(LOBBY, updated);
+    Assertions.assertNotNull(delta);
+
+    // the sender does not matter for deltas, the service is looked up by the unique id in the delta
+    var sender = ChannelMessageSender.of("Node-2", DriverEnvironment.NODE);
+    this.send("update_service_info_delta", sender, DataBuf.empty().writeObject(delta));
+
+    this.assertDelivered(this.proxyChannel, true);
+    this.assertDelivered(this.lobbyChannel, true);
+    this.assertDelivered(this.bedWarsChannel, false);
+    this.assertDelivered(this.nodeChannel, true);
+    Mockito.verify(this.serviceManager).service(LOBBY.serviceId().uniqueId());
+  }
+
+  @Test
+  void testLifecycleUpdateOfNodeIsRoutedBySnapshot() {
+    var sender = ChannelMessageSender.of("Node-1", DriverEnvironment.NODE);
+    var content = DataBuf.empty().writeObject(ServiceLifeCycle.PREPARED).writeObject(BED_WARS);
+    this.send("update_service_lifecycle", sender, content);
+
+    this.assertDelivered(this.proxyChannel, true);
+    this.assertDelivered(this.lobbyChannel, true);
+    this.assertDelivered(this.bedWarsChannel, true);
+    this.assertDelivered(this.nodeChannel, true);
+  }
+
+  @Test
+  void testOtherMessagesAreNotFiltered() {
+    var sender = ChannelMessageSender.of(LOBBY.name(), DriverEnvironment.WRAPPER);
+    this.send("screen_new_line", sender, DataBuf.empty().writeString("line"));
+
+    this.assertDelivered(this.proxyChannel, true);
+    this.assertDelivered(this.lobbyChannel, true);
+    this.assertDelivered(this.bedWarsChannel, true);
+    this.assertDelivered(this.nodeChannel, true);
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.cloudnetservice.node.service.defaults;
+
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.node.TickLoop;
+import eu.cloudnetservice.node.config.Configuration;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
+import eu.cloudnetservice.node.version.ServiceVersionProvider;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+class AbstractServiceTest {
+
+  private static final ServiceConfiguration CONFIGURATION = ServiceConfiguration.builder()
+    .taskName("Lobby")
+    .taskId(1)
+    .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+    .maxHeapMemory(512)
+    .startPort(44955)
+    .build();
+
+  @TempDir
+  Path tempDirectory;
+
+  @BeforeAll
+  static void setupBootInjectionLayer() {
+    var bootInjectionLayer = InjectionLayer.boot();
+    bootInjectionLayer.installAutoConfigureBindings(AbstractServiceTest.class.getClassLoader(), "driver");
+  }
+
+  private QueryRecordingService service(Supplier<DataBuf> responseSupplier) {
+    var serviceManager = Mockito.mock(CloudServiceManager.class);
+    Mockito.when(serviceManager.tempDirectory()).thenReturn(this.tempDirectory);
+
+    return new QueryRecordingService(
+      Mockito.mock(TickLoop.class),
+      Mockito.mock(Configuration.class),
+      CONFIGURATION,
+      serviceManager,
+      Mockito.mock(EventManager.class),
+      Mockito.mock(ServiceVersionProvider.class),
+      Mockito.mock(ServiceConfigurationPreparer.class),
+      responseSupplier);
+  }
+
+  @Test
+  void testDetailedProcessSnapshotIsReadFromResponse() {
+    // the response is written the same way the wrapper answers the request
+    var service = this.service(() -> DataBuf.empty().writeObject(ProcessSnapshot.selfWithThreads()));
+    service.networkChannel(Mockito.mock(NetworkChannel.class));
+
+    var processSnapshot = service.detailedProcessSnapshot();
+    Assertions.assertEquals(List.of("request_detailed_process_snapshot"), service.sentQueries);
+    Assertions.assertNotNull(processSnapshot);
+    Assertions.assertEquals(ProcessSnapshot.ownPID(), processSnapshot.pid());
+    Assertions.assertFalse(processSnapshot.threads().isEmpty());
+    Assertions.assertEquals(processSnapshot.threads().size(), processSnapshot.threadCount());
+  }
+
+  @Test
+  void testDetailedProcessSnapshotWithoutResponse() {
+    var service = this.service(() -> null);
+    service.networkChannel(Mockito.mock(NetworkChannel.class));
+
+    Assertions.assertNull(service.detailedProcessSnapshot());
+    Assertions.assertEquals(List.of("request_detailed_process_snapshot"), service.sentQueries);
+  }
+
+  @Test
+  void testDetailedProcessSnapshotWithoutConnection() {
+    var service = this.service(() -> DataBuf.empty().writeObject(ProcessSnapshot.selfWithThreads()));
+
+    // a service which is not connected cannot be asked for its threads
+    Assertions.assertNull(service.detailedProcessSnapshot());
+    Assertions.assertTrue(service.sentQueries.isEmpty());
+  }
+
+  private static final class QueryRecordingService extends AbstractService {
+
+    private final Supplier<DataBuf> responseSupplier;
+    private final List<String> sentQueries = new ArrayList<>();
+
+    public QueryRecordingService(
+      @NonNull TickLoop tickLoop,
+      @NonNull Configuration nodeConfig,
+      @NonNull ServiceConfiguration configuration,
+      @NonNull CloudServiceManager manager,
+      @NonNull EventManager eventManager,
+      @NonNull ServiceVersionProvider versionProvider,
+      @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer,
+      @NonNull Supplier<DataBuf> responseSupplier
+    ) {
+      super(tickLoop, nodeConfig, configuration, manager, eventManager, versionProvider, serviceConfigurationPreparer);
+      this.responseSupplier = responseSupplier;
+    }
+
+    @Override
+    protected @Nullable DataBuf sendServiceQuery(@NonNull String message) {
+      this.sentQueries.add(message);
+      return this.responseSupplier.get();
+    }
+
+    @Override
+    protected void startProcess() {
+    }
+
+    @Override
+    protected void stopProcess() {
+    }
+
+    @Override
+    public void runCommand(@NonNull String command) {
+    }
+
+    @Override
+    public @NonNull String runtime() {
+      return "test";
+    }
+
+    @Override
+    public boolean alive() {
+      return false;
+    }
+  }
+}
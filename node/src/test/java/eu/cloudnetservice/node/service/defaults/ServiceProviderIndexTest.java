@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ServiceId;
+import eu.cloudnetservice.node.service.CloudService;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ServiceProviderIndexTest {
+
+  private static ServiceId serviceId(String task, int id, String node) {
+    return ServiceId.builder()
+      .taskName(task)
+      .taskServiceId(id)
+      .nodeUniqueId(node)
+      .environment("MINECRAFT_SERVER")
+      .uniqueId(UUID.randomUUID())
+      .build();
+  }
+
+  @Test
+  void testIndexLookups() {
+    var index = new ServiceProviderIndex();
+
+    var lobbyId = serviceId("Lobby", 1, "Node-1");
+    var lobby = Mockito.mock(CloudService.class);
+    index.index(lobby, lobbyId, Set.of("Global", "Lobby"));
+
+    var proxyId = serviceId("Proxy", 1, "Node-2");
+    var proxy = Mockito.mock(SpecificCloudServiceProvider.class);
+    index.index(proxy, proxyId, Set.of("Global"));
+
+    Assertions.assertSame(lobby, index.serviceByName("Lobby-1"));
+    Assertions.assertSame(proxy, index.serviceByName("Proxy-1"));
+    Assertions.assertNull(index.serviceByName("Lobby-2"));
+
+    Assertions.assertEquals(1, index.serviceCountByTask("Lobby"));
+    Assertions.assertEquals(2, index.serviceCountByGroup("Global"));
+    Assertions.assertEquals(1, index.serviceCountByGroup("Lobby"));
+    Assertions.assertEquals(2, index.servicesByEnvironment("MINECRAFT_SERVER").size());
+    Assertions.assertIterableEquals(Set.of(proxy), index.servicesByNode("Node-2"));
+
+    // only cloud services are local services
+    Assertions.assertEquals(1, index.localServices().size());
+    Assertions.assertSame(lobby, index.localServices().iterator().next());
+  }
+
+  @Test
+  void testIndexRemoval() {
+    var index = new ServiceProviderIndex();
+
+    var lobbyId = serviceId("Lobby", 1, "Node-1");
+    var lobby = Mockito.mock(CloudService.class);
+    index.index(lobby, lobbyId, Set.of("Global"));
+    index.remove(lobbyId.uniqueId());
+
+    Assertions.assertNull(index.serviceByName("Lobby-1"));
+    Assertions.assertEquals(0, index.serviceCountByTask("Lobby"));
+    Assertions.assertEquals(0, index.serviceCountByGroup("Global"));
+    Assertions.assertTrue(index.servicesByNode("Node-1").isEmpty());
+    Assertions.assertTrue(index.localServices().isEmpty());
+
+    // a re-index of a removed service must not register it again
+    index.reindex(lobby, lobbyId, Set.of("Global", "Lobby"));
+    Assertions.assertNull(index.serviceByName("Lobby-1"));
+  }
+
+  @Test
+  void testReindexMovesGroups() {
+    var index = new ServiceProviderIndex();
+
+    var lobbyId = serviceId("Lobby", 1, "Node-1");
+    var lobby = Mockito.mock(SpecificCloudServiceProvider.class);
+    index.index(lobby, lobbyId, Set.of("Global"));
+    index.reindex(lobby, lobbyId, Set.of("Lobby"));
+
+    Assertions.assertEquals(0, index.serviceCountByGroup("Global"));
+    Assertions.assertEquals(1, index.serviceCountByGroup("Lobby"));
+    Assertions.assertSame(lobby, index.serviceByName("Lobby-1"));
+  }
+
+  @Test
+  void testConcurrentIndexAndRemoveKeepsEntries() {
+    var index = new ServiceProviderIndex();
+    var provider = Mockito.mock(SpecificCloudServiceProvider.class);
+
+    var executor = Executors.newFixedThreadPool(8);
+    var futures = new CompletableFuture<?>[8];
+    for (var thread = 0; thread < futures.length; thread++) {
+      var kept = thread % 2 == 0;
+      var node = "Node-" + thread;
+      futures[thread] = CompletableFuture.runAsync(() -> {
+        // half of the threads keep their services, the others constantly empty the shared task bucket
+        for (var i = 1; i <= 1_000; i++) {
+          var serviceId = serviceId("Lobby", i, node);
+          index.index(provider, serviceId, Set.of("Global"));
+          if (!kept) {
+            index.remove(serviceId.uniqueId());
+          }
+        }
+      }, executor);
+    }
+
+    CompletableFuture.allOf(futures).join();
+    executor.shutdown();
+
+    Assertions.assertEquals(4_000, index.serviceCountByTask("Lobby"));
+    Assertions.assertEquals(4_000, index.serviceCountByGroup("Global"));
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LogLineFramerTest {
+
+  @Test
+  void testLinesSplitOverMultipleReads() {
+    List<String> lines = new ArrayList<>();
+    var framer = new LogLineFramer(lines::add);
+
+    var bytes = "[INFO] Überprüfung\r\n\n[WARN] ⚠ partial".getBytes(StandardCharsets.UTF_8);
+    for (var index = 0; index < bytes.length; index++) {
+      framer.feed(bytes, index, 1);
+    }
+
+    // the last line is not terminated yet
+    Assertions.assertEquals(List.of("[INFO] Überprüfung"), lines);
+
+    framer.flush();
+    Assertions.assertEquals(List.of("[INFO] Überprüfung", "[WARN] ⚠ partial"), lines);
+  }
+
+  @Test
+  void testBlankLinesAreSkipped() {
+    List<String> lines = new ArrayList<>();
+    var framer = new LogLineFramer(lines::add);
+
+    var bytes = "first\n  \n\r\nsecond\n".getBytes(StandardCharsets.UTF_8);
+    framer.feed(bytes, 0, bytes.length);
+
+    Assertions.assertEquals(List.of("first", "second"), lines);
+  }
+}
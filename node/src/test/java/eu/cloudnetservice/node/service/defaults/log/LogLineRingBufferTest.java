@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LogLineRingBufferTest {
+
+  @Test
+  void testOldestLinesAreOverridden() {
+    var buffer = new LogLineRingBuffer(3);
+    Assertions.assertEquals(List.of(), buffer.snapshot());
+
+    buffer.add("1");
+    buffer.add("2");
+    Assertions.assertEquals(List.of("1", "2"), buffer.snapshot());
+
+    buffer.add("3");
+    buffer.add("4");
+    buffer.add("5");
+    Assertions.assertEquals(List.of("3", "4", "5"), buffer.snapshot());
+  }
+
+  @Test
+  void testResize() {
+    var buffer = new LogLineRingBuffer(4);
+    for (var index = 1; index <= 4; index++) {
+      buffer.add(Integer.toString(index));
+    }
+
+    var smaller = buffer.resize(2);
+    Assertions.assertEquals(List.of("3", "4"), smaller.snapshot());
+
+    var larger = smaller.resize(3);
+    larger.add("5");
+    Assertions.assertEquals(List.of("3", "4", "5"), larger.snapshot());
+
+    var empty = larger.resize(0);
+    empty.add("6");
+    Assertions.assertEquals(List.of(), empty.snapshot());
+  }
+
+  @Test
+  void testSlowWriterDoesNotOverrideNewerLine() {
+    var buffer = new LogLineRingBuffer(2);
+
+    // the first writer claims its slot but is slower than the writers after it
+    var stalledSequence = buffer.claimSequence();
+    buffer.add("2");
+    buffer.add("3");
+    buffer.write(stalledSequence, "1");
+
+    Assertions.assertEquals(List.of("2", "3"), buffer.snapshot());
+  }
+
+  @Test
+  void testConcurrentWritersFillAllSlots() throws InterruptedException {
+    var buffer = new LogLineRingBuffer(64);
+    var executor = Executors.newFixedThreadPool(8);
+    var startLatch = new CountDownLatch(1);
+    for (var thread = 0; thread < 8; thread++) {
+      executor.execute(() -> {
+        try {
+          startLatch.await();
+          for (var index = 0; index < 10_000; index++) {
+            buffer.add(Integer.toString(index));
+          }
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+
+    startLatch.countDown();
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+    // every slot must hold the line of the latest sequence written to it
+    Assertions.assertEquals(64, buffer.snapshot().size());
+  }
+}
@@ -17,11 +17,14 @@
 package eu.cloudnetservice.node.template;
 
 import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.common.io.ZipUtil;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
 import eu.cloudnetservice.driver.template.FileInfo;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -175,6 +178,102 @@ void testFileListingDeep() {
     Assertions.assertEquals(3, dir);
   }
 
+  @Test
+  @Order(95)
+  void testLinkedTemplatePull() throws IOException {
+    var serviceDirectory = Path.of("build", "tmp", "local_ts_service");
+    var linkingStorage = new LocalTemplateStorage(HOME_PATH, true, List.of("*.jar"));
+
+    try {
+      this.writeTemplateFile(linkingStorage, "plugins/plugin.jar", "Plugin");
+      Assertions.assertTrue(linkingStorage.pull(TEMPLATE, serviceDirectory));
+
+      // read-only files are linked to the template files
+      var templatePath = linkingStorage.getTemplatePath(TEMPLATE);
+      var linkedFile = serviceDirectory.resolve("plugins/plugin.jar");
+      Assertions.assertTrue(Files.isSameFile(templatePath.resolve("plugins/plugin.jar"), linkedFile));
+
+      // all other files are copied, writing to them must not change the template
+      var copiedFile = serviceDirectory.resolve("test/test.txt");
+      Assertions.assertFalse(Files.isSameFile(templatePath.resolve("test.txt"), serviceDirectory.resolve("test.txt")));
+      Assertions.assertFalse(Files.isSameFile(templatePath.resolve("test/test.txt"), copiedFile));
+      Assertions.assertFalse(Files.isSameFile(
+        templatePath.resolve("deep/rummel.yml"),
+        serviceDirectory.resolve("deep/rummel.yml")));
+
+      Files.writeString(copiedFile, "World");
+      try (var stream = linkingStorage.newInputStream(TEMPLATE, "test/test.txt")) {
+        Assertions.assertNotNull(stream);
+        Assertions.assertEquals("Hello", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+      }
+
+      // pulling again replaces the existing files
+      Assertions.assertTrue(linkingStorage.pull(TEMPLATE, serviceDirectory));
+      Assertions.assertEquals("Hello", Files.readString(copiedFile));
+    } finally {
+      Assertions.assertTrue(linkingStorage.deleteFile(TEMPLATE, "plugins/plugin.jar"));
+      FileUtil.delete(serviceDirectory);
+    }
+  }
+
+  @Test
+  @Order(96)
+  void testLinkedTemplateDeploy() throws IOException {
+    var serviceDirectory = Path.of("build", "tmp", "local_ts_service");
+    var deployDirectory = Path.of("build", "tmp", "local_ts_deploy");
+    var linkingStorage = new LocalTemplateStorage(HOME_PATH, true, List.of("*.jar"));
+
+    try {
+      this.writeTemplateFile(linkingStorage, "plugins/plugin.jar", "Plugin");
+      Assertions.assertTrue(linkingStorage.pull(TEMPLATE, serviceDirectory));
+
+      // deploying a zip replaces the template file, the linked service file keeps its content
+      var linkedFile = serviceDirectory.resolve("plugins/plugin.jar");
+      FileUtil.createDirectory(deployDirectory.resolve("plugins"));
+      Files.writeString(deployDirectory.resolve("plugins/plugin.jar"), "Zip");
+      try (var stream = ZipUtil.zipToStream(deployDirectory)) {
+        Assertions.assertTrue(linkingStorage.deploy(TEMPLATE, stream));
+      }
+
+      this.assertTemplateFile(linkingStorage, "plugins/plugin.jar", "Zip");
+      Assertions.assertEquals("Plugin", Files.readString(linkedFile));
+
+      // same for deploying a directory
+      Assertions.assertTrue(linkingStorage.pull(TEMPLATE, serviceDirectory));
+      Files.writeString(deployDirectory.resolve("plugins/plugin.jar"), "Directory");
+      Assertions.assertTrue(linkingStorage.deployDirectory(TEMPLATE, deployDirectory, null));
+
+      this.assertTemplateFile(linkingStorage, "plugins/plugin.jar", "Directory");
+      Assertions.assertEquals("Zip", Files.readString(linkedFile));
+    } finally {
+      Assertions.assertTrue(linkingStorage.deleteFile(TEMPLATE, "plugins/plugin.jar"));
+      FileUtil.delete(serviceDirectory);
+      FileUtil.delete(deployDirectory);
+    }
+  }
+
+  private void writeTemplateFile(
+    LocalTemplateStorage storage,
+    String path,
+    String content
+  ) throws IOException {
+    try (var stream = storage.newOutputStream(TEMPLATE, path)) {
+      Assertions.assertNotNull(stream);
+      stream.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private void assertTemplateFile(
+    LocalTemplateStorage storage,
+    String path,
+    String content
+  ) throws IOException {
+    try (var stream = storage.newInputStream(TEMPLATE, path)) {
+      Assertions.assertNotNull(stream);
+      Assertions.assertEquals(content, new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
   @Test
   @Order(100)
   void testTemplateListing() {
@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.module.ModuleProvider;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
+import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -32,6 +33,7 @@ final class ShutdownHandler {
   private final NetworkClient networkClient;
   private final ModuleProvider moduleProvider;
   private final ServiceRegistry serviceRegistry;
+  private final ServiceInfoHolder serviceInfoHolder;
   private final ExecutorService scheduledExecutor;
 
   @Inject
@@ -39,15 +41,23 @@ public ShutdownHandler(
     @NonNull NetworkClient networkClient,
     @NonNull ModuleProvider moduleProvider,
     @NonNull ServiceRegistry serviceRegistry,
+    @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull @Named("taskScheduler") ScheduledExecutorService scheduledExecutor
   ) {
     this.networkClient = networkClient;
     this.moduleProvider = moduleProvider;
     this.serviceRegistry = serviceRegistry;
+    this.serviceInfoHolder = serviceInfoHolder;
     this.scheduledExecutor = scheduledExecutor;
   }
 
   public void shutdown() {
+    try {
+      // send the service info update which might be waiting for the coalescing delay
+      this.serviceInfoHolder.flushServiceInfoUpdate();
+    } catch (Exception ignored) {
+    }
+
     try {
       this.networkClient.close();
     } catch (Exception ignored) {
@@ -86,6 +86,11 @@ public interface ServiceInfoHolder {
   /**
    * Creates a new service snapshot, configures it, updates the current and old one and sends an update to all
    * components which are currently registered within the CloudNet network.
+   * <p>
+   * The current snapshot is updated immediately, but sending the update is coalesced: the update is sent after a short
+   * delay and all calls made during that delay result in a single update containing the latest state of the service.
+   * The delay can be configured using the {@code cloudnet.wrapper.serviceInfoPublishWindow} system property (in
+   * milliseconds, 0 to disable coalescing).
    */
   void publishServiceInfoUpdate();
 
@@ -97,4 +102,27 @@ public interface ServiceInfoHolder {
    * @throws NullPointerException if the given service snapshot is null.
    */
   void publishServiceInfoUpdate(@NonNull ServiceInfoSnapshot serviceInfoSnapshot);
+
+  /**
+   * Immediately sends the current snapshot of this service to all components which are currently registered within
+   * the CloudNet network, if it was not sent yet. This method should be called before disconnecting from the network
+   * to not lose an update which is waiting for the coalescing delay to pass.
+   */
+  void flushServiceInfoUpdate();
+
+  /**
+   * Get the amount of updates of the snapshot of this service which were requested to be published since the start of
+   * this service.
+   *
+   * @return the amount of requested service info updates.
+   */
+  long requestedServiceInfoUpdates();
+
+  /**
+   * Get the amount of updates of the snapshot of this service which were actually sent since the start of this
+   * service. This number is lower than the amount of requested updates if updates were coalesced.
+   *
+   * @return the amount of sent service info updates.
+   */
+  long sentServiceInfoUpdates();
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.wrapper.holder;
+
+import eu.cloudnetservice.driver.service.ServiceSnapshotSubscription;
+import lombok.NonNull;
+
+/**
+ * Manages the services this service wants to receive the snapshot updates of. By default, a service receives the
+ * snapshot updates of all services in the network.
+ * <p>
+ * The node can only filter the updates if every consumer of them on this service registered a subscription, a consumer
+ * which did not register a subscription (for example a plugin listening to service updates) would otherwise miss
+ * updates it needs. Therefore the registered subscriptions only take effect if this service declared that all consumers
+ * registered a subscription (see {@link #registeredConsumersOnly()}). In that case, the node only sends the updates of
+ * services matching one of the registered subscriptions (and of this service) to this service. Consumers which need
+ * the updates of all services can register {@link ServiceSnapshotSubscription#all()}.
+ *
+ * @since 4.0
+ */
+public interface ServiceSnapshotSubscriptionHolder {
+
+  /**
+   * Get the combination of all registered subscriptions, which is sent to the node this service is running on. If no
+   * subscription is registered or not all consumers registered a subscription, this method returns a subscription to
+   * all services.
+   *
+   * @return the effective subscription of this service.
+   */
+  @NonNull ServiceSnapshotSubscription subscription();
+
+  /**
+   * Registers the given subscription. Use {@link ServiceSnapshotSubscription#none()} to stop receiving the snapshot
+   * updates of other services if this service does not need them at all.
+   *
+   * @param subscription the subscription to register.
+   * @throws NullPointerException if the given subscription is null.
+   */
+  void register(@NonNull ServiceSnapshotSubscription subscription);
+
+  /**
+   * Unregisters the given subscription if it was registered previously.
+   *
+   * @param subscription the subscription to unregister.
+   * @throws NullPointerException if the given subscription is null.
+   */
+  void unregister(@NonNull ServiceSnapshotSubscription subscription);
+
+  /**
+   * Get if all consumers of snapshot updates on this service registered a subscription. Only in that case the updates
+   * sent to this service are filtered using the registered subscriptions. This is enabled by setting the system
+   * property {@code cloudnet.wrapper.registered-snapshot-consumers-only} to true, for example in the jvm options of a
+   * task.
+   *
+   * @return true if the registered subscriptions are used to filter the updates, false otherwise.
+   */
+  boolean registeredConsumersOnly();
+}
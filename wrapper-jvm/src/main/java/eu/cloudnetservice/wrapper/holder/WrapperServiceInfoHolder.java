@@ -25,15 +25,22 @@
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshotDelta;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.driver.util.VarHandleUtil;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
 import eu.cloudnetservice.wrapper.event.ServiceInfoPropertiesConfigureEvent;
 import eu.cloudnetservice.wrapper.event.ServiceInfoSnapshotPublishEvent;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import lombok.NonNull;
 
 /**
@@ -45,6 +52,10 @@
 @Provides(ServiceInfoHolder.class)
 public final class WrapperServiceInfoHolder implements ServiceInfoHolder {
 
+  private static final long DEFAULT_PUBLISH_WINDOW_MILLIS = Long.getLong(
+    "cloudnet.wrapper.serviceInfoPublishWindow",
+    100);
+
   private static final VarHandle LAST_INFO_VAR_HANDLE;
   private static final VarHandle CURRENT_INFO_VARHANDLE;
 
@@ -66,6 +77,13 @@ public final class WrapperServiceInfoHolder implements ServiceInfoHolder {
 
   private final EventManager eventManager;
   private final WrapperConfiguration configuration;
+  private final ScheduledExecutorService scheduler;
+  private final long publishWindowMillis;
+  private final BiConsumer<String, DataBuf> updateSender;
+
+  private final LongAdder requestedUpdates = new LongAdder();
+  private final LongAdder sentUpdates = new LongAdder();
+  private final AtomicBoolean publishScheduled = new AtomicBoolean();
 
   // both of these fields are only accessed from the associated var handles
   @SuppressWarnings({"FieldCanBeLocal", "unused", "FieldMayBeFinal"})
@@ -73,10 +91,41 @@ public final class WrapperServiceInfoHolder implements ServiceInfoHolder {
   @SuppressWarnings({"FieldCanBeLocal", "unused", "FieldMayBeFinal"})
   private ServiceInfoSnapshot currentServiceInfoSnapshot;
 
+  // the last snapshot of this service which was sent to all components, used as the base for delta updates
+  private ServiceInfoSnapshot lastPublishedServiceInfoSnapshot;
+
   @Inject
-  private WrapperServiceInfoHolder(@NonNull EventManager eventManager, @NonNull WrapperConfiguration configuration) {
+  private WrapperServiceInfoHolder(
+    @NonNull EventManager eventManager,
+    @NonNull WrapperConfiguration configuration,
+    @NonNull @Named("taskScheduler") ScheduledExecutorService scheduler
+  ) {
+    this(
+      eventManager,
+      configuration,
+      scheduler,
+      DEFAULT_PUBLISH_WINDOW_MILLIS,
+      (message, content) -> ChannelMessage.builder()
+        .targetAll()
+        .message(message)
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .buffer(content)
+        .build()
+        .send());
+  }
+
+  WrapperServiceInfoHolder(
+    @NonNull EventManager eventManager,
+    @NonNull WrapperConfiguration configuration,
+    @NonNull ScheduledExecutorService scheduler,
+    long publishWindowMillis,
+    @NonNull BiConsumer<String, DataBuf> updateSender
+  ) {
     this.eventManager = eventManager;
     this.configuration = configuration;
+    this.scheduler = scheduler;
+    this.publishWindowMillis = publishWindowMillis;
+    this.updateSender = updateSender;
   }
 
   /**
@@ -133,8 +182,9 @@ public void setup() {
     var event = this.eventManager.callEvent(new ServiceInfoPropertiesConfigureEvent(properties.mutableCopy(), info));
 
     // construct the new service snapshot based on the old info & the configured properties
+    // the creation time is used as the version of a snapshot when applying delta updates, it must always increase
     return new ServiceInfoSnapshot(
-      System.currentTimeMillis(),
+      Math.max(System.currentTimeMillis(), info.creationTime() + 1),
       info.address(),
       ProcessSnapshot.self(),
       this.configuration.serviceConfiguration(),
@@ -158,7 +208,23 @@ public void setup() {
    */
   @Override
   public void publishServiceInfoUpdate() {
-    this.publishServiceInfoUpdate(this.createServiceInfoSnapshot());
+    // the local snapshot is updated right away, only sending it to the network is coalesced
+    this.requestedUpdates.increment();
+    this.configureServiceInfoSnapshot();
+
+    if (this.publishWindowMillis <= 0) {
+      this.flushServiceInfoUpdate();
+      return;
+    }
+
+    // only schedule a publish if none is pending, the pending one will send the latest snapshot
+    if (this.publishScheduled.compareAndSet(false, true)) {
+      this.scheduler.schedule(() -> {
+        // reset the flag before sending, updates requested from now on need a new publish
+        this.publishScheduled.set(false);
+        this.flushServiceInfoUpdate();
+      }, this.publishWindowMillis, TimeUnit.MILLISECONDS);
+    }
   }
 
   /**
@@ -167,18 +233,67 @@ public void publishServiceInfoUpdate() {
   @Override
   public void publishServiceInfoUpdate(@NonNull ServiceInfoSnapshot serviceInfoSnapshot) {
     // add configuration stuff when updating the current service snapshot
+    // explicitly given snapshots (for example lifecycle changes) are never coalesced
     if (this.configuration.serviceConfiguration().serviceId().equals(serviceInfoSnapshot.serviceId())) {
+      this.requestedUpdates.increment();
       this.configureServiceInfoSnapshot(serviceInfoSnapshot);
+      this.publishOwnServiceInfoUpdate(serviceInfoSnapshot);
+      return;
     }
 
     // send the update to all nodes and services
-    ChannelMessage.builder()
-      .targetAll()
-      .message("update_service_info")
-      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
-      .buffer(DataBuf.empty().writeObject(serviceInfoSnapshot))
-      .build()
-      .send();
+    this.updateSender.accept("update_service_info", DataBuf.empty().writeObject(serviceInfoSnapshot));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void flushServiceInfoUpdate() {
+    this.publishOwnServiceInfoUpdate(this.serviceInfo());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long requestedServiceInfoUpdates() {
+    return this.requestedUpdates.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long sentServiceInfoUpdates() {
+    return this.sentUpdates.sum();
+  }
+
+  /**
+   * Publishes an update of the snapshot of the current service. If possible only the changes since the last published
+   * snapshot are sent, components which missed an update will request the full snapshot of this service. Nothing is
+   * sent if the given snapshot was already published or is older than the last published snapshot.
+   *
+   * @param serviceInfoSnapshot the new snapshot of the current service.
+   * @throws NullPointerException if the given snapshot is null.
+   */
+  private synchronized void publishOwnServiceInfoUpdate(@NonNull ServiceInfoSnapshot serviceInfoSnapshot) {
+    var lastPublished = this.lastPublishedServiceInfoSnapshot;
+    if (lastPublished == serviceInfoSnapshot
+      || (lastPublished != null && lastPublished.creationTime() > serviceInfoSnapshot.creationTime())) {
+      return;
+    }
+
+    this.lastPublishedServiceInfoSnapshot = serviceInfoSnapshot;
+    this.sentUpdates.increment();
+
+    var delta = lastPublished == null ? null : ServiceInfoSnapshotDelta.between(lastPublished, serviceInfoSnapshot);
+    if (delta == null) {
+      // no delta possible, send the full snapshot
+      this.updateSender.accept("update_service_info", DataBuf.empty().writeObject(serviceInfoSnapshot));
+    } else {
+      this.updateSender.accept("update_service_info_delta", DataBuf.empty().writeObject(delta));
+    }
   }
 
   /**
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.wrapper.holder;
+
+import dev.derklaro.aerogel.auto.Provides;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.service.ServiceSnapshotSubscription;
+import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/**
+ * The default implementation of a service snapshot subscription holder for the wrapper. The registered subscriptions
+ * are only sent to the node if the system property {@code cloudnet.wrapper.registered-snapshot-consumers-only} is set
+ * to true, otherwise this service keeps receiving the updates of all services.
+ *
+ * @since 4.0
+ */
+@Singleton
+@Provides(ServiceSnapshotSubscriptionHolder.class)
+public final class WrapperServiceSnapshotSubscriptionHolder implements ServiceSnapshotSubscriptionHolder {
+
+  private static final boolean REGISTERED_CONSUMERS_ONLY = Boolean.getBoolean(
+    "cloudnet.wrapper.registered-snapshot-consumers-only");
+
+  private final boolean registeredConsumersOnly;
+  private final Consumer<ServiceSnapshotSubscription> updateSender;
+  private final List<ServiceSnapshotSubscription> subscriptions = new ArrayList<>();
+
+  private volatile ServiceSnapshotSubscription subscription = ServiceSnapshotSubscription.all();
+
+  @Inject
+  private WrapperServiceSnapshotSubscriptionHolder(@NonNull WrapperConfiguration configuration) {
+    this(REGISTERED_CONSUMERS_ONLY, subscription -> ChannelMessage.builder()
+      .targetNode(configuration.serviceConfiguration().serviceId().nodeUniqueId())
+      .message("update_service_snapshot_subscription")
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .buffer(DataBuf.empty().writeObject(subscription))
+      .build()
+      .send());
+  }
+
+  WrapperServiceSnapshotSubscriptionHolder(
+    boolean registeredConsumersOnly,
+    @NonNull Consumer<ServiceSnapshotSubscription> updateSender
+  ) {
+    this.registeredConsumersOnly = registeredConsumersOnly;
+    this.updateSender = updateSender;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ServiceSnapshotSubscription subscription() {
+    return this.subscription;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void register(@NonNull ServiceSnapshotSubscription subscription) {
+    this.subscriptions.add(subscription);
+    this.updateSubscription();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void unregister(@NonNull ServiceSnapshotSubscription subscription) {
+    if (this.subscriptions.remove(subscription)) {
+      this.updateSubscription();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean registeredConsumersOnly() {
+    return this.registeredConsumersOnly;
+  }
+
+  /**
+   * Combines all registered subscriptions and sends the result to the node if it changed.
+   */
+  private void updateSubscription() {
+    // consumers which did not register a subscription (for example plugins listening to service updates) need the
+    // updates of all services, unless this service declared that all consumers registered a subscription
+    var subscription = !this.registeredConsumersOnly || this.subscriptions.isEmpty()
+      ? ServiceSnapshotSubscription.all()
+      : this.subscriptions.stream().reduce(ServiceSnapshotSubscription.none(), ServiceSnapshotSubscription::union);
+    if (!subscription.equals(this.subscription)) {
+      this.subscription = subscription;
+
+      // inform the node about the new subscription
+      this.updateSender.accept(subscription);
+    }
+  }
+}
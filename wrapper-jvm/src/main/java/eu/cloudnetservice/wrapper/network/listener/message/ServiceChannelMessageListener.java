@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.wrapper.network.listener.message;
 
+import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.event.EventListener;
 import eu.cloudnetservice.driver.event.EventManager;
@@ -26,14 +27,45 @@
 import eu.cloudnetservice.driver.event.events.service.CloudServiceUpdateEvent;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.provider.CloudServiceProvider;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshotDelta;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
+import jakarta.inject.Inject;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import lombok.NonNull;
 
 public final class ServiceChannelMessageListener {
 
+  // the last known snapshots of all services, used as the base when applying delta updates
+  private final Map<UUID, ServiceInfoSnapshot> knownSnapshots = new ConcurrentHashMap<>();
+  // the services of which the full snapshot was requested, at most one request per service is sent at a time
+  private final Set<UUID> pendingSnapshotRequests = ConcurrentHashMap.newKeySet();
+
+  private final Function<String, CompletableFuture<ServiceInfoSnapshot>> snapshotRequester;
+
+  @Inject
+  public ServiceChannelMessageListener(@NonNull CloudServiceProvider serviceProvider) {
+    this(serviceProvider, ServiceChannelMessageListener::requestServiceInfoSnapshot);
+  }
+
+  ServiceChannelMessageListener(
+    @NonNull CloudServiceProvider serviceProvider,
+    @NonNull Function<String, CompletableFuture<ServiceInfoSnapshot>> snapshotRequester
+  ) {
+    this.snapshotRequester = snapshotRequester;
+    // use the current services as the base for the first delta updates, updates received in the meantime are newer
+    serviceProvider.servicesAsync().thenAccept(services -> services.forEach(this::rememberSnapshot));
+  }
+
   @EventListener
   public void handleChannelMessage(
     @NonNull ChannelMessageReceiveEvent event,
@@ -46,14 +78,34 @@ public void handleChannelMessage(
         case "update_service_info" -> {
           var snapshot = event.content().readObject(ServiceInfoSnapshot.class);
           // update locally and call the event
+          this.rememberSnapshot(snapshot);
           eventManager.callEvent(new CloudServiceUpdateEvent(snapshot));
         }
 
+        // delta update of a service in the network
+        case "update_service_info_delta" -> {
+          var delta = event.content().readObject(ServiceInfoSnapshotDelta.class);
+          var knownSnapshot = this.knownSnapshots.get(delta.serviceUniqueId());
+          // deltas older than the known snapshot are ignored, for example when received after a full resync
+          if (knownSnapshot == null || knownSnapshot.creationTime() < delta.creationTime()) {
+            var snapshot = delta.applyTo(knownSnapshot);
+            if (snapshot == null) {
+              // the base snapshot of the delta is not known, request the full snapshot from the service
+              this.resyncServiceInfoSnapshot(delta, eventManager);
+            } else {
+              // update locally and call the event
+              this.rememberSnapshot(snapshot);
+              eventManager.callEvent(new CloudServiceUpdateEvent(snapshot));
+            }
+          }
+        }
+
         // update of a service lifecycle in the network
         case "update_service_lifecycle" -> {
           var lifeCycle = event.content().readObject(ServiceLifeCycle.class);
           var snapshot = event.content().readObject(ServiceInfoSnapshot.class);
           // update locally and call the event
+          this.rememberSnapshot(snapshot);
           eventManager.callEvent(new CloudServiceLifecycleChangeEvent(lifeCycle, snapshot));
         }
 
@@ -61,6 +113,14 @@ public void handleChannelMessage(
         case "request_update_service_information" -> event.binaryResponse(DataBuf.empty()
           .writeObject(serviceInfoHolder.configureServiceInfoSnapshot()));
 
+        // request of the current service info, sent by components which missed a delta update
+        case "request_service_info_snapshot" -> event.binaryResponse(DataBuf.empty()
+          .writeObject(serviceInfoHolder.serviceInfo()));
+
+        // request of a process snapshot including the thread information of this service
+        case "request_detailed_process_snapshot" -> event.binaryResponse(DataBuf.empty()
+          .writeObject(ProcessSnapshot.selfWithThreads()));
+
         // force update request of the service information with new properties
         case "request_update_service_information_with_new_properties" -> {
           var properties = event.content().readObject(Document.class);
@@ -96,4 +156,40 @@ public void handleChannelMessage(
       }
     }
   }
+
+  private void rememberSnapshot(@NonNull ServiceInfoSnapshot snapshot) {
+    var uniqueId = snapshot.serviceId().uniqueId();
+    if (snapshot.lifeCycle() == ServiceLifeCycle.DELETED) {
+      this.knownSnapshots.remove(uniqueId);
+    } else {
+      // never replace a snapshot with an older one, delta updates are based on the newest snapshot
+      this.knownSnapshots.merge(
+        uniqueId,
+        snapshot,
+        (known, updated) -> updated.creationTime() >= known.creationTime() ? updated : known);
+    }
+  }
+
+  private void resyncServiceInfoSnapshot(@NonNull ServiceInfoSnapshotDelta delta, @NonNull EventManager eventManager) {
+    var uniqueId = delta.serviceUniqueId();
+    if (this.pendingSnapshotRequests.add(uniqueId)) {
+      this.snapshotRequester.apply(delta.serviceName()).whenComplete((snapshot, exception) -> {
+        this.pendingSnapshotRequests.remove(uniqueId);
+        if (snapshot != null) {
+          this.rememberSnapshot(snapshot);
+          eventManager.callEvent(new CloudServiceUpdateEvent(snapshot));
+        }
+      });
+    }
+  }
+
+  private static @NonNull CompletableFuture<ServiceInfoSnapshot> requestServiceInfoSnapshot(@NonNull String name) {
+    return ChannelMessage.builder()
+      .targetService(name)
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .message("request_service_info_snapshot")
+      .build()
+      .sendSingleQueryAsync()
+      .thenApply(response -> response == null ? null : response.content().readObject(ServiceInfoSnapshot.class));
+  }
 }
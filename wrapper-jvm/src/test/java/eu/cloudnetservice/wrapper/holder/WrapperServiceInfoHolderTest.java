@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.cloudnetservice.wrapper.holder;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.event.ServiceInfoPropertiesConfigureEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+class WrapperServiceInfoHolderTest {
+
+  private static final ServiceConfiguration CONFIGURATION = ServiceConfiguration.builder()
+    .taskName("Lobby")
+    .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+    .maxHeapMemory(512)
+    .startPort(44955)
+    .build();
+
+  private final List<String> sentMessages = new ArrayList<>();
+
+  private EventManager eventManager;
+  private WrapperConfiguration configuration;
+  private ScheduledExecutorService scheduler;
+
+  @BeforeAll
+  static void setupBootInjectionLayer() {
+    var bootInjectionLayer = InjectionLayer.boot();
+    bootInjectionLayer.installAutoConfigureBindings(WrapperServiceInfoHolderTest.class.getClassLoader(), "driver");
+  }
+
+  @BeforeEach
+  void setupMocks() {
+    // each configured snapshot gets a new property, to make all snapshots different
+    var configuredSnapshots = new AtomicInteger();
+    this.eventManager = Mockito.mock(EventManager.class);
+    Mockito.when(this.eventManager.callEvent(Mockito.any())).thenAnswer(invocation -> {
+      if (invocation.getArgument(0) instanceof ServiceInfoPropertiesConfigureEvent event) {
+        event.propertyHolder().append("Configured", configuredSnapshots.incrementAndGet());
+      }
+      return invocation.getArgument(0);
+    });
+
+    this.configuration = Mockito.mock(WrapperConfiguration.class);
+    Mockito.when(this.configuration.serviceConfiguration()).thenReturn(CONFIGURATION);
+    Mockito.when(this.configuration.serviceInfoSnapshot()).thenReturn(new ServiceInfoSnapshot(
+      1,
+      new HostAndPort("127.0.0.1", 44955),
+      ProcessSnapshot.empty(),
+      CONFIGURATION,
+      -1,
+      ServiceLifeCycle.PREPARED,
+      Document.newJsonDocument()));
+
+    this.scheduler = Mockito.mock(ScheduledExecutorService.class);
+  }
+
+  private WrapperServiceInfoHolder holder(long publishWindowMillis) {
+    var holder = new WrapperServiceInfoHolder(
+      this.eventManager,
+      this.configuration,
+      this.scheduler,
+      publishWindowMillis,
+      (message, content) -> {
+        this.sentMessages.add(message);
+        content.release();
+      });
+    holder.setup();
+    return holder;
+  }
+
+  private Runnable scheduledPublish() {
+    var captor = ArgumentCaptor.forClass(Runnable.class);
+    Mockito.verify(this.scheduler).schedule(captor.capture(), Mockito.eq(100L), Mockito.eq(TimeUnit.MILLISECONDS));
+    return captor.getValue();
+  }
+
+  @Test
+  void testUpdatesAreCoalesced() {
+    var holder = this.holder(100);
+
+    // the local snapshot is updated for each call, only one publish is scheduled
+    var initial = holder.serviceInfo();
+    holder.publishServiceInfoUpdate();
+    var first = holder.serviceInfo();
+    holder.publishServiceInfoUpdate();
+    holder.publishServiceInfoUpdate();
+
+    Assertions.assertNotSame(initial, first);
+    Assertions.assertNotSame(first, holder.serviceInfo());
+    Assertions.assertEquals(3, holder.serviceInfo().propertyHolder().getInt("Configured"));
+    Assertions.assertTrue(this.sentMessages.isEmpty());
+
+    // the scheduled publish sends the latest snapshot once
+    scheduledPublish().run();
+    Assertions.assertEquals(List.of("update_service_info"), this.sentMessages);
+    Assertions.assertEquals(3, holder.requestedServiceInfoUpdates());
+    Assertions.assertEquals(1, holder.sentServiceInfoUpdates());
+
+    // the next update is scheduled again and sent as a delta when flushed, for example on shutdown
+    holder.publishServiceInfoUpdate();
+    holder.flushServiceInfoUpdate();
+    holder.flushServiceInfoUpdate();
+    Assertions.assertEquals(List.of("update_service_info", "update_service_info_delta"), this.sentMessages);
+    Assertions.assertEquals(2, holder.sentServiceInfoUpdates());
+  }
+
+  @Test
+  void testZeroWindowDisablesCoalescing() {
+    var holder = this.holder(0);
+
+    holder.publishServiceInfoUpdate();
+    holder.publishServiceInfoUpdate();
+    holder.publishServiceInfoUpdate();
+
+    Mockito.verifyNoInteractions(this.scheduler);
+    Assertions.assertEquals(
+      List.of("update_service_info", "update_service_info_delta", "update_service_info_delta"),
+      this.sentMessages);
+    Assertions.assertEquals(3, holder.requestedServiceInfoUpdates());
+    Assertions.assertEquals(3, holder.sentServiceInfoUpdates());
+  }
+
+  @Test
+  void testExplicitSnapshotBypassesCoalescing() {
+    var holder = this.holder(100);
+    holder.publishServiceInfoUpdate();
+
+    // an explicitly given snapshot of this service is sent right away
+    var snapshot = holder.createServiceInfoSnapshot(holder.serviceInfo().propertyHolder());
+    holder.publishServiceInfoUpdate(snapshot);
+    Assertions.assertSame(snapshot, holder.serviceInfo());
+    Assertions.assertEquals(List.of("update_service_info"), this.sentMessages);
+
+    // the pending publish has nothing left to send
+    scheduledPublish().run();
+    Assertions.assertEquals(List.of("update_service_info"), this.sentMessages);
+    Assertions.assertEquals(2, holder.requestedServiceInfoUpdates());
+    Assertions.assertEquals(1, holder.sentServiceInfoUpdates());
+  }
+
+  @Test
+  void testOtherServiceSnapshotIsNotCounted() {
+    var holder = this.holder(100);
+    var otherConfiguration = ServiceConfiguration.builder()
+      .taskName("Proxy")
+      .environment(ServiceEnvironmentType.VELOCITY)
+      .maxHeapMemory(512)
+      .startPort(25565)
+      .build();
+    var otherSnapshot = new ServiceInfoSnapshot(
+      1,
+      new HostAndPort("127.0.0.1", 25565),
+      ProcessSnapshot.empty(),
+      otherConfiguration,
+      -1,
+      ServiceLifeCycle.RUNNING,
+      Document.newJsonDocument());
+
+    holder.publishServiceInfoUpdate(otherSnapshot);
+    Assertions.assertEquals(List.of("update_service_info"), this.sentMessages);
+    Assertions.assertEquals(0, holder.requestedServiceInfoUpdates());
+    Assertions.assertEquals(0, holder.sentServiceInfoUpdates());
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.cloudnetservice.wrapper.holder;
+
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceSnapshotSubscription;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WrapperServiceSnapshotSubscriptionHolderTest {
+
+  private static final ServiceSnapshotSubscription SIGNS = ServiceSnapshotSubscription.builder()
+    .group("Lobby")
+    .build();
+  private static final ServiceSnapshotSubscription PROXIES = ServiceSnapshotSubscription.builder()
+    .environment(ServiceEnvironmentType.VELOCITY)
+    .build();
+
+  private final List<ServiceSnapshotSubscription> sentSubscriptions = new ArrayList<>();
+
+  @Test
+  void testSubscriptionIsIgnoredWhileConsumersDidNotRegister() {
+    var holder = new WrapperServiceSnapshotSubscriptionHolder(false, this.sentSubscriptions::add);
+
+    // one consumer subscribed, the other one (for example a plugin listening to service updates) did not
+    holder.register(SIGNS);
+
+    Assertions.assertEquals(ServiceSnapshotSubscription.all(), holder.subscription());
+    Assertions.assertTrue(this.sentSubscriptions.isEmpty());
+  }
+
+  @Test
+  void testSubscriptionIsAppliedOnceAllConsumersRegistered() {
+    var holder = new WrapperServiceSnapshotSubscriptionHolder(true, this.sentSubscriptions::add);
+
+    // the second consumer needs the updates of all services
+    holder.register(SIGNS);
+    holder.register(ServiceSnapshotSubscription.all());
+    Assertions.assertEquals(ServiceSnapshotSubscription.all(), holder.subscription());
+    Assertions.assertTrue(this.sentSubscriptions.isEmpty());
+
+    // the second consumer only needs the updates of proxies now
+    holder.unregister(ServiceSnapshotSubscription.all());
+    holder.register(PROXIES);
+    var expected = SIGNS.union(PROXIES);
+    Assertions.assertEquals(expected, holder.subscription());
+    Assertions.assertEquals(List.of(SIGNS, expected), this.sentSubscriptions);
+
+    // all subscriptions were removed, the updates of all services are needed again
+    holder.unregister(SIGNS);
+    holder.unregister(PROXIES);
+    Assertions.assertEquals(ServiceSnapshotSubscription.all(), holder.subscription());
+    Assertions.assertEquals(
+      List.of(SIGNS, expected, PROXIES, ServiceSnapshotSubscription.all()),
+      this.sentSubscriptions);
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.cloudnetservice.wrapper.network.listener.message;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.event.Event;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
+import eu.cloudnetservice.driver.event.events.service.CloudServiceUpdateEvent;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.provider.CloudServiceProvider;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshotDelta;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+class ServiceChannelMessageListenerTest {
+
+  private static final ServiceConfiguration CONFIGURATION = ServiceConfiguration.builder()
+    .taskName("Lobby")
+    .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+    .maxHeapMemory(512)
+    .startPort(44955)
+    .build();
+
+  @BeforeAll
+  static void setupBootInjectionLayer() {
+    var bootInjectionLayer = InjectionLayer.boot();
+    bootInjectionLayer.installAutoConfigureBindings(ServiceChannelMessageListenerTest.class.getClassLoader(), "driver");
+  }
+
+  private static ServiceInfoSnapshot snapshot(long creationTime, int onlineCount) {
+    return new ServiceInfoSnapshot(
+      creationTime,
+      new HostAndPort("127.0.0.1", 44955),
+      ProcessSnapshot.empty(),
+      CONFIGURATION,
+      1000,
+      ServiceLifeCycle.RUNNING,
+      Document.newJsonDocument().append("Online-Count", onlineCount));
+  }
+
+  private static ServiceChannelMessageListener listener(
+    Collection<ServiceInfoSnapshot> services,
+    AtomicInteger requestedSnapshots,
+    CompletableFuture<ServiceInfoSnapshot> requestedSnapshot
+  ) {
+    var serviceProvider = Mockito.mock(CloudServiceProvider.class);
+    Mockito.when(serviceProvider.servicesAsync()).thenReturn(Task.completedTask(services));
+
+    return new ServiceChannelMessageListener(serviceProvider, serviceName -> {
+      Assertions.assertEquals(CONFIGURATION.serviceId().name(), serviceName);
+      requestedSnapshots.incrementAndGet();
+      return requestedSnapshot;
+    });
+  }
+
+  private static void receiveDelta(
+    ServiceChannelMessageListener listener,
+    EventManager eventManager,
+    ServiceInfoSnapshotDelta delta
+  ) {
+    var event = Mockito.mock(ChannelMessageReceiveEvent.class);
+    Mockito.when(event.channel()).thenReturn(NetworkConstants.INTERNAL_MSG_CHANNEL);
+    Mockito.when(event.message()).thenReturn("update_service_info_delta");
+    Mockito.when(event.content()).thenReturn(DataBuf.empty().writeObject(delta));
+
+    listener.handleChannelMessage(event, eventManager, Mockito.mock(ServiceInfoHolder.class));
+  }
+
+  private static List<ServiceInfoSnapshot> updatedSnapshots(EventManager eventManager) {
+    var captor = ArgumentCaptor.forClass(Event.class);
+    Mockito.verify(eventManager, Mockito.atLeast(0)).callEvent(captor.capture());
+    return captor.getAllValues().stream()
+      .map(event -> ((CloudServiceUpdateEvent) event).serviceInfo())
+      .toList();
+  }
+
+  @Test
+  void testDeltaIsAppliedToInitialSnapshot() {
+    var first = snapshot(1, 10);
+    var second = snapshot(2, 11);
+    var third = snapshot(3, 12);
+
+    var requestedSnapshots = new AtomicInteger();
+    var listener = listener(Set.of(first), requestedSnapshots, new CompletableFuture<>());
+    var eventManager = Mockito.mock(EventManager.class);
+
+    // the first delta is based on the snapshot from the initial service list, the second one on the applied delta
+    receiveDelta(listener, eventManager, ServiceInfoSnapshotDelta.between(first, second));
+    receiveDelta(listener, eventManager, ServiceInfoSnapshotDelta.between(second, third));
+
+    var snapshots = updatedSnapshots(eventManager);
+    Assertions.assertEquals(2, snapshots.size());
+    Assertions.assertEquals(2, snapshots.get(0).creationTime());
+    Assertions.assertEquals(third.creationTime(), snapshots.get(1).creationTime());
+    Assertions.assertEquals(third.propertyHolder(), snapshots.get(1).propertyHolder());
+    Assertions.assertEquals(0, requestedSnapshots.get());
+  }
+
+  @Test
+  void testMissingBaseSnapshotIsRequestedOnce() {
+    var first = snapshot(1, 10);
+    var second = snapshot(2, 11);
+    var third = snapshot(3, 12);
+    var fourth = snapshot(4, 13);
+
+    var requestedSnapshots = new AtomicInteger();
+    var requestedSnapshot = new CompletableFuture<ServiceInfoSnapshot>();
+    var listener = listener(Set.of(), requestedSnapshots, requestedSnapshot);
+    var eventManager = Mockito.mock(EventManager.class);
+
+    // deltas received while the full snapshot is requested must not request it again
+    receiveDelta(listener, eventManager, ServiceInfoSnapshotDelta.between(first, second));
+    receiveDelta(listener, eventManager, ServiceInfoSnapshotDelta.between(second, third));
+    Assertions.assertEquals(1, requestedSnapshots.get());
+    Assertions.assertTrue(updatedSnapshots(eventManager).isEmpty());
+
+    // the requested snapshot is used as the base for the following deltas
+    requestedSnapshot.complete(third);
+    receiveDelta(listener, eventManager, ServiceInfoSnapshotDelta.between(third, fourth));
+
+    var snapshots = updatedSnapshots(eventManager);
+    Assertions.assertEquals(List.of(3L, 4L), snapshots.stream().map(ServiceInfoSnapshot::creationTime).toList());
+    Assertions.assertEquals(1, requestedSnapshots.get());
+  }
+
+  @Test
+  void testStaleDeltaIsIgnored() {
+    var first = snapshot(1, 10);
+    var second = snapshot(2, 11);
+    var third = snapshot(3, 12);
+
+    var requestedSnapshots = new AtomicInteger();
+    var listener = listener(Set.of(third), requestedSnapshots, new CompletableFuture<>());
+    var eventManager = Mockito.mock(EventManager.class);
+
+    // the delta is older than the known snapshot, it is neither applied nor does it trigger a resync
+    receiveDelta(listener, eventManager, ServiceInfoSnapshotDelta.between(first, second));
+
+    Assertions.assertTrue(updatedSnapshots(eventManager).isEmpty());
+    Assertions.assertEquals(0, requestedSnapshots.get());
+  }
+
+  @Test
+  void testDetailedProcessSnapshotRequestIsAnswered() {
+    var listener = listener(Set.of(), new AtomicInteger(), new CompletableFuture<>());
+    var event = Mockito.mock(ChannelMessageReceiveEvent.class);
+    Mockito.when(event.channel()).thenReturn(NetworkConstants.INTERNAL_MSG_CHANNEL);
+    Mockito.when(event.message()).thenReturn("request_detailed_process_snapshot");
+
+    listener.handleChannelMessage(event, Mockito.mock(EventManager.class), Mockito.mock(ServiceInfoHolder.class));
+
+    // the response contains the snapshot of this process including all threads
+    var captor = ArgumentCaptor.forClass(DataBuf.class);
+    Mockito.verify(event).binaryResponse(captor.capture());
+    var processSnapshot = captor.getValue().readObject(ProcessSnapshot.class);
+    Assertions.assertEquals(ProcessSnapshot.ownPID(), processSnapshot.pid());
+    Assertions.assertFalse(processSnapshot.threads().isEmpty());
+    Assertions.assertEquals(processSnapshot.threads().size(), processSnapshot.threadCount());
+  }
+}